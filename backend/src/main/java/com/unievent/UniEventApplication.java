@@ -2,8 +2,10 @@ package com.unievent;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // Periyodik işler: sayaç flush/mutabakat, hesap silme, bellek içi index kurulumları
 public class UniEventApplication {
 
     public static void main(String[] args) {
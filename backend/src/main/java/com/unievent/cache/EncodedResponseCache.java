@@ -0,0 +1,335 @@
+package com.unievent.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.ClusterResyncEvent;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.event.PostEngagementEvent;
+import com.unievent.pagination.CursorPage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sıcak anonim yanıtların hazır JSON baytları — feed'in ilk sayfaları, keyset
+ * feed'in ilk dilimi ve tekil gönderiler.
+ * <p>
+ * Neden?
+ * → {@link PostCache} sayfayı bellekten verir, ama her istek yine aynı
+ * nesneyi Jackson ile baştan serialize eder (~40 KB'lık sayfa için her
+ * seferinde yeni tamponlar ve string'ler). Burada sayfanın baytları bir kez
+ * üretilir (ve boyutu {@code gzip-min-bytes}'ı geçiyorsa bir kez
+ * sıkıştırılır); istek, hazır diziyi doğrudan servlet çıkışına yazar.
+ * <p>
+ * Neden kendi TTL'i ve geçersiz kılması yeterli değil?
+ * → Her kayıt, baytlarının üretildiği nesneyi ({@link PostCache}'teki sayfa
+ * veya gönderi) saklar. İstek önce {@link PostCache}'ten güncel nesneyi alır;
+ * kayıt sadece aynı nesneden ({@code ==}) üretildiyse sunulur, değilse
+ * baytlar yeniden üretilir. Böylece baytlar {@link PostCache} kaydından hiçbir
+ * zaman daha eski olamaz ve tazelik garantileri (feed TTL, beğenide tekil
+ * gönderinin düşmesi) aynen geçerlidir. Olay dinleyicileri sadece artık
+ * sunulamayacak kayıtların belleğini erken boşaltır.
+ * <p>
+ * Sadece anonim istekler: giriş yapmış izleyicinin yanıtında
+ * {@code likedByMe} vardır ve gövde kişiye özeldir. Gövde, Spring MVC'nin
+ * kullandığı {@link ObjectMapper} ile üretilir — normal yoldan dönen yanıtla
+ * bayt bayt aynıdır.
+ * <p>
+ * {@code Accept-Encoding: gzip} gönderen istemciye sıkıştırılmış baytlar
+ * {@code Content-Encoding: gzip} ile yazılır; her yanıta
+ * {@code Vary: Accept-Encoding} eklenir.
+ * <p>
+ * Bellek {@code max-memory} ile sınırlıdır (ağırlık = ham + sıkıştırılmış
+ * bayt). Metrikler: {@code cache.*{cache=responses.encoded}} ve
+ * {@code responses.encoded{result=hit|encoded}} → {@code hit} oranı, isteklerin
+ * ne kadarının serileştirme olmadan sunulduğunu gösterir.
+ */
+@Component
+public class EncodedResponseCache {
+
+    private final Cache<Object, Encoded> responses;
+    private final PostCache postCache;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+
+    private final Counter hits;
+    private final Counter encodes;
+
+    public EncodedResponseCache(PostCache postCache,
+            ObjectMapper objectMapper,
+            @Value("${app.cache.encoded.max-memory}") DataSize maxMemory,
+            @Value("${app.cache.encoded.gzip-min-bytes}") int gzipMinBytes,
+            @Value("${app.cache.posts.ttl}") Duration postTtl,
+            MeterRegistry meterRegistry) {
+        this.postCache = postCache;
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+
+        Cache<Object, Encoded> cache = Caffeine.newBuilder()
+                .weigher((Object key, Encoded encoded) -> encoded.weight())
+                .maximumWeight(maxMemory.toBytes())
+                .expireAfterWrite(postTtl)
+                .recordStats()
+                .build();
+        this.responses = CaffeineCacheMetrics.monitor(meterRegistry, cache, "responses.encoded");
+
+        this.hits = meterRegistry.counter("responses.encoded", "result", "hit");
+        this.encodes = meterRegistry.counter("responses.encoded", "result", "encoded");
+    }
+
+    // ── Yazma ──────────────────────────────────────────────────
+
+    /**
+     * Sayfalı feed'i yazar. Sayfa {@link PostCache}'te tutulmuyorsa (derin
+     * sayfa, özel sıralama) hiçbir şey yazılmaz.
+     *
+     * @param page {@link PostCache}'ten gelen (izleyici durumu uygulanmamış) sayfa
+     * @return true → yanıt yazıldı, controller {@code null} dönmelidir
+     */
+    public boolean writeFeedPage(Pageable pageable, Page<PostResponse> page, ServletWebRequest request)
+            throws IOException {
+        if (!postCache.isHotFeedPage(pageable)) {
+            return false;
+        }
+        write(new FeedPageKey(pageable.getPageNumber(), pageable.getPageSize()), page, request);
+        return true;
+    }
+
+    /**
+     * Keyset feed'in imleçsiz ilk dilimini yazar.
+     *
+     * @param head {@link PostCache}'ten gelen ilk dilim
+     */
+    public void writeFeedHead(CursorPage<PostResponse> head, ServletWebRequest request) throws IOException {
+        write(new FeedHeadKey(head.size()), head, request);
+    }
+
+    /**
+     * Tekil gönderiyi yazar.
+     *
+     * @param post {@link PostCache}'ten gelen gönderi
+     */
+    public void writePost(PostResponse post, ServletWebRequest request) throws IOException {
+        write(new PostKey(post.id()), post, request);
+    }
+
+    private void write(Object key, Object source, ServletWebRequest request) throws IOException {
+        Encoded encoded = responses.getIfPresent(key);
+        if (encoded != null && encoded.source() == source) {
+            hits.increment();
+        } else {
+            // Eşzamanlı iki üretim aynı baytları üretir; son yazan kalır
+            encoded = encode(source);
+            responses.put(key, encoded);
+            encodes.increment();
+        }
+
+        HttpServletResponse response = request.getResponse();
+        byte[] body = encoded.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                ? encoded.gzip()
+                : encoded.json();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body == encoded.gzip()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private Encoded encode(Object source) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(source);
+            return new Encoded(source, json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Yanıt serialize edilemedi", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Bellek içi akış — olmaz
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * {@code Accept-Encoding} gzip'i kabul ediyor mu? Başlığın tamamı taranır,
+     * ara string üretilmez.
+     * <ul>
+     *   <li>{@code gzip} açıkça listelendiyse kendi {@code q} değeri belirler:
+     *       {@code gzip;q=0, *} → hayır</li>
+     *   <li>listelenmediyse {@code *} belirler</li>
+     *   <li>{@code q} parametre adı büyük/küçük harf duyarsızdır; sıfırdan büyük
+     *       her değer ({@code q=0.001} dahil) kabuldür</li>
+     * </ul>
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean gzipListed = false;
+        boolean gzipAccepted = false;
+        boolean anyAccepted = false;
+        int length = acceptEncoding.length();
+        int start = 0;
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int nameEnd = acceptEncoding.indexOf(';', start);
+            if (nameEnd < 0 || nameEnd > end) {
+                nameEnd = end;
+            }
+            int nameStart = skipSpaces(acceptEncoding, start, nameEnd);
+            int nameLength = trimmedLength(acceptEncoding, nameStart, nameEnd);
+            if (nameLength == 4 && acceptEncoding.regionMatches(true, nameStart, "gzip", 0, 4)) {
+                gzipListed = true;
+                gzipAccepted |= !isZeroQuality(acceptEncoding, nameEnd, end);
+            } else if (nameLength == 1 && acceptEncoding.charAt(nameStart) == '*') {
+                anyAccepted |= !isZeroQuality(acceptEncoding, nameEnd, end);
+            }
+            start = end + 1;
+        }
+        return gzipListed ? gzipAccepted : anyAccepted;
+    }
+
+    /**
+     * Elemanın parametreleri ({@code from} = ilk {@code ;} veya eleman sonu)
+     * arasında {@code q=0}, {@code q=0.0}, {@code Q = 0.000} var mı →
+     * kodlama reddedilmiş.
+     */
+    private static boolean isZeroQuality(String header, int from, int to) {
+        int param = from;
+        while (param < to) {
+            int paramEnd = header.indexOf(';', param + 1);
+            if (paramEnd < 0 || paramEnd > to) {
+                paramEnd = to;
+            }
+            int name = skipSpaces(header, param + 1, paramEnd);
+            if (name < paramEnd && (header.charAt(name) == 'q' || header.charAt(name) == 'Q')) {
+                int equals = skipSpaces(header, name + 1, paramEnd);
+                if (equals < paramEnd && header.charAt(equals) == '=') {
+                    return isZero(header, equals + 1, paramEnd);
+                }
+            }
+            param = paramEnd;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String s, int from, int to) {
+        int start = skipSpaces(s, from, to);
+        int length = trimmedLength(s, start, to);
+        if (length == 0 || s.charAt(start) != '0') {
+            return false;
+        }
+        for (int i = start + 1; i < start + length; i++) {
+            char c = s.charAt(i);
+            if (c != '0' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipSpaces(String s, int from, int to) {
+        while (from < to && s.charAt(from) == ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimmedLength(String s, int from, int to) {
+        while (to > from && s.charAt(to - 1) == ' ') {
+            to--;
+        }
+        return to - from;
+    }
+
+    // ── Bellek boşaltma (commit sonrası) ───────────────────────
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        dropFeed();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        responses.invalidate(new PostKey(event.post().id()));
+        dropFeed();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        dropPosts(event.likeDeltas().keySet());
+        dropPosts(event.commentDeltas().keySet());
+    }
+
+    /**
+     * Küme kanalı yeniden bağlandı — {@link PostCache} boşaltıldı, eski
+     * kayıtların hiçbiri artık sunulamaz.
+     */
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        responses.invalidateAll();
+    }
+
+    private void dropFeed() {
+        responses.asMap().keySet().removeIf(key -> !(key instanceof PostKey));
+    }
+
+    private void dropPosts(Set<Long> postIds) {
+        for (Long postId : postIds) {
+            responses.invalidate(new PostKey(postId));
+        }
+    }
+
+    // ── Kayıtlar ───────────────────────────────────────────────
+
+    /**
+     * @param source baytların üretildiği nesne (kimlik karşılaştırması için)
+     * @param gzip   null → gövde sıkıştırmaya değmeyecek kadar küçük
+     */
+    private record Encoded(Object source, byte[] json, byte[] gzip) {
+
+        int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    private record FeedPageKey(int page, int size) {
+    }
+
+    private record FeedHeadKey(int size) {
+    }
+
+    private record PostKey(long postId) {
+    }
+}
@@ -0,0 +1,235 @@
+package com.unievent.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.ClusterResyncEvent;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.event.PostEngagementEvent;
+import com.unievent.pagination.CursorPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sıcak feed sayfaları ve tekil gönderiler için süreç içi (in-process) cache.
+ * <p>
+ * Neden?
+ * → Okuma trafiğinin büyük kısmı feed'in ilk 2-3 sayfasına gelir. Bu sayfalar
+ * her istekte PostgreSQL'e gitmek yerine bellekten sunulur.
+ * <p>
+ * Neden Caffeine?
+ * → Boyut sınırlı (maximumSize), TTL destekli ve W-TinyLFU (LRU + LFU karması)
+ * tahliye politikası kullanır: tek seferlik taramalar sık okunan kayıtları
+ * cache'ten atamaz.
+ * <p>
+ * Geçersiz kılma (invalidation) — {@code @TransactionalEventListener}:
+ * <ul>
+ * <li>Yeni gönderi → tüm feed sayfaları kayar (OFFSET mantığı), bu yüzden feed
+ * sayfaları düşürülür; tekil gönderi cache'ine yeni gönderi yazılır
+ * (write-through). Diğer tekil gönderiler etkilenmez.</li>
+ * <li>Gönderi silme → tekil kaydı düşürülür; feed'de sadece silinen gönderiyi
+ * içeren veya ondan sonra gelen sayfalar düşürülür. Tamamı silinenden daha
+ * yeni gönderilerden oluşan sayfalar cache'te kalır.</li>
+ * <li>Beğeni/yorum ({@link PostEngagementEvent}) → sadece ilgili tekil
+ * kayıtlar düşürülür. Feed sayfalarındaki sayaçlar TTL kadar gecikebilir;
+ * her beğenide sıcak sayfaları düşürmek cache'i işe yaramaz hale getirirdi.</li>
+ * </ul>
+ * Dinleyiciler commit sonrasında çalışır; rollback olan yazma cache'i
+ * kirletmez. Diğer replica'lardaki yazmalar aynı olaylar olarak
+ * {@code PostgresEventBus} üzerinden gelir. Sayfalı yanıttaki {@code totalElements} TTL süresince birkaç
+ * kayıt sapabilir — sonsuz kaydırmada önemsizdir.
+ * <p>
+ * Bellek bütçesi (1Gi pod limiti): bir {@link PostResponse} en fazla ~2 KB;
+ * 20'lik bir feed sayfası ~40 KB. Sadece {@value #MAX_CACHED_PAGE_SIZE}'lik ve
+ * daha küçük sayfalar cache'lenir — {@code size=2000} gibi bir istek kaydı
+ * 100 katına çıkarıp bütçeyi aşardı. Varsayılanlar (64 sayfa + 10.000 gönderi)
+ * toplamda ~25 MB'ı geçmez. Hit/miss/eviction sayaçları
+ * {@code /actuator/metrics/cache.gets} ve {@code cache.evictions} altında
+ * {@code cache=posts.feed|posts.feed.head|posts.byId} etiketiyle yayınlanır.
+ * <p>
+ * Anonim isteklerde bu kayıtların JSON baytları da ayrıca tutulur
+ * (bkz. {@link EncodedResponseCache}).
+ */
+@Component
+public class PostCache {
+
+    /** Feed sırası — {@link #isNewer} ile aynı: {@code (createdAt DESC, id DESC)}. */
+    private static final Sort FEED_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    /** Daha büyük sayfalar cache'lenmez (varsayılan sayfa boyutu). */
+    static final int MAX_CACHED_PAGE_SIZE = 20;
+
+    /** Sayfalı feed: (sayfa, boyut) → sayfa. */
+    private final Cache<FeedPageKey, Page<PostResponse>> feedPages;
+
+    /** Keyset feed'in imleçsiz ilk dilimi: boyut → dilim. */
+    private final Cache<Integer, CursorPage<PostResponse>> feedHeads;
+
+    /** Tekil gönderi: id → gönderi. */
+    private final Cache<Long, PostResponse> posts;
+
+    private final int hotPages;
+
+    public PostCache(
+            @Value("${app.cache.feed.hot-pages}") int hotPages,
+            @Value("${app.cache.feed.max-entries}") long feedMaxEntries,
+            @Value("${app.cache.feed.ttl}") Duration feedTtl,
+            @Value("${app.cache.posts.max-entries}") long postMaxEntries,
+            @Value("${app.cache.posts.ttl}") Duration postTtl,
+            MeterRegistry meterRegistry) {
+
+        this.hotPages = hotPages;
+
+        Cache<FeedPageKey, Page<PostResponse>> pages = Caffeine.newBuilder()
+                .maximumSize(feedMaxEntries)
+                .expireAfterWrite(feedTtl)
+                .recordStats()
+                .build();
+        Cache<Integer, CursorPage<PostResponse>> heads = Caffeine.newBuilder()
+                .maximumSize(feedMaxEntries)
+                .expireAfterWrite(feedTtl)
+                .recordStats()
+                .build();
+        Cache<Long, PostResponse> byId = Caffeine.newBuilder()
+                .maximumSize(postMaxEntries)
+                .expireAfterWrite(postTtl)
+                .recordStats()
+                .build();
+
+        this.feedPages = CaffeineCacheMetrics.monitor(meterRegistry, pages, "posts.feed");
+        this.feedHeads = CaffeineCacheMetrics.monitor(meterRegistry, heads, "posts.feed.head");
+        this.posts = CaffeineCacheMetrics.monitor(meterRegistry, byId, "posts.byId");
+    }
+
+    // ── Okuma (read-through) ───────────────────────────────────
+
+    /**
+     * Sayfalı feed. Sadece ilk {@code hot-pages} sayfa, varsayılan sıralama ve
+     * en fazla {@value #MAX_CACHED_PAGE_SIZE}'lik sayfalar cache'lenir; derin
+     * sayfalar, büyük sayfalar ve özel sıralamalar doğrudan loader'a gider.
+     */
+    public Page<PostResponse> getFeedPage(Pageable pageable, Supplier<Page<PostResponse>> loader) {
+        if (!isHotFeedPage(pageable)) {
+            return loader.get();
+        }
+        FeedPageKey key = new FeedPageKey(pageable.getPageNumber(), pageable.getPageSize());
+        return feedPages.get(key, k -> loader.get());
+    }
+
+    /**
+     * Keyset feed'in ilk dilimi (imleçsiz istek).
+     */
+    public CursorPage<PostResponse> getFeedHead(int size, Supplier<CursorPage<PostResponse>> loader) {
+        return feedHeads.get(size, k -> loader.get());
+    }
+
+    /**
+     * Tekil gönderi. Loader exception fırlatırsa (gönderi yok) hiçbir şey
+     * cache'lenmez.
+     */
+    public PostResponse getPost(Long postId, Supplier<PostResponse> loader) {
+        return posts.get(postId, k -> loader.get());
+    }
+
+    /**
+     * Birden fazla gönderi. Cache'te olmayanlar tek seferde {@code loader} ile
+     * yüklenir (tek sorgu); loader'ın dönmediği id'ler (silinmiş gönderiler)
+     * sonuçta yer almaz.
+     */
+    public Map<Long, PostResponse> getPosts(Collection<Long> postIds,
+            Function<Set<Long>, Map<Long, PostResponse>> loader) {
+        return posts.getAll(postIds, missing -> loader.apply(new HashSet<>(missing)));
+    }
+
+    /**
+     * Tüm kayıtları düşürür — testler ve operasyonel müdahale için.
+     */
+    public void invalidateAll() {
+        feedPages.invalidateAll();
+        feedHeads.invalidateAll();
+        posts.invalidateAll();
+    }
+
+    // ── Geçersiz kılma (commit sonrası) ────────────────────────
+
+    /**
+     * {@code fallbackExecution = true} → olay transaction dışında yayınlanırsa
+     * (ör. başka bir kaynaktan gelen bildirim) dinleyici hemen çalışır.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        posts.put(event.post().id(), event.post());
+        feedPages.invalidateAll();
+        feedHeads.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        PostResponse deleted = event.post();
+        posts.invalidate(deleted.id());
+        feedPages.asMap().values().removeIf(page -> isAffectedBy(page.getContent(), deleted));
+        feedHeads.asMap().values().removeIf(slice -> isAffectedBy(slice.content(), deleted));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        posts.invalidateAll(event.likeDeltas().keySet());
+        posts.invalidateAll(event.commentDeltas().keySet());
+    }
+
+    /**
+     * Küme kanalı yeniden bağlandı — aradaki olaylar kaçırılmış olabilir.
+     */
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        invalidateAll();
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    /** Bu sayfa cache'lenir mi? (ilk {@code hot-pages} sayfa, en fazla 20'lik, varsayılan sıralama) */
+    public boolean isHotFeedPage(Pageable pageable) {
+        return pageable.getPageNumber() < hotPages
+                && pageable.getPageSize() <= MAX_CACHED_PAGE_SIZE
+                && (pageable.getSort().isUnsorted() || pageable.getSort().equals(FEED_SORT));
+    }
+
+    /**
+     * Sayfanın en eski gönderisi silinen gönderiden daha yeniyse, silme bu
+     * sayfanın içeriğini değiştirmez. Aksi halde gönderi ya bu sayfadadır ya da
+     * daha önceki bir sayfadadır ve bu sayfa bir satır kayar.
+     */
+    private static boolean isAffectedBy(List<PostResponse> content, PostResponse deleted) {
+        if (content.isEmpty()) {
+            return true;
+        }
+        PostResponse oldest = content.get(content.size() - 1);
+        return !isNewer(oldest, deleted);
+    }
+
+    /** Feed sırasına göre (createdAt DESC, id DESC) {@code a}, {@code b}'den önce mi gelir? */
+    private static boolean isNewer(PostResponse a, PostResponse b) {
+        int byTime = a.createdAt().compareTo(b.createdAt());
+        return byTime > 0 || (byTime == 0 && a.id() > b.id());
+    }
+
+    private record FeedPageKey(int page, int size) {
+    }
+}
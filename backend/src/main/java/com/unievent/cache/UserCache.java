@@ -0,0 +1,148 @@
+package com.unievent.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unievent.dto.response.UserResponse;
+import com.unievent.event.ClusterResyncEvent;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.event.UserChangedEvent;
+import com.unievent.event.UserCountersRepairedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Herkese açık kullanıcı profilleri için süreç içi (in-process) cache.
+ * <p>
+ * Neden?
+ * → Profil sayfası en çok açılan ikinci ekrandır ve her gönderi kartındaki
+ * yazar bağlantısı oraya gider. Profil nadiren değişir; her açılışta
+ * {@code users} satırını okumak yerine bellekten sunulur.
+ * <p>
+ * İki harita:
+ * <ul>
+ * <li>{@code id → UserResponse}: asıl kayıt.</li>
+ * <li>{@code username → id}: {@code /by-username/{name}} aynı kaydı
+ * paylaşır, profil iki kez tutulmaz.</li>
+ * </ul>
+ * Geçersiz kılma — {@code @TransactionalEventListener}:
+ * <ul>
+ * <li>{@link UserChangedEvent} (rol değişimi, hesap silme) → kayıt ve
+ * kullanıcı adı eşlemesi düşer.</li>
+ * <li>{@link PostCreatedEvent}/{@link PostDeletedEvent} → yazarın kaydı düşer
+ * ({@code postCount} değişti).</li>
+ * <li>Beğeniler kaydı düşürmez: {@code likesReceived} en fazla TTL kadar
+ * gecikir. Her beğenide yazarı bulup profilini düşürmek, popüler bir
+ * yazarın profilini cache'te tutmayı imkânsız kılardı.</li>
+ * <li>{@link UserCountersRepairedEvent} (sayaç mutabakatı) → düzeltilen
+ * yazarların kaydı düşer.</li>
+ * </ul>
+ * Bulunamayan kullanıcılar cache'lenmez (loader exception fırlatır).
+ * Hit/miss sayaçları {@code cache=users.byId|users.byUsername} etiketiyle
+ * yayınlanır.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<Long, UserResponse> users;
+    private final Cache<String, Long> idsByUsername;
+
+    public UserCache(
+            @Value("${app.cache.users.max-entries}") long maxEntries,
+            @Value("${app.cache.users.ttl}") Duration ttl,
+            MeterRegistry meterRegistry) {
+
+        Cache<Long, UserResponse> byId = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        Cache<String, Long> byUsername = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.users = CaffeineCacheMetrics.monitor(meterRegistry, byId, "users.byId");
+        this.idsByUsername = CaffeineCacheMetrics.monitor(meterRegistry, byUsername, "users.byUsername");
+    }
+
+    // ── Okuma (read-through) ───────────────────────────────────
+
+    public UserResponse getUser(Long userId, Supplier<UserResponse> loader) {
+        return users.get(userId, k -> loader.get());
+    }
+
+    /**
+     * Kullanıcı adıyla. Eşleme biliniyorsa kayıt id ile okunur; bilinmiyorsa
+     * {@code loader} yüklediği kaydı iki haritaya da yazar.
+     */
+    public UserResponse getUserByUsername(String username, Supplier<UserResponse> loader) {
+        Long userId = idsByUsername.getIfPresent(username);
+        if (userId != null) {
+            UserResponse cached = users.getIfPresent(userId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        UserResponse loaded = loader.get();
+        users.put(loaded.id(), loaded);
+        idsByUsername.put(loaded.username(), loaded.id());
+        return loaded;
+    }
+
+    /**
+     * Birden fazla kullanıcı. Cache'te olmayanlar tek seferde {@code loader}
+     * ile yüklenir; loader'ın dönmediği id'ler sonuçta yer almaz.
+     */
+    public Map<Long, UserResponse> getUsers(Collection<Long> userIds,
+            Function<Set<Long>, Map<Long, UserResponse>> loader) {
+        return users.getAll(userIds, missing -> loader.apply(new HashSet<>(missing)));
+    }
+
+    public void invalidateAll() {
+        users.invalidateAll();
+        idsByUsername.invalidateAll();
+    }
+
+    // ── Geçersiz kılma (commit sonrası) ────────────────────────
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        users.invalidate(event.userId());
+        idsByUsername.invalidate(event.username());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        users.invalidate(event.post().authorId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        users.invalidate(event.post().authorId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCountersRepaired(UserCountersRepairedEvent event) {
+        users.invalidateAll(event.userIds());
+    }
+
+    /** Küme kanalı yeniden bağlandı — aradaki olaylar kaçırılmış olabilir. */
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        invalidateAll();
+    }
+}
@@ -0,0 +1,12 @@
+package com.unievent.cluster;
+
+import com.unievent.event.ClusterEvent;
+
+/**
+ * {@code NOTIFY} payload'ı — olay + olayı üreten replica'nın kimliği.
+ * <p>
+ * {@code origin} sayesinde replica kendi gönderdiği bildirimi tekrar
+ * işlemez (yerel dinleyiciler olayı zaten commit anında almıştır).
+ */
+public record ClusterEventEnvelope(String origin, ClusterEvent event) {
+}
@@ -0,0 +1,245 @@
+package com.unievent.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unievent.event.ClusterEvent;
+import com.unievent.event.ClusterResyncEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Replica'lar arası cache invalidation kanalı — PostgreSQL LISTEN/NOTIFY.
+ * <p>
+ * Problem:
+ * → Backend K8s'te {@code replicas: 2} çalışır. Her pod'un kendi bellek içi
+ * cache'i vardır; pod-1'de silinen gönderi pod-2'nin cache'inde yaşamaya
+ * devam eder.
+ * <p>
+ * Neden Redis/Kafka değil de PostgreSQL?
+ * → Zaten bağımlı olduğumuz veritabanı {@code NOTIFY} ile hafif bir pub/sub
+ * sunar. Yeni bir servis (deploy, izleme, secret) eklemeden uygulama stateless
+ * kalır — JWT ile aynı yatay ölçekleme hikâyesi.
+ * <p>
+ * İşleyiş:
+ * <ol>
+ * <li>{@link ClusterEvent} implement eden bir olay yerel olarak
+ * yayınlanır.</li>
+ * <li>{@code BEFORE_COMMIT} aşamasında aynı transaction içinde
+ * {@code SELECT pg_notify(channel, payload)} çalıştırılır. PostgreSQL
+ * bildirimi sadece commit olursa iletir → rollback olan yazma hiçbir pod'u
+ * etkilemez.</li>
+ * <li>Her pod, havuz dışı tek bir bağlantı üzerinden {@code LISTEN} yapan
+ * arka plan thread'i çalıştırır. Gelen olay (kendi {@code origin}'i değilse)
+ * yerel olarak transaction dışında yeniden yayınlanır;
+ * {@code @TransactionalEventListener(fallbackExecution = true)} dinleyicileri
+ * hemen çalışır. Gecikme tipik olarak birkaç milisaniyedir.</li>
+ * </ol>
+ * Bağlantı koparsa tekrar bağlanılır ve {@link ClusterResyncEvent} yayınlanır:
+ * aradaki olaylar kaçırılmış olabileceğinden yerel cache'ler tamamen boşaltılır.
+ * Resync dinleyicilerinden biri exception fırlatırsa da aynı yol izlenir
+ * (bekle, tekrar bağlan, tekrar resync) — dinleyici thread'i hiçbir durumda
+ * ölmez; ölseydi pod sessizce diğer replica'ların yazmalarını kaçırırdı.
+ * <p>
+ * Kanal adı {@code LISTEN}'e bind parametresi olarak verilemez; bu yüzden
+ * açılışta {@code [a-z_][a-z0-9_]*} kalıbıyla doğrulanır.
+ * <p>
+ * Test: {@code PostgresEventBusTest} aynı veritabanına bağlı iki uygulama
+ * context'ini farklı {@code app.cluster.instance-id} ile başlatır; birinde
+ * yapılan yazma diğerinin cache'inden düşer. Test profilinde (H2) bus kapalıdır.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.cluster.bus", name = "enabled", havingValue = "true")
+public class PostgresEventBus {
+
+    /** PostgreSQL NOTIFY payload sınırı 8000 bayttır. */
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final long RECONNECT_BACKOFF_MS = 2000;
+    /** Tırnaksız PostgreSQL tanımlayıcısı — {@code LISTEN}'e olduğu gibi yazılır. */
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataSourceProperties dataSourceProperties;
+    private final String instanceId;
+    private final String channel;
+    private final int pollTimeoutMs;
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listenerThread;
+
+    public PostgresEventBus(JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            DataSourceProperties dataSourceProperties,
+            @Value("${app.cluster.instance-id}") String instanceId,
+            @Value("${app.cluster.bus.channel}") String channel,
+            @Value("${app.cluster.bus.poll-timeout-ms}") int pollTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.dataSourceProperties = dataSourceProperties;
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalStateException("Geçersiz app.cluster.bus.channel: '" + channel
+                    + "' ([a-z_][a-z0-9_]* olmalı)");
+        }
+        this.instanceId = instanceId;
+        this.channel = channel;
+        this.pollTimeoutMs = pollTimeoutMs;
+    }
+
+    // ── Yayınlama (aynı transaction içinde) ────────────────────
+
+    /**
+     * Yerel olarak yayınlanan küme olayını NOTIFY ile diğer pod'lara iletir.
+     * <p>
+     * {@code fallbackExecution} verilmediği için transaction dışında yayınlanan
+     * olaylar (ör. başka pod'dan gelip yerelde yeniden yayınlananlar) tekrar
+     * gönderilmez — döngü oluşmaz.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void publish(ClusterEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new ClusterEventEnvelope(instanceId, event));
+        } catch (JsonProcessingException e) {
+            log.error("Küme olayı serialize edilemedi: {}", event, e);
+            return;
+        }
+
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            // Yazmayı başarısız kılmaktansa olayı atla; diğer pod'lar TTL ile yakalar
+            log.warn("Küme olayı NOTIFY sınırını aşıyor, gönderilmedi: {}", event.getClass().getSimpleName());
+            return;
+        }
+
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+    }
+
+    // ── Dinleme (arka plan thread'i) ───────────────────────────
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "cluster-event-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        closeQuietly(listenConnection);
+        if (listenerThread != null) {
+            listenerThread.join(pollTimeoutMs * 2L);
+        }
+    }
+
+    private void listenLoop() {
+        boolean firstConnect = true;
+        while (running) {
+            try (Connection connection = openListenConnection()) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Küme olay kanalı dinleniyor: {} (instance={})", channel, instanceId);
+
+                // Bu noktadan sonraki her kopuş olay kaçırmış olabilir → sonraki bağlantıda resync
+                boolean resync = !firstConnect;
+                firstConnect = false;
+                if (resync) {
+                    eventPublisher.publishEvent(new ClusterResyncEvent());
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Küme olay kanalı bağlantısı koptu, yeniden bağlanılacak: {}", e.getMessage());
+                    sleepBeforeReconnect();
+                }
+            } catch (RuntimeException e) {
+                // Ör. bir resync dinleyicisi hata verdi — cache'ler boşaltılmamış olabilir;
+                // tekrar bağlanınca resync yeniden yayınlanır
+                if (running) {
+                    log.error("Küme olay kanalında beklenmeyen hata, yeniden bağlanılacak: {}", e.getMessage(), e);
+                    firstConnect = false;
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            ClusterEventEnvelope envelope = objectMapper.readValue(payload, ClusterEventEnvelope.class);
+            if (instanceId.equals(envelope.origin())) {
+                return;
+            }
+            eventPublisher.publishEvent(envelope.event());
+        } catch (Exception e) {
+            // Tek bir bozuk/uyumsuz mesaj dinleyici thread'ini düşürmemeli
+            log.warn("Küme olayı işlenemedi: {}", payload, e);
+        }
+    }
+
+    /**
+     * LISTEN bağlantısı havuz (Hikari) dışında açılır: süresiz tutulan bir
+     * bağlantı havuzdan bir slotu kalıcı olarak eksiltirdi.
+     */
+    private Connection openListenConnection() throws SQLException {
+        return DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_BACKOFF_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // kapanırken hata önemsiz
+        }
+    }
+}
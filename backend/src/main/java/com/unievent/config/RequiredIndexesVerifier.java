@@ -0,0 +1,102 @@
+package com.unievent.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Açılışta sıcak sorguların dayandığı index'lerin varlığını doğrular.
+ * <p>
+ * Neden?
+ * → {@code ddl-auto: validate} tabloları ve sütunları kontrol eder ama
+ * index'lere bakmaz. Eksik bir index (ör. migration'ı atlanmış bir ortam)
+ * hata vermez; feed sorguları sessizce tablo taramasına düşer ve ancak yük
+ * altında fark edilir. Bu kontrol başarısız olursa uygulama açılmaz —
+ * readiness probe'u hiç geçmediği için pod trafik almaz.
+ * <p>
+ * Index adları ve sütun sırası migration'larla ({@code V3__hot_query_indexes.sql},
+ * {@code V5__event_date_index.sql}, {@code V6__post_hashtags.sql},
+ * {@code V8__location_key_index.sql}) aynı olmalıdır. Sıralama yönü (DESC) kontrol edilmez; JDBC sürücüleri bunu
+ * tutarlı raporlamıyor.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.schema", name = "verify-indexes", havingValue = "true")
+public class RequiredIndexesVerifier implements ApplicationRunner {
+
+    record RequiredIndex(String table, String name, List<String> columns) {
+    }
+
+    static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+            new RequiredIndex("event_posts", "idx_event_posts_created_at_id", List.of("created_at", "id")),
+            new RequiredIndex("event_posts", "idx_event_posts_author_created_at", List.of("author_id", "created_at")),
+            new RequiredIndex("event_posts", "idx_event_posts_event_date_id", List.of("event_date", "id")),
+            new RequiredIndex("event_posts", "idx_event_posts_location_event_date",
+                    List.of("location_key", "event_date", "id")),
+            new RequiredIndex("comments", "idx_comments_post_created_at", List.of("post_id", "created_at")),
+            new RequiredIndex("likes", "idx_likes_post_id", List.of("post_id")),
+            new RequiredIndex("post_hashtags", "idx_post_hashtags_tag_created_at",
+                    List.of("tag", "created_at", "post_id")),
+            new RequiredIndex("post_hashtags", "idx_post_hashtags_created_at_id", List.of("created_at", "id")));
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<String> problems = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (RequiredIndex index : REQUIRED_INDEXES) {
+                List<String> actual = indexColumns(connection, metaData, index);
+                if (actual.isEmpty()) {
+                    problems.add(index.name() + " (" + index.table() + ") bulunamadı");
+                } else if (!actual.equals(index.columns())) {
+                    problems.add(index.name() + " sütunları " + actual + ", beklenen " + index.columns());
+                }
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Gerekli index'ler eksik veya hatalı: " + problems
+                    + " — Flyway migration'ları uygulandı mı?");
+        }
+        log.info("Gerekli {} index doğrulandı", REQUIRED_INDEXES.size());
+    }
+
+    /** Index'in sütunları (sırayla, küçük harf); index yoksa boş liste. */
+    private List<String> indexColumns(Connection connection, DatabaseMetaData metaData, RequiredIndex index)
+            throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers()
+                ? index.table().toUpperCase(Locale.ROOT)
+                : index.table();
+
+        SortedMap<Integer, String> columns = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(
+                connection.getCatalog(), connection.getSchema(), table, false, true)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (column != null && index.name().equalsIgnoreCase(name)) {
+                    columns.put((int) rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return new ArrayList<>(columns.values());
+    }
+}
@@ -1,7 +1,9 @@
 package com.unievent.config;
 
+import com.unievent.security.BoundedPasswordEncoder;
 import com.unievent.security.JwtAuthEntryPoint;
 import com.unievent.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -15,13 +17,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -53,6 +55,18 @@ public class SecurityConfig {
     @Value("${app.cors.allowed-origins}")
     private List<String> allowedOrigins;
 
+    @Value("${app.auth.password-hashing.concurrency}")
+    private int passwordHashingConcurrency;
+
+    @Value("${app.auth.password-hashing.queue-capacity}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${app.auth.password-hashing.timeout}")
+    private Duration passwordHashingTimeout;
+
+    @Value("${app.auth.password-hashing.retry-after-seconds}")
+    private long passwordHashingRetryAfterSeconds;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -74,8 +88,16 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         // Swagger UI herkese açık
                         .requestMatchers("/swagger-ui/**", "/api-docs/**", "/v3/api-docs/**").permitAll()
+                        // Actuator — health herkese açık, metrikler sadece ADMIN
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        // Yönetim endpoint'leri sadece ADMIN
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         // GET istekleri → feed görüntüleme (anonim okuma izni)
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/comments/**").permitAll()
+                        // Herkese açık profiller (e-posta hariç)
+                        .requestMatchers(HttpMethod.GET, "/api/users/**").permitAll()
                         // Diğer tüm istekler authenticated olmalı
                         .anyRequest().authenticated())
 
@@ -91,10 +113,21 @@ public class SecurityConfig {
      * BCrypt neden tercih ediliyor?
      * → Salt otomatik eklenir, "cost factor" ile brute-force zorlaştırılır.
      * Her hash farklıdır (aynı şifre bile farklı hash üretir).
+     * <p>
+     * BCrypt Tomcat thread'inde değil, sınırlı bir havuzda çalışır
+     * ({@link BoundedPasswordEncoder}) — login fırtınası feed okumalarını
+     * aç bırakamaz. Tek bir {@code PasswordEncoder} bean'i olmalıdır;
+     * Spring Security birden fazlasını görürse kendi varsayılanına döner.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                passwordHashingConcurrency,
+                passwordHashingQueueCapacity,
+                passwordHashingTimeout,
+                passwordHashingRetryAfterSeconds,
+                meterRegistry);
     }
 
     /**
@@ -0,0 +1,116 @@
+package com.unievent.controller;
+
+import com.unievent.counter.CounterReconciler;
+import com.unievent.dto.response.AccountDeletionResponse;
+import com.unievent.dto.response.CounterReconciliationResponse;
+import com.unievent.dto.response.UserImportReport;
+import com.unievent.importer.UserImportFormat;
+import com.unievent.service.AccountDeletionService;
+import com.unievent.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Yönetim işlemleri — yalnızca {@code ADMIN} rolü.
+ * <p>
+ * {@code /api/admin/**} SecurityConfig'te de ADMIN'e kısıtlıdır;
+ * {@code @PreAuthorize} ikinci savunma hattıdır.
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin", description = "Yönetim işlemleri")
+public class AdminController {
+
+    private final UserImportService userImportService;
+    private final AccountDeletionService accountDeletionService;
+    private final CounterReconciler counterReconciler;
+
+    /**
+     * Toplu kullanıcı içe aktarma. Gövde olduğu gibi akıtılır — dosya belleğe
+     * alınmaz.
+     *
+     * <pre>
+     * POST /api/admin/users/import
+     * Content-Type: text/csv
+     *
+     * username,email,password,displayName
+     * ayse_k,ayse@university.edu.tr,Gecici123!,Ayşe K.
+     *
+     * veya Content-Type: application/x-ndjson
+     * {"username":"ayse_k","email":"ayse@university.edu.tr","password":"Gecici123!"}
+     *
+     * Response (200 OK): UserImportReport — satır bazında CREATED / DUPLICATE / INVALID
+     * </pre>
+     */
+    @PostMapping(value = "/users/import", consumes = { "text/csv", "application/x-ndjson" })
+    @Operation(summary = "Toplu kullanıcı içe aktarma", description = "CSV veya NDJSON dosyasından kullanıcı oluşturur, satır bazında rapor döner")
+    public ResponseEntity<UserImportReport> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        UserImportReport report = userImportService.importUsers(body, UserImportFormat.fromContentType(contentType));
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Kullanıcı hesabını siler (asenkron, bkz. {@code DELETE /api/users/me}).
+     *
+     * <pre>
+     * DELETE /api/admin/users/5
+     *
+     * Response (202 Accepted): AccountDeletionResponse
+     * </pre>
+     */
+    @DeleteMapping("/users/{id}")
+    @Operation(summary = "Kullanıcı hesabını sil", description = "Hesabı kapatır; içerik arka planda parça parça silinir")
+    public ResponseEntity<AccountDeletionResponse> deleteUser(@PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(accountDeletionService.requestDeletion(id));
+    }
+
+    /** Silme işinin ilerlemesi. */
+    @GetMapping("/account-deletions/{jobId}")
+    @Operation(summary = "Hesap silme işinin durumu")
+    public ResponseEntity<AccountDeletionResponse> getAccountDeletion(@PathVariable Long jobId) {
+        return ResponseEntity.ok(accountDeletionService.getJob(jobId));
+    }
+
+    /** Tamamlanmamış silme işleri (en fazla 100). */
+    @GetMapping("/account-deletions")
+    @Operation(summary = "Devam eden hesap silme işleri")
+    public ResponseEntity<List<AccountDeletionResponse>> getActiveAccountDeletions() {
+        return ResponseEntity.ok(accountDeletionService.getActiveJobs());
+    }
+
+    /**
+     * {@code likeCount}/{@code commentCount} mutabakatını arka planda başlatır;
+     * zaten çalışıyorsa mevcut turun durumunu döner.
+     *
+     * <pre>
+     * POST /api/admin/counters/reconcile
+     *
+     * Response (202 Accepted): CounterReconciliationResponse
+     * </pre>
+     */
+    @PostMapping("/counters/reconcile")
+    @Operation(summary = "Sayaç mutabakatını başlat", description = "Gönderi sayaçlarını gerçek beğeni/yorum sayılarıyla karşılaştırır, farklı olanları düzeltir")
+    public ResponseEntity<CounterReconciliationResponse> startReconciliation() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(counterReconciler.start());
+    }
+
+    /** Çalışan veya son tamamlanan mutabakat turunun durumu. */
+    @GetMapping("/counters/reconcile")
+    @Operation(summary = "Sayaç mutabakatı durumu")
+    public ResponseEntity<CounterReconciliationResponse> getReconciliation() {
+        return ResponseEntity.ok(counterReconciler.status());
+    }
+}
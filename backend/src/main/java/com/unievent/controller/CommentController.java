@@ -0,0 +1,132 @@
+package com.unievent.controller;
+
+import com.unievent.dto.request.CreateCommentRequest;
+import com.unievent.dto.response.CommentResponse;
+import com.unievent.pagination.CursorPage;
+import com.unievent.security.AuthenticatedUser;
+import com.unievent.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Yorum Controller'ı.
+ * <p>
+ * Listeleme ve önizleme herkese açıktır (GET); ekleme ve silme token ister.
+ *
+ * <pre>
+ * React ekibi için API kullanım örnekleri:
+ *
+ * Gönderinin yorumları (sonsuz kaydırma):
+ *   GET /api/posts/42/comments?size=20
+ *   GET /api/posts/42/comments?size=20&cursor=MjAyNC0wMy0xNFQxMDowNTowMHw3
+ *
+ * Feed sayfası için yorum önizlemeleri (tek istek):
+ *   GET /api/comments/previews?postIds=42,41,40&limit=3
+ * </pre>
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Comments", description = "Gönderi yorumları")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    /**
+     * Gönderinin yorumları — en yeniden en eskiye, imleç tabanlı.
+     *
+     * <pre>
+     * GET /api/posts/42/comments?size=20
+     *
+     * Response (200 OK):
+     * {
+     *   "content": [ ... CommentResponse array ... ],
+     *   "nextCursor": "MjAyNC0wMy0xNFQxMDowNTowMHw3",
+     *   "hasNext": true,
+     *   "size": 20
+     * }
+     * </pre>
+     */
+    @GetMapping("/posts/{postId}/comments")
+    @Operation(summary = "Gönderi yorumları", description = "İmleç tabanlı sayfalama. İlk istekte cursor gönderilmez")
+    public ResponseEntity<CursorPage<CommentResponse>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(commentService.getComments(postId, cursor, size));
+    }
+
+    /**
+     * Yorum ekler.
+     *
+     * <pre>
+     * POST /api/posts/42/comments
+     * Headers: Authorization: Bearer eyJhbG...
+     * Body: { "content": "Ben de geliyorum!" }
+     *
+     * Response (201 Created): CommentResponse
+     * </pre>
+     */
+    @PostMapping("/posts/{postId}/comments")
+    @Operation(summary = "Yorum ekle", description = "Authenticated kullanıcı adına yorum ekler")
+    public ResponseEntity<CommentResponse> addComment(
+            @PathVariable Long postId,
+            @Valid @RequestBody CreateCommentRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        CommentResponse response = commentService.addComment(postId, request, user.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Yorum silme — yorumun veya gönderinin yazarı silebilir.
+     *
+     * <pre>
+     * DELETE /api/comments/7
+     * Headers: Authorization: Bearer eyJhbG...
+     *
+     * Response: 204 No Content
+     * </pre>
+     */
+    @DeleteMapping("/comments/{id}")
+    @Operation(summary = "Yorum sil", description = "Yorumun yazarı veya gönderinin yazarı silebilir")
+    public ResponseEntity<Void> deleteComment(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        commentService.deleteComment(id, user.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Birden fazla gönderi için ilk N yorum — tek sorgu.
+     *
+     * <pre>
+     * GET /api/comments/previews?postIds=42,41&limit=3
+     *
+     * Response (200 OK):
+     * {
+     *   "42": [ ... en fazla 3 CommentResponse ... ],
+     *   "41": []
+     * }
+     * </pre>
+     */
+    @GetMapping("/comments/previews")
+    @Operation(summary = "Yorum önizlemeleri", description = "Gönderi başına en yeni N yorum (en fazla 100 gönderi, 10 yorum)")
+    public ResponseEntity<Map<Long, List<CommentResponse>>> getPreviews(
+            @RequestParam List<Long> postIds,
+            @RequestParam(defaultValue = "3") int limit) {
+
+        return ResponseEntity.ok(commentService.getPreviews(postIds, limit));
+    }
+}
@@ -1,8 +1,18 @@
 package com.unievent.controller;
 
+import com.unievent.cache.EncodedResponseCache;
 import com.unievent.dto.request.CreatePostRequest;
+import com.unievent.dto.response.BatchResponse;
+import com.unievent.dto.response.LikeResponse;
+import com.unievent.dto.response.LocationFacetResponse;
 import com.unievent.dto.response.PostResponse;
+import com.unievent.dto.response.TrendingTagResponse;
+import com.unievent.etag.ConditionalRequests;
+import com.unievent.pagination.CursorPage;
+import com.unievent.security.AuthenticatedUser;
+import com.unievent.service.LikeService;
 import com.unievent.service.PostService;
+import com.unievent.viewer.ViewerStateResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -11,11 +21,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Gönderi (Post) Controller'ı — Feed ve CRUD endpoint'leri.
@@ -29,6 +45,14 @@ import org.springframework.web.bind.annotation.*;
  * {@code @PageableDefault} neden?
  * → Frontend sayfalama parametresi göndermezse varsayılan değerler uygulanır.
  * Böylece API hiçbir zaman tüm veritabanını tek seferde dökmez.
+ * <p>
+ * Okuma endpoint'leri herkese açıktır; token gönderilirse yanıttaki
+ * gönderilere {@code likedByMe} eklenir (bkz. {@link ViewerStateResolver}).
+ * <p>
+ * Feed ve tekil gönderi ETag döner; {@code If-None-Match} eşleşirse 304
+ * (bkz. {@link ConditionalRequests}). Yoklama yapan istemciler son ETag'i
+ * geri göndermelidir. Anonim isteklerde bu yanıtların gövdesi hazır JSON
+ * baytlarından yazılır (bkz. {@link EncodedResponseCache}).
  *
  * <pre>
  * React ekibi için API kullanım örnekleri:
@@ -39,8 +63,32 @@ import org.springframework.web.bind.annotation.*;
  * Feed çekme (sayfa 2, 10 post):
  *   GET /api/posts?page=2&size=10
  *
+ * Sonsuz kaydırma (keyset — derin sayfalarda da sabit maliyet):
+ *   GET /api/posts/feed?size=20
+ *   GET /api/posts/feed?size=20&cursor=MjAyNC0wMy0xNFQwOTozMDowMHw0Mg
+ *
  * Kullanıcı profili gönderileri:
  *   GET /api/posts/user/5?page=0&size=20
+ *
+ * Id listesinden (yer imleri, bildirimler):
+ *   GET /api/posts/batch?ids=42,7,13
+ *
+ * Arama:
+ *   GET /api/posts/search?q=konser
+ *
+ * Etiketler:
+ *   GET /api/posts/tag/bahar2026
+ *   GET /api/posts/trending-tags?limit=10
+ *
+ * Hot feed (etkileşim + yenilik):
+ *   GET /api/posts/hot?page=0&size=20
+ *
+ * Yaklaşan etkinlikler (bu hafta sonu):
+ *   GET /api/posts/upcoming?from=2024-03-16&to=2024-03-17
+ *
+ * Konuma göre (kenar çubuğu sayıları + filtre):
+ *   GET /api/posts/upcoming/locations
+ *   GET /api/posts/upcoming?location=muhendislik-fakultesi
  * </pre>
  */
 @RestController
@@ -50,6 +98,10 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final LikeService likeService;
+    private final ViewerStateResolver viewerState;
+    private final ConditionalRequests conditionalRequests;
+    private final EncodedResponseCache encodedResponses;
 
     /**
      * Yeni gönderi oluşturur.
@@ -74,7 +126,9 @@ public class PostController {
      *   "authorId": 1,
      *   "authorUsername": "burak_dev",
      *   "authorDisplayName": "Burak Yılmaz",
-     *   "createdAt": "2024-03-14T09:30:00"
+     *   "createdAt": "2024-03-14T09:30:00",
+     *   "likeCount": 0,
+     *   "commentCount": 0
      * }
      * </pre>
      */
@@ -91,8 +145,9 @@ public class PostController {
     /**
      * Ana Feed — Tüm gönderiler, sayfalanmış.
      * <p>
-     * {@code @PageableDefault(size = 20, sort = "createdAt", direction = DESC)}
-     * → Frontend parametre göndermezse: ilk 20 gönderi, en yeniden en eskiye.
+     * {@code @PageableDefault(size = 20, sort = {"createdAt", "id"}, direction = DESC)}
+     * → Frontend parametre göndermezse: ilk 20 gönderi, en yeniden en eskiye
+     * (aynı anda oluşturulanlar id'ye göre).
      *
      * <pre>
      * GET /api/posts?page=0&size=20
@@ -107,27 +162,260 @@ public class PostController {
      *   "first": true,
      *   "last": false
      * }
+     * ETag: W/"f1c9e…-1b2f3a"
+     *
+     * GET /api/posts?page=0&size=20
+     * If-None-Match: W/"f1c9e…-1b2f3a"
+     *
+     * Response (304 Not Modified): gövde yok
      * </pre>
      */
     @GetMapping
     @Operation(summary = "Feed — Tüm gönderileri listele", description = "Sayfalanmış gönderi akışı. Varsayılan: 20 gönderi/sayfa")
     public ResponseEntity<Page<PostResponse>> getFeed(
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = { "createdAt", "id" }, direction = Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal AuthenticatedUser viewer,
+            ServletWebRequest webRequest) throws IOException {
+
+        Long viewerId = viewerId(viewer);
+        if (conditionalRequests.notModified(webRequest, "feed", conditionalRequests.feedEtag(viewerId))) {
+            return null; // 304 — sayfa sorgusu ve serileştirme yok
+        }
+        Page<PostResponse> page = postService.getFeed(pageable);
+        if (viewerId == null && encodedResponses.writeFeedPage(pageable, page, webRequest)) {
+            return null; // Hazır baytlar yazıldı — serileştirme yok
+        }
+        return ResponseEntity.ok(viewerState.apply(viewerId, page));
+    }
+
+    /**
+     * Keyset Feed — imleç tabanlı sonsuz kaydırma.
+     * <p>
+     * {@code GET /api/posts} ile aynı sırayı (en yeniden en eskiye) döner, fakat
+     * toplam sayı hesaplamaz ve OFFSET kullanmaz. Eski istemciler için sayfalı
+     * endpoint aynen korunur.
+     *
+     * <pre>
+     * GET /api/posts/feed?size=20
+     * GET /api/posts/feed?size=20&cursor=MjAyNC0wMy0xNFQwOTozMDowMHw0Mg
+     *
+     * Response (200 OK):
+     * {
+     *   "content": [ ... PostResponse array ... ],
+     *   "nextCursor": "MjAyNC0wMy0xNFQwOToyODoxMnw0MQ",
+     *   "hasNext": true,
+     *   "size": 20
+     * }
+     * </pre>
+     */
+    @GetMapping("/feed")
+    @Operation(summary = "Feed — imleç tabanlı", description = "COUNT sorgusu olmadan sonsuz kaydırma. İlk istekte cursor gönderilmez")
+    public ResponseEntity<CursorPage<PostResponse>> getFeedSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AuthenticatedUser viewer,
+            ServletWebRequest webRequest) throws IOException {
+
+        Long viewerId = viewerId(viewer);
+        if (conditionalRequests.notModified(webRequest, "feed.slice", conditionalRequests.feedEtag(viewerId))) {
+            return null;
+        }
+        CursorPage<PostResponse> slice = postService.getFeedSlice(cursor, size);
+        if (viewerId == null && (cursor == null || cursor.isBlank())) {
+            encodedResponses.writeFeedHead(slice, webRequest); // İmleçsiz ilk dilim cache'tendir
+            return null;
+        }
+        return ResponseEntity.ok(viewerState.apply(viewerId, slice));
+    }
+
+    /**
+     * Gönderi arama — içerik, etkinlik başlığı ve konumda.
+     * <p>
+     * Türkçe karakter ve büyük/küçük harf duyarsızdır ("kulup" → "Kulüp");
+     * her kelime önek olarak da eşleşir ("konf" → "Konferans"). Tüm kelimeler
+     * eşleşmelidir. Başlıkta geçen sonuçlar önce gelir.
+     *
+     * <pre>
+     * GET /api/posts/search?q=bahar şenliği&page=0&size=20
+     *
+     * Response (200 OK): Page&lt;PostResponse&gt; (feed ile aynı format)
+     * Response (503): index henüz hazırlanıyor (Retry-After)
+     * </pre>
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Gönderi ara", description = "İçerik, başlık ve konumda Türkçe duyarlı, önek eşleşmeli arama")
+    public ResponseEntity<Page<PostResponse>> searchPosts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        return ResponseEntity.ok(viewerState.apply(viewerId(viewer), postService.searchPosts(q, page, size)));
+    }
+
+    /**
+     * Etiketli gönderiler — en yeniden en eskiye. Etiket {@code #} olmadan
+     * verilir; büyük/küçük harf ve Türkçe karakterler fark etmez
+     * ({@code KariyerGünü} = {@code kariyergunu}).
+     *
+     * <pre>
+     * GET /api/posts/tag/bahar2026?size=20
+     * GET /api/posts/tag/bahar2026?cursor=MjAyNC0wMy0xNFQxMDozMDowMHw0Mg
+     *
+     * Response (200 OK): CursorPage&lt;PostResponse&gt; (keyset feed ile aynı format)
+     * </pre>
+     */
+    @GetMapping("/tag/{tag}")
+    @Operation(summary = "Etiketli gönderiler", description = "Hashtag'e göre gönderiler, keyset sayfalı")
+    public ResponseEntity<CursorPage<PostResponse>> getPostsByTag(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        return ResponseEntity.ok(viewerState.apply(viewerId(viewer), postService.getPostsByTag(tag, cursor, size)));
+    }
+
+    /**
+     * Trend etiketler — son 24 saatte en çok kullanılan hashtag'ler.
+     *
+     * <pre>
+     * GET /api/posts/trending-tags?limit=10
+     *
+     * Response (200 OK):
+     * [ { "tag": "bahar2026", "count": 148 }, { "tag": "kariyergunu", "count": 97 } ]
+     * Response (503): sayaçlar henüz hazırlanıyor (Retry-After)
+     * </pre>
+     */
+    @GetMapping("/trending-tags")
+    @Operation(summary = "Trend etiketler", description = "Son 24 saatte en çok kullanılan hashtag'ler")
+    public ResponseEntity<List<TrendingTagResponse>> getTrendingTags(
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(postService.getTrendingTags(limit));
+    }
+
+    /**
+     * Hot feed — beğeni ve yorumları yeniliğiyle tartılarak sıralanmış
+     * gönderiler. Etkileşimin ağırlığı 12 saatte yarıya iner: çok konuşulan
+     * bir etkinlik, sonradan gelen sıradan gönderilerin altında kaybolmaz.
+     *
+     * <pre>
+     * GET /api/posts/hot?page=0&size=20
+     *
+     * Response (200 OK): Page&lt;PostResponse&gt; (feed ile aynı format)
+     * Response (503): sıralama henüz hazırlanıyor (Retry-After)
+     * </pre>
+     */
+    @GetMapping("/hot")
+    @Operation(summary = "Hot feed", description = "Zaman aşınmalı etkileşime (beğeni, yorum, yenilik) göre sıralı gönderiler")
+    public ResponseEntity<Page<PostResponse>> getHotFeed(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        return ResponseEntity.ok(viewerState.apply(viewerId(viewer), postService.getHotFeed(page, size)));
+    }
+
+    /**
+     * Yaklaşan etkinlikler — etkinlik tarihine göre, en yakından başlayarak.
+     * Parametresiz istek önümüzdeki 7 günü (bugün dahil) döner; geçmiş
+     * etkinlikler listelenmez.
+     *
+     * <pre>
+     * GET /api/posts/upcoming                               → önümüzdeki 7 gün
+     * GET /api/posts/upcoming?to=2024-03-15                 → bugün (15 Mart ise)
+     * GET /api/posts/upcoming?from=2024-03-16&to=2024-03-17 → hafta sonu
+     * GET /api/posts/upcoming?location=muhendislik-fakultesi → fakültedeki etkinlikler
+     * GET /api/posts/upcoming?cursor=MjAyNC0wMy0xNlQxMDowMDowMHw0Mg
+     *
+     * Response (200 OK): CursorPage&lt;PostResponse&gt; (keyset feed ile aynı format)
+     * </pre>
+     */
+    @GetMapping("/upcoming")
+    @Operation(summary = "Yaklaşan etkinlikler", description = "Etkinlik tarihine göre sıralı, gün aralığıyla filtrelenmiş gönderiler")
+    public ResponseEntity<CursorPage<PostResponse>> getUpcomingEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
 
-        return ResponseEntity.ok(postService.getFeed(pageable));
+        return ResponseEntity.ok(viewerState.apply(viewerId(viewer),
+                postService.getUpcomingEvents(from, to, location, cursor, size)));
     }
 
     /**
-     * Tekil gönderi görüntüleme.
+     * Konum facet'leri — yaklaşan etkinliklerin bina/fakülte başına sayıları.
+     * Dönen {@code key}, {@code /upcoming?location=} filtresine verilir.
      *
      * <pre>
-     * GET / api / posts / 42
+     * GET /api/posts/upcoming/locations?limit=20
+     *
+     * Response (200 OK):
+     * [ { "key": "muhendislik-fakultesi", "label": "Mühendislik Fakültesi", "count": 12 }, ... ]
+     * Response (503): sayılar henüz hazırlanıyor (Retry-After)
+     * </pre>
+     */
+    @GetMapping("/upcoming/locations")
+    @Operation(summary = "Konum facet'leri", description = "Yaklaşan etkinliklerin konum başına sayıları")
+    public ResponseEntity<List<LocationFacetResponse>> getLocationFacets(
+            @RequestParam(defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(postService.getLocationFacets(limit));
+    }
+
+    /**
+     * Tekil gönderi görüntüleme. Güçlü ETag döner; {@code If-None-Match}
+     * eşleşirse 304 (gönderi cache'teyse DB'ye de gidilmez).
+     *
+     * <pre>
+     * GET /api/posts/42
+     * If-None-Match: "p42-18e3c5a7d40-12-3"
      * </pre>
      */
     @GetMapping("/{id}")
     @Operation(summary = "Gönderi detayı", description = "ID ile tekil gönderi getirir")
-    public ResponseEntity<PostResponse> getPostById(@PathVariable Long id) {
-        return ResponseEntity.ok(postService.getPostById(id));
+    public ResponseEntity<PostResponse> getPostById(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser viewer,
+            ServletWebRequest webRequest) throws IOException {
+
+        Long viewerId = viewerId(viewer);
+        PostResponse post = viewerState.apply(viewerId, postService.getPostById(id));
+        if (conditionalRequests.notModified(webRequest, "post", ConditionalRequests.postEtag(post))) {
+            return null;
+        }
+        if (viewerId == null) {
+            encodedResponses.writePost(post, webRequest);
+            return null;
+        }
+        return ResponseEntity.ok(post);
+    }
+
+    /**
+     * Toplu gönderi getirme — yer imleri, bildirimler, dış entegrasyonlar.
+     * En fazla 200 id; gönderiler istek sırasıyla döner. Silinmiş veya hiç
+     * olmamış gönderiler hata değil, {@code missingIds}'tir.
+     *
+     * <pre>
+     * GET /api/posts/batch?ids=42,7,13
+     *
+     * Response (200 OK):
+     * {
+     *   "items": [ { "id": 42, ... }, { "id": 7, ... } ],
+     *   "missingIds": [ 13 ]
+     * }
+     * </pre>
+     */
+    @GetMapping("/batch")
+    @Operation(summary = "Toplu gönderi getir", description = "Id listesindeki gönderileri tek sorguda, istek sırasıyla döner")
+    public ResponseEntity<BatchResponse<PostResponse>> getPostsByIds(
+            @RequestParam List<Long> ids,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        return ResponseEntity.ok(viewerState.apply(viewerId(viewer), postService.getPostsByIds(ids)));
     }
 
     /**
@@ -141,9 +429,10 @@ public class PostController {
     @Operation(summary = "Kullanıcı gönderileri", description = "Belirli bir kullanıcının gönderilerini sayfalanmış listeler")
     public ResponseEntity<Page<PostResponse>> getPostsByUser(
             @PathVariable Long userId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
 
-        return ResponseEntity.ok(postService.getPostsByUser(userId, pageable));
+        return ResponseEntity.ok(viewerState.apply(viewerId(viewer), postService.getPostsByUser(userId, pageable)));
     }
 
     /**
@@ -165,4 +454,49 @@ public class PostController {
         postService.deletePost(id, userDetails.getUsername());
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Gönderiyi beğen — idempotent (ikinci çağrı hata vermez).
+     *
+     * <pre>
+     * PUT /api/posts/42/like
+     * Headers: Authorization: Bearer eyJhbG...
+     *
+     * Response (200 OK):
+     * { "postId": 42, "liked": true }
+     * </pre>
+     */
+    @PutMapping("/{id}/like")
+    @Operation(summary = "Gönderiyi beğen", description = "Idempotent — zaten beğenilmişse değişiklik yapmaz")
+    public ResponseEntity<LikeResponse> likePost(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        return ResponseEntity.ok(likeService.like(id, user.getId()));
+    }
+
+    /**
+     * Beğeniyi geri al — idempotent.
+     *
+     * <pre>
+     * DELETE /api/posts/42/like
+     * Headers: Authorization: Bearer eyJhbG...
+     *
+     * Response (200 OK):
+     * { "postId": 42, "liked": false }
+     * </pre>
+     */
+    @DeleteMapping("/{id}/like")
+    @Operation(summary = "Beğeniyi geri al", description = "Idempotent — beğenilmemişse değişiklik yapmaz")
+    public ResponseEntity<LikeResponse> unlikePost(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        return ResponseEntity.ok(likeService.unlike(id, user.getId()));
+    }
+
+    /** Anonim istekte principal null'dır → izleyici alanları doldurulmaz. */
+    private static Long viewerId(AuthenticatedUser viewer) {
+        return viewer == null ? null : viewer.getId();
+    }
 }
@@ -0,0 +1,117 @@
+package com.unievent.controller;
+
+import com.unievent.dto.response.AccountDeletionResponse;
+import com.unievent.dto.response.BatchResponse;
+import com.unievent.dto.response.UserResponse;
+import com.unievent.security.AuthenticatedUser;
+import com.unievent.service.AccountDeletionService;
+import com.unievent.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Kullanıcı hesabı ve profil endpoint'leri.
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@Tag(name = "Users", description = "Kullanıcı hesabı ve profil işlemleri")
+public class UserController {
+
+    private final AccountDeletionService accountDeletionService;
+    private final UserService userService;
+
+    /**
+     * Herkese açık profil — gönderi sayısı ve alınan beğeni toplamıyla.
+     *
+     * <pre>
+     * GET /api/users/5
+     *
+     * Response (200 OK):
+     * {
+     *   "id": 5,
+     *   "username": "burak_dev",
+     *   "displayName": "Burak Yılmaz",
+     *   "role": "STUDENT",
+     *   "createdAt": "2024-01-15T10:30:00",
+     *   "postCount": 12,
+     *   "likesReceived": 348
+     * }
+     * </pre>
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Kullanıcı profili", description = "ID ile herkese açık profil ve istatistikler")
+    public ResponseEntity<UserResponse> getUser(@PathVariable Long id) {
+        return ResponseEntity.ok(userService.getUser(id));
+    }
+
+    /**
+     * Kullanıcı adıyla profil — profil sayfası URL'i ({@code /u/burak_dev}).
+     *
+     * <pre>
+     * GET /api/users/by-username/burak_dev
+     * </pre>
+     */
+    @GetMapping("/by-username/{username}")
+    @Operation(summary = "Kullanıcı profili (kullanıcı adıyla)", description = "Kullanıcı adıyla herkese açık profil ve istatistikler")
+    public ResponseEntity<UserResponse> getUserByUsername(@PathVariable String username) {
+        return ResponseEntity.ok(userService.getUserByUsername(username));
+    }
+
+    /**
+     * Toplu profil getirme — en fazla 200 id, istek sırasıyla. Bulunamayan
+     * (veya silinmiş) kullanıcılar hata değil, {@code missingIds}'tir.
+     * E-posta herkese açık profilde yer almaz.
+     *
+     * <pre>
+     * GET /api/users/batch?ids=5,1,99
+     *
+     * Response (200 OK):
+     * {
+     *   "items": [ { "id": 5, "username": "burak_dev", ... }, { "id": 1, ... } ],
+     *   "missingIds": [ 99 ]
+     * }
+     * </pre>
+     */
+    @GetMapping("/batch")
+    @Operation(summary = "Toplu profil getir", description = "Id listesindeki kullanıcıları tek sorguda, istek sırasıyla döner")
+    public ResponseEntity<BatchResponse<UserResponse>> getUsersByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
+    /**
+     * Hesabı siler. Hesap anında kapanır (giriş ve token'lar reddedilir);
+     * gönderi, beğeni ve yorumlar arka planda silinir.
+     *
+     * <pre>
+     * DELETE /api/users/me
+     * Headers: Authorization: Bearer eyJhbG...
+     *
+     * Response (202 Accepted): AccountDeletionResponse
+     * {
+     *   "jobId": 7,
+     *   "userId": 5,
+     *   "status": "PENDING",
+     *   "phase": "POSTS",
+     *   ...
+     * }
+     * </pre>
+     *
+     * Bu yanıttan sonra aynı token ile yapılan istekler 401 alır.
+     */
+    @DeleteMapping("/me")
+    @Operation(summary = "Hesabı sil", description = "Hesabı kapatır; içerik arka planda parça parça silinir")
+    public ResponseEntity<AccountDeletionResponse> deleteMyAccount(
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(accountDeletionService.requestDeletion(user.getId()));
+    }
+}
@@ -0,0 +1,470 @@
+package com.unievent.counter;
+
+import com.unievent.dto.response.CounterReconciliationResponse;
+import com.unievent.event.PostEngagementEvent;
+import com.unievent.event.UserCountersRepairedEvent;
+import com.unievent.repository.CommentRepository;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.StoredCounters;
+import com.unievent.repository.LikeRepository;
+import com.unievent.repository.PostCount;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Denormalize sayaçların ({@code like_count}, {@code comment_count})
+ * mutabakatı — çevrimiçi, parça parça.
+ * <p>
+ * {@code event_posts} birincil anahtar sırasıyla (keyset, {@code id > ?})
+ * {@code chunk-size}'lık parçalara bölünür. Her parça için üç sorgu çalışır:
+ * saklı sayaçlar, {@code likes} ve {@code comments} üzerinde
+ * {@code GROUP BY post_id}. Gönderi başına {@code countByPostId} (N sorgu)
+ * yerine parça başına 3 sorgu.
+ * <p>
+ * Neden iki geçiş?
+ * → Birleştirme modunda ({@link LikeCounter}) beğeni satırı commit olur ama
+ * sayaç delta'sı bir flush aralığı boyunca bellekte bekler; o anda bakan bir
+ * mutabakat "fark" görür. Bu yüzden fark bulunan gönderiler {@code settle}
+ * kadar sonra tekrar okunur ve yalnızca saklı ve gerçek değerlerin ikisi de
+ * değişmemişse düzeltilir. Okumalar {@code REPEATABLE READ} tek snapshot'ta
+ * yapılır → sayaç ve satırlar aynı anı gösterir.
+ * <p>
+ * Düzeltme compare-and-set'tir ({@code WHERE like_count = :expected}): arada
+ * bir beğeni sayacı değiştirdiyse satıra dokunulmaz, bir sonraki turda
+ * tekrar bakılır. Aynı anda iki pod'da çalışması zararsızdır (sadece boşa iş).
+ * Düzeltilen beğeni farkı yazarın {@code likes_received} sayacına da
+ * yansıtılır ({@link LikesReceivedCounter}).
+ * <p>
+ * Düzeltme de bir sayaç değişimidir: aynı transaction'da düzeltilen
+ * delta'larla {@link PostEngagementEvent} ve düzeltilen yazarlar için
+ * {@link UserCountersRepairedEvent} yayınlanır → commit sonrası gönderi ve
+ * profil cache'leri, sıcak sıralama (bu ve diğer replica'larda) eski değeri
+ * bırakır.
+ * <p>
+ * Throttle — feed trafiğiyle yarışmaması için:
+ * <ul>
+ * <li>En fazla {@code parallelism} parça aynı anda işlenir (sınırlı havuz)</li>
+ * <li>Her parça arasında {@code pause} beklenir</li>
+ * <li>Bağlantı havuzunda bağlantı bekleyen thread varsa yeni parça
+ * başlatılmaz; havuz rahatlayana kadar beklenir</li>
+ * </ul>
+ * Metrikler: {@code counters.reconcile.scanned}, {@code .drift}
+ * ({@code counter=like|comment}), {@code .repaired}, {@code .skipped},
+ * {@code .chunk} (süre), {@code .progress} (0..1), {@code .running}.
+ */
+@Slf4j
+@Component
+public class CounterReconciler {
+
+    private final EventPostRepository postRepository;
+    private final LikesReceivedCounter likesReceived;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration pause;
+    private final Duration settle;
+
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+    private final Semaphore inFlight;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean shuttingDown;
+    private volatile Run lastRun;
+
+    private final Counter scanned;
+    private final Counter likeDrift;
+    private final Counter commentDrift;
+    private final Counter repaired;
+    private final Counter skipped;
+    private final Timer chunkTimer;
+
+    public CounterReconciler(EventPostRepository postRepository,
+            LikesReceivedCounter likesReceived,
+            ApplicationEventPublisher eventPublisher,
+            LikeRepository likeRepository,
+            CommentRepository commentRepository,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.counters.reconciliation.chunk-size}") int chunkSize,
+            @Value("${app.counters.reconciliation.parallelism}") int parallelism,
+            @Value("${app.counters.reconciliation.pause}") Duration pause,
+            @Value("${app.counters.reconciliation.settle}") Duration settle,
+            MeterRegistry meterRegistry) {
+
+        this.postRepository = postRepository;
+        this.likesReceived = likesReceived;
+        this.eventPublisher = eventPublisher;
+        this.likeRepository = likeRepository;
+        this.commentRepository = commentRepository;
+        this.dataSource = dataSource;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.pause = pause;
+        this.settle = settle;
+
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+
+        this.coordinator = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("counter-reconcile-"));
+        this.workers = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("counter-reconcile-worker-"));
+        this.inFlight = new Semaphore(parallelism);
+
+        this.scanned = Counter.builder("counters.reconcile.scanned")
+                .description("Mutabakatta kontrol edilen gönderi")
+                .register(meterRegistry);
+        this.likeDrift = Counter.builder("counters.reconcile.drift").tag("counter", "like").register(meterRegistry);
+        this.commentDrift = Counter.builder("counters.reconcile.drift").tag("counter", "comment").register(meterRegistry);
+        this.repaired = Counter.builder("counters.reconcile.repaired").register(meterRegistry);
+        this.skipped = Counter.builder("counters.reconcile.skipped").register(meterRegistry);
+        this.chunkTimer = Timer.builder("counters.reconcile.chunk").register(meterRegistry);
+        Gauge.builder("counters.reconcile.progress", this, reconciler -> reconciler.progress())
+                .description("Çalışan turun yaklaşık ilerlemesi (0..1)")
+                .register(meterRegistry);
+        Gauge.builder("counters.reconcile.running", running, flag -> flag.get() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    /** Periyodik tur; varsayılan olarak kapalı ({@code schedule: "-"}). */
+    @Scheduled(cron = "${app.counters.reconciliation.schedule}")
+    public void scheduledRun() {
+        start();
+    }
+
+    /**
+     * Arka planda yeni bir tur başlatır; zaten çalışıyorsa hiçbir şey yapmaz.
+     *
+     * @return Turun güncel durumu
+     */
+    public CounterReconciliationResponse start() {
+        if (!shuttingDown && running.compareAndSet(false, true)) {
+            try {
+                Run run = new Run(postRepository.findMaxId().orElse(0L));
+                lastRun = run;
+                coordinator.execute(() -> reconcileAll(run));
+            } catch (RuntimeException e) {
+                running.set(false);
+                throw e;
+            }
+        }
+        return status();
+    }
+
+    public CounterReconciliationResponse status() {
+        Run run = lastRun;
+        if (run == null) {
+            return new CounterReconciliationResponse(false, null, null, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new CounterReconciliationResponse(
+                running.get(),
+                run.startedAt,
+                run.finishedAt,
+                run.maxPostId,
+                run.lastPostId.get(),
+                run.scanned.get(),
+                run.likeDrift.get(),
+                run.commentDrift.get(),
+                run.repaired.get(),
+                run.skipped.get(),
+                run.failedChunks.get());
+    }
+
+    private void reconcileAll(Run run) {
+        log.info("Sayaç mutabakatı başladı (maxPostId={})", run.maxPostId);
+        long afterId = 0;
+        try {
+            while (!shuttingDown) {
+                List<Long> ids = postRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+
+                throttle();
+                inFlight.acquire();
+                long chunkEnd = afterId;
+                workers.execute(() -> {
+                    try {
+                        chunkTimer.record(() -> reconcileChunk(ids, run));
+                    } catch (RuntimeException e) {
+                        run.failedChunks.incrementAndGet();
+                        log.warn("Sayaç mutabakatı parçası başarısız (..{}): {}", chunkEnd, e.getMessage());
+                    } finally {
+                        run.lastPostId.accumulateAndGet(chunkEnd, Math::max);
+                        inFlight.release();
+                    }
+                });
+            }
+            // Kalan parçaların bitmesini bekle
+            inFlight.acquire(parallelism);
+            inFlight.release(parallelism);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Sayaç mutabakatı durdu: {}", e.getMessage());
+        } finally {
+            run.finishedAt = LocalDateTime.now();
+            running.set(false);
+            log.info("Sayaç mutabakatı bitti: {} gönderi, {} beğeni / {} yorum farkı, {} düzeltildi, {} atlandı",
+                    run.scanned.get(), run.likeDrift.get(), run.commentDrift.get(),
+                    run.repaired.get(), run.skipped.get());
+        }
+    }
+
+    private void reconcileChunk(List<Long> ids, Run run) {
+        Map<Long, Drift> suspects = findDrift(ids);
+        scanned.increment(ids.size());
+        run.scanned.addAndGet(ids.size());
+        if (suspects.isEmpty()) {
+            return;
+        }
+
+        // Bekleyen birleştirilmiş delta'lar ve uçuştaki transaction'lar otursun
+        sleep(settle);
+        Map<Long, Drift> confirmed = findDrift(suspects.keySet());
+
+        Map<Long, Drift> stable = new TreeMap<>(); // postId sırası → sabit kilit sırası
+        confirmed.forEach((postId, drift) -> {
+            if (drift.equals(suspects.get(postId))) {
+                stable.put(postId, drift);
+            } else {
+                skipped.increment();
+                run.skipped.incrementAndGet();
+            }
+        });
+        if (!stable.isEmpty()) {
+            writeTransaction.executeWithoutResult(status -> {
+                Map<Long, Integer> likeRepairs = new TreeMap<>();
+                Map<Long, Integer> commentRepairs = new TreeMap<>();
+                stable.values().forEach(drift -> repair(drift, run, likeRepairs, commentRepairs));
+                // Gönderilerden sonra, yazar sırasıyla — LikeCounter ile aynı kilit sırası
+                Set<Long> authors = likesReceived.adjust(likeRepairs);
+                publishRepairs(likeRepairs, commentRepairs, authors);
+            });
+        }
+    }
+
+    /**
+     * @param likeRepairs    düzeltilen beğeni sayaçlarının değişimi buraya
+     *                       eklenir — yazarın {@code likes_received}'ına yansıtılır
+     * @param commentRepairs düzeltilen yorum sayaçlarının değişimi
+     */
+    private void repair(Drift drift, Run run, Map<Long, Integer> likeRepairs, Map<Long, Integer> commentRepairs) {
+        boolean changed = true;
+        if (drift.likesDiffer()) {
+            likeDrift.increment();
+            run.likeDrift.incrementAndGet();
+            boolean likesRepaired =
+                    postRepository.repairLikeCount(drift.postId(), drift.storedLikes(), drift.actualLikes()) == 1;
+            if (likesRepaired) {
+                likeRepairs.put(drift.postId(), drift.actualLikes() - drift.storedLikes());
+            }
+            changed &= likesRepaired;
+        }
+        if (drift.commentsDiffer()) {
+            commentDrift.increment();
+            run.commentDrift.incrementAndGet();
+            boolean commentsRepaired = postRepository.repairCommentCount(
+                    drift.postId(), drift.storedComments(), drift.actualComments()) == 1;
+            if (commentsRepaired) {
+                commentRepairs.put(drift.postId(), drift.actualComments() - drift.storedComments());
+            }
+            changed &= commentsRepaired;
+        }
+
+        if (changed) {
+            repaired.increment();
+            run.repaired.incrementAndGet();
+            log.info("Sayaç düzeltildi: postId={} likeCount {} → {}, commentCount {} → {}", drift.postId(),
+                    drift.storedLikes(), drift.actualLikes(), drift.storedComments(), drift.actualComments());
+        } else {
+            skipped.increment();
+            run.skipped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Düzeltilen delta'lar {@link PostEngagementEvent#MAX_POSTS}'luk, yazarlar
+     * {@link UserCountersRepairedEvent#MAX_USERS}'lık olaylar halinde.
+     * Dinleyiciler commit sonrasında çalışır.
+     */
+    private void publishRepairs(Map<Long, Integer> likeRepairs, Map<Long, Integer> commentRepairs,
+            Set<Long> authors) {
+        Set<Long> postIds = new TreeSet<>(likeRepairs.keySet());
+        postIds.addAll(commentRepairs.keySet());
+        for (List<Long> batch : partition(postIds, PostEngagementEvent.MAX_POSTS)) {
+            Map<Long, Integer> likes = new HashMap<>();
+            Map<Long, Integer> comments = new HashMap<>();
+            for (Long postId : batch) {
+                if (likeRepairs.containsKey(postId)) {
+                    likes.put(postId, likeRepairs.get(postId));
+                }
+                if (commentRepairs.containsKey(postId)) {
+                    comments.put(postId, commentRepairs.get(postId));
+                }
+            }
+            eventPublisher.publishEvent(new PostEngagementEvent(likes, comments));
+        }
+        for (List<Long> batch : partition(authors, UserCountersRepairedEvent.MAX_USERS)) {
+            eventPublisher.publishEvent(new UserCountersRepairedEvent(new HashSet<>(batch)));
+        }
+    }
+
+    private static List<List<Long>> partition(Collection<Long> ids, int size) {
+        List<List<Long>> batches = new ArrayList<>();
+        List<Long> batch = new ArrayList<>(Math.min(ids.size(), size));
+        for (Long id : ids) {
+            batch.add(id);
+            if (batch.size() == size) {
+                batches.add(batch);
+                batch = new ArrayList<>(size);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /** Saklı sayacı gerçek sayıdan farklı olan gönderiler (tek snapshot). */
+    private Map<Long, Drift> findDrift(Collection<Long> ids) {
+        return snapshotTransaction.execute(status -> {
+            List<StoredCounters> stored = postRepository.findCounters(ids);
+            Map<Long, Long> likes = toMap(likeRepository.countByPostIds(ids));
+            Map<Long, Long> comments = toMap(commentRepository.countByPostIds(ids));
+
+            Map<Long, Drift> drifts = new HashMap<>();
+            for (StoredCounters post : stored) {
+                Drift drift = new Drift(post.getId(),
+                        post.getLikeCount(), likes.getOrDefault(post.getId(), 0L).intValue(),
+                        post.getCommentCount(), comments.getOrDefault(post.getId(), 0L).intValue());
+                if (drift.likesDiffer() || drift.commentsDiffer()) {
+                    drifts.put(post.getId(), drift);
+                }
+            }
+            return drifts;
+        });
+    }
+
+    /**
+     * Parçalar arası bekleme; bağlantı havuzunda bekleyen istek varsa havuz
+     * rahatlayana kadar (en fazla ~100 × pause) yeni parça başlatılmaz.
+     */
+    private void throttle() throws InterruptedException {
+        Thread.sleep(pause.toMillis());
+        HikariPoolMXBean pool = hikariPool();
+        for (int i = 0; pool != null && pool.getThreadsAwaitingConnection() > 0 && i < 100; i++) {
+            Thread.sleep(pause.toMillis());
+        }
+    }
+
+    private HikariPoolMXBean hikariPool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean()
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private double progress() {
+        Run run = lastRun;
+        if (run == null || !running.get() || run.maxPostId == 0) {
+            return 0;
+        }
+        return Math.min(1.0, (double) run.lastPostId.get() / run.maxPostId);
+    }
+
+    private static Map<Long, Long> toMap(List<PostCount> counts) {
+        Map<Long, Long> map = new HashMap<>();
+        counts.forEach(count -> map.put(count.getPostId(), count.getTotal()));
+        return map;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Mutabakat kesildi", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        shuttingDown = true;
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private record Drift(Long postId, int storedLikes, int actualLikes, int storedComments, int actualComments) {
+
+        boolean likesDiffer() {
+            return storedLikes != actualLikes;
+        }
+
+        boolean commentsDiffer() {
+            return storedComments != actualComments;
+        }
+    }
+
+    /** Bir turun ilerlemesi; worker thread'lerinden güncellenir. */
+    private static final class Run {
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final long maxPostId;
+        final AtomicLong lastPostId = new AtomicLong();
+        final AtomicLong scanned = new AtomicLong();
+        final AtomicLong likeDrift = new AtomicLong();
+        final AtomicLong commentDrift = new AtomicLong();
+        final AtomicLong repaired = new AtomicLong();
+        final AtomicLong skipped = new AtomicLong();
+        final AtomicLong failedChunks = new AtomicLong();
+        volatile LocalDateTime finishedAt;
+
+        Run(long maxPostId) {
+            this.maxPostId = maxPostId;
+        }
+    }
+}
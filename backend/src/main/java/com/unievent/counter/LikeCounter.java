@@ -0,0 +1,186 @@
+package com.unievent.counter;
+
+import com.unievent.event.PostEngagementEvent;
+import com.unievent.repository.EventPostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code event_posts.like_count} yazıcısı — doğrudan veya birleştirerek
+ * (coalescing).
+ * <p>
+ * Doğrudan mod ({@code app.likes.coalescing.enabled=false}):
+ * → Her beğeni, beğeni ile aynı transaction'da
+ * {@code like_count = like_count ± 1} çalıştırır. Doğru ama viral bir
+ * gönderide tüm beğeniler aynı satır kilidinde sıraya girer.
+ * <p>
+ * Birleştirme modu:
+ * → Değişiklikler commit sonrasında bellekteki {@code postId → delta}
+ * tablosuna eklenir; {@code flush-interval-ms}'de bir tek transaction'da
+ * gönderi başına TEK {@code UPDATE} (JDBC batch) olarak yazılır. Saniyede
+ * binlerce beğeni alan bir gönderi, saniyede birkaç satır güncellemesine
+ * iner. Bedeli: sayaç en fazla bir aralık kadar geride kalır ve pod ani
+ * çökerse son aralığın delta'sı kaybolur — beğeni satırları
+ * ({@code likes} tablosu) her zaman doğrudur, sayaç mutabakat işiyle
+ * ({@link CounterReconciler}) düzeltilebilir.
+ * <p>
+ * Neden {@code merge} + {@code remove}?
+ * → {@code flush} anahtarı {@code remove} ile atomik olarak alır; o andan
+ * sonra gelen artışlar yeni bir kayıt açar, hiçbiri kaybolmaz ya da iki kez
+ * yazılmaz. UPDATE'ler {@code postId} sırasıyla gönderilir → replica'lar
+ * arası kilit sırası sabit, deadlock olmaz.
+ * <p>
+ * Yazarın {@code users.likes_received} sayacı aynı transaction'da, gönderi
+ * sayaçlarından sonra güncellenir ({@link LikesReceivedCounter}).
+ * <p>
+ * Yazılan her değişiklik, yazımla aynı transaction'da
+ * {@link PostEngagementEvent} olarak yayınlanır: doğrudan modda beğeni başına,
+ * birleştirme modunda flush başına (en fazla {@link PostEngagementEvent#MAX_POSTS}
+ * gönderilik olaylar) — viral bir gönderi küme kanalını da doldurmaz.
+ * <p>
+ * Metrikler: {@code likes.counter.pending} (bekleyen gönderi sayısı),
+ * {@code likes.counter.flush} (süre), {@code likes.counter.flush.failures}.
+ */
+@Slf4j
+@Component
+public class LikeCounter {
+
+    private static final String UPDATE_SQL = "UPDATE event_posts SET like_count = like_count + ? WHERE id = ?";
+
+    private final EventPostRepository postRepository;
+    private final LikesReceivedCounter likesReceived;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean coalescing;
+
+    private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter flushFailures;
+
+    public LikeCounter(EventPostRepository postRepository,
+            LikesReceivedCounter likesReceived,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.likes.coalescing.enabled}") boolean coalescing,
+            MeterRegistry meterRegistry) {
+
+        this.postRepository = postRepository;
+        this.likesReceived = likesReceived;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.coalescing = coalescing;
+
+        this.flushTimer = Timer.builder("likes.counter.flush")
+                .description("Birleştirilmiş beğeni sayaçlarının yazılma süresi")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("likes.counter.flush.failures")
+                .register(meterRegistry);
+        Gauge.builder("likes.counter.pending", pending, Map::size)
+                .description("Yazılmayı bekleyen gönderi sayacı")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gönderinin beğeni sayacını {@code delta} kadar değiştirir. Aktif bir
+     * transaction içinde çağrılmalıdır (beğeni satırının yazıldığı).
+     */
+    public void adjust(Long postId, int delta) {
+        if (!coalescing) {
+            postRepository.adjustLikeCount(postId, delta);
+            likesReceived.adjust(Map.of(postId, delta));
+            eventPublisher.publishEvent(PostEngagementEvent.likes(Map.of(postId, delta)));
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Rollback olan beğeni sayaca yansımasın
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.merge(postId, delta, Integer::sum);
+                }
+            });
+        } else {
+            pending.merge(postId, delta, Integer::sum);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.likes.coalescing.flush-interval-ms}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<long[]> batch = new ArrayList<>(pending.size());
+        for (Long postId : pending.keySet()) {
+            Integer delta = pending.remove(postId);
+            if (delta != null && delta != 0) {
+                batch.add(new long[] { postId, delta });
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        batch.sort((a, b) -> Long.compare(a[0], b[0]));
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, row) -> {
+                    ps.setInt(1, (int) row[1]);
+                    ps.setLong(2, row[0]);
+                });
+                likesReceived.adjust(toMap(batch));
+                publishEngagement(batch);
+            }));
+        } catch (RuntimeException e) {
+            // Delta'ları geri koy, bir sonraki turda tekrar denenir
+            flushFailures.increment();
+            batch.forEach(row -> pending.merge(row[0], (int) row[1], Integer::sum));
+            log.warn("Beğeni sayaçları yazılamadı ({} gönderi), tekrar denenecek: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private static Map<Long, Integer> toMap(List<long[]> batch) {
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        batch.forEach(row -> deltas.put(row[0], (int) row[1]));
+        return deltas;
+    }
+
+    /** Yazılan delta'lar, {@link PostEngagementEvent#MAX_POSTS}'luk olaylar halinde. */
+    private void publishEngagement(List<long[]> batch) {
+        for (int from = 0; from < batch.size(); from += PostEngagementEvent.MAX_POSTS) {
+            Map<Long, Integer> deltas = new LinkedHashMap<>();
+            for (long[] row : batch.subList(from, Math.min(from + PostEngagementEvent.MAX_POSTS, batch.size()))) {
+                deltas.put(row[0], (int) row[1]);
+            }
+            eventPublisher.publishEvent(PostEngagementEvent.likes(deltas));
+        }
+    }
+
+    /** Kapanışta bekleyen delta'ları yaz. */
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
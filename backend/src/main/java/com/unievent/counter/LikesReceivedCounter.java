@@ -0,0 +1,69 @@
+package com.unievent.counter;
+
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.AuthorCounters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * {@code users.likes_received} yazıcısı — gönderi sayaçlarındaki değişimi
+ * yazarlara yansıtır.
+ * <p>
+ * Değişmez: {@code likes_received} = yazarın gönderilerindeki
+ * {@code like_count} toplamı. Bu yüzden {@code like_count}'u değiştiren her
+ * yol ({@link LikeCounter}, {@link CounterReconciler}) aynı delta'yı buraya
+ * da verir; gönderi silme toplamı {@code PostPurger}'da düşer.
+ * <p>
+ * Delta'lar yazar başına toplanır ve tek {@code UPDATE} (JDBC batch) olarak,
+ * yazar id sırasıyla yazılır. Çağıranlar gönderi satırlarını önce
+ * kilitlediği için kilit sırası her yolda "gönderiler → kullanıcılar"dır;
+ * replica'lar arası deadlock olmaz.
+ * <p>
+ * Bu arada silinen gönderinin delta'sı yok sayılır: silme, gönderinin o anki
+ * {@code like_count}'unu zaten düşmüştür.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikesReceivedCounter {
+
+    private static final String UPDATE_SQL = "UPDATE users SET likes_received = likes_received + ? WHERE id = ?";
+
+    private final EventPostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Çağıranın transaction'ında çalışır — gönderi sayacıyla birlikte yazılır.
+     *
+     * @param likeDeltas {@code postId → like_count değişimi}
+     * @return {@code likes_received}'ı değişen yazarlar (id sırasıyla)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<Long> adjust(Map<Long, Integer> likeDeltas) {
+        if (likeDeltas.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, Long> byAuthor = new TreeMap<>();
+        for (AuthorCounters post : postRepository.findAuthorCounters(likeDeltas.keySet())) {
+            byAuthor.merge(post.getAuthorId(), (long) likeDeltas.get(post.getId()), Long::sum);
+        }
+        byAuthor.values().removeIf(delta -> delta == 0);
+        List<long[]> batch = new ArrayList<>(byAuthor.size());
+        byAuthor.forEach((authorId, delta) -> batch.add(new long[] { authorId, delta }));
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, row) -> {
+                ps.setLong(1, row[1]);
+                ps.setLong(2, row[0]);
+            });
+        }
+        return byAuthor.keySet();
+    }
+}
@@ -0,0 +1,19 @@
+package com.unievent.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Yorum oluşturma isteği.
+ *
+ * <pre>
+ * POST /api/posts/42/comments
+ * {
+ *   "content": "Ben de geliyorum!"
+ * }
+ * </pre>
+ */
+public record CreateCommentRequest(
+
+        @NotBlank(message = "Yorum içeriği boş olamaz") @Size(max = 500, message = "Yorum en fazla 500 karakter olabilir") String content) {
+}
@@ -0,0 +1,34 @@
+package com.unievent.dto.request;
+
+import com.unievent.entity.Role;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Toplu içe aktarmada tek bir kullanıcı satırı.
+ * <p>
+ * Kurallar {@link RegisterRequest} ile aynıdır; ek olarak isteğe bağlı
+ * {@code role} (STUDENT veya CLUB, boşsa STUDENT) verilebilir.
+ *
+ * <pre>
+ * NDJSON satırı:
+ * {"username":"ayse_k","email":"ayse@university.edu.tr","password":"Gecici123!","displayName":"Ayşe K."}
+ *
+ * CSV (ilk satır başlık):
+ * username,email,password,displayName,role
+ * ayse_k,ayse@university.edu.tr,Gecici123!,Ayşe K.,STUDENT
+ * </pre>
+ */
+public record UserImportRow(
+
+        @NotBlank(message = "Kullanıcı adı boş olamaz") @Size(min = 3, max = 30, message = "Kullanıcı adı 3-30 karakter arasında olmalıdır") String username,
+
+        @NotBlank(message = "E-posta boş olamaz") @Email(message = "Geçerli bir e-posta adresi giriniz") @Size(max = 100, message = "E-posta en fazla 100 karakter olabilir") String email,
+
+        @NotBlank(message = "Şifre boş olamaz") @Size(min = 6, max = 100, message = "Şifre en az 6 karakter olmalıdır") String password,
+
+        @Size(max = 50, message = "Görünen ad en fazla 50 karakter olabilir") String displayName,
+
+        Role role) {
+}
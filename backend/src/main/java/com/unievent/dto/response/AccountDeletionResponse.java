@@ -0,0 +1,47 @@
+package com.unievent.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.unievent.entity.AccountDeletionJob;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hesap silme işinin durumu ve ilerlemesi.
+ *
+ * <pre>
+ * Örnek JSON yanıt:
+ * {
+ *   "jobId": 7,
+ *   "userId": 5,
+ *   "username": "ahmet_yilmaz",
+ *   "status": "RUNNING",
+ *   "phase": "LIKES",
+ *   "postsDeleted": 1240,
+ *   "likesDeleted": 3500,
+ *   "commentsDeleted": 0,
+ *   "attempts": 0,
+ *   "createdAt": "2024-03-14T09:30:00",
+ *   "updatedAt": "2024-03-14T09:30:04"
+ * }
+ * </pre>
+ *
+ * {@code phase} sırası: POSTS → LIKES → COMMENTS → USER → DONE.
+ * {@code lastError} son başarısız parçanın hatasıdır; iş otomatik olarak
+ * tekrar denenir.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AccountDeletionResponse(
+        Long jobId,
+        Long userId,
+        String username,
+        AccountDeletionJob.Status status,
+        AccountDeletionJob.Phase phase,
+        int postsDeleted,
+        int likesDeleted,
+        int commentsDeleted,
+        int attempts,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime completedAt) {
+}
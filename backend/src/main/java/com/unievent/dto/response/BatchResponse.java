@@ -0,0 +1,71 @@
+package com.unievent.dto.response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Toplu getirme (multi-get) yanıtı — {@code GET /api/posts/batch},
+ * {@code GET /api/users/batch}.
+ * <p>
+ * Bulunamayan id'ler 404/400 yerine {@code missingIds}'te döner: yer imi veya
+ * bildirim listesindeki bir gönderinin silinmiş olması normaldir, tüm isteği
+ * düşürmemelidir.
+ *
+ * <pre>
+ * Örnek JSON yanıt (React ekibi için):
+ * {
+ *   "items": [ { "id": 42, ... }, { "id": 7, ... } ],
+ *   "missingIds": [ 13 ]
+ * }
+ * </pre>
+ *
+ * {@code items} istekteki sırayla döner (tekrarlanan id bir kez).
+ */
+public record BatchResponse<T>(
+        List<T> items,
+        List<Long> missingIds) {
+
+    /** Tek istekte sorulabilecek en fazla id. */
+    public static final int MAX_IDS = 200;
+
+    /**
+     * İstekteki id'ler, sırası korunarak ve tekrarsız.
+     *
+     * @throws IllegalArgumentException Id yoksa veya {@link #MAX_IDS}'ten fazlaysa
+     */
+    public static Set<Long> distinctIds(Collection<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids == null ? List.of() : ids);
+        distinct.remove(null);
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("En az bir id gönderilmelidir");
+        }
+        if (distinct.size() > MAX_IDS) {
+            throw new IllegalArgumentException("Tek istekte en fazla " + MAX_IDS + " id sorulabilir");
+        }
+        return distinct;
+    }
+
+    /**
+     * Yanıtı istek sırasıyla kurar.
+     *
+     * @param ids   {@link #distinctIds} sonucu
+     * @param found bulunan kayıtlar (id → kayıt)
+     */
+    public static <T> BatchResponse<T> of(Set<Long> ids, Map<Long, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            T item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new BatchResponse<>(items, missing);
+    }
+}
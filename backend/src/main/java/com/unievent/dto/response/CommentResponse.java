@@ -0,0 +1,29 @@
+package com.unievent.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Yorum yanıtı.
+ *
+ * <pre>
+ * Örnek JSON yanıt (React ekibi için):
+ * {
+ *   "id": 7,
+ *   "postId": 42,
+ *   "content": "Ben de geliyorum!",
+ *   "authorId": 3,
+ *   "authorUsername": "ayse_k",
+ *   "authorDisplayName": "Ayşe K.",
+ *   "createdAt": "2024-03-14T10:05:00"
+ * }
+ * </pre>
+ */
+public record CommentResponse(
+        Long id,
+        Long postId,
+        String content,
+        Long authorId,
+        String authorUsername,
+        String authorDisplayName,
+        LocalDateTime createdAt) {
+}
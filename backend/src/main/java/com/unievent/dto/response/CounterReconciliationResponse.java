@@ -0,0 +1,43 @@
+package com.unievent.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sayaç mutabakatının durumu — çalışan veya son tamamlanan tur.
+ *
+ * <pre>
+ * Örnek JSON yanıt:
+ * {
+ *   "running": true,
+ *   "startedAt": "2024-03-14T03:30:00",
+ *   "maxPostId": 1250000,
+ *   "lastPostId": 418000,
+ *   "postsScanned": 418000,
+ *   "likeDrift": 12,
+ *   "commentDrift": 1,
+ *   "repaired": 13,
+ *   "skipped": 0,
+ *   "failedChunks": 0
+ * }
+ * </pre>
+ *
+ * {@code lastPostId / maxPostId} yaklaşık ilerlemedir. {@code skipped}:
+ * fark bulunan ama düzeltme sırasında sayacı eşzamanlı değişmiş gönderiler —
+ * bir sonraki turda tekrar kontrol edilir.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CounterReconciliationResponse(
+        boolean running,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        long maxPostId,
+        long lastPostId,
+        long postsScanned,
+        long likeDrift,
+        long commentDrift,
+        long repaired,
+        long skipped,
+        long failedChunks) {
+}
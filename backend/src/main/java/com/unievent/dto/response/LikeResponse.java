@@ -0,0 +1,20 @@
+package com.unievent.dto.response;
+
+/**
+ * Beğeni durumu yanıtı — like/unlike sonrası döner.
+ *
+ * <pre>
+ * Örnek JSON yanıt:
+ * {
+ *   "postId": 42,
+ *   "liked": true
+ * }
+ * </pre>
+ *
+ * İstek idempotent'tir: aynı gönderiyi ikinci kez beğenmek hata vermez,
+ * yine {@code liked: true} döner.
+ */
+public record LikeResponse(
+        Long postId,
+        boolean liked) {
+}
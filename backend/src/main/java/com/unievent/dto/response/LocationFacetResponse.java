@@ -0,0 +1,15 @@
+package com.unievent.dto.response;
+
+/**
+ * Bir konumdaki yaklaşan etkinlik sayısı (konum filtresi kenar çubuğu).
+ *
+ * <pre>
+ * Örnek JSON yanıt:
+ * { "key": "muhendislik-fakultesi", "label": "Mühendislik Fakültesi", "count": 12 }
+ * </pre>
+ *
+ * {@code key} {@code GET /api/posts/upcoming?location=...} filtresine verilir;
+ * {@code label} konumun bir gönderideki yazımıdır.
+ */
+public record LocationFacetResponse(String key, String label, long count) {
+}
@@ -26,9 +26,19 @@ import java.time.LocalDateTime;
  *   "authorId": 1,
  *   "authorUsername": "bilgisayar_kulubu",
  *   "authorDisplayName": "Bilgisayar Kulübü",
- *   "createdAt": "2024-03-14T09:30:00"
+ *   "createdAt": "2024-03-14T09:30:00",
+ *   "updatedAt": "2024-03-14T09:30:00",
+ *   "likeCount": 12,
+ *   "commentCount": 3,
+ *   "likedByMe": true
  * }
  * </pre>
+ *
+ * {@code likedByMe} izleyiciye özeldir: cache'lenen (paylaşılan) görüntüde
+ * null'dır ve JSON'a yazılmaz; giriş yapmış kullanıcıya dönerken
+ * {@code ViewerStateResolver} doldurur. Sayaçlar tekil gönderide anlık,
+ * feed sayfalarında sayfa cache'i kadar (en fazla {@code app.cache.feed.ttl})
+ * gecikmeli olabilir.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record PostResponse(
@@ -41,5 +51,15 @@ public record PostResponse(
         Long authorId,
         String authorUsername,
         String authorDisplayName,
-        LocalDateTime createdAt) {
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        int likeCount,
+        int commentCount,
+        Boolean likedByMe) {
+
+    /** İzleyicinin beğeni durumuyla kopyası. */
+    public PostResponse withLikedByMe(boolean liked) {
+        return new PostResponse(id, content, eventTitle, eventLocation, eventDate, imageUrl, authorId,
+                authorUsername, authorDisplayName, createdAt, updatedAt, likeCount, commentCount, liked);
+    }
 }
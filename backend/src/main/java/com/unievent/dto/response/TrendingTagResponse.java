@@ -0,0 +1,15 @@
+package com.unievent.dto.response;
+
+/**
+ * Trend etiket ve pencere içindeki (tahmini) kullanım sayısı.
+ *
+ * <pre>
+ * Örnek JSON yanıt:
+ * { "tag": "bahar2026", "count": 148 }
+ * </pre>
+ *
+ * {@code count} bir üst sınırdır: sayaçlar sabit bellekte tutulur ve seyrek
+ * etiketlerde birkaç fazla sayabilir (bkz. {@code SlidingCountMinSketch}).
+ */
+public record TrendingTagResponse(String tag, long count) {
+}
@@ -0,0 +1,43 @@
+package com.unievent.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Toplu kullanıcı içe aktarma raporu — her satır için sonuç.
+ *
+ * <pre>
+ * Örnek JSON yanıt:
+ * {
+ *   "total": 3,
+ *   "created": 1,
+ *   "duplicates": 1,
+ *   "invalid": 1,
+ *   "truncated": false,
+ *   "rows": [
+ *     { "line": 2, "username": "ayse_k", "status": "CREATED" },
+ *     { "line": 3, "username": "burak_dev", "status": "DUPLICATE", "message": "Bu kullanıcı adı zaten kullanılıyor" },
+ *     { "line": 4, "status": "INVALID", "message": "Geçerli bir e-posta adresi giriniz" }
+ *   ]
+ * }
+ * </pre>
+ *
+ * {@code truncated = true} → satır limiti aşıldı, kalan satırlar okunmadı.
+ */
+public record UserImportReport(
+        int total,
+        int created,
+        int duplicates,
+        int invalid,
+        boolean truncated,
+        List<RowResult> rows) {
+
+    public enum Status {
+        CREATED, DUPLICATE, INVALID
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record RowResult(int line, String username, Status status, String message) {
+    }
+}
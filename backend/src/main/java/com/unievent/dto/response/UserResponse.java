@@ -9,6 +9,10 @@ import java.time.LocalDateTime;
  * <p>
  * {@code @JsonInclude(NON_NULL)} — null olan alanlar JSON'a dahil edilmez.
  * Böylece bio veya profileImageUrl set edilmemişse yanıt temiz kalır.
+ * Herkese açık profilde {@code email} de null'dır (bkz. UserService).
+ * <p>
+ * {@code postCount} ve {@code likesReceived} denormalize sayaçlardan okunur;
+ * profil cache'inde {@code likesReceived} TTL kadar gecikebilir.
  *
  * <pre>
  * Örnek JSON yanıt (React ekibi için):
@@ -20,7 +24,9 @@ import java.time.LocalDateTime;
  *   "bio": "Backend Developer",
  *   "profileImageUrl": "https://...",
  *   "role": "STUDENT",
- *   "createdAt": "2024-01-15T10:30:00"
+ *   "createdAt": "2024-01-15T10:30:00",
+ *   "postCount": 12,
+ *   "likesReceived": 348
  * }
  * </pre>
  */
@@ -33,5 +39,7 @@ public record UserResponse(
         String bio,
         String profileImageUrl,
         String role,
-        LocalDateTime createdAt) {
+        LocalDateTime createdAt,
+        int postCount,
+        long likesReceived) {
 }
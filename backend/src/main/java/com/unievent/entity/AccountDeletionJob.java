@@ -0,0 +1,116 @@
+package com.unievent.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Asenkron hesap silme işi — ilerleme ve lease kaydı.
+ * <p>
+ * İş fazlar halinde ilerler: {@code POSTS → LIKES → COMMENTS → USER → DONE}.
+ * Her parça (chunk) kendi transaction'ında silinir ve aynı transaction'da bu
+ * kayıttaki faz ve sayaçlar güncellenir → pod yeniden başlarsa iş son commit
+ * edilen parçadan devam eder, hiçbir parça iki kez sayılmaz.
+ * <p>
+ * Neden {@code @Version}?
+ * → Lease'i süresi dolmuş bir işi iki pod aynı anda sahiplenmeye çalışabilir.
+ * Sürüm kontrolü sayesinde ikinci commit {@code OptimisticLockException} ile
+ * düşer; aynı iş iki worker'da paralel çalışmaz.
+ * <p>
+ * {@code userId} için FK yok: kullanıcı satırı silindikten sonra da iş kaydı
+ * rapor için kalır.
+ */
+@Entity
+@Table(name = "account_deletion_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_account_deletion_jobs_user", columnNames = "user_id"),
+        indexes = @Index(name = "idx_account_deletion_jobs_status", columnList = "status"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountDeletionJob {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED
+    }
+
+    /** Silme sırası FK'lere göre: önce gönderiler (çocuklarıyla), en son kullanıcı. */
+    public enum Phase {
+        POSTS, LIKES, COMMENTS, USER, DONE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_deletion_jobs_seq")
+    @SequenceGenerator(name = "account_deletion_jobs_seq", sequenceName = "account_deletion_jobs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    /** Kullanıcı silindikten sonra da raporda görünsün diye kopyalanır. */
+    @Column(nullable = false, length = 30)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    @Builder.Default
+    private Phase phase = Phase.POSTS;
+
+    @Column(nullable = false)
+    private int postsDeleted;
+
+    @Column(nullable = false)
+    private int likesDeleted;
+
+    @Column(nullable = false)
+    private int commentsDeleted;
+
+    /** Başarısız parça denemeleri (toplam). */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    /** İşi son sahiplenen pod ({@code app.cluster.instance-id}). */
+    @Column(length = 100)
+    private String leaseOwner;
+
+    /** Bu andan sonra iş (herhangi bir pod tarafından) sahiplenilebilir; null → hemen. */
+    private LocalDateTime leaseUntil;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    /** Tamamlanmamış ve lease'i boş veya süresi dolmuşsa sahiplenilebilir. */
+    public boolean isClaimable(LocalDateTime now) {
+        return status != Status.COMPLETED && (leaseUntil == null || leaseUntil.isBefore(now));
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -11,11 +11,15 @@ import java.time.LocalDateTime;
  * Yorum entity'si.
  * <p>
  * Her yorum bir kullanıcıya ve bir gönderiye aittir.
- * Gönderi silindiğinde ilişkili yorumlar da otomatik silinir (cascade EventPost
- * tarafında tanımlı).
+ * Gönderi silindiğinde ilişkili yorumlar {@code PostPurger} ile tek bir
+ * {@code DELETE ... WHERE post_id IN (...)} ifadesiyle silinir; kullanıcının
+ * yorumları hesap silme işinde {@code user_id} index'i üzerinden parça parça
+ * silinir.
  */
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_created_at", columnList = "post_id, created_at DESC"),
+        @Index(name = "idx_comments_user_id", columnList = "user_id") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,7 +28,8 @@ import java.time.LocalDateTime;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
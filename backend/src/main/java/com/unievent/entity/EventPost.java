@@ -18,9 +18,17 @@ import java.util.List;
  * O(N) ek sorgu demektir. Denormalize sayaçlar sayesinde tek bir SELECT ile
  * tüm veriler gelir. Like/Unlike ve Comment ekleme/silme işlemlerinde
  * {@code @Transactional} içinde bu sayaçlar güncellenir.
+ * <p>
+ * Şemanın sahibi Flyway migration'larıdır ({@code db/migration}); buradaki
+ * {@code @Index} tanımları V3/V5/V8 ile aynıdır ve H2 testlerinde (create-drop)
+ * aynı index'lerin oluşmasını sağlar.
  */
 @Entity
-@Table(name = "event_posts")
+@Table(name = "event_posts", indexes = {
+        @Index(name = "idx_event_posts_created_at_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_event_posts_author_created_at", columnList = "author_id, created_at DESC"),
+        @Index(name = "idx_event_posts_event_date_id", columnList = "event_date, id"),
+        @Index(name = "idx_event_posts_location_event_date", columnList = "location_key, event_date, id") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,7 +37,8 @@ import java.util.List;
 public class EventPost {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_posts_seq")
+    @SequenceGenerator(name = "event_posts_seq", sequenceName = "event_posts_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -54,6 +63,13 @@ public class EventPost {
     @Column(length = 150)
     private String eventLocation;
 
+    /**
+     * {@code eventLocation}'ın bina/fakülte anahtarı (bkz. {@code LocationNormalizer});
+     * konum yoksa boş, henüz hesaplanmadıysa (V7 öncesi satırlar) null.
+     */
+    @Column(length = 80)
+    private String locationKey;
+
     private LocalDateTime eventDate;
 
     @Column(length = 500)
@@ -78,12 +94,18 @@ public class EventPost {
     private LocalDateTime updatedAt;
 
     // ── İlişkiler ───────────────────────────────────────────────
-
-    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    //
+    // Bilinçli olarak cascade/orphanRemoval YOK: cascade ile silme, Hibernate'in
+    // gönderinin tüm beğeni ve yorumlarını belleğe yükleyip tek tek DELETE
+    // atması demektir (20 bin beğeni → 20 bin ifade). Gönderiler
+    // PostPurger ile set-based silinir; entity üzerinden silmeye çalışmak
+    // FK hatası verir, sessizce yavaşlamaz.
+
+    @OneToMany(mappedBy = "post")
     @Builder.Default
     private List<Like> likes = new ArrayList<>();
 
-    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "post")
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
 
@@ -0,0 +1,49 @@
+package com.unievent.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gönderideki bir hashtag (normalize edilmiş, {@code #} olmadan).
+ * <p>
+ * Neden {@code createdAt} gönderiden kopyalanıyor?
+ * → "X etiketli gönderiler" sorgusu {@code (tag, created_at, post_id)}
+ * index'inden sıralı okunur; {@code event_posts} ile join edip sıralamaya
+ * gerek kalmaz. Gönderinin {@code createdAt}'i değişmediği için kopya
+ * tutarsızlaşmaz.
+ * <p>
+ * Satırlar gönderiyle birlikte oluşturulur ve silinir (bkz.
+ * {@code PostPurger}); sonradan düzenlenmez.
+ */
+@Entity
+@Table(name = "post_hashtags", uniqueConstraints = @UniqueConstraint(name = "uk_post_hashtags_post_tag", columnNames = {
+        "post_id", "tag" }), indexes = {
+                @Index(name = "idx_post_hashtags_tag_created_at", columnList = "tag, created_at DESC, post_id DESC"),
+                @Index(name = "idx_post_hashtags_created_at_id", columnList = "created_at, id") })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostHashtag {
+
+    /** Normalize edilmiş etiketin en fazla uzunluğu. */
+    public static final int MAX_TAG_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_hashtags_seq")
+    @SequenceGenerator(name = "post_hashtags_seq", sequenceName = "post_hashtags_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private EventPost post;
+
+    @Column(nullable = false, length = MAX_TAG_LENGTH)
+    private String tag;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
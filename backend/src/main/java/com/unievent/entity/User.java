@@ -26,8 +26,17 @@ import java.util.List;
 @Builder
 public class User {
 
+    /**
+     * Sequence + pooled optimizer: Hibernate tek {@code nextval} ile 50 id
+     * ayırır, INSERT'ler flush anına kadar bekleyip JDBC batch olarak gider.
+     * IDENTITY'de her {@code persist} id'yi öğrenmek için hemen INSERT
+     * atmak zorundaydı → {@code hibernate.jdbc.batch_size} etkisizdi.
+     * {@code allocationSize} DB'deki sequence'ın {@code INCREMENT BY} değeri
+     * ile aynı olmalıdır (bkz. V2__identity_to_sequences.sql).
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Kullanıcı adı boş olamaz")
@@ -72,17 +81,46 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Hesap silme isteğinin zamanı; null → aktif hesap. Set edildiği andan
+     * itibaren giriş yapılamaz ve token'lar reddedilir. Satırın kendisi
+     * {@code AccountDeletionWorker} beğeni, yorum ve gönderileri temizledikten
+     * sonra silinir.
+     */
+    private LocalDateTime deletedAt;
+
+    /**
+     * Profil istatistikleri — denormalize (bkz. V9). Profil görüntülemede
+     * {@code COUNT(*)} yerine okunur; yazma yollarında atomik
+     * {@code x = x + delta} UPDATE'leriyle güncellenir.
+     * <p>
+     * {@code updatable = false}: entity üzerinden yapılan bir güncelleme
+     * (ör. {@code deletedAt}) bellekteki eski değeri geri yazıp eşzamanlı
+     * artışları ezmesin.
+     */
+    @Column(nullable = false, updatable = false)
+    private int postCount;
+
+    /** Gönderilerin {@code likeCount} toplamı (bkz. {@link #postCount}). */
+    @Column(nullable = false, updatable = false)
+    private long likesReceived;
+
     // ── İlişkiler (Lazy — performans için) ──────────────────────
+    //
+    // cascade/orphanRemoval YOK (bkz. EventPost): binlerce gönderisi olan bir
+    // kullanıcıyı entity üzerinden silmek tüm geçmişini belleğe yüklemek ve
+    // tek transaction'da satır satır silmek demektir. Hesaplar
+    // AccountDeletionWorker ile sınırlı parçalar halinde silinir.
 
-    @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "author")
     @Builder.Default
     private List<EventPost> posts = new ArrayList<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "user")
     @Builder.Default
     private List<Like> likes = new ArrayList<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "user")
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
 
@@ -103,4 +141,8 @@ public class User {
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
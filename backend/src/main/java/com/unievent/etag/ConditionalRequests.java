@@ -0,0 +1,114 @@
+package com.unievent.etag;
+
+import com.unievent.dto.response.PostResponse;
+import com.unievent.viewer.ViewerStateResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+
+/**
+ * Koşullu GET ({@code If-None-Match} → 304) — feed ve tekil gönderi.
+ * <p>
+ * Neden?
+ * → İstemciler feed'in ilk sayfasını sürekli yoklar; çoğu yoklamada hiçbir
+ * şey değişmemiştir ama yanıt her seferinde baştan serialize edilip
+ * gönderilir. ETag eşleşirse 304 döner: sayfa sorgusu, izleyici durumu ve
+ * Jackson serileştirmesi çalışmaz, gövde gönderilmez.
+ * <p>
+ * ETag'ler:
+ * <ul>
+ * <li><b>Feed</b> (zayıf, {@code W/"f…"}): {@link FeedFingerprint} (gönderi
+ * kümesi) + feed cache TTL dilimi + giriş yapmış izleyicinin id'si ve beğeni
+ * sürümü ({@link ViewerStateResolver#likeVersion}). Yeni veya silinen
+ * gönderi ETag'i hemen değiştirir; izleyicinin beğenisi veya geri alması da
+ * ({@code likedByMe}). Beğeni/yorum sayaçları parmak izine girmez; feed
+ * sayfaları zaten TTL kadar gecikmeli olabildiği için ETag de her TTL
+ * diliminde yenilenir → sayaçlar en fazla iki TTL eski kalır. Parmak izi
+ * kurulana kadar ETag üretilmez. Beğeni sürümü replica'ya özeldir: giriş
+ * yapmış izleyicinin ETag'i yalnızca aynı pod'da 304 verir.</li>
+ * <li><b>Tekil gönderi</b> (güçlü): {@code updatedAt}, sayaçlar ve
+ * {@code likedByMe} — sunulacak gövdenin kendisinden. Tekil gönderi cache'i
+ * beğeni/yorumda düşürüldüğü için ETag her zaman gövdeyle aynı anı gösterir;
+ * sorgu sadece cache miss'te çalışır, serileştirme 304'te hiç çalışmaz.</li>
+ * </ul>
+ * {@code Last-Modified} gönderilmez: sayaçlar {@code updatedAt}'i
+ * değiştirmeden değişir ve HTTP tarihi saniye çözünürlüklüdür — aynı saniyede
+ * iki değişiklikte yanlış 304 dönerdi.
+ * <p>
+ * Yanıt izleyiciye göre değiştiği için ({@code likedByMe}) her yanıta
+ * {@code Vary: Authorization} eklenir.
+ * <p>
+ * Metrik: {@code http.conditional{endpoint, result=not_modified|modified|unconditional}}
+ * → 304 oranı {@code not_modified / (not_modified + modified)}.
+ */
+@Component
+public class ConditionalRequests {
+
+    private final FeedFingerprint feedFingerprint;
+    private final ViewerStateResolver viewerState;
+    private final long feedTtlMillis;
+    private final MeterRegistry meterRegistry;
+
+    public ConditionalRequests(FeedFingerprint feedFingerprint,
+            ViewerStateResolver viewerState,
+            @Value("${app.cache.feed.ttl}") Duration feedTtl,
+            MeterRegistry meterRegistry) {
+        this.feedFingerprint = feedFingerprint;
+        this.viewerState = viewerState;
+        this.feedTtlMillis = Math.max(1, feedTtl.toMillis());
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Feed ETag'i; parmak izi henüz kurulmadıysa null (koşulsuz yanıt).
+     *
+     * @param viewerId null → anonim
+     */
+    public String feedEtag(Long viewerId) {
+        Long fingerprint = feedFingerprint.current();
+        if (fingerprint == null) {
+            return null;
+        }
+        long ttlSlice = System.currentTimeMillis() / feedTtlMillis;
+        return "W/\"f" + Long.toHexString(fingerprint) + "-" + Long.toHexString(ttlSlice)
+                + (viewerId == null ? "" : "-u" + viewerId + "-" + viewerState.likeVersion(viewerId)) + "\"";
+    }
+
+    /** Tekil gönderinin (izleyici durumu uygulanmış) güçlü ETag'i. */
+    public static String postEtag(PostResponse post) {
+        long updated = post.updatedAt() == null ? 0 : post.updatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        String liked = post.likedByMe() == null ? "" : post.likedByMe() ? "-l1" : "-l0";
+        return "\"p" + post.id() + "-" + Long.toHexString(updated)
+                + "-" + post.likeCount() + "-" + post.commentCount() + liked + "\"";
+    }
+
+    /**
+     * {@code If-None-Match} kontrolü. true → yanıt 304 olarak hazırlandı,
+     * controller {@code null} dönmelidir. false → ETag yanıt başlığına
+     * yazıldı, gövde normal üretilir.
+     *
+     * @param etag null → ETag'siz (koşulsuz) yanıt
+     */
+    public boolean notModified(ServletWebRequest request, String endpoint, String etag) {
+        if (request.getResponse() != null) {
+            request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+        boolean conditional = request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+        if (etag == null) {
+            record(endpoint, "unconditional");
+            return false;
+        }
+        boolean notModified = request.checkNotModified(etag);
+        record(endpoint, notModified ? "not_modified" : conditional ? "modified" : "unconditional");
+        return notModified;
+    }
+
+    private void record(String endpoint, String result) {
+        meterRegistry.counter("http.conditional", "endpoint", endpoint, "result", result).increment();
+    }
+}
@@ -0,0 +1,190 @@
+package com.unievent.etag;
+
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.view.InMemoryView;
+import com.unievent.view.ViewLoadGate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feed'in sürüm damgası — var olan gönderi id'lerinin parmak izi.
+ * <p>
+ * Neden {@code MAX(id)} değil?
+ * → Silme en büyük id'yi değiştirmez; ayrıca sequence id'ler replica başına
+ * 50'lik bloklar halinde ayrılır, yani zamana göre artan değildir. Parmak izi
+ * her gönderi id'sinin karıştırılmış (64 bit) değerlerinin XOR'udur:
+ * <ul>
+ * <li>Oluşturma ve silme olay başına O(1)'dir.</li>
+ * <li>Sıradan bağımsızdır: aynı gönderi kümesini gören tüm replica'lar aynı
+ * değeri hesaplar → bir pod'dan alınan ETag diğerinde de geçerlidir.</li>
+ * <li>Üyelik bir bit dizisinde ({@code id → bit}) tutulur; sadece gerçekten
+ * eklenen veya çıkan id XOR'lanır. XOR kendi tersi olduğu için aksi halde
+ * iki kez gelen bir oluşturma (ör. kurulumda hem okunan hem olayla gelen
+ * gönderi) kendini geri alırdı. Bellek: en büyük id / 8 bayt
+ * (10 milyon id → 1.25 MB).</li>
+ * </ul>
+ * Açılışta (arka planda, bkz. {@link InMemoryView}) id'ler birincil anahtar
+ * sırasıyla parça parça okunur; o zamana kadar {@link #current()} null döner
+ * ve feed ETag'siz sunulur. Kurulum sırasında gelen olaylar kurulan kümeye de
+ * uygulanır (ekleme idempotent olduğu için okumayla çakışması zararsızdır);
+ * silinen id'ler sonraki (veya eski) okumalarda geri eklenmez.
+ * <p>
+ * Beğeni ve yorumlar parmak izini değiştirmez — sayaçların tazeliği ETag'e
+ * eklenen cache TTL dilimiyle sınırlanır (bkz. {@link ConditionalRequests}).
+ */
+@Slf4j
+@Component
+public class FeedFingerprint extends InMemoryView {
+
+    private final EventPostRepository postRepository;
+    private final int buildChunkSize;
+
+    /** Hizmet veren küme; null → henüz kurulmadı. */
+    private PostIdSet served;
+
+    /** Kurulmakta olan küme; null → kurulum yok. */
+    private PostIdSet building;
+    /** Kurulum sırasında silinen gönderiler — henüz okunmamış parçada olabilirler. */
+    private final Set<Long> removedDuringBuild = new HashSet<>();
+
+    public FeedFingerprint(EventPostRepository postRepository,
+            @Value("${app.etag.build-chunk-size}") int buildChunkSize,
+            ViewLoadGate loadGate) {
+        super("feed-fingerprint", loadGate);
+        this.postRepository = postRepository;
+        this.buildChunkSize = buildChunkSize;
+    }
+
+    /** null → henüz kurulmadı. */
+    public synchronized Long current() {
+        return served == null ? null : served.fingerprint();
+    }
+
+    @Override
+    public boolean isReady() {
+        return current() != null;
+    }
+
+    // ── Canlı güncelleme (commit sonrası) ──────────────────────
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostCreated(PostCreatedEvent event) {
+        long postId = event.post().id();
+        if (served != null) {
+            served.add(postId);
+        }
+        if (building != null) {
+            building.add(postId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostDeleted(PostDeletedEvent event) {
+        long postId = event.post().id();
+        if (served != null) {
+            served.remove(postId);
+        }
+        if (building != null) {
+            building.remove(postId);
+            removedDuringBuild.add(postId);
+        }
+    }
+
+    // ── Kurulum ────────────────────────────────────────────────
+
+    @Override
+    protected void rebuild() {
+        long started = System.nanoTime();
+        PostIdSet fresh = new PostIdSet();
+        synchronized (this) {
+            removedDuringBuild.clear();
+            building = fresh;
+        }
+        long afterId = 0;
+        List<Long> chunk;
+        do {
+            chunk = postRepository.findIdsAfter(afterId, PageRequest.of(0, buildChunkSize));
+            // Kontrol ve ekleme silme olayıyla aynı kilitte: parça okunduktan
+            // sonra commit edilen silme, gönderiyi geri getiremez
+            synchronized (this) {
+                for (Long id : chunk) {
+                    if (!removedDuringBuild.contains(id)) {
+                        fresh.add(id);
+                    }
+                    afterId = id;
+                }
+            }
+        } while (chunk.size() == buildChunkSize);
+
+        // Kurulum, hizmete alma ile aynı kilit altında biter — arada gelen olay kaybolmaz
+        synchronized (this) {
+            served = fresh;
+            building = null;
+            removedDuringBuild.clear();
+        }
+        log.info("Feed parmak izi kuruldu: {} gönderi, {} ms", fresh.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Override
+    protected synchronized void abortRebuild() {
+        building = null;
+        removedDuringBuild.clear();
+    }
+
+    /**
+     * Gönderi id kümesi ve XOR parmak izi. Yalnızca üyeliği değiştiren
+     * işlem parmak izini değiştirir → aynı olayın tekrarı etkisizdir.
+     * Thread-safe değildir; erişim {@link FeedFingerprint} kilidi altındadır.
+     */
+    private static final class PostIdSet {
+
+        private final BitSet ids = new BitSet();
+        private long fingerprint;
+        private int size;
+
+        void add(long postId) {
+            int bit = Math.toIntExact(postId);
+            if (!ids.get(bit)) {
+                ids.set(bit);
+                fingerprint ^= mix(postId);
+                size++;
+            }
+        }
+
+        void remove(long postId) {
+            int bit = Math.toIntExact(postId);
+            if (ids.get(bit)) {
+                ids.clear(bit);
+                fingerprint ^= mix(postId);
+                size--;
+            }
+        }
+
+        long fingerprint() {
+            return fingerprint;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    /** Ardışık id'leri dağıtan 64 bit karıştırma (SplitMix64 son adımı). */
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
@@ -0,0 +1,28 @@
+package com.unievent.event;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Tüm backend replica'larına iletilmesi gereken olaylar için işaret arayüzü.
+ * <p>
+ * Bu arayüzü implement eden bir olay yerel olarak yayınlandığında,
+ * {@code PostgresEventBus} onu commit ile birlikte PostgreSQL
+ * {@code NOTIFY} üzerinden diğer pod'lara iletir; orada aynı olay yerel olarak
+ * yeniden yayınlanır ve cache dinleyicileri kendi kayıtlarını düşürür.
+ * <p>
+ * JSON'da {@code "type"} alanı olayın türünü taşır — yeni bir küme olayı
+ * eklenirken {@link JsonSubTypes} listesine de eklenmelidir.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = PostCreatedEvent.class, name = "post.created"),
+        @JsonSubTypes.Type(value = PostDeletedEvent.class, name = "post.deleted"),
+        @JsonSubTypes.Type(value = PostEngagementEvent.class, name = "post.engagement"),
+        @JsonSubTypes.Type(value = PostLikedEvent.class, name = "post.liked"),
+        @JsonSubTypes.Type(value = PostUnlikedEvent.class, name = "post.unliked"),
+        @JsonSubTypes.Type(value = UserChangedEvent.class, name = "user.changed"),
+        @JsonSubTypes.Type(value = UserCountersRepairedEvent.class, name = "user.counters-repaired")
+})
+public interface ClusterEvent {
+}
@@ -0,0 +1,11 @@
+package com.unievent.event;
+
+/**
+ * Küme olay kanalı kesilip yeniden bağlandı.
+ * <p>
+ * Bağlantının kopuk olduğu sürede diğer replica'lardan gelen olaylar
+ * kaçırılmış olabilir; yerel cache'ler bu olayı dinleyerek kendilerini
+ * tamamen boşaltır. Sadece yerel olarak yayınlanır.
+ */
+public record ClusterResyncEvent() {
+}
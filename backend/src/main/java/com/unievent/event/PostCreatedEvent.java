@@ -0,0 +1,19 @@
+package com.unievent.event;
+
+import com.unievent.dto.response.PostResponse;
+
+/**
+ * Yeni gönderi oluşturuldu.
+ * <p>
+ * {@code PostService.createPost} transaction'ı içinde yayınlanır; dinleyiciler
+ * {@code @TransactionalEventListener} ile commit sonrasında çalışır. Böylece
+ * rollback olan bir gönderi cache'e veya index'lere hiç yansımaz.
+ * <p>
+ * Olay, gönderinin DTO görüntüsünü taşır — dinleyicilerin veritabanına
+ * tekrar gitmesine gerek kalmaz.
+ * <p>
+ * {@link ClusterEvent} olduğu için commit ile birlikte diğer replica'lara da
+ * iletilir.
+ */
+public record PostCreatedEvent(PostResponse post) implements ClusterEvent {
+}
@@ -0,0 +1,16 @@
+package com.unievent.event;
+
+import com.unievent.dto.response.PostResponse;
+
+/**
+ * Gönderi silindi.
+ * <p>
+ * Silinen gönderinin son DTO görüntüsünü taşır: dinleyiciler (cache, index
+ * vb.) hangi kayıtları düşüreceklerini {@code createdAt}, {@code authorId}
+ * gibi alanlardan hesaplar.
+ * <p>
+ * {@link ClusterEvent} olduğu için commit ile birlikte diğer replica'lara da
+ * iletilir.
+ */
+public record PostDeletedEvent(PostResponse post) implements ClusterEvent {
+}
@@ -0,0 +1,30 @@
+package com.unievent.event;
+
+import java.util.Map;
+
+/**
+ * Gönderilerin beğeni/yorum sayıları değişti — sayaç güncellemesiyle aynı
+ * transaction'da yayınlanır, dinleyiciler commit sonrasında çalışır.
+ * <p>
+ * Tek olay birden fazla gönderinin delta'sını taşır: birleştirme modunda
+ * {@code LikeCounter} her flush'ta tek olay yayınlar (gönderi başına değil).
+ * {@link ClusterEvent} olduğu için diğer replica'lara da iletilir; NOTIFY
+ * sınırı nedeniyle olay başına en fazla {@link #MAX_POSTS} gönderi taşınır.
+ *
+ * @param likeDeltas    postId → beğeni sayısı değişimi
+ * @param commentDeltas postId → yorum sayısı değişimi
+ */
+public record PostEngagementEvent(Map<Long, Integer> likeDeltas, Map<Long, Integer> commentDeltas)
+        implements ClusterEvent {
+
+    /** Olay başına en fazla gönderi (~15 bayt/gönderi → NOTIFY sınırının altında). */
+    public static final int MAX_POSTS = 250;
+
+    public static PostEngagementEvent likes(Map<Long, Integer> deltas) {
+        return new PostEngagementEvent(deltas, Map.of());
+    }
+
+    public static PostEngagementEvent comment(Long postId, int delta) {
+        return new PostEngagementEvent(Map.of(), Map.of(postId, delta));
+    }
+}
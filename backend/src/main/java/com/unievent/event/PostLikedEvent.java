@@ -0,0 +1,16 @@
+package com.unievent.event;
+
+/**
+ * Kullanıcı bir gönderiyi beğendi (yeni beğeni; tekrar beğeni yayınlamaz).
+ * <p>
+ * Beğeni ile aynı transaction'da yayınlanır; dinleyiciler commit sonrasında
+ * çalışır. İzleyicinin beğeni filtresi ({@code ViewerStateResolver}) bu olayla
+ * güncellenir — filtre "beğenmedi" cevabını veritabanına sormadan verdiği
+ * için kaçırılan bir beğeni yanlış {@code likedByMe} demektir.
+ * {@link ClusterEvent} olduğu için diğer replica'lara da iletilir.
+ * <p>
+ * Beğeni geri alma filtreyi değiştirmez ({@link PostUnlikedEvent}): filtrede
+ * kalan id sadece fazladan bir doğrulama sorgusuna yol açar, yanlış sonuca değil.
+ */
+public record PostLikedEvent(Long userId, Long postId) implements ClusterEvent {
+}
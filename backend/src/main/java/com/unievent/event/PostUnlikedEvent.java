@@ -0,0 +1,14 @@
+package com.unievent.event;
+
+/**
+ * Kullanıcı bir beğenisini geri aldı (satır gerçekten silindiyse).
+ * <p>
+ * Beğeni ile aynı transaction'da yayınlanır; dinleyiciler commit sonrasında
+ * çalışır. Beğeni filtresi bununla değişmez (Bloom filtresinden kaldırma
+ * yoktur, bkz. {@link PostLikedEvent}); izleyicinin beğeni sürümü
+ * ({@code ViewerStateResolver}) artar → feed ETag'i değişir ve önceki
+ * {@code likedByMe} değerleri 304 ile geri dönmez.
+ * {@link ClusterEvent} olduğu için diğer replica'lara da iletilir.
+ */
+public record PostUnlikedEvent(Long userId, Long postId) implements ClusterEvent {
+}
@@ -0,0 +1,13 @@
+package com.unievent.event;
+
+/**
+ * Kullanıcının kimlik bilgisi (rol, durum) değişti veya kullanıcı silindi.
+ * <p>
+ * Kullanıcıya ait cache kayıtları (ör. {@code PrincipalResolver}) bu olayla
+ * düşürülür. {@link ClusterEvent} olduğu için diğer replica'lara da iletilir.
+ *
+ * @param deleted Hesap silme istendi — kullanıcının token'ları bu andan
+ *                itibaren reddedilir (bkz. {@code RevokedUserRegistry})
+ */
+public record UserChangedEvent(Long userId, String username, boolean deleted) implements ClusterEvent {
+}
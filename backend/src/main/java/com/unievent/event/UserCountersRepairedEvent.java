@@ -0,0 +1,24 @@
+package com.unievent.event;
+
+import java.util.Set;
+
+/**
+ * Kullanıcıların profil sayaçları ({@code likes_received}) mutabakatla
+ * düzeltildi — düzeltmeyle aynı transaction'da yayınlanır.
+ * <p>
+ * Neden ayrı bir olay?
+ * → Sıradan beğeniler {@code UserCache} kaydını düşürmez (TTL kadar gecikme
+ * kabul edilir). Mutabakat ise kalıcı bir hatayı düzeltir ve nadirdir; düzeltilen
+ * yazarın profili hemen tazelenmelidir. {@link UserChangedEvent} kimlik
+ * cache'lerini de düşürdüğü için burada kullanılmaz.
+ * <p>
+ * {@link ClusterEvent} olduğu için diğer replica'lara da iletilir; NOTIFY
+ * sınırı nedeniyle olay başına en fazla {@link #MAX_USERS} kullanıcı taşınır.
+ *
+ * @param userIds profili değişen kullanıcılar
+ */
+public record UserCountersRepairedEvent(Set<Long> userIds) implements ClusterEvent {
+
+    /** Olay başına en fazla kullanıcı (bkz. {@link PostEngagementEvent#MAX_POSTS}). */
+    public static final int MAX_USERS = 250;
+}
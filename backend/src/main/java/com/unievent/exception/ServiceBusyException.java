@@ -0,0 +1,23 @@
+package com.unievent.exception;
+
+import lombok.Getter;
+
+/**
+ * Sınırlı bir kaynak (ör. şifre hash havuzu) doygun — istek beklemeden
+ * reddedilir.
+ * <p>
+ * {@link GlobalExceptionHandler} bunu {@code 503 Service Unavailable} +
+ * {@code Retry-After} header'ı olarak döner; istemci kısa süre sonra tekrar
+ * dener. Kuyrukta sınırsız beklemek yerine hızlı reddetmek, Tomcat
+ * thread'lerinin feed okumalarına açık kalmasını sağlar.
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
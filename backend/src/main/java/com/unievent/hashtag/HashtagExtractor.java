@@ -0,0 +1,100 @@
+package com.unievent.hashtag;
+
+import com.unievent.entity.PostHashtag;
+import com.unievent.search.TurkishAnalyzer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Metindeki {@code #etiket}'leri çıkarır ve normalize eder.
+ * <p>
+ * Etiket, {@code #}'dan sonra gelen harf/rakam/alt çizgi dizisidir. Arama ile
+ * aynı Türkçe katlama uygulanır ({@link TurkishAnalyzer#fold}): "#KariyerGünü"
+ * ve "#kariyergunu" aynı etikettir. Şunlar etiket sayılmaz:
+ * <ul>
+ * <li>Kelimenin ortasındaki {@code #} (ör. {@code sayfa#bolum}, {@code C#})</li>
+ * <li>Hiç harf içermeyenler ({@code #1}, {@code #2026}, {@code #__})</li>
+ * <li>{@value #MIN_TAG_LENGTH} karakterden kısa veya
+ * {@value PostHashtag#MAX_TAG_LENGTH} karakterden uzun olanlar</li>
+ * </ul>
+ */
+public final class HashtagExtractor {
+
+    /** Bir gönderiden en fazla bu kadar (farklı) etiket alınır. */
+    public static final int MAX_TAGS_PER_POST = 10;
+
+    static final int MIN_TAG_LENGTH = 2;
+
+    private HashtagExtractor() {
+    }
+
+    /**
+     * Metnin normalize edilmiş etiketleri — ilk geçiş sırasıyla, tekrarsız,
+     * en fazla {@value #MAX_TAGS_PER_POST}. {@code null} → boş liste.
+     */
+    public static List<String> extract(String text) {
+        List<String> tags = new ArrayList<>();
+        if (text == null) {
+            return tags;
+        }
+        int i = 0;
+        while (i < text.length() && tags.size() < MAX_TAGS_PER_POST) {
+            char c = text.charAt(i);
+            if (c != '#' || (i > 0 && isTagChar(text.charAt(i - 1)))) {
+                i++;
+                continue;
+            }
+            int end = i + 1;
+            while (end < text.length() && isTagChar(text.charAt(end))) {
+                end++;
+            }
+            String tag = normalize(text, i + 1, end);
+            if (tag != null && !tags.contains(tag)) {
+                tags.add(tag);
+            }
+            i = end;
+        }
+        return tags;
+    }
+
+    /**
+     * Kullanıcının yazdığı etiketi ({@code #} ile veya onsuz) normalize eder.
+     *
+     * @return Geçerli bir etiket değilse null
+     */
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        String trimmed = tag.strip();
+        int start = trimmed.startsWith("#") ? 1 : 0;
+        for (int i = start; i < trimmed.length(); i++) {
+            if (!isTagChar(trimmed.charAt(i))) {
+                return null;
+            }
+        }
+        return normalize(trimmed, start, trimmed.length());
+    }
+
+    private static String normalize(String text, int start, int end) {
+        StringBuilder tag = new StringBuilder(end - start);
+        boolean hasLetter = false;
+        for (int i = start; i < end; i++) {
+            char c = TurkishAnalyzer.fold(text.charAt(i));
+            if (c == 0) {
+                continue; // Birleşik işaret (ör. U+0307) — yok say
+            }
+            hasLetter |= Character.isLetter(c);
+            tag.append(c);
+        }
+        if (!hasLetter || tag.length() < MIN_TAG_LENGTH || tag.length() > PostHashtag.MAX_TAG_LENGTH) {
+            return null;
+        }
+        return tag.toString();
+    }
+
+    private static boolean isTagChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '\u0307';
+    }
+}
@@ -0,0 +1,101 @@
+package com.unievent.hashtag;
+
+import java.util.Arrays;
+
+/**
+ * Kayan pencereli count-min sketch: son {@code buckets} zaman kovasındaki
+ * kullanım sayıları, etiket sayısından bağımsız sabit bellekte.
+ * <p>
+ * Her kova {@code depth × width}'lik bir sayaç matrisidir. Bir etiket her
+ * satırda farklı bir hash ile bir sütuna düşer; eklemede {@code depth}
+ * sayaç artar, tahmin bu sayaçların en küçüğüdür. Çakışmalar sayıyı sadece
+ * artırabilir → tahmin hiçbir zaman gerçek sayının altında değildir; hata
+ * (olasılıkla) toplam kullanımın {@code ~e/width} katıyla sınırlıdır.
+ * <p>
+ * Pencere halka (ring) şeklindedir: kova numarası ilerledikçe en eski kovanın
+ * yeri temizlenip yeniden kullanılır. Bellek: {@code buckets × depth × width × 4}
+ * bayt (varsayılan 24 × 4 × 4096 → 1.5 MB).
+ * <p>
+ * Thread-safe değildir; erişim {@link TagCounts} kilidi altındadır.
+ */
+final class SlidingCountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final int[][][] counts;
+    /** Halkadaki her yerin tuttuğu kova numarası (boş → {@code Long.MIN_VALUE}). */
+    private final long[] slotBucket;
+
+    /**
+     * @param width Satır genişliği — 2'nin kuvveti olmalıdır
+     */
+    SlidingCountMinSketch(int buckets, int depth, int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch genişliği 2'nin kuvveti olmalıdır: " + width);
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counts = new int[buckets][depth][width];
+        this.slotBucket = new long[buckets];
+        Arrays.fill(slotBucket, Long.MIN_VALUE);
+    }
+
+    int buckets() {
+        return slotBucket.length;
+    }
+
+    /**
+     * {@code bucket} kovasına {@code delta} ekler. Halkada yerini daha yeni bir
+     * kovaya bırakmış (pencereden çıkmış) kovalar için bir şey yapmaz.
+     */
+    void add(String key, long bucket, int delta) {
+        int slot = (int) Math.floorMod(bucket, (long) slotBucket.length);
+        if (slotBucket[slot] != bucket) {
+            if (slotBucket[slot] > bucket) {
+                return;
+            }
+            for (int[] row : counts[slot]) {
+                Arrays.fill(row, 0);
+            }
+            slotBucket[slot] = bucket;
+        }
+        int hash = key.hashCode();
+        int[][] rows = counts[slot];
+        for (int row = 0; row < depth; row++) {
+            int column = column(hash, row);
+            rows[row][column] = Math.max(0, rows[row][column] + delta);
+        }
+    }
+
+    /**
+     * {@code currentBucket} ile biten pencerede tahmini sayı. Kova başına en
+     * küçük sayaçların toplamıdır — toplamların en küçüğünden daha sıkıdır,
+     * yine de gerçek sayının altına düşmez.
+     */
+    long estimate(String key, long currentBucket) {
+        int hash = key.hashCode();
+        long total = 0;
+        for (int slot = 0; slot < slotBucket.length; slot++) {
+            long bucket = slotBucket[slot];
+            if (bucket > currentBucket || bucket <= currentBucket - slotBucket.length) {
+                continue;
+            }
+            int[][] rows = counts[slot];
+            int min = Integer.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                min = Math.min(min, rows[row][column(hash, row)]);
+            }
+            total += min;
+        }
+        return total;
+    }
+
+    /** Satır başına bağımsız bir hash: karıştırılmış {@code hashCode} + satır tuzu. */
+    private int column(int hash, int row) {
+        long h = (hash + (long) row * 0x9E3779B97F4A7C15L) * 0xC2B2AE3D27D4EB4FL;
+        h ^= h >>> 29;
+        h *= 0x165667B19E3779F9L;
+        h ^= h >>> 32;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,108 @@
+package com.unievent.hashtag;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Pencere içindeki etiket sayıları: {@link SlidingCountMinSketch} + en çok
+ * kullanılan {@code capacity} etiketin sıralı aday listesi.
+ * <p>
+ * Neden aday listesi?
+ * → Sketch "X kaç kez kullanıldı?" sorusuna cevap verir ama hangi etiketlerin
+ * var olduğunu bilmez. Her eklemede etiketin pencere tahmini yeniden
+ * hesaplanır; aday listesindeki en küçük tahmini geçen etiket listeye girer,
+ * en küçük çıkar. Trend sorgusu listenin başından {@code k} eleman okumaktır.
+ * Bellek etiket çeşitliliğinden bağımsızdır: sketch sabit, liste en fazla
+ * {@code capacity} eleman.
+ * <p>
+ * Kova ilerleyince ({@link #advance}) adayların tahminleri yeniden
+ * hesaplanır — pencereden çıkan kullanımlar düşer.
+ * <p>
+ * Yazmalar seyrektir (gönderi oluşturma/silme); tüm erişim tek kilit altında.
+ */
+final class TagCounts {
+
+    private record Candidate(String tag, long count) {
+    }
+
+    /** Çok kullanılan önce; eşitlikte alfabetik. */
+    private static final Comparator<Candidate> MOST_USED_FIRST = Comparator.comparingLong(Candidate::count)
+            .reversed()
+            .thenComparing(Candidate::tag);
+
+    private final SlidingCountMinSketch sketch;
+    private final int capacity;
+    private final Map<String, Candidate> candidates = new HashMap<>();
+    private final TreeSet<Candidate> ranking = new TreeSet<>(MOST_USED_FIRST);
+    private long currentBucket;
+
+    TagCounts(SlidingCountMinSketch sketch, int capacity, long currentBucket) {
+        this.sketch = sketch;
+        this.capacity = capacity;
+        this.currentBucket = currentBucket;
+    }
+
+    /** {@code bucket} kovasındaki kullanımı ekler ({@code delta < 0} → siler). */
+    synchronized void add(String tag, long bucket, int delta) {
+        if (bucket <= currentBucket - sketch.buckets()) {
+            return; // Pencereden çıkmış
+        }
+        if (bucket > currentBucket) {
+            advance(bucket); // Zamanlanmış kaydırmadan önce yeni kovaya ilk kullanım
+        }
+        sketch.add(tag, bucket, delta);
+        update(tag, sketch.estimate(tag, currentBucket));
+    }
+
+    /** Pencereyi {@code bucket}'a kaydırır; adayların sayıları yeniden hesaplanır. */
+    synchronized void advance(long bucket) {
+        if (bucket <= currentBucket) {
+            return;
+        }
+        currentBucket = bucket;
+        for (String tag : new ArrayList<>(candidates.keySet())) {
+            update(tag, sketch.estimate(tag, currentBucket));
+        }
+    }
+
+    /** En çok kullanılan {@code k} etiket — O(k). */
+    synchronized List<Map.Entry<String, Long>> top(int k) {
+        List<Map.Entry<String, Long>> result = new ArrayList<>(Math.min(k, ranking.size()));
+        for (Candidate candidate : ranking) {
+            if (result.size() == k) {
+                break;
+            }
+            result.add(Map.entry(candidate.tag(), candidate.count()));
+        }
+        return result;
+    }
+
+    synchronized int candidateCount() {
+        return candidates.size();
+    }
+
+    private void update(String tag, long count) {
+        Candidate old = candidates.remove(tag);
+        if (old != null) {
+            ranking.remove(old);
+        }
+        if (count <= 0) {
+            return;
+        }
+        if (candidates.size() >= capacity) {
+            Candidate weakest = ranking.last();
+            if (weakest.count() >= count) {
+                return;
+            }
+            ranking.pollLast();
+            candidates.remove(weakest.tag());
+        }
+        Candidate candidate = new Candidate(tag, count);
+        candidates.put(tag, candidate);
+        ranking.add(candidate);
+    }
+}
@@ -0,0 +1,207 @@
+package com.unievent.hashtag;
+
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.exception.ServiceBusyException;
+import com.unievent.repository.PostHashtagRepository;
+import com.unievent.repository.PostHashtagRepository.TagUse;
+import com.unievent.view.InMemoryView;
+import com.unievent.view.ViewLoadGate;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trend etiketler — son {@code window} içinde en çok kullanılan hashtag'ler.
+ * <p>
+ * Neden {@code SELECT tag, COUNT(*) ... GROUP BY tag ORDER BY 2 DESC} değil?
+ * → Pencere içindeki tüm etiket satırlarını her istekte okur ve gruplar;
+ * maliyet kampüsün o günkü aktivitesiyle büyür. Burada sayılar
+ * {@link TagCounts}'ta (sabit bellekli sketch + sıralı aday listesi) tutulur
+ * ve gönderi geldikçe güncellenir; trend sorgusu listenin başından {@code k}
+ * eleman okumaktır.
+ * <p>
+ * Pencere {@code bucket}'lık kovalardan oluşur (varsayılan 24 × 1 saat): bir
+ * kullanım, gönderinin oluşturulduğu kovaya sayılır ve kova pencereden
+ * çıkınca düşer. Pencerenin kayması kova çözünürlüğündedir.
+ * <p>
+ * Yaşam döngüsü {@link InMemoryView}'dadır; bu görünüme özel olanlar:
+ * <ul>
+ * <li>Pencere içindeki etiket satırları {@code (created_at, id)} sırasıyla
+ * parça parça okunur. Hazır olana kadar trend sorgusu 503 + Retry-After
+ * döner.</li>
+ * <li>Canlı olaylarda etiketler olaydaki içerikten aynı kurallarla
+ * ({@link HashtagExtractor}) çıkarılır.</li>
+ * </ul>
+ * Metrik: {@code hashtags.trending.candidates} (aday listesindeki etiket).
+ */
+@Slf4j
+@Component
+public class TrendingTags extends InMemoryView {
+
+    private final PostHashtagRepository hashtagRepository;
+    private final long bucketSeconds;
+    private final int buckets;
+    private final int sketchDepth;
+    private final int sketchWidth;
+    private final int candidates;
+    private final int buildChunkSize;
+
+    /** null → henüz kurulmadı. */
+    private volatile TagCounts counts;
+
+    /**
+     * Kurulmakta olan sayılar ve okumanın geldiği {@code createdAt}. Canlı
+     * olay, gönderi bu noktadan önceyse (okunmuş parçadaysa) buna da
+     * uygulanır; sonraysa satırları zaten okunacaktır (ya da silinmiştir).
+     */
+    private TagCounts building;
+    private LocalDateTime buildCursor;
+
+    public TrendingTags(PostHashtagRepository hashtagRepository,
+            @Value("${app.hashtags.trending.window}") Duration window,
+            @Value("${app.hashtags.trending.bucket}") Duration bucket,
+            @Value("${app.hashtags.trending.sketch-depth}") int sketchDepth,
+            @Value("${app.hashtags.trending.sketch-width}") int sketchWidth,
+            @Value("${app.hashtags.trending.candidates}") int candidates,
+            @Value("${app.hashtags.trending.build-chunk-size}") int buildChunkSize,
+            MeterRegistry meterRegistry, ViewLoadGate loadGate) {
+        super("trending-tags", loadGate);
+        this.hashtagRepository = hashtagRepository;
+        this.bucketSeconds = bucket.toSeconds();
+        this.buckets = (int) Math.max(1, window.toSeconds() / bucketSeconds);
+        this.sketchDepth = sketchDepth;
+        this.sketchWidth = sketchWidth;
+        this.candidates = candidates;
+        this.buildChunkSize = buildChunkSize;
+
+        Gauge.builder("hashtags.trending.candidates", this, trending -> {
+            TagCounts current = trending.counts;
+            return current == null ? 0 : current.candidateCount();
+        }).register(meterRegistry);
+    }
+
+    /**
+     * Pencerede en çok kullanılan {@code k} etiket ve tahmini sayıları.
+     *
+     * @throws ServiceBusyException Sayılar henüz kurulmadıysa
+     */
+    public List<Map.Entry<String, Long>> top(int k) {
+        TagCounts current = counts;
+        if (current == null) {
+            throw new ServiceBusyException("Trend etiketler hazırlanıyor, lütfen tekrar deneyin", 5);
+        }
+        return current.top(k);
+    }
+
+    @Override
+    public boolean isReady() {
+        return counts != null;
+    }
+
+    // ── Canlı güncelleme (commit sonrası) ──────────────────────
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        record(event.post(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        record(event.post(), -1);
+    }
+
+    private synchronized void record(PostResponse post, int delta) {
+        if (post.createdAt() == null) {
+            return;
+        }
+        List<String> tags = HashtagExtractor.extract(post.content());
+        long bucket = bucketOf(post.createdAt());
+        boolean alreadyRead = building != null && !post.createdAt().isAfter(buildCursor);
+        for (String tag : tags) {
+            if (counts != null) {
+                counts.add(tag, bucket, delta);
+            }
+            if (alreadyRead) {
+                building.add(tag, bucket, delta);
+            }
+        }
+    }
+
+    /** Pencereyi kaydırır — kovası biten kullanımlar düşer. */
+    @Override
+    protected synchronized void onTick() {
+        long bucket = bucketOf(LocalDateTime.now());
+        if (counts != null) {
+            counts.advance(bucket);
+        }
+        if (building != null) {
+            building.advance(bucket);
+        }
+    }
+
+    // ── Kurulum ────────────────────────────────────────────────
+
+    @Override
+    protected void rebuild() {
+        long started = System.nanoTime();
+        long currentBucket = bucketOf(LocalDateTime.now());
+        TagCounts fresh = new TagCounts(new SlidingCountMinSketch(buckets, sketchDepth, sketchWidth),
+                candidates, currentBucket);
+        // Penceredeki en eski kovanın başı
+        LocalDateTime afterCreatedAt = LocalDateTime.ofEpochSecond(
+                (currentBucket - buckets + 1) * bucketSeconds, 0, ZoneOffset.UTC);
+        synchronized (this) {
+            building = fresh;
+            buildCursor = afterCreatedAt;
+        }
+        long afterId = 0;
+        long uses = 0;
+        List<TagUse> chunk;
+        do {
+            chunk = hashtagRepository.findUsesAfter(afterCreatedAt, afterId, PageRequest.of(0, buildChunkSize));
+            synchronized (this) {
+                for (TagUse use : chunk) {
+                    afterCreatedAt = use.getCreatedAt();
+                    afterId = use.getId();
+                    fresh.add(use.getTag(), bucketOf(afterCreatedAt), 1);
+                }
+                buildCursor = afterCreatedAt;
+            }
+            uses += chunk.size();
+        } while (chunk.size() == buildChunkSize);
+
+        // Kurulum, hizmete alma ile aynı kilit altında biter — arada gelen olay kaybolmaz
+        synchronized (this) {
+            counts = fresh;
+            building = null;
+        }
+        log.info("Trend etiketler kuruldu: {} kullanım, {} aday, {} ms", uses, fresh.candidateCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Override
+    protected synchronized void abortRebuild() {
+        building = null;
+    }
+
+    /**
+     * Kova numarası. {@code createdAt} bir zaman dilimi taşımaz; "şimdi" ile
+     * aynı ofset kullanıldığı sürece kova sınırları tutarlıdır.
+     */
+    private long bucketOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+    }
+}
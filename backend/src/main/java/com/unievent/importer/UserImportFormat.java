@@ -0,0 +1,41 @@
+package com.unievent.importer;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Desteklenen içe aktarma dosya biçimleri.
+ */
+public enum UserImportFormat {
+
+    /** İlk satırı başlık olan, virgülle ayrılmış dosya. */
+    CSV("text/csv"),
+
+    /** Her satırda bir JSON nesnesi (newline-delimited JSON). */
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    UserImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * {@code Content-Type} header'ından biçimi çözer (charset vb. parametreler
+     * yok sayılır).
+     *
+     * @throws IllegalArgumentException Desteklenmeyen tip
+     */
+    public static UserImportFormat fromContentType(String contentType) {
+        MediaType type = MediaType.parseMediaType(contentType);
+        for (UserImportFormat format : values()) {
+            if (type.isCompatibleWith(MediaType.parseMediaType(format.mediaType))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Desteklenmeyen içe aktarma biçimi: " + contentType);
+    }
+}
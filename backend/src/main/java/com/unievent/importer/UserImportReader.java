@@ -0,0 +1,173 @@
+package com.unievent.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unievent.dto.request.UserImportRow;
+import com.unievent.entity.Role;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV / NDJSON içe aktarma dosyasını satır satır okur.
+ * <p>
+ * Dosyanın tamamı belleğe alınmaz — {@link #next()} her çağrıda bir sonraki
+ * kaydı ayrıştırır. Hatalı bir satır okumayı durdurmaz; hata mesajıyla
+ * birlikte {@link ParsedRow} olarak döner ve rapora yazılır.
+ * <p>
+ * CSV: ilk satır başlıktır ({@code username,email,password} zorunlu,
+ * {@code displayName,role} isteğe bağlı; sıra serbest). Alanlar çift tırnak
+ * içinde olabilir, tırnak {@code ""} ile kaçırılır. Satır içi yeni satır
+ * desteklenmez.
+ */
+public class UserImportReader implements Closeable {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "email", "password");
+
+    /** Okunan kayıt — ya {@code row} ya da {@code error} doludur. */
+    public record ParsedRow(int line, UserImportRow row, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectMapper objectMapper;
+
+    private int lineNumber;
+    private Map<String, Integer> columns;
+
+    public UserImportReader(InputStream in, UserImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Bir sonraki kaydı döner; dosya bittiyse {@code null}. Boş satırlar atlanır.
+     *
+     * @throws IllegalArgumentException CSV başlığı eksik veya hatalıysa
+     */
+    public ParsedRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1); // Excel'in eklediği UTF-8 BOM
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == UserImportFormat.CSV && columns == null) {
+                columns = parseHeader(line);
+                continue;
+            }
+            return format == UserImportFormat.CSV ? parseCsv(line) : parseJson(line);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ── NDJSON ──────────────────────────────────────────────────
+
+    private ParsedRow parseJson(String line) {
+        try {
+            return new ParsedRow(lineNumber, objectMapper.readValue(line, UserImportRow.class), null);
+        } catch (JsonProcessingException e) {
+            return new ParsedRow(lineNumber, null, "Geçersiz JSON satırı: " + e.getOriginalMessage());
+        }
+    }
+
+    // ── CSV ─────────────────────────────────────────────────────
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> names = split(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!header.containsKey(required.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("CSV başlığında '" + required + "' sütunu eksik");
+            }
+        }
+        return header;
+    }
+
+    private ParsedRow parseCsv(String line) {
+        try {
+            List<String> fields = split(line);
+            String role = column(fields, "role", true);
+            UserImportRow row = new UserImportRow(
+                    column(fields, "username", true),
+                    column(fields, "email", true),
+                    column(fields, "password", false),
+                    column(fields, "displayname", true),
+                    role != null ? parseRole(role) : null);
+            return new ParsedRow(lineNumber, row, null);
+        } catch (IllegalArgumentException e) {
+            return new ParsedRow(lineNumber, null, e.getMessage());
+        }
+    }
+
+    private static Role parseRole(String value) {
+        try {
+            return Role.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Geçersiz rol: " + value);
+        }
+    }
+
+    /** Sütun değeri; sütun yoksa veya boşsa {@code null}. Şifre trim edilmez. */
+    private String column(List<String> fields, String name, boolean trim) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = trim ? fields.get(index).trim() : fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Kapanmamış tırnak işareti");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,93 @@
+package com.unievent.location;
+
+import com.unievent.dto.response.LocationFacetResponse;
+import com.unievent.timeline.TimelineEntry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Konum başına yaklaşan etkinlik sayıları.
+ * <p>
+ * Sayılan her etkinlik {@code (eventDate, id) → konum anahtarı} olarak
+ * tutulur: ekleme/silme idempotenttir (aynı olay iki kez gelirse sayı
+ * bozulmaz) ve tarihi geçen etkinlikler sıralı haritanın başından düşürülür
+ * ({@link #expireBefore}). Sıralı facet listesi sadece sayılar değiştikten
+ * sonraki ilk okumada yeniden kurulur — okumalar değişikliklerden çok
+ * daha sık.
+ * <p>
+ * Tüm erişim tek kilit altındadır; yazmalar seyrek, okumalar O(limit).
+ */
+final class FacetCounts {
+
+    private static final class Facet {
+        final String label;
+        long count;
+
+        Facet(String label) {
+            this.label = label;
+        }
+    }
+
+    /** Çok etkinlikli konum önce; eşitlikte alfabetik. */
+    private static final Comparator<LocationFacetResponse> MOST_EVENTS_FIRST = Comparator
+            .comparingLong(LocationFacetResponse::count)
+            .reversed()
+            .thenComparing(LocationFacetResponse::key);
+
+    private final TreeMap<TimelineEntry, String> upcoming = new TreeMap<>();
+    private final Map<String, Facet> facets = new HashMap<>();
+    /** null → sayılar değişti, sonraki okumada yeniden sıralanır. */
+    private List<LocationFacetResponse> sorted = List.of();
+
+    synchronized void add(TimelineEntry entry, String key, String label) {
+        if (upcoming.putIfAbsent(entry, key) == null) {
+            facets.computeIfAbsent(key, k -> new Facet(label)).count++;
+            sorted = null;
+        }
+    }
+
+    synchronized void remove(TimelineEntry entry) {
+        String key = upcoming.remove(entry);
+        if (key != null) {
+            decrement(key);
+        }
+    }
+
+    /** Tarihi {@code now}'dan önce olan etkinlikleri düşürür. */
+    synchronized void expireBefore(LocalDateTime now) {
+        Map.Entry<TimelineEntry, String> first;
+        while ((first = upcoming.firstEntry()) != null && first.getKey().eventDate().isBefore(now)) {
+            upcoming.pollFirstEntry();
+            decrement(first.getValue());
+        }
+    }
+
+    /** En çok etkinliği olan {@code limit} konum. */
+    synchronized List<LocationFacetResponse> top(int limit) {
+        if (sorted == null) {
+            List<LocationFacetResponse> all = new ArrayList<>(facets.size());
+            facets.forEach((key, facet) -> all.add(new LocationFacetResponse(key, facet.label, facet.count)));
+            all.sort(MOST_EVENTS_FIRST);
+            sorted = List.copyOf(all);
+        }
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    synchronized int eventCount() {
+        return upcoming.size();
+    }
+
+    private void decrement(String key) {
+        Facet facet = facets.get(key);
+        if (--facet.count == 0) {
+            facets.remove(key);
+        }
+        sorted = null;
+    }
+}
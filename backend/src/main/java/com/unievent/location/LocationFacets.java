@@ -0,0 +1,217 @@
+package com.unievent.location;
+
+import com.unievent.dto.response.LocationFacetResponse;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.exception.ServiceBusyException;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.LocationText;
+import com.unievent.repository.EventPostRepository.UpcomingLocation;
+import com.unievent.timeline.TimelineEntry;
+import com.unievent.view.InMemoryView;
+import com.unievent.view.ViewLoadGate;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Konum facet'leri — yaklaşan etkinliklerin bina/fakülte başına sayıları.
+ * <p>
+ * Neden her istekte {@code GROUP BY location_key} değil?
+ * → Facet listesi keşif sayfasının kenar çubuğudur: her sayfa açılışında
+ * okunur, ama sayılar sadece gönderi oluşturulup silindiğinde (ve etkinlik
+ * tarihi geçtiğinde) değişir. Sayılar {@link FacetCounts}'ta tutulur ve
+ * olaylarla güncellenir; istek veritabanına gitmez.
+ * <p>
+ * Yaşam döngüsü {@link InMemoryView}'dadır; bu görünüme özel olanlar:
+ * <ul>
+ * <li>Kurulumda önce {@code location_key}'i henüz hesaplanmamış eski
+ * gönderiler ({@code V7} öncesi) {@code backfill-chunk-size}'lık parçalar
+ * halinde doldurulur, sonra yaklaşan etkinlikler {@code (event_date, id)}
+ * sırasıyla okunur. Hazır olana kadar facet isteği 503 + Retry-After döner.</li>
+ * <li>Canlı olaylarda anahtar olaydaki konumdan aynı kuralla
+ * ({@link LocationNormalizer}) hesaplanır.</li>
+ * <li>Tarihi geçen etkinlikler dakikada bir düşer.</li>
+ * </ul>
+ * "Şimdi" {@code app.timeline.zone}'da hesaplanır — zaman çizelgesiyle aynı.
+ * <p>
+ * Metrik: {@code locations.upcoming.events} (sayılan etkinlik).
+ */
+@Slf4j
+@Component
+public class LocationFacets extends InMemoryView {
+
+    private final EventPostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zone;
+    private final int loadChunkSize;
+    private final int backfillChunkSize;
+
+    /** null → henüz kurulmadı. */
+    private volatile FacetCounts counts;
+
+    /** Kurulum sırasında canlı olaylar buna da uygulanır. */
+    private FacetCounts building;
+    /** Kurulum sırasında silinen gönderiler — henüz okunmamış parçada olabilirler. */
+    private final Set<Long> removedDuringLoad = ConcurrentHashMap.newKeySet();
+
+    public LocationFacets(EventPostRepository postRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.timeline.zone}") ZoneId zone,
+            @Value("${app.locations.load-chunk-size}") int loadChunkSize,
+            @Value("${app.locations.backfill-chunk-size}") int backfillChunkSize,
+            MeterRegistry meterRegistry, ViewLoadGate loadGate) {
+        super("location-facets", loadGate);
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.zone = zone;
+        this.loadChunkSize = loadChunkSize;
+        this.backfillChunkSize = backfillChunkSize;
+
+        Gauge.builder("locations.upcoming.events", this, facets -> {
+            FacetCounts current = facets.counts;
+            return current == null ? 0 : current.eventCount();
+        }).register(meterRegistry);
+    }
+
+    /**
+     * En çok yaklaşan etkinliği olan {@code limit} konum.
+     *
+     * @throws ServiceBusyException Sayılar henüz kurulmadıysa
+     */
+    public List<LocationFacetResponse> top(int limit) {
+        FacetCounts current = counts;
+        if (current == null) {
+            throw new ServiceBusyException("Konum sayıları hazırlanıyor, lütfen tekrar deneyin", 5);
+        }
+        return current.top(limit);
+    }
+
+    @Override
+    public boolean isReady() {
+        return counts != null;
+    }
+
+    // ── Canlı güncelleme (commit sonrası) ──────────────────────
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        PostResponse post = event.post();
+        String key = LocationNormalizer.key(post.eventLocation());
+        if (post.eventDate() != null && key != null && post.eventDate().isAfter(LocalDateTime.now(zone))) {
+            TimelineEntry entry = new TimelineEntry(post.eventDate(), post.id());
+            String label = LocationNormalizer.label(post.eventLocation());
+            apply(target -> target.add(entry, key, label));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        PostResponse post = event.post();
+        if (post.eventDate() != null) {
+            TimelineEntry entry = new TimelineEntry(post.eventDate(), post.id());
+            apply(target -> target.remove(entry));
+            synchronized (this) {
+                if (building != null) {
+                    removedDuringLoad.add(post.id());
+                }
+            }
+        }
+    }
+
+    private synchronized void apply(Consumer<FacetCounts> change) {
+        if (counts != null) {
+            change.accept(counts);
+        }
+        if (building != null) {
+            change.accept(building);
+        }
+    }
+
+    /** Tarihi geçen etkinlikleri düşürür. */
+    @Override
+    protected void onTick() {
+        LocalDateTime now = LocalDateTime.now(zone);
+        apply(target -> target.expireBefore(now));
+    }
+
+    // ── Kurulum ────────────────────────────────────────────────
+
+    @Override
+    protected void rebuild() {
+        long started = System.nanoTime();
+        FacetCounts fresh = new FacetCounts();
+        backfillMissingKeys();
+
+        synchronized (this) {
+            removedDuringLoad.clear();
+            building = fresh;
+        }
+        TimelineEntry after = new TimelineEntry(LocalDateTime.now(zone), 0);
+        List<UpcomingLocation> chunk;
+        do {
+            chunk = postRepository.findUpcomingLocationsAfter(after.eventDate(), after.id(),
+                    PageRequest.of(0, loadChunkSize));
+            for (UpcomingLocation row : chunk) {
+                after = new TimelineEntry(row.getEventDate(), row.getId());
+                if (!removedDuringLoad.contains(row.getId())) {
+                    fresh.add(after, row.getLocationKey(), LocationNormalizer.label(row.getEventLocation()));
+                }
+            }
+        } while (chunk.size() == loadChunkSize);
+
+        // Kurulum, hizmete alma ile aynı kilit altında biter — arada gelen olay kaybolmaz
+        synchronized (this) {
+            counts = fresh;
+            building = null;
+            removedDuringLoad.clear();
+        }
+        log.info("Konum sayıları kuruldu: {} yaklaşan etkinlik, {} ms", fresh.eventCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Override
+    protected synchronized void abortRebuild() {
+        building = null;
+        removedDuringLoad.clear();
+    }
+
+    /**
+     * {@code location_key}'i NULL olan gönderileri (V7 öncesi) doldurur. Her
+     * parça kendi transaction'ındadır; doldurulan satırlar kümeden çıkar.
+     * Tamamlandıktan sonraki açılışlarda tek bir boş index okumasıdır.
+     */
+    private void backfillMissingKeys() {
+        long filled = 0;
+        int size;
+        do {
+            size = transactionTemplate.execute(status -> {
+                List<LocationText> chunk = postRepository.findMissingLocationKeys(
+                        PageRequest.of(0, backfillChunkSize));
+                for (LocationText row : chunk) {
+                    postRepository.setLocationKey(row.getId(), LocationNormalizer.storedKey(row.getEventLocation()));
+                }
+                return chunk.size();
+            });
+            filled += size;
+        } while (size == backfillChunkSize);
+        if (filled > 0) {
+            log.info("{} gönderinin konum anahtarı dolduruldu", filled);
+        }
+    }
+}
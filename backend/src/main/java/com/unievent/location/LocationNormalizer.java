@@ -0,0 +1,126 @@
+package com.unievent.location;
+
+import com.unievent.search.TurkishAnalyzer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serbest metin konumu ({@code eventLocation}) bina/fakülte anahtarına indirger.
+ * <p>
+ * Aynı yer farklı yazılır: "Mühendislik Fakültesi B-201", "MÜHENDİSLİK
+ * FAKÜLTESİ Amfi 2", "Müh. Fak. Z-10". Filtre ve sayımlar derslik
+ * seviyesinde değil bina seviyesinde anlamlıdır. Kurallar:
+ * <ul>
+ * <li>Arama ile aynı Türkçe katlama ({@link TurkishAnalyzer#fold}); harf/rakam
+ * olmayan her karakter ayraçtır</li>
+ * <li>Rakam içeren kelimeler (derslik/kat kodları: {@code B-201}, {@code 2},
+ * {@code Z-10}) ve tek harfler atılır</li>
+ * <li>Binadan sonra gelen oda türleri ({@code amfi}, {@code derslik},
+ * {@code lab}, ...) atılır; tek başına yazılmışsa ("Amfi 3") kalır</li>
+ * <li>Yaygın kısaltmalar açılır: {@code müh} → {@code muhendislik},
+ * {@code fak} → {@code fakultesi}</li>
+ * <li>En fazla {@value #MAX_WORDS} kelime, {@code -} ile birleştirilir</li>
+ * </ul>
+ *
+ * <pre>
+ * "Mühendislik Fakültesi B-201" → "muhendislik-fakultesi"
+ * "Müh. Fak. Z-10"              → "muhendislik-fakultesi"
+ * "MÜHENDİSLİK FAKÜLTESİ Amfi 2" → "muhendislik-fakultesi"
+ * "Kütüphane Konferans Salonu"  → "kutuphane-konferans-salonu"
+ * "B-201"                       → null
+ * </pre>
+ *
+ * Anahtar kendisini üretir ({@code key("muhendislik-fakultesi")} aynıdır) —
+ * filtre parametresi anahtar ya da serbest metin olabilir.
+ */
+public final class LocationNormalizer {
+
+    /** Konumu olmayan (veya anahtar üretmeyen) gönderilerde saklanan değer; NULL → henüz hesaplanmadı. */
+    public static final String NO_LOCATION = "";
+
+    /** Anahtarın en fazla uzunluğu ({@code event_posts.location_key}). */
+    public static final int MAX_KEY_LENGTH = 80;
+
+    static final int MAX_WORDS = 4;
+
+    private static final Map<String, String> ABBREVIATIONS = Map.of(
+            "muh", "muhendislik",
+            "fak", "fakultesi",
+            "fakulte", "fakultesi");
+
+    private static final Set<String> ROOM_WORDS = Set.of(
+            "amfi", "amfisi", "derslik", "dersligi", "sinif", "sinifi", "oda", "odasi", "kat", "kati",
+            "lab", "laboratuvar", "laboratuvari");
+
+    private LocationNormalizer() {
+    }
+
+    /**
+     * Konumun anahtarı.
+     *
+     * @return Konum null veya anlamlı kelime içermiyorsa null
+     */
+    public static String key(String location) {
+        List<String> words = new ArrayList<>();
+        for (String word : words(location)) {
+            String folded = fold(word);
+            words.add(ABBREVIATIONS.getOrDefault(folded, folded));
+        }
+        if (words.isEmpty()) {
+            return null;
+        }
+        String key = String.join("-", words);
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    /** Veritabanında saklanan değer: anahtar ya da {@link #NO_LOCATION}. */
+    public static String storedKey(String location) {
+        String key = key(location);
+        return key != null ? key : NO_LOCATION;
+    }
+
+    /**
+     * Anahtarın görünen adı — konumun orijinal yazımından aynı kelimeler
+     * ("Mühendislik Fakültesi B-201" → "Mühendislik Fakültesi").
+     */
+    public static String label(String location) {
+        return String.join(" ", words(location));
+    }
+
+    /** Derslik kodları, tek harfler ve oda türleri atılmış ilk {@value #MAX_WORDS} kelime (orijinal yazımıyla). */
+    private static List<String> words(String location) {
+        List<String> words = new ArrayList<>();
+        if (location == null) {
+            return words;
+        }
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= location.length(); i++) {
+            char c = i < location.length() ? location.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c) || c == '\u0307') {
+                word.append(c);
+                continue;
+            }
+            if (word.length() > 1 && word.chars().noneMatch(Character::isDigit)
+                    && (words.isEmpty() || !ROOM_WORDS.contains(fold(word)))
+                    && words.size() < MAX_WORDS) {
+                words.add(word.toString());
+            }
+            word.setLength(0);
+        }
+        return words;
+    }
+
+    private static String fold(CharSequence word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = TurkishAnalyzer.fold(word.charAt(i));
+            if (c != 0) {
+                folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.unievent.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset sayfalama yanıtı — {@code Page} yerine {@code Slice} mantığı.
+ * <p>
+ * {@link org.springframework.data.domain.Page} her istekte ek bir
+ * {@code SELECT COUNT(*)} sorgusu çalıştırır; büyük tablolarda bu sorgu tüm
+ * tabloyu tarar. Sonsuz kaydırma (infinite scroll) yapan bir feed için toplam
+ * sayıya ihtiyaç yoktur — sadece "devamı var mı?" bilgisi yeterlidir.
+ *
+ * <pre>
+ * Örnek JSON yanıt (React ekibi için):
+ * {
+ *   "content": [ ... ],
+ *   "nextCursor": "MjAyNC0wMy0xNFQwOTozMDowMHw0Mg",
+ *   "hasNext": true,
+ *   "size": 20
+ * }
+ * </pre>
+ *
+ * Son sayfada {@code nextCursor} alanı JSON'a dahil edilmez.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        int size) {
+
+    /**
+     * Repository'den {@code limit + 1} satır çekildiğini varsayarak sayfayı kurar.
+     * <p>
+     * Fazladan çekilen tek satır sadece "sonraki sayfa var mı?" sorusunu
+     * cevaplamak içindir — COUNT sorgusuna gerek kalmaz.
+     *
+     * @param rows     {@code limit + 1} adede kadar satır
+     * @param limit    istemcinin istediği sayfa boyutu
+     * @param mapper   satır → DTO dönüşümü
+     * @param cursorOf satırdan keyset imlecini çıkaran fonksiyon
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit,
+            Function<E, T> mapper, Function<E, KeysetCursor> cursorOf) {
+
+        boolean hasNext = rows.size() > limit;
+        List<E> visible = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = hasNext
+                ? cursorOf.apply(visible.get(visible.size() - 1)).encode()
+                : null;
+
+        return new CursorPage<>(visible.stream().map(mapper).toList(), nextCursor, hasNext, limit);
+    }
+}
@@ -0,0 +1,61 @@
+package com.unievent.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset (cursor) sayfalama imleci — {@code (createdAt, id)} ikilisi.
+ * <p>
+ * Neden OFFSET yerine keyset?
+ * → {@code LIMIT 20 OFFSET 10000} sorgusunda veritabanı ilk 10.000 satırı
+ * okuyup atmak zorundadır; sayfa derinleştikçe maliyet doğrusal artar.
+ * Keyset sorgusu ise "son görülen satırdan sonrasını" ister:
+ * {@code WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?}
+ * → index üzerinde doğrudan konumlanır, her sayfa aynı maliyettedir.
+ * <p>
+ * {@code id} neden dahil?
+ * → Aynı milisaniyede oluşturulan iki gönderi aynı {@code createdAt}'e sahip
+ * olabilir. {@code id} sıralamayı kesin (total order) hale getirir; böylece
+ * sayfa sınırında satır atlanmaz veya tekrarlanmaz.
+ * <p>
+ * İmleç istemciye opak (Base64-URL) bir string olarak verilir — Frontend
+ * içeriğini yorumlamaz, sadece bir sonraki istekte geri gönderir.
+ * <p>
+ * Yaklaşan etkinlikler listesi aynı formatı {@code (eventDate, id)} için
+ * kullanır (artan sıra).
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * İmleci opak string'e dönüştürür.
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * İstemciden gelen opak string'i çözer.
+     *
+     * @throws IllegalArgumentException İmleç bozuksa (GlobalExceptionHandler → 400)
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Geçersiz sayfalama imleci");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz sayfalama imleci");
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.unievent.ranking;
+
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.event.PostEngagementEvent;
+import com.unievent.exception.ServiceBusyException;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.EngagementSnapshot;
+import com.unievent.repository.EventPostRepository.StoredCounters;
+import com.unievent.view.InMemoryView;
+import com.unievent.view.ViewLoadGate;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hot feed sıralaması — {@link HotScoreBoard} + yaşam döngüsü.
+ * <p>
+ * Neden her istekte {@code ORDER BY log(...) - yaş} değil?
+ * → Skor ifadesi index'lenemez: her istek pencere içindeki tüm gönderileri
+ * okuyup sıralar. Sıralama bellekte tutulur ve etkileşim geldikçe
+ * güncellenir; istek, sıralamanın başından N gönderi okumaktır.
+ * <p>
+ * Yaşam döngüsü {@link InMemoryView}'dadır; bu görünüme özel olanlar:
+ * <ul>
+ * <li>Son {@code window} içinde oluşturulan gönderilerin sayaçları
+ * {@code (created_at, id)} sırasıyla parça parça okunur. Hazır olana kadar
+ * hot feed 503 + Retry-After döner.</li>
+ * <li>{@link PostEngagementEvent} de commit sonrasında sıralamayı günceller.</li>
+ * <li>Ayrıca her {@code rebuild-interval-ms}'de yeniden kurulur: pencereden
+ * çıkan gönderiler düşer, kaçırılmış olaylar düzelir.</li>
+ * </ul>
+ * Kurulum sırasında gelen etkileşim delta'sı kurulan sıralamaya uygulanmaz:
+ * okunan parça beğeniyi zaten içeriyor olabilir (commit, dinleyiciden önce)
+ * veya henüz içermiyor olabilir — delta'nın iki kez sayılıp sayılmayacağı
+ * bilinemez. Bunun yerine gönderi işaretlenir; parçalar bitince işaretli
+ * gönderilerin sayaçları DB'den mutlak değerle yeniden okunur (son tur
+ * hizmete alma kilidi altında).
+ * {@code window}'dan eski gönderiler sıralamaya girmez: yarı ömrün 14 katı
+ * (varsayılan 12 saat → 7 gün) yaşındaki bir gönderi, yeni bir gönderiyi
+ * geçmek için ~16.000 kat etkileşim ister.
+ * <p>
+ * Metrik: {@code hot.posts} (sıralamadaki gönderi).
+ */
+@Slf4j
+@Component
+public class HotRanking extends InMemoryView {
+
+    /**
+     * Kilit dışında en fazla bu kadar tekrar-okuma turu; sürekli etkileşim
+     * alan gönderiler son turda (kilit altında) okunur.
+     */
+    private static final int MAX_REFRESH_ROUNDS = 3;
+
+    private final EventPostRepository postRepository;
+    private final long halfLifeSeconds;
+    private final double commentWeight;
+    private final Duration window;
+    private final int maxEntries;
+    private final int buildChunkSize;
+
+    /** null → henüz kurulmadı. */
+    private volatile HotScoreBoard board;
+
+    /** Kurulum sırasında canlı olaylar buna da uygulanır. */
+    private HotScoreBoard building;
+    /** Kurulum sırasında silinen gönderiler — henüz okunmamış parçada olabilirler. */
+    private final Set<Long> removedDuringBuild = ConcurrentHashMap.newKeySet();
+    /** Kurulum sırasında etkileşim alan gönderiler — sayaçları kurulum sonunda tekrar okunur. */
+    private final Set<Long> engagedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    public HotRanking(EventPostRepository postRepository,
+            @Value("${app.hot.half-life}") Duration halfLife,
+            @Value("${app.hot.comment-weight}") double commentWeight,
+            @Value("${app.hot.window}") Duration window,
+            @Value("${app.hot.max-entries}") int maxEntries,
+            @Value("${app.hot.build-chunk-size}") int buildChunkSize,
+            MeterRegistry meterRegistry, ViewLoadGate loadGate) {
+        super("hot-ranking", loadGate);
+        this.postRepository = postRepository;
+        this.halfLifeSeconds = halfLife.toSeconds();
+        this.commentWeight = commentWeight;
+        this.window = window;
+        this.maxEntries = maxEntries;
+        this.buildChunkSize = buildChunkSize;
+
+        Gauge.builder("hot.posts", this, ranking -> {
+            HotScoreBoard current = ranking.board;
+            return current == null ? 0 : current.size();
+        }).register(meterRegistry);
+    }
+
+    /**
+     * Sıralamada {@code offset}'ten başlayan en fazla {@code limit} gönderi id'si,
+     * en hot'tan başlayarak.
+     *
+     * @throws ServiceBusyException Sıralama henüz kurulmadıysa
+     */
+    public List<Long> top(int offset, int limit) {
+        return current().top(offset, limit);
+    }
+
+    /** Sıralamadaki gönderi sayısı. */
+    public int size() {
+        return current().size();
+    }
+
+    @Override
+    public boolean isReady() {
+        return board != null;
+    }
+
+    private HotScoreBoard current() {
+        HotScoreBoard current = board;
+        if (current == null) {
+            throw new ServiceBusyException("Hot sıralaması hazırlanıyor, lütfen tekrar deneyin", 5);
+        }
+        return current;
+    }
+
+    // ── Canlı güncelleme (commit sonrası) ──────────────────────
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        PostResponse post = event.post();
+        if (post.createdAt() != null && post.createdAt().isAfter(LocalDateTime.now().minus(window))) {
+            long created = epochSecond(post.createdAt());
+            apply(target -> target.put(post.id(), created, 0, 0));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        long postId = event.post().id();
+        synchronized (this) {
+            apply(target -> target.remove(postId));
+            if (building != null) {
+                removedDuringBuild.add(postId);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        Map<Long, Integer> likes = event.likeDeltas();
+        Map<Long, Integer> comments = event.commentDeltas();
+        synchronized (this) {
+            if (board != null) {
+                likes.forEach((postId, delta) -> board.adjust(postId, delta, comments.getOrDefault(postId, 0)));
+                comments.forEach((postId, delta) -> {
+                    if (!likes.containsKey(postId)) {
+                        board.adjust(postId, 0, delta);
+                    }
+                });
+            }
+            if (building != null) {
+                engagedDuringBuild.addAll(likes.keySet());
+                engagedDuringBuild.addAll(comments.keySet());
+            }
+        }
+    }
+
+    /** Değişikliği hizmet veren sıralamaya ve (varsa) kurulmakta olana uygular. */
+    private synchronized void apply(Consumer<HotScoreBoard> change) {
+        if (board != null) {
+            change.accept(board);
+        }
+        if (building != null) {
+            change.accept(building);
+        }
+    }
+
+    // ── Kurulum ────────────────────────────────────────────────
+
+    @Scheduled(fixedDelayString = "${app.hot.rebuild-interval-ms}", initialDelayString = "${app.hot.rebuild-interval-ms}")
+    void periodicRebuild() {
+        if (isAutoLoad()) {
+            rebuildAsync();
+        }
+    }
+
+    @Override
+    protected void rebuild() {
+        long started = System.nanoTime();
+        HotScoreBoard fresh = new HotScoreBoard(halfLifeSeconds, commentWeight, maxEntries);
+        synchronized (this) {
+            removedDuringBuild.clear();
+            engagedDuringBuild.clear();
+            building = fresh;
+        }
+        LocalDateTime afterCreatedAt = LocalDateTime.now().minus(window);
+        long afterId = 0;
+        List<EngagementSnapshot> chunk;
+        do {
+            chunk = postRepository.findEngagementAfter(afterCreatedAt, afterId,
+                    PageRequest.of(0, buildChunkSize));
+            // Kontrol ve ekleme silme olayıyla aynı kilitte: parça okunduktan
+            // sonra commit edilen silme, gönderiyi geri getiremez
+            synchronized (this) {
+                for (EngagementSnapshot row : chunk) {
+                    afterCreatedAt = row.getCreatedAt();
+                    afterId = row.getId();
+                    if (!removedDuringBuild.contains(afterId)) {
+                        fresh.put(afterId, epochSecond(afterCreatedAt), row.getLikeCount(),
+                                row.getCommentCount());
+                    }
+                }
+            }
+        } while (chunk.size() == buildChunkSize);
+
+        for (int round = 0; round < MAX_REFRESH_ROUNDS; round++) {
+            Set<Long> engaged = drainEngaged();
+            if (engaged.isEmpty()) {
+                break;
+            }
+            refreshCounters(fresh, engaged);
+        }
+        // Kurulum, hizmete alma ile aynı kilit altında biter — arada gelen olay kaybolmaz
+        synchronized (this) {
+            refreshCounters(fresh, drainEngaged());
+            board = fresh;
+            building = null;
+            removedDuringBuild.clear();
+        }
+        log.info("Hot sıralaması kuruldu: {} gönderi, {} ms", fresh.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Override
+    protected synchronized void abortRebuild() {
+        building = null;
+        removedDuringBuild.clear();
+        engagedDuringBuild.clear();
+    }
+
+    private Set<Long> drainEngaged() {
+        Set<Long> engaged = new HashSet<>(engagedDuringBuild);
+        engagedDuringBuild.removeAll(engaged);
+        return engaged;
+    }
+
+    /** Sayaçları DB'den okur; sıralamada olmayan (pencere dışı, silinmiş) gönderiler atlanır. */
+    private void refreshCounters(HotScoreBoard target, Set<Long> postIds) {
+        List<Long> ids = new ArrayList<>(postIds);
+        for (int from = 0; from < ids.size(); from += buildChunkSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + buildChunkSize, ids.size()));
+            for (StoredCounters counters : postRepository.findCounters(batch)) {
+                target.setCounters(counters.getId(), counters.getLikeCount(), counters.getCommentCount());
+            }
+        }
+    }
+
+    /**
+     * {@code createdAt} bir zaman dilimi taşımaz; tüm gönderiler için aynı
+     * ofset kullanıldığı sürece sıralama etkilenmez.
+     */
+    private static long epochSecond(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,148 @@
+package com.unievent.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Gönderilerin hot skoruna göre sıralı hali: sıralı küme + {@code postId → durum}.
+ * <p>
+ * Skor, üstel zaman aşınmalı (time-decayed) etkileşimdir:
+ *
+ * <pre>
+ * hot(t) = (1 + beğeni + w·yorum) · 2^(−(t − createdAt) / yarıÖmür)
+ * </pre>
+ *
+ * Neden skor değil de {@code ln(1 + beğeni + w·yorum) + createdAt·ln2/yarıÖmür}
+ * anahtarı saklanıyor?
+ * → {@code ln hot(t)} bu anahtardan {@code t·ln2/yarıÖmür} çıkarılarak
+ * bulunur; çıkarılan terim her gönderi için aynıdır. Yani iki gönderinin
+ * sırası zamanla değişmez — sadece etkileşim değiştiğinde değişir. Zaman
+ * geçtikçe tüm skorları yeniden hesaplamaya gerek kalmaz: bir beğeni, tek
+ * elemanın kümeden çıkıp yeni anahtarla geri girmesidir (O(log n)).
+ * <p>
+ * İlk N okuması kümenin başından N eleman yürümektir. En fazla
+ * {@code maxEntries} gönderi tutulur; aşılırsa anahtarı en düşük olan
+ * (eski ve az etkileşimli) düşer.
+ * <p>
+ * Okumalar kilit almaz. Aynı gönderinin güncellemeleri
+ * {@link ConcurrentHashMap#compute} ile sıraya girer; farklı gönderiler
+ * birbirini beklemez.
+ */
+final class HotScoreBoard {
+
+    /** Kümedeki eleman — {@code postId} eşit anahtarları ayırır. */
+    private record Ranked(double key, long postId) {
+    }
+
+    /** Gönderinin bilinen sayaçları ve kümedeki elemanı. */
+    private record Tracked(long createdEpochSecond, int likes, int comments, Ranked ranked) {
+    }
+
+    /** Anahtarı büyük olan önce; eşitlikte yeni gönderi önce. */
+    private static final Comparator<Ranked> HOTTEST_FIRST = Comparator.comparingDouble(Ranked::key)
+            .thenComparingLong(Ranked::postId)
+            .reversed();
+
+    private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(HOTTEST_FIRST);
+    private final ConcurrentHashMap<Long, Tracked> posts = new ConcurrentHashMap<>();
+
+    private final double decayPerSecond;
+    private final double commentWeight;
+    private final int maxEntries;
+
+    HotScoreBoard(long halfLifeSeconds, double commentWeight, int maxEntries) {
+        this.decayPerSecond = Math.log(2) / halfLifeSeconds;
+        this.commentWeight = commentWeight;
+        this.maxEntries = maxEntries;
+    }
+
+    /** Gönderiyi verilen sayaçlarla ekler; varsa sayaçlarını değiştirir. */
+    void put(long postId, long createdEpochSecond, int likes, int comments) {
+        posts.compute(postId, (id, old) -> {
+            if (old != null) {
+                ranking.remove(old.ranked());
+            }
+            return track(id, createdEpochSecond, likes, comments);
+        });
+        while (posts.size() > maxEntries && evictColdest()) {
+            // En soğuk gönderiler düşürülür
+        }
+    }
+
+    /** Sayaç değişimini uygular. Takip edilmeyen gönderi (pencere dışı) yok sayılır. */
+    void adjust(long postId, int likeDelta, int commentDelta) {
+        posts.computeIfPresent(postId, (id, old) -> {
+            ranking.remove(old.ranked());
+            return track(id, old.createdEpochSecond(),
+                    old.likes() + likeDelta, old.comments() + commentDelta);
+        });
+    }
+
+    /** Sayaçları mutlak değerle değiştirir. Takip edilmeyen gönderi yok sayılır. */
+    void setCounters(long postId, int likes, int comments) {
+        posts.computeIfPresent(postId, (id, old) -> {
+            ranking.remove(old.ranked());
+            return track(id, old.createdEpochSecond(), likes, comments);
+        });
+    }
+
+    void remove(long postId) {
+        posts.computeIfPresent(postId, (id, old) -> {
+            ranking.remove(old.ranked());
+            return null;
+        });
+    }
+
+    /**
+     * Sıralamada {@code offset}'ten başlayan en fazla {@code limit} gönderi.
+     * Eşzamanlı bir güncelleme gönderiyi iterasyonun önüne taşıyabilir —
+     * aynı gönderi ikinci kez dönülmez.
+     */
+    List<Long> top(int offset, int limit) {
+        List<Long> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        int skipped = 0;
+        for (Ranked ranked : ranking) {
+            if (!seen.add(ranked.postId())) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            result.add(ranked.postId());
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return posts.size();
+    }
+
+    private Tracked track(long postId, long createdEpochSecond, int likes, int comments) {
+        // Sayaçlar geçici olarak negatife düşebilir (olay sırası) — skor etkilenmez
+        double engagement = Math.max(likes, 0) + commentWeight * Math.max(comments, 0);
+        Ranked ranked = new Ranked(Math.log1p(engagement) + createdEpochSecond * decayPerSecond, postId);
+        ranking.add(ranked);
+        return new Tracked(createdEpochSecond, likes, comments, ranked);
+    }
+
+    private boolean evictColdest() {
+        Ranked coldest = ranking.pollLast();
+        if (coldest == null) {
+            return false;
+        }
+        // Arada güncellendiyse (yeni anahtar) dokunulmaz
+        posts.computeIfPresent(coldest.postId(),
+                (id, tracked) -> tracked.ranked().equals(coldest) ? null : tracked);
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package com.unievent.repository;
+
+import com.unievent.entity.AccountDeletionJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Hesap silme işleri repository'si.
+ */
+@Repository
+public interface AccountDeletionJobRepository extends JpaRepository<AccountDeletionJob, Long> {
+
+    Optional<AccountDeletionJob> findByUserId(Long userId);
+
+    /**
+     * Worker'ın sahiplenebileceği işler: tamamlanmamış ve lease'i boş veya
+     * süresi dolmuş. Asıl sahiplenme {@code @Version} kontrolüyle ayrıca
+     * yapılır; bu sorgu sadece adayları daraltır.
+     */
+    @Query("""
+            SELECT j.id FROM AccountDeletionJob j
+            WHERE j.status <> com.unievent.entity.AccountDeletionJob$Status.COMPLETED
+              AND (j.leaseUntil IS NULL OR j.leaseUntil < :now)
+            ORDER BY j.id
+            """)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** Admin görünümü: tamamlanmamış işler, en eskiden yeniye. */
+    @Query("""
+            SELECT j FROM AccountDeletionJob j
+            WHERE j.status <> com.unievent.entity.AccountDeletionJob$Status.COMPLETED
+            ORDER BY j.id
+            """)
+    List<AccountDeletionJob> findActive(Pageable pageable);
+
+    /**
+     * Verilen andan sonra silinmesi istenen kullanıcılar — açılışta iptal
+     * listesini doldurmak için (bkz. RevokedUserRegistry).
+     */
+    @Query("SELECT j.userId FROM AccountDeletionJob j WHERE j.createdAt >= :since")
+    List<Long> findUserIdsRequestedSince(@Param("since") LocalDateTime since);
+}
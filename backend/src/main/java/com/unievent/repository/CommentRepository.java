@@ -3,13 +3,27 @@ package com.unievent.repository;
 import com.unievent.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Yorum repository'si.
  * <p>
  * Yorumlar da sayfalanır çünkü popüler bir gönderinin yüzlerce yorumu olabilir.
+ * <p>
+ * API keyset sorgularını ({@code findPage*}) kullanır: OFFSET'li {@code Page}
+ * binlerce yorumu olan bir gönderide derin sayfalarda yavaşlar ve her istekte
+ * COUNT çalıştırır. Sorgular {@code idx_comments_post_created_at}
+ * ({@code post_id, created_at DESC}) index'i üzerinde konumlanır.
  */
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -19,4 +33,121 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * Paginated — Frontend sonsuz kaydırma (infinite scroll) yapabilir.
      */
     Page<Comment> findByPostIdOrderByCreatedAtDesc(Long postId, Pageable pageable);
+
+    /**
+     * Keyset — gönderinin ilk yorum dilimi (yazarlarıyla birlikte).
+     * SQL: ... WHERE post_id = ? ORDER BY created_at DESC, id DESC LIMIT ?
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPageFirst(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * Keyset — imleçten sonraki dilim. Açık OR formu için bkz.
+     * {@code EventPostRepository.findFeedSliceAfter}.
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query("""
+            SELECT c FROM Comment c
+            WHERE c.post.id = :postId
+              AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Comment> findPageAfter(@Param("postId") Long postId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /** Silme yetkisi kontrolü için yorum + gönderisi. */
+    @EntityGraph(attributePaths = "post")
+    Optional<Comment> findWithPostById(Long id);
+
+    /**
+     * Yorumu siler.
+     *
+     * @return 1 → silindi; 0 → zaten yok (eşzamanlı silme)
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id")
+    int deleteCommentById(@Param("id") Long id);
+
+    /** Gönderilerin tüm yorumları — tek ifade, entity yüklenmez (bkz. PostPurger). */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id IN :postIds")
+    int deleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Gönderilerin gerçek yorum sayıları — tek {@code GROUP BY} sorgusu.
+     * Yorumu olmayan gönderiler sonuçta yer almaz (bkz. CounterReconciler).
+     */
+    @Query("""
+            SELECT c.post.id AS postId, COUNT(c) AS total
+            FROM Comment c
+            WHERE c.post.id IN :postIds
+            GROUP BY c.post.id
+            """)
+    List<PostCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Kullanıcının yorumlarından bir parça (hesap silme) —
+     * {@code idx_comments_user_id} üzerinden.
+     */
+    @Query("SELECT c.id AS id, c.post.id AS postId FROM Comment c WHERE c.user.id = :userId ORDER BY c.id")
+    List<CommentRef> findRefsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    boolean existsByUserId(Long userId);
+
+    /**
+     * Birden fazla gönderi için ilk {@code perPost} yorum — tek round trip.
+     * <p>
+     * Feed sayfasında 20 gönderinin yorum önizlemesi için 20 ayrı sorgu yerine
+     * tek sorgu. {@code LATERAL} alt sorgu her gönderi için index'ten sadece
+     * {@code perPost} satır okur; {@code ROW_NUMBER()} gibi popüler bir
+     * gönderinin tüm yorumlarını numaralandırmaz (PostgreSQL).
+     */
+    @Query(value = """
+            SELECT c.id AS "id", c.post_id AS "postId", c.content AS "content",
+                   c.created_at AS "createdAt", u.id AS "authorId",
+                   u.username AS "authorUsername", u.display_name AS "authorDisplayName"
+            FROM event_posts p
+            CROSS JOIN LATERAL (
+                SELECT * FROM comments c
+                WHERE c.post_id = p.id
+                ORDER BY c.created_at DESC, c.id DESC
+                LIMIT :perPost
+            ) c
+            JOIN users u ON u.id = c.user_id
+            WHERE p.id IN (:postIds)
+            ORDER BY c.post_id, c.created_at DESC, c.id DESC
+            """, nativeQuery = true)
+    List<CommentPreviewRow> findPreviews(@Param("postIds") Collection<Long> postIds,
+            @Param("perPost") int perPost);
+
+    /** {@link #findPreviews} satırı (interface projection). */
+    interface CommentPreviewRow {
+        Long getId();
+
+        Long getPostId();
+
+        String getContent();
+
+        LocalDateTime getCreatedAt();
+
+        Long getAuthorId();
+
+        String getAuthorUsername();
+
+        String getAuthorDisplayName();
+    }
+
+    /** {@link #findRefsByUserId} satırı (interface projection). */
+    interface CommentRef {
+        Long getId();
+
+        Long getPostId();
+    }
 }
@@ -1,11 +1,22 @@
 package com.unievent.repository;
 
 import com.unievent.entity.EventPost;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Etkinlik gönderi repository'si.
  * <p>
@@ -26,20 +37,318 @@ import org.springframework.stereotype.Repository;
  * - totalPages (toplam sayfa sayısı)
  * - number (mevcut sayfa)
  * - hasNext / hasPrevious
+ * <p>
+ * Derin sayfalarda {@code OFFSET} ve her istekteki {@code COUNT(*)} pahalıdır;
+ * sonsuz kaydırma için {@code findFeedSlice*} keyset sorguları kullanılır.
+ * Bu sorgular {@code List} döner → Spring Data COUNT sorgusu çalıştırmaz.
+ * <p>
+ * Neden {@code @EntityGraph(attributePaths = "author")}?
+ * → {@code EventPost.author} LAZY'dir. DTO dönüşümünde her gönderi için
+ * {@code getAuthor().getUsername()} çağrısı ayrı bir {@code SELECT ... FROM users}
+ * tetikler (N+1 problemi: 20 gönderilik sayfa = 21 sorgu). Entity graph ile
+ * yazar aynı sorguda {@code LEFT JOIN} ile gelir → sayfa başına tek round trip.
+ * Entity üzerindeki LAZY tanımı korunur; sadece DTO'ya dönüştürülecek
+ * sorgular yazarı eager çeker.
  */
 @Repository
 public interface EventPostRepository extends JpaRepository<EventPost, Long> {
 
     /**
      * Ana Feed — Tüm gönderiler, en yeniden en eskiye.
-     * SQL: SELECT * FROM event_posts ORDER BY created_at DESC LIMIT ? OFFSET ?
+     * SQL: SELECT * FROM event_posts ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?
+     * <p>
+     * {@code id} eşitlik bozucudur: aynı {@code created_at}'li gönderiler
+     * sayfalar arasında yer değiştirmez ve sıra {@code PostCache}'in silme
+     * kontrolüyle (ve keyset feed'le) aynıdır.
      */
-    Page<EventPost> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    @EntityGraph(attributePaths = "author")
+    Page<EventPost> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
 
     /**
      * Kullanıcı Profili — Belirli bir kullanıcının gönderileri.
      * SQL: SELECT * FROM event_posts WHERE author_id = ? ORDER BY created_at DESC
      * LIMIT ? OFFSET ?
      */
+    @EntityGraph(attributePaths = "author")
     Page<EventPost> findByAuthorIdOrderByCreatedAtDesc(Long authorId, Pageable pageable);
+
+    /**
+     * Keyset Feed — ilk dilim (imleçsiz istek).
+     * SQL: SELECT * FROM event_posts ORDER BY created_at DESC, id DESC LIMIT ?
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT p FROM EventPost p ORDER BY p.createdAt DESC, p.id DESC")
+    List<EventPost> findFeedSliceFirst(Pageable pageable);
+
+    /**
+     * Keyset Feed — imleçten sonraki dilim.
+     * SQL: SELECT * FROM event_posts WHERE (created_at, id) < (?, ?)
+     * ORDER BY created_at DESC, id DESC LIMIT ?
+     * <p>
+     * Tuple karşılaştırması JPQL'de taşınabilir olmadığı için açık OR formu
+     * kullanılır; PostgreSQL bunu {@code (created_at, id)} index'i üzerinde
+     * range scan olarak çalıştırır.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+            SELECT p FROM EventPost p
+            WHERE p.createdAt < :createdAt
+               OR (p.createdAt = :createdAt AND p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<EventPost> findFeedSliceAfter(@Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * Tekil gönderi — yazarı ile birlikte.
+     * SQL: SELECT ... FROM event_posts p LEFT JOIN users a ON ... WHERE p.id = ?
+     */
+    @EntityGraph(attributePaths = "author")
+    Optional<EventPost> findWithAuthorById(Long id);
+
+    /**
+     * Yazarın gönderilerinden bir parça (hesap silme) — yazarıyla birlikte,
+     * çünkü silinen her gönderi için {@code PostDeletedEvent} yayınlanır.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT p FROM EventPost p WHERE p.author.id = :authorId ORDER BY p.id")
+    List<EventPost> findChunkByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    boolean existsByAuthorId(Long authorId);
+
+    /** Gönderiler yazarlarıyla — arama sonuçlarının DTO'ya dönüşümü için tek sorgu. */
+    @EntityGraph(attributePaths = "author")
+    List<EventPost> findWithAuthorByIdIn(Collection<Long> ids);
+
+    /**
+     * Arama index'inin kurulumu — id sırasıyla bir parça, sadece index'lenen
+     * alanlar (yazar join'i yok).
+     */
+    @Query("""
+            SELECT p.id AS id, p.content AS content, p.eventTitle AS eventTitle, p.eventLocation AS eventLocation
+            FROM EventPost p
+            WHERE p.id > :afterId
+            ORDER BY p.id
+            """)
+    List<SearchDocument> findSearchDocumentsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Yaklaşan etkinlikler — {@code (eventDate, id)} sırasıyla, imleçten
+     * sonraki ve {@code before}'dan önceki ilk satırlar. Sadece id ve tarih
+     * okunur → {@code idx_event_posts_event_date_id} üzerinde index-only scan.
+     * <p>
+     * İlk sayfa için imleç {@code (from, 0)} verilir: {@code from} anındaki
+     * etkinlikler dahildir.
+     */
+    @Query("""
+            SELECT p.id AS id, p.eventDate AS eventDate
+            FROM EventPost p
+            WHERE (p.eventDate > :afterDate OR (p.eventDate = :afterDate AND p.id > :afterId))
+              AND p.eventDate < :before
+            ORDER BY p.eventDate, p.id
+            """)
+    List<UpcomingEvent> findUpcomingAfter(@Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") long afterId,
+            @Param("before") LocalDateTime before,
+            Pageable pageable);
+
+    /**
+     * Belirli bir konumdaki yaklaşan etkinlikler — {@link #findUpcomingAfter}
+     * ile aynı sıra ve imleç, {@code idx_event_posts_location_event_date}
+     * üzerinden.
+     */
+    @Query("""
+            SELECT p.id AS id, p.eventDate AS eventDate
+            FROM EventPost p
+            WHERE p.locationKey = :locationKey
+              AND (p.eventDate > :afterDate OR (p.eventDate = :afterDate AND p.id > :afterId))
+              AND p.eventDate < :before
+            ORDER BY p.eventDate, p.id
+            """)
+    List<UpcomingEvent> findUpcomingAtLocationAfter(@Param("locationKey") String locationKey,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") long afterId,
+            @Param("before") LocalDateTime before,
+            Pageable pageable);
+
+    /**
+     * Konum sayımlarının kurulumu — imleçten sonraki, konumu olan yaklaşan
+     * etkinlikler {@code (eventDate, id)} sırasıyla.
+     */
+    @Query("""
+            SELECT p.id AS id, p.eventDate AS eventDate, p.eventLocation AS eventLocation, p.locationKey AS locationKey
+            FROM EventPost p
+            WHERE (p.eventDate > :afterDate OR (p.eventDate = :afterDate AND p.id > :afterId))
+              AND p.locationKey IS NOT NULL AND p.locationKey <> ''
+            ORDER BY p.eventDate, p.id
+            """)
+    List<UpcomingLocation> findUpcomingLocationsAfter(@Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") long afterId,
+            Pageable pageable);
+
+    /**
+     * Konum anahtarı henüz hesaplanmamış gönderiler (V7 öncesi). Her parça
+     * doldurulduktan sonra kümeden çıkar → imleç gerekmez.
+     */
+    @Query("SELECT p.id AS id, p.eventLocation AS eventLocation FROM EventPost p WHERE p.locationKey IS NULL")
+    List<LocationText> findMissingLocationKeys(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE EventPost p SET p.locationKey = :locationKey WHERE p.id = :id")
+    int setLocationKey(@Param("id") Long id, @Param("locationKey") String locationKey);
+
+    /**
+     * Hot sıralamasının kurulumu — {@code createdAt}'i {@code since}'den sonra
+     * olan gönderilerin sayaçları, {@code (createdAt, id)} sırasıyla bir parça.
+     * {@code idx_event_posts_created_at_id} üzerinden okunur; yazar join'i yok.
+     */
+    @Query("""
+            SELECT p.id AS id, p.createdAt AS createdAt, p.likeCount AS likeCount, p.commentCount AS commentCount
+            FROM EventPost p
+            WHERE p.createdAt > :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.id > :afterId)
+            ORDER BY p.createdAt, p.id
+            """)
+    List<EngagementSnapshot> findEngagementAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") long afterId,
+            Pageable pageable);
+
+    /**
+     * Beğeni sayacını atomik olarak günceller.
+     * <p>
+     * Neden {@code post.setLikeCount(post.getLikeCount() + 1)} değil?
+     * → Oku-değiştir-yaz: iki eşzamanlı beğeni aynı değeri okur, biri kaybolur.
+     * {@code like_count = like_count + :delta} satır kilidi altında DB'de
+     * hesaplanır; güncelleme kaybolmaz.
+     */
+    @Modifying
+    @Query("UPDATE EventPost p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+    int adjustLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * Yorum sayacını atomik olarak günceller (bkz. {@link #adjustLikeCount}).
+     * Yorum ekleme/silme ile aynı transaction'da çalışır.
+     *
+     * @return 0 → gönderi yok
+     */
+    @Modifying
+    @Query("UPDATE EventPost p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // ── Sayaç mutabakatı (bkz. CounterReconciler) ─────────────────
+
+    /**
+     * Keyset — {@code afterId}'den büyük ilk gönderi id'leri. Sadece birincil
+     * anahtar index'i okunur.
+     */
+    @Query("SELECT p.id FROM EventPost p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT MAX(p.id) FROM EventPost p")
+    Optional<Long> findMaxId();
+
+    /** Gönderilerde saklı sayaç değerleri. */
+    @Query("SELECT p.id AS id, p.likeCount AS likeCount, p.commentCount AS commentCount FROM EventPost p WHERE p.id IN :ids")
+    List<StoredCounters> findCounters(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Beğeni sayacını düzeltir — yalnızca değer hâlâ {@code expected} ise
+     * (compare-and-set). Arada sayaç değiştiyse satıra dokunulmaz.
+     *
+     * @return 1 → düzeltildi; 0 → sayaç eşzamanlı değişti
+     */
+    @Modifying
+    @Query("UPDATE EventPost p SET p.likeCount = :actual WHERE p.id = :id AND p.likeCount = :expected")
+    int repairLikeCount(@Param("id") Long id, @Param("expected") int expected, @Param("actual") int actual);
+
+    /** Yorum sayacı için {@link #repairLikeCount}. */
+    @Modifying
+    @Query("UPDATE EventPost p SET p.commentCount = :actual WHERE p.id = :id AND p.commentCount = :expected")
+    int repairCommentCount(@Param("id") Long id, @Param("expected") int expected, @Param("actual") int actual);
+
+    /**
+     * Gönderileri siler. Önce beğeni ve yorumları silinmiş olmalıdır
+     * (bkz. PostPurger).
+     */
+    @Modifying
+    @Query("DELETE FROM EventPost p WHERE p.id IN :postIds")
+    int deleteByIds(@Param("postIds") Collection<Long> postIds);
+
+    /** Gönderilerin yazarları — yazar başına sayaç güncellemesi için. */
+    @Query("SELECT p.id AS id, p.author.id AS authorId, p.likeCount AS likeCount FROM EventPost p WHERE p.id IN :ids")
+    List<AuthorCounters> findAuthorCounters(@Param("ids") Collection<Long> ids);
+
+    /**
+     * {@link #findAuthorCounters}, satırlar id sırasıyla kilitlenerek
+     * ({@code FOR UPDATE}) — silinmeden önce okunan {@code like_count}
+     * silmeye kadar değişmez (bkz. PostPurger).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id AS id, p.author.id AS authorId, p.likeCount AS likeCount FROM EventPost p WHERE p.id IN :ids ORDER BY p.id")
+    List<AuthorCounters> lockAuthorCounters(@Param("ids") Collection<Long> ids);
+
+    /** {@link #findCounters} satırı (interface projection). */
+    interface StoredCounters {
+        Long getId();
+
+        int getLikeCount();
+
+        int getCommentCount();
+    }
+
+    /** {@link #findAuthorCounters} satırı (interface projection). */
+    interface AuthorCounters {
+        Long getId();
+
+        Long getAuthorId();
+
+        int getLikeCount();
+    }
+
+    /** {@link #findUpcomingAfter} satırı (interface projection). */
+    interface UpcomingEvent {
+        Long getId();
+
+        LocalDateTime getEventDate();
+    }
+
+    /** {@link #findUpcomingLocationsAfter} satırı (interface projection). */
+    interface UpcomingLocation {
+        Long getId();
+
+        LocalDateTime getEventDate();
+
+        String getEventLocation();
+
+        String getLocationKey();
+    }
+
+    /** {@link #findMissingLocationKeys} satırı (interface projection). */
+    interface LocationText {
+        Long getId();
+
+        String getEventLocation();
+    }
+
+    /** {@link #findEngagementAfter} satırı (interface projection). */
+    interface EngagementSnapshot {
+        Long getId();
+
+        LocalDateTime getCreatedAt();
+
+        int getLikeCount();
+
+        int getCommentCount();
+    }
+
+    /** {@link #findSearchDocumentsAfter} satırı (interface projection). */
+    interface SearchDocument {
+        Long getId();
+
+        String getContent();
+
+        String getEventTitle();
+
+        String getEventLocation();
+    }
 }
@@ -2,8 +2,13 @@ package com.unievent.repository;
 
 import com.unievent.entity.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,6 +19,11 @@ import java.util.Optional;
  * mi?
  * 2. Evet → {@code deleteByUserIdAndPostId()} ile unlike yap
  * 3. Hayır → yeni Like entity'si kaydet
+ * <p>
+ * API ({@code PUT/DELETE /api/posts/{id}/like}) bu toggle'ı kullanmaz:
+ * "kontrol et → yaz" iki eşzamanlı istekte ikisinin de "yok" görmesine açıktır.
+ * Bunun yerine {@link #insertIfAbsent} ve {@link #deleteByUserAndPost} tek
+ * ifadede çalışır; tekrarları {@code uk_likes_user_post} constraint'i eler.
  */
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
@@ -26,7 +36,102 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     /**
      * Belirli bir postun toplam beğeni sayısı (gerektiğinde denormalize sayacı
-     * doğrulamak için).
+     * doğrulamak için). Toplu doğrulama için {@link #countByPostIds}.
      */
     long countByPostId(Long postId);
+
+    /**
+     * Beğeni ekler; zaten varsa hiçbir şey yapmaz (idempotent).
+     * <p>
+     * {@code id} çağıran tarafından entity'nin kendi generator'ından alınır
+     * ({@code likes_seq}, pooled, allocationSize 50) — tabloda tek id tahsis
+     * şeması olur. Burada {@code nextval} çağırmak her beğenide 50'lik bir
+     * bloğu tüketirdi.
+     * <p>
+     * {@code INSERT ... SELECT ... FROM event_posts} gönderi yoksa satır
+     * üretmez → varlık kontrolü ayrı sorgu gerektirmez.
+     * {@code ON CONFLICT ON CONSTRAINT uk_likes_user_post DO NOTHING} eşzamanlı
+     * çift tıklamayı hata fırlatmadan eler (PostgreSQL).
+     *
+     * @return 1 → beğeni eklendi; 0 → zaten beğenilmiş veya gönderi yok
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO likes (id, user_id, post_id, created_at)
+            SELECT :id, :userId, p.id, CURRENT_TIMESTAMP
+            FROM event_posts p
+            WHERE p.id = :postId
+            ON CONFLICT ON CONSTRAINT uk_likes_user_post DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id, @Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * Beğeniyi kaldırır (idempotent).
+     *
+     * @return 1 → beğeni kaldırıldı; 0 → zaten beğenilmemiş
+     */
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE user_id = :userId AND post_id = :postId", nativeQuery = true)
+    int deleteByUserAndPost(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /** Gönderilerin tüm beğenileri — tek ifade, entity yüklenmez (bkz. PostPurger). */
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Gönderilerin gerçek beğeni sayıları — tek {@code GROUP BY} sorgusu,
+     * {@code idx_likes_post_id} üzerinden. Beğenisi olmayan gönderiler
+     * sonuçta yer almaz (bkz. CounterReconciler).
+     */
+    @Query(value = """
+            SELECT l.post_id AS "postId", COUNT(*) AS "total"
+            FROM likes l
+            WHERE l.post_id IN (:postIds)
+            GROUP BY l.post_id
+            """, nativeQuery = true)
+    List<PostCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Kullanıcının verilen gönderilerden beğendikleri — feed sayfası başına
+     * tek {@code IN} sorgusu, {@code uk_likes_user_post} üzerinden.
+     */
+    @Query(value = "SELECT l.post_id FROM likes l WHERE l.user_id = :userId AND l.post_id IN (:postIds)",
+            nativeQuery = true)
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Kullanıcının beğendiği gönderiler, en fazla {@code limit} tane
+     * (izleyici beğeni filtresinin kurulumu). {@code uk_likes_user_post}
+     * üzerinden index-only okunur.
+     */
+    @Query(value = "SELECT l.post_id FROM likes l WHERE l.user_id = :userId LIMIT :limit", nativeQuery = true)
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * Kullanıcının beğenilerinden bir parça (hesap silme). Sadece id ve
+     * gönderi id'si okunur; {@code uk_likes_user_post} index'i
+     * {@code user_id} ile başladığı için tablo taranmaz.
+     */
+    @Query(value = """
+            SELECT l.id AS "id", l.post_id AS "postId"
+            FROM likes l
+            WHERE l.user_id = :userId
+            ORDER BY l.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<LikeRef> findRefsByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    boolean existsByUserId(Long userId);
+
+    /** {@link #findRefsByUserId} satırı (interface projection). */
+    interface LikeRef {
+        Long getId();
+
+        Long getPostId();
+    }
 }
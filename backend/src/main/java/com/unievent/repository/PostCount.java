@@ -0,0 +1,12 @@
+package com.unievent.repository;
+
+/**
+ * Gönderi başına satır sayısı — {@code GROUP BY post_id} sorgularının
+ * satırı (interface projection).
+ */
+public interface PostCount {
+
+    Long getPostId();
+
+    long getTotal();
+}
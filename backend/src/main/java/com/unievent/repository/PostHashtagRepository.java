@@ -0,0 +1,89 @@
+package com.unievent.repository;
+
+import com.unievent.entity.PostHashtag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Hashtag repository'si.
+ * <p>
+ * Etiketli gönderi sorguları sadece {@code post_hashtags}'i okur ve
+ * {@code (postId, createdAt)} döner; gönderilerin kendisi sonuç sayfası kadar
+ * cache/tek sorgu ile doldurulur (bkz. {@code PostService.getPostsByTag}).
+ */
+@Repository
+public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long> {
+
+    /**
+     * Etiketli gönderiler — ilk dilim.
+     * SQL: SELECT post_id, created_at FROM post_hashtags WHERE tag = ?
+     * ORDER BY created_at DESC, post_id DESC LIMIT ?
+     */
+    @Query("""
+            SELECT h.post.id AS postId, h.createdAt AS createdAt
+            FROM PostHashtag h
+            WHERE h.tag = :tag
+            ORDER BY h.createdAt DESC, h.post.id DESC
+            """)
+    List<TaggedPost> findSliceFirst(@Param("tag") String tag, Pageable pageable);
+
+    /**
+     * Etiketli gönderiler — imleçten sonraki dilim (bkz.
+     * {@code EventPostRepository.findFeedSliceAfter}).
+     */
+    @Query("""
+            SELECT h.post.id AS postId, h.createdAt AS createdAt
+            FROM PostHashtag h
+            WHERE h.tag = :tag
+              AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.post.id < :postId))
+            ORDER BY h.createdAt DESC, h.post.id DESC
+            """)
+    List<TaggedPost> findSliceAfter(@Param("tag") String tag,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("postId") Long postId,
+            Pageable pageable);
+
+    /**
+     * Trend sayaçlarının kurulumu — {@code (createdAt, id)} sırasıyla,
+     * imleçten sonraki bir parça. {@code idx_post_hashtags_created_at_id}
+     * üzerinden okunur.
+     */
+    @Query("""
+            SELECT h.id AS id, h.tag AS tag, h.createdAt AS createdAt
+            FROM PostHashtag h
+            WHERE h.createdAt > :afterCreatedAt OR (h.createdAt = :afterCreatedAt AND h.id > :afterId)
+            ORDER BY h.createdAt, h.id
+            """)
+    List<TagUse> findUsesAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") long afterId,
+            Pageable pageable);
+
+    /** Gönderilerin tüm etiketleri — tek ifade, entity yüklenmez (bkz. PostPurger). */
+    @Modifying
+    @Query(value = "DELETE FROM post_hashtags WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /** {@link #findSliceFirst}/{@link #findSliceAfter} satırı (interface projection). */
+    interface TaggedPost {
+        Long getPostId();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    /** {@link #findUsesAfter} satırı (interface projection). */
+    interface TagUse {
+        Long getId();
+
+        String getTag();
+
+        LocalDateTime getCreatedAt();
+    }
+}
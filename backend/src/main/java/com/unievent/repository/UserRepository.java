@@ -2,8 +2,13 @@ package com.unievent.repository;
 
 import com.unievent.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,4 +32,51 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     /** Kayıt sırasında e-posta benzersizlik kontrolü. */
     boolean existsByEmail(String email);
+
+    /**
+     * Verilen kullanıcı adlarından DB'de zaten var olanlar — toplu içe
+     * aktarmada satır başına {@code existsByUsername} yerine tek sorgu.
+     */
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /** Verilen e-postalardan DB'de zaten var olanlar. */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Verilen id'lerden aktif (silinmesi istenmemiş) kullanıcılar — toplu
+     * profil getirmede tek {@code IN} sorgusu.
+     */
+    @Query("SELECT u FROM User u WHERE u.id IN :ids AND u.deletedAt IS NULL")
+    List<User> findActiveByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Gönderi sayacını atomik olarak günceller (bkz.
+     * {@code EventPostRepository#adjustLikeCount}).
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.postCount = u.postCount + :delta WHERE u.id = :id")
+    int adjustPostCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Gönderileri silinen yazarın sayaçları — silinen gönderi sayısı ve
+     * onların beğeni toplamı kadar düşer (bkz. PostPurger).
+     */
+    @Modifying
+    @Query("""
+            UPDATE User u
+            SET u.postCount = u.postCount - :posts, u.likesReceived = u.likesReceived - :likes
+            WHERE u.id = :id
+            """)
+    int subtractPurgedPosts(@Param("id") Long id, @Param("posts") int posts, @Param("likes") long likes);
+
+    /**
+     * Kullanıcı satırını siler — entity yüklenmez, koleksiyonlara bakılmaz.
+     * Önce gönderi, beğeni ve yorumları silinmiş olmalıdır (bkz.
+     * AccountDeletionWorker).
+     */
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :id")
+    int deleteUserById(@Param("id") Long id);
 }
@@ -0,0 +1,541 @@
+package com.unievent.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Süreç içi ters index (inverted index): terim → o terimi içeren dokümanlar.
+ * <p>
+ * Yapı:
+ * <ul>
+ * <li>Terim sözlüğü sıralı bir {@link TreeMap} — önek sorgusu
+ * ({@code "konf"} → {@code konferans, konferansı, ...}) bir
+ * {@code subMap} aralığıdır, sözlük taranmaz.</li>
+ * <li>Her terimin doküman listesi (posting list) id'ye göre sıralı ilkel
+ * {@code long[]}/{@code float[]} dizileridir — kutulanmış {@code Long}
+ * yok. Yeni gönderilerin id'si en büyük olduğundan ekleme çoğunlukla dizinin
+ * sonuna yazmaktır.</li>
+ * </ul>
+ * Sorgu: tüm terimler eşleşmelidir (AND). En az dokümanlı terimin listesi aday
+ * kümesidir; diğer terimler adaylar üzerinde ikili arama (veya benzer
+ * boydaysa sıralı yürüme) ile kontrol edilir → maliyet en seyrek terimle
+ * orantılıdır, en sık terimle değil. Geniş önekler ({@code "kon"}) id
+ * aralığı boyunca yoğun bir skor dizisinde birleştirilir; en iyi sonuçlar
+ * tüm adaylar sıralanmadan küçük bir heap ile seçilir.
+ * <p>
+ * Skor: terim başına {@code ağırlık × idf}, terimler arası toplam. Ağırlık
+ * terimin geçtiği alanlardan gelir (bkz. {@code PostSearchIndex}); idf nadir
+ * terimleri öne çıkarır. Önek eşleşmesi tam eşleşmenin yarısı kadar sayılır.
+ * Eşit skorda yeni gönderi (büyük id) önce gelir.
+ * <p>
+ * Eşzamanlılık: okuma/yazma kilidi — aramalar birbirini beklemez, ekleme ve
+ * silme kısa bir yazma kilidi alır.
+ */
+public final class InvertedIndex {
+
+    /** Önek başına en fazla bu kadar terim genişletilir (en yaygın olanlar). */
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final float PREFIX_FACTOR = 0.5f;
+
+    /**
+     * Önek birleşimi için yoğun skor dizisi, id aralığı doküman sayısının en
+     * fazla bu katıysa kullanılır (sequence id'leri neredeyse ardışıktır).
+     */
+    private static final int DENSE_RANGE_FACTOR = 4;
+
+    /** Sonuç: istenen sayfa ve toplam eşleşme sayısı. */
+    public record Result(List<Hit> hits, int total) {
+    }
+
+    public record Hit(long docId, float score) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private int documents;
+    /** Eklenen en küçük/büyük id — silmede daraltılmaz (aralık yalnızca üst sınırdır). */
+    private long minId = Long.MAX_VALUE;
+    private long maxId = Long.MIN_VALUE;
+
+    /**
+     * Dokümanı ekler; zaten varsa ağırlıkları güncellenir (idempotent).
+     *
+     * @param termWeights terim → ağırlık
+     */
+    public void add(long docId, Map<String, Float> termWeights) {
+        if (termWeights.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            boolean existed = false;
+            for (Map.Entry<String, Float> entry : termWeights.entrySet()) {
+                existed |= !terms.computeIfAbsent(entry.getKey(), term -> new Postings())
+                        .put(docId, entry.getValue());
+            }
+            if (!existed) {
+                documents++;
+            }
+            minId = Math.min(minId, docId);
+            maxId = Math.max(maxId, docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Dokümanı siler.
+     *
+     * @param docTerms Dokümanın terimleri (eklenirken kullanılanlar)
+     */
+    public void remove(long docId, Collection<String> docTerms) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = false;
+            for (String term : docTerms) {
+                Postings postings = terms.get(term);
+                if (postings != null && postings.remove(docId)) {
+                    removed = true;
+                    if (postings.size == 0) {
+                        terms.remove(term);
+                    }
+                }
+            }
+            if (removed) {
+                documents--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sorgu terimlerinin hepsini içeren dokümanlar, skora göre sıralı.
+     * Her terim hem tam hem önek olarak eşleşir.
+     *
+     * @param queryTerms {@link TurkishAnalyzer#tokenize} çıktısı
+     * @param offset     Atlanacak sonuç sayısı
+     * @param limit      Dönülecek en fazla sonuç
+     */
+    public Result search(List<String> queryTerms, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<TermMatch> matches = new ArrayList<>();
+            for (String term : new LinkedHashSet<>(queryTerms)) {
+                TermMatch match = expand(term);
+                if (match.postings.length == 0) {
+                    return new Result(List.of(), 0); // AND — bir terim hiç yoksa sonuç yok
+                }
+                matches.add(match);
+            }
+            if (matches.isEmpty()) {
+                return new Result(List.of(), 0);
+            }
+
+            matches.sort(Comparator.comparingLong(TermMatch::estimatedSize));
+            Candidates candidates = matches.get(0).collect(minId, denseRange());
+            for (int i = 1; i < matches.size() && candidates.size > 0; i++) {
+                candidates.retain(matches.get(i));
+            }
+            return candidates.top(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Tüm posting dizilerini doluluk oranına kırpar (toplu yüklemeden sonra). */
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            terms.values().forEach(Postings::trim);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ── Sorgu yardımcıları (okuma kilidi altında) ───────────────
+
+    private TermMatch expand(String term) {
+        List<Postings> lists = new ArrayList<>();
+        List<Float> factors = new ArrayList<>();
+
+        Postings exact = terms.get(term);
+        if (exact != null) {
+            lists.add(exact);
+            factors.add(idf(exact));
+        }
+
+        NavigableMap<String, Postings> prefixed = terms.subMap(term, false, term + Character.MAX_VALUE, false);
+        List<Postings> expansions = new ArrayList<>(prefixed.values());
+        if (expansions.size() > MAX_PREFIX_EXPANSIONS) {
+            expansions.sort(Comparator.comparingInt((Postings p) -> p.size).reversed());
+            expansions = expansions.subList(0, MAX_PREFIX_EXPANSIONS);
+        }
+        for (Postings postings : expansions) {
+            lists.add(postings);
+            factors.add(idf(postings) * PREFIX_FACTOR);
+        }
+
+        float[] factorArray = new float[factors.size()];
+        for (int i = 0; i < factorArray.length; i++) {
+            factorArray[i] = factors.get(i);
+        }
+        return new TermMatch(lists.toArray(new Postings[0]), factorArray);
+    }
+
+    /** Yoğun skor dizisinin boyu; id'ler çok seyrekse -1. */
+    private int denseRange() {
+        long range = maxId - minId + 1;
+        return range <= (long) DENSE_RANGE_FACTOR * documents && range < Integer.MAX_VALUE - 8 ? (int) range : -1;
+    }
+
+    private float idf(Postings postings) {
+        return (float) Math.log(1.0 + (double) documents / postings.size);
+    }
+
+    /** Bir sorgu teriminin eşleştiği posting listeleri (tam + önek). */
+    private record TermMatch(Postings[] postings, float[] factors) {
+
+        long estimatedSize() {
+            long size = 0;
+            for (Postings p : postings) {
+                size += p.size;
+            }
+            return size;
+        }
+
+        /**
+         * Dokümanın bu terimdeki skoru (genişlemeler arası en yüksek); yoksa 0.
+         * {@code walk} listelerde artan id'lerle çağrılmalıdır — imleç ileri
+         * kayar, geri dönmez.
+         */
+        float scoreOf(long docId, int[] cursor, boolean[] walk) {
+            float best = 0;
+            for (int list = 0; list < postings.length; list++) {
+                Postings p = postings[list];
+                float weight;
+                if (walk[list]) {
+                    int c = cursor[list];
+                    while (c < p.size && p.ids[c] < docId) {
+                        c++;
+                    }
+                    cursor[list] = c;
+                    weight = c < p.size && p.ids[c] == docId ? p.weights[c] : 0;
+                } else {
+                    weight = p.weightOf(docId);
+                }
+                if (weight > 0) {
+                    best = Math.max(best, weight * factors[list]);
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Listelerin birleşimi → aday kümesi (id sıralı). Tek liste kopyalanır;
+         * büyük önek genişlemeleri yoğun skor dizisinde, diğerleri k-yollu
+         * birleştirme ile toplanır.
+         *
+         * @param range Yoğun dizi boyu ({@code minId}'den itibaren) veya -1
+         */
+        Candidates collect(long minId, int range) {
+            if (postings.length == 1) {
+                Postings only = postings[0];
+                Candidates candidates = new Candidates(only.size);
+                for (int i = 0; i < only.size; i++) {
+                    candidates.ids[i] = only.ids[i];
+                    candidates.scores[i] = only.weights[i] * factors[0];
+                }
+                candidates.size = only.size;
+                return candidates;
+            }
+
+            long total = estimatedSize();
+            if (range > 0 && total >= range / 16) {
+                return collectDense(minId, range, total);
+            }
+
+            Candidates candidates = new Candidates((int) Math.min(Integer.MAX_VALUE - 8, total));
+            int[] cursor = new int[postings.length];
+            // Min-heap: listeler, sıradaki id'lerine göre (ilkel — kutulama yok)
+            int[] heap = new int[postings.length];
+            int heapSize = 0;
+            for (int list = 0; list < postings.length; list++) {
+                if (postings[list].size > 0) {
+                    heap[heapSize++] = list;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, i, cursor);
+            }
+            while (heapSize > 0) {
+                int list = heap[0];
+                long id = postings[list].ids[cursor[list]];
+                float score = postings[list].weights[cursor[list]] * factors[list];
+
+                int last = candidates.size - 1;
+                if (last >= 0 && candidates.ids[last] == id) {
+                    candidates.scores[last] = Math.max(candidates.scores[last], score);
+                } else {
+                    candidates.ids[candidates.size] = id;
+                    candidates.scores[candidates.size] = score;
+                    candidates.size++;
+                }
+                if (++cursor[list] == postings[list].size) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, cursor);
+            }
+            return candidates;
+        }
+
+        /** Her listeyi sırayla tarar, id başına en yüksek skoru tutar — heap yok. */
+        private Candidates collectDense(long minId, int range, long total) {
+            float[] best = new float[range];
+            for (int list = 0; list < postings.length; list++) {
+                Postings p = postings[list];
+                float factor = factors[list];
+                for (int i = 0; i < p.size; i++) {
+                    int slot = (int) (p.ids[i] - minId);
+                    float score = p.weights[i] * factor;
+                    if (score > best[slot]) {
+                        best[slot] = score;
+                    }
+                }
+            }
+            Candidates candidates = new Candidates((int) Math.min(range, total));
+            for (int slot = 0; slot < range; slot++) {
+                if (best[slot] > 0) {
+                    candidates.ids[candidates.size] = minId + slot;
+                    candidates.scores[candidates.size] = best[slot];
+                    candidates.size++;
+                }
+            }
+            return candidates;
+        }
+
+        private long head(int list, int[] cursor) {
+            return postings[list].ids[cursor[list]];
+        }
+
+        private void siftDown(int[] heap, int heapSize, int i, int[] cursor) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < heapSize && head(heap[left], cursor) < head(heap[smallest], cursor)) {
+                    smallest = left;
+                }
+                if (right < heapSize && head(heap[right], cursor) < head(heap[smallest], cursor)) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                int tmp = heap[i];
+                heap[i] = heap[smallest];
+                heap[smallest] = tmp;
+                i = smallest;
+            }
+        }
+    }
+
+    /** Aday dokümanlar ve birikmiş skorları (ilkel diziler, id sıralı). */
+    private static final class Candidates {
+        final long[] ids;
+        final float[] scores;
+        int size;
+
+        Candidates(int capacity) {
+            this.ids = new long[capacity];
+            this.scores = new float[capacity];
+        }
+
+        /**
+         * Terimi içermeyen adayları eler, içerenlerin skoruna ekler. Liste
+         * adaylara göre çok uzun değilse iki sıralı dizi birlikte yürünür
+         * (ikili arama yerine doğrusal).
+         */
+        void retain(TermMatch match) {
+            int[] cursor = new int[match.postings.length];
+            boolean[] walk = new boolean[match.postings.length];
+            for (int list = 0; list < walk.length; list++) {
+                walk[list] = match.postings[list].size <= (long) size * 16;
+            }
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                float score = match.scoreOf(ids[i], cursor, walk);
+                if (score > 0) {
+                    ids[kept] = ids[i];
+                    scores[kept] = scores[i] + score;
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+
+        /** Skor azalan, eşitlikte id azalan sırada {@code [offset, offset + limit)}. */
+        Result top(int offset, int limit) {
+            int window = offset + limit;
+            if (offset >= size || limit <= 0) {
+                return new Result(List.of(), size);
+            }
+            // Sadece en iyi `window` aday tutulur — tüm adaylar sıralanmaz.
+            // Min-heap (en kötü tepede), ilkel indeksler üzerinde. Adaylar büyük
+            // id'den küçüğe gezilir: eşit skorlu sonrakiler heap'e hiç girmez.
+            int[] best = new int[Math.min(window, size)];
+            int kept = 0;
+            for (int i = size - 1; i >= 0; i--) {
+                if (kept < best.length) {
+                    best[kept] = i;
+                    siftUp(best, kept++);
+                } else if (better(i, best[0])) {
+                    best[0] = i;
+                    siftDown(best, kept, 0);
+                }
+            }
+
+            // Heap'ten en kötüden en iyiye boşalt → ters çevirince en iyiden en kötüye
+            int[] ranked = new int[kept];
+            for (int r = kept - 1; r >= 0; r--) {
+                ranked[r] = best[0];
+                best[0] = best[r];
+                siftDown(best, r, 0);
+            }
+            List<Hit> hits = new ArrayList<>(Math.min(limit, kept));
+            for (int r = offset; r < kept && hits.size() < limit; r++) {
+                hits.add(new Hit(ids[ranked[r]], scores[ranked[r]]));
+            }
+            return new Result(hits, size);
+        }
+
+        /** Skor büyükse; eşitlikte yeni (büyük id) olan daha iyidir. */
+        private boolean better(int a, int b) {
+            int byScore = Float.compare(scores[a], scores[b]);
+            return byScore != 0 ? byScore > 0 : ids[a] > ids[b];
+        }
+
+        private void siftUp(int[] heap, int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!better(heap[parent], heap[i])) {
+                    return;
+                }
+                int tmp = heap[i];
+                heap[i] = heap[parent];
+                heap[parent] = tmp;
+                i = parent;
+            }
+        }
+
+        private void siftDown(int[] heap, int heapSize, int i) {
+            while (true) {
+                int worst = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < heapSize && better(heap[worst], heap[left])) {
+                    worst = left;
+                }
+                if (right < heapSize && better(heap[worst], heap[right])) {
+                    worst = right;
+                }
+                if (worst == i) {
+                    return;
+                }
+                int tmp = heap[i];
+                heap[i] = heap[worst];
+                heap[worst] = tmp;
+                i = worst;
+            }
+        }
+    }
+
+    /** Bir terimin doküman listesi — id'ye göre sıralı. */
+    private static final class Postings {
+        long[] ids = new long[4];
+        float[] weights = new float[4];
+        int size;
+
+        /** @return true → yeni eklendi; false → vardı, ağırlık güncellendi */
+        boolean put(long id, float weight) {
+            if (size == 0 || id > ids[size - 1]) {
+                ensureCapacity();
+                ids[size] = id;
+                weights[size] = weight;
+                size++;
+                return true;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                weights[index] = weight;
+                return false;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            weights[insertAt] = weight;
+            size++;
+            return true;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        float weightOf(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            return index >= 0 ? weights[index] : 0;
+        }
+
+        void trim() {
+            if (ids.length > size) {
+                ids = Arrays.copyOf(ids, Math.max(size, 1));
+                weights = Arrays.copyOf(weights, Math.max(size, 1));
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.unievent.search;
+
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.exception.ServiceBusyException;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.SearchDocument;
+import com.unievent.view.InMemoryView;
+import com.unievent.view.ViewLoadGate;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Gönderi arama index'i — {@link InvertedIndex} + yaşam döngüsü.
+ * <p>
+ * Neden {@code LIKE '%konser%'} değil?
+ * → Baştaki {@code %} B-tree index kullanamaz; her arama {@code event_posts}
+ * tablosunun tamamını tarar. Türkçe karakter katlama ({@code kulüp} ↔
+ * {@code kulup}) ve sıralama (başlıkta geçen önce) da SQL'de ayrıca iş ister.
+ * <p>
+ * Yaşam döngüsü {@link InMemoryView}'dadır. Kurulumda gönderiler id sırasıyla
+ * {@code build-chunk-size}'lık parçalar halinde okunur — tablo tek seferde
+ * belleğe alınmaz, yazar join'i yapılmaz. Index hazır olana kadar arama
+ * 503 + Retry-After döner.
+ * Alan ağırlıkları: başlık 3, konum 2, içerik 1 — "konser" başlıkta geçen
+ * gönderi, içerikte geçenden önce gelir.
+ * <p>
+ * Bellek: gönderi başına ~15 terim × 12 bayt ≈ 200 bayt; 100 bin gönderi
+ * ~20 MB. Metrikler: {@code search.index.documents}, {@code search.index.terms},
+ * {@code search.query} (süre).
+ */
+@Slf4j
+@Component
+public class PostSearchIndex extends InMemoryView {
+
+    static final float TITLE_WEIGHT = 3f;
+    static final float LOCATION_WEIGHT = 2f;
+    static final float CONTENT_WEIGHT = 1f;
+
+    private final EventPostRepository postRepository;
+    private final int buildChunkSize;
+    private final Timer queryTimer;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    /** Yeniden kurulum sırasında canlı olaylar buna da uygulanır. */
+    private InvertedIndex building;
+    /** Kurulum sırasında silinen gönderiler — henüz okunmamış parçada olabilirler. */
+    private final Set<Long> removedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    public PostSearchIndex(EventPostRepository postRepository,
+            @Value("${app.search.build-chunk-size}") int buildChunkSize,
+            MeterRegistry meterRegistry, ViewLoadGate loadGate) {
+        super("search-index", loadGate);
+        this.postRepository = postRepository;
+        this.buildChunkSize = buildChunkSize;
+
+        this.queryTimer = Timer.builder("search.query")
+                .description("Arama index'i sorgu süresi")
+                .register(meterRegistry);
+        Gauge.builder("search.index.documents", this, search -> search.index.documentCount())
+                .register(meterRegistry);
+        Gauge.builder("search.index.terms", this, search -> search.index.termCount())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sorgu terimlerinin hepsini içeren gönderiler, en alakalıdan başlayarak.
+     *
+     * @throws ServiceBusyException Index henüz kurulmadıysa
+     */
+    public InvertedIndex.Result search(List<String> terms, int offset, int limit) {
+        if (!ready) {
+            throw new ServiceBusyException("Arama index'i hazırlanıyor, lütfen tekrar deneyin", 5);
+        }
+        return queryTimer.record(() -> index.search(terms, offset, limit));
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Gönderinin terimleri ve ağırlıkları. Bir terim birden fazla alanda
+     * geçiyorsa ağırlıklar toplanır; aynı alanda tekrar etmesi ağırlığı
+     * artırmaz (anahtar kelime doldurmaya karşı).
+     */
+    public static Map<String, Float> termWeights(String title, String location, String content) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, title, TITLE_WEIGHT);
+        addField(weights, location, LOCATION_WEIGHT);
+        addField(weights, content, CONTENT_WEIGHT);
+        return weights;
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float fieldWeight) {
+        for (String term : new HashSet<>(TurkishAnalyzer.tokenize(text))) {
+            weights.merge(term, fieldWeight, Float::sum);
+        }
+    }
+
+    // ── Canlı güncelleme (commit sonrası) ──────────────────────
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        PostResponse post = event.post();
+        Map<String, Float> weights = termWeights(post.eventTitle(), post.eventLocation(), post.content());
+        apply(target -> target.add(post.id(), weights));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        PostResponse post = event.post();
+        Set<String> terms = termWeights(post.eventTitle(), post.eventLocation(), post.content()).keySet();
+        synchronized (this) {
+            apply(target -> target.remove(post.id(), terms));
+            if (building != null) {
+                removedDuringBuild.add(post.id());
+            }
+        }
+    }
+
+    /** Değişikliği hizmet veren index'e ve (varsa) kurulmakta olana uygular. */
+    private synchronized void apply(Consumer<InvertedIndex> change) {
+        change.accept(index);
+        if (building != null) {
+            change.accept(building);
+        }
+    }
+
+    // ── Kurulum ────────────────────────────────────────────────
+
+    @Override
+    protected void rebuild() {
+        long started = System.nanoTime();
+        InvertedIndex fresh = new InvertedIndex();
+        synchronized (this) {
+            removedDuringBuild.clear();
+            building = fresh;
+        }
+        long afterId = 0;
+        List<SearchDocument> chunk;
+        do {
+            chunk = postRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, buildChunkSize));
+            Map<Long, Map<String, Float>> docs = new LinkedHashMap<>();
+            for (SearchDocument doc : chunk) {
+                docs.put(doc.getId(), termWeights(doc.getEventTitle(), doc.getEventLocation(), doc.getContent()));
+            }
+            // Kontrol ve ekleme silme olayıyla aynı kilitte: parça okunduktan
+            // sonra commit edilen silme, gönderiyi geri getiremez
+            synchronized (this) {
+                docs.forEach((id, weights) -> {
+                    if (!removedDuringBuild.contains(id)) {
+                        fresh.add(id, weights);
+                    }
+                });
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == buildChunkSize);
+        fresh.trimToSize();
+
+        synchronized (this) {
+            index = fresh;
+            building = null;
+            removedDuringBuild.clear();
+        }
+        ready = true;
+        log.info("Arama index'i kuruldu: {} gönderi, {} terim, {} ms", fresh.documentCount(),
+                fresh.termCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Override
+    protected synchronized void abortRebuild() {
+        building = null;
+    }
+}
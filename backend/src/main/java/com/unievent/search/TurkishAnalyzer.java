@@ -0,0 +1,99 @@
+package com.unievent.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Arama metnini terimlere ayırır — Türkçe'ye duyarlı normalizasyon.
+ * <p>
+ * Neden {@code String.toLowerCase()} değil?
+ * → {@code Locale.ROOT} ile "İSTANBUL" → "i̇stanbul" (i + birleşik nokta
+ * U+0307) olur ve "istanbul" ile eşleşmez; {@code "I"} → {@code "i"} olur ama
+ * Türkçe'de doğrusu {@code "ı"}'dır. Burada büyük/küçük harf ve Türkçe
+ * karakterler tek geçişte katlanır:
+ *
+ * <pre>
+ * I, İ, ı → i    Ç, ç → c    Ğ, ğ → g    Ö, ö → o    Ş, ş → s    Ü, ü → u
+ * </pre>
+ *
+ * Böylece "Kulüp", "KULÜP" ve "kulup" aynı terimdir — Türkçe klavyesi
+ * olmayan kullanıcılar da bulur. Harf/rakam olmayan her karakter ayraçtır.
+ * Tek karakterli terimler ve çok sık geçen bağlaçlar ({@code ve}, {@code ile},
+ * ...) index'lenmez.
+ */
+public final class TurkishAnalyzer {
+
+    /** Bu uzunluktan kısa terimler index'lenmez ve aranmaz. */
+    public static final int MIN_TERM_LENGTH = 2;
+
+    /** Daha uzun terimler kesilir — anlamsız uzun dizilerin index'i şişirmesini önler. */
+    static final int MAX_TERM_LENGTH = 32;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "ve", "ile", "bir", "bu", "da", "de", "ki", "mi", "icin", "ya", "veya");
+
+    private TurkishAnalyzer() {
+    }
+
+    /**
+     * Metnin normalize edilmiş terimleri, metindeki sırasıyla (tekrarlar
+     * dahil). {@code null} → boş liste.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (c == 0) {
+                continue; // Birleşik işaret (ör. U+0307) — yok say
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (term.length() < MAX_TERM_LENGTH) {
+                    term.append(c);
+                }
+            } else {
+                emit(term, tokens);
+            }
+        }
+        emit(term, tokens);
+        return tokens;
+    }
+
+    private static void emit(StringBuilder term, List<String> tokens) {
+        if (term.length() >= MIN_TERM_LENGTH) {
+            String token = term.toString();
+            if (!STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        term.setLength(0);
+    }
+
+    /** Tek karakteri katlar; birleşik işaretler için 0. Hashtag'ler de aynı katlamayı kullanır. */
+    public static char fold(char c) {
+        switch (c) {
+            case 'I', 'İ', 'ı', 'î', 'Î':
+                return 'i';
+            case 'Ç', 'ç':
+                return 'c';
+            case 'Ğ', 'ğ':
+                return 'g';
+            case 'Ö', 'ö':
+                return 'o';
+            case 'Ş', 'ş':
+                return 's';
+            case 'Ü', 'ü', 'û', 'Û':
+                return 'u';
+            case 'â', 'Â':
+                return 'a';
+            case '\u0307':
+                return 0;
+            default:
+                return Character.toLowerCase(c);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.unievent.security;
+
+import com.unievent.entity.Role;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SecurityContext'teki authenticated kullanıcı — JWT claim'lerinden kurulur.
+ * <p>
+ * Neden Spring'in {@code User} sınıfı değil?
+ * → O sınıf şifre hash'i bekler ve kullanıcı id'si taşımaz. Token zaten
+ * imzalı olduğundan her istekte DB'den kullanıcı yüklemeye gerek yoktur;
+ * id ve rol token'dan gelir. Controller'lar
+ * {@code @AuthenticationPrincipal AuthenticatedUser} ile id'ye doğrudan
+ * erişir — {@code findByUsername} sorgusu gerekmez.
+ * <p>
+ * {@link UserDetails} implement edildiği için mevcut
+ * {@code @AuthenticationPrincipal UserDetails} kullanımları aynen çalışır.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final Role role;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String username, Role role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /** Token tabanlı kimlikte şifre tutulmaz. */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
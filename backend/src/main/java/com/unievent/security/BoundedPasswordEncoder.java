@@ -0,0 +1,171 @@
+package com.unievent.security;
+
+import com.unievent.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt işlemlerini sınırlı, ayrı bir thread havuzunda çalıştıran
+ * {@link PasswordEncoder}.
+ * <p>
+ * Problem:
+ * → BCrypt bilinçli olarak yavaştır (cost 10 ≈ 50–100 ms CPU). Dönem
+ * başında yüzlerce eşzamanlı login/register Tomcat worker thread'lerinin
+ * tamamını hash hesaplamaya bağlar; feed okumaları thread bulamaz.
+ * <p>
+ * Çözüm:
+ * <ul>
+ * <li>Hash işlemleri {@code concurrency} thread'lik sabit havuzda çalışır →
+ * auth en fazla bu kadar CPU çekirdeği tüketir.</li>
+ * <li>Bekleme kuyruğu {@code queue-capacity} ile sınırlıdır. Kuyruk doluysa
+ * istek beklemez: {@link ServiceBusyException} → 503 + Retry-After.
+ * Böylece hash bekleyen Tomcat thread sayısı en fazla
+ * {@code concurrency + queue-capacity} olur; kalan thread'ler okumalara
+ * hizmet eder.</li>
+ * <li>{@code timeout} aşılırsa da aynı şekilde 503 döner.</li>
+ * </ul>
+ * Login ({@code DaoAuthenticationProvider → matches}) ve register
+ * ({@code encode}) bu bean'i {@link PasswordEncoder} olarak kullandığından
+ * değişiklik şeffaftır.
+ * <p>
+ * Metrikler: {@code auth.password.hash} (operation=encode|matches, süre),
+ * {@code auth.password.queue.depth}, {@code auth.password.active},
+ * {@code auth.password.rejected}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+            int concurrency,
+            int queueCapacity,
+            Duration timeout,
+            long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .description("BCrypt hesaplama süresi")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .description("BCrypt hesaplama süresi")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Havuz doygun olduğu için reddedilen hash istekleri")
+                .register(meterRegistry);
+
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hash havuzunda bekleyen istek sayısı")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Şu an hash hesaplayan thread sayısı")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return runBounded(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return runBounded(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Havuzu atlayan asıl encoder — kendi paralellik sınırını yöneten toplu
+     * işler için.
+     */
+    public PasswordEncoder getDelegate() {
+        return delegate;
+    }
+
+    /** {@code @Bean} olarak tanımlandığında Spring kapanışta otomatik çağırır. */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T runBounded(Supplier<T> task, Timer timer) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException(
+                    "Sunucu şu an yoğun, lütfen biraz sonra tekrar deneyin", retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceBusyException(
+                    "Sunucu şu an yoğun, lütfen biraz sonra tekrar deneyin", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Şifre doğrulaması kesildi", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
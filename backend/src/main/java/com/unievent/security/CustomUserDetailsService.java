@@ -30,7 +30,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // Silinmesi istenen hesap artık yok sayılır — giriş "kullanıcı bulunamadı" ile reddedilir
         User user = userRepository.findByUsername(username)
+                .filter(existing -> !existing.isDeleted())
                 .orElseThrow(() -> new UsernameNotFoundException(
                         "Kullanıcı bulunamadı: " + username));
 
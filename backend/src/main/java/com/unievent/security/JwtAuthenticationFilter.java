@@ -1,5 +1,6 @@
 package com.unievent.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,8 +8,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,10 +20,13 @@ import java.io.IOException;
  * <p>
  * İşleyiş sırası:
  * 1. Request header'dan "Authorization: Bearer xxx" token'ını çıkar
- * 2. Token geçerli mi kontrol et (imza + süre)
- * 3. Geçerliyse → kullanıcıyı SecurityContext'e set et
+ * 2. Token geçerli mi kontrol et (imza + süre) — tek parse, claim'ler döner
+ * 3. Geçerliyse → claim'lerden principal kur ve SecurityContext'e set et
  * 4. Geçersizse → filtre zincirinin devamına bırak (anonymous erişim)
  * <p>
+ * Principal, token'daki {@code uid}/{@code role} claim'lerinden kurulur —
+ * istek başına {@code users} sorgusu yapılmaz (bkz. {@link PrincipalResolver}).
+ * <p>
  * {@code OncePerRequestFilter} extends ediyoruz çünkü:
  * → Spring Security'de bazı senaryolarda filter birden fazla çağrılabilir.
  * Bu base class her request için yalnızca 1 kez çalışmasını garanti eder.
@@ -34,7 +36,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalResolver principalResolver;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -43,19 +45,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractTokenFromHeader(request);
 
-        if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-            String username = jwtProvider.getUsernameFromToken(token);
+        Claims claims = StringUtils.hasText(token) ? jwtProvider.verify(token) : null;
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (claims != null) {
+            AuthenticatedUser principal = principalResolver.resolve(claims);
 
-            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities());
-            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            if (principal != null) {
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        principal,
+                        null,
+                        principal.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-            // SecurityContext'e authenticated user'ı set et
-            SecurityContextHolder.getContext().setAuthentication(authToken);
+                // SecurityContext'e authenticated user'ı set et
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -1,15 +1,20 @@
 package com.unievent.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.unievent.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT token üretme ve doğrulama yardımcı sınıfı.
@@ -26,43 +31,77 @@ import java.util.Date;
  * <pre>
  * Token yapısı:
  * Header:  {"alg": "HS256", "typ": "JWT"}
- * Payload: {"sub": "burak_dev", "iat": 1700000000, "exp": 1700086400}
+ * Payload: {"sub": "burak_dev", "uid": 1, "role": "STUDENT",
+ *           "iat": 1700000000, "exp": 1700086400}
  * </pre>
+ * <p>
+ * {@code uid} ve {@code role} claim'leri sayesinde filtre, imzası doğrulanmış
+ * token'dan principal'ı veritabanına gitmeden kurar (bkz.
+ * {@link PrincipalResolver}).
+ * <p>
+ * Doğrulama maliyeti:
+ * → Her doğrulama Base64 çözme + HMAC-SHA256 + JSON parse demektir. Bu yüzden
+ * <ul>
+ * <li>{@link JwtParser} bir kez kurulur ve paylaşılır (immutable, thread-safe);</li>
+ * <li>{@link #verify(String)} tek geçişte hem doğrular hem claim'leri döner;</li>
+ * <li>doğrulanmış claim'ler token'ın {@code exp} anına kadar bellekte tutulur
+ * → aynı oturumun tekrarlayan isteklerinde kriptografi hiç çalışmaz.</li>
+ * </ul>
+ * Cache anahtarı token'ın kendisidir: Caffeine önce hash ile bucket'ı bulur,
+ * sonra tam string eşitliği arar. Tek bir karakteri farklı (sahte) token asla
+ * eşleşmez, her zaman parser'dan geçer. Geçersiz token'lar cache'lenmez.
  */
 @Component
 public class JwtProvider {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+
     private final SecretKey key;
     private final long jwtExpirationMs;
+    private final JwtParser parser;
+
+    /** Doğrulanmış token → claim'ler; {@code max-entries: 0} ise null (cache kapalı). */
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtProvider(
             @Value("${app.jwt.secret}") String jwtSecret,
-            @Value("${app.jwt.expiration-ms}") long jwtExpirationMs) {
+            @Value("${app.jwt.expiration-ms}") long jwtExpirationMs,
+            @Value("${app.jwt.verified-cache.max-entries}") long verifiedCacheMaxEntries,
+            MeterRegistry meterRegistry) {
         // HMAC-SHA256 anahtarı oluştur — secret en az 256 bit olmalı
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
         this.jwtExpirationMs = jwtExpirationMs;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+
+        if (verifiedCacheMaxEntries > 0) {
+            Cache<String, Claims> tokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaxEntries)
+                    .expireAfter(new UntilTokenExpiry())
+                    .recordStats()
+                    .build();
+            this.verifiedTokens = CaffeineCacheMetrics.monitor(meterRegistry, tokens, "auth.tokens");
+        } else {
+            this.verifiedTokens = null;
+        }
     }
 
     /**
-     * Kullanıcı authentication bilgisinden JWT token üretir.
+     * Kullanıcı için JWT token üretir (login ve register sonrası).
+     * Kimlik claim'leri (id, rol) token'a gömülür.
      *
-     * @param authentication Spring Security authentication objesi
      * @return Signed JWT string
      */
-    public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateTokenFromUsername(userDetails.getUsername());
-    }
-
-    /**
-     * Kullanıcı adından direkt token üretir (register sonrası kullanılır).
-     */
-    public String generateTokenFromUsername(String username) {
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
-                .subject(username)
+                .subject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key)
@@ -70,31 +109,53 @@ public class JwtProvider {
     }
 
     /**
-     * Token'dan kullanıcı adını çıkarır.
-     */
-    public String getUsernameFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
-    }
-
-    /**
-     * Token'ın geçerliliğini doğrular.
+     * Token'ı doğrular ve claim'lerini döner — tek parse.
      * Süresi dolmuş, imzası hatalı veya boş token'lar reddedilir.
+     *
+     * @return Claim'ler; token geçersizse null
      */
-    public boolean validateToken(String token) {
+    public Claims verify(String token) {
+        if (verifiedTokens != null) {
+            Claims cached = verifiedTokens.getIfPresent(token);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            claims = parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
             // ExpiredJwtException, MalformedJwtException, SignatureException vb.
-            return false;
+            return null;
+        }
+
+        if (verifiedTokens != null && claims.getExpiration() != null) {
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * Cache kaydı token'ın {@code exp} anında düşer — süresi dolmuş token
+     * cache'ten asla dönmez.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
@@ -0,0 +1,103 @@
+package com.unievent.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unievent.entity.Role;
+import com.unievent.event.UserChangedEvent;
+import com.unievent.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Doğrulanmış JWT claim'lerinden {@link AuthenticatedUser} üretir.
+ * <p>
+ * Varsayılan mod — tamamen stateless:
+ * → Token imzası doğrulandıysa {@code uid} ve {@code role} claim'lerine
+ * güvenilir; veritabanına hiç gidilmez. Like/comment gibi yoğun yazma
+ * isteklerinde her istekten bir {@code users} sorgusu eksilir.
+ * Bedeli: rol değişikliği kullanıcı yeni token alana kadar (en fazla
+ * {@code app.jwt.expiration-ms}) yansımaz.
+ * <p>
+ * Principal cache modu ({@code app.jwt.principal-cache.enabled: true}):
+ * → Rol değişikliklerinin hızlı yansıması gereken kurulumlar için. Rol
+ * token'dan değil, kısa TTL'li bir cache üzerinden DB'den okunur; en kötü
+ * durumda TTL kadar gecikir. {@link UserChangedEvent} ilgili kaydı anında
+ * düşürür.
+ * <p>
+ * {@code uid}/{@code role} claim'i olmayan eski token'lar (bu sürümden önce
+ * üretilenler) her iki modda da DB'den çözülür.
+ * <p>
+ * Silinmesi istenen hesaplar her iki modda da reddedilir: bellekteki
+ * {@link RevokedUserRegistry} kontrolü istek başına sorgu eklemez; DB'den
+ * çözülen principal'larda {@code deletedAt} ayrıca kontrol edilir.
+ */
+@Component
+public class PrincipalResolver {
+
+    private final UserRepository userRepository;
+    private final RevokedUserRegistry revokedUsers;
+
+    /** Sadece principal cache modu açıkken dolu; aksi halde null. */
+    private final Cache<String, AuthenticatedUser> cache;
+
+    public PrincipalResolver(UserRepository userRepository,
+            RevokedUserRegistry revokedUsers,
+            @Value("${app.jwt.principal-cache.enabled}") boolean cacheEnabled,
+            @Value("${app.jwt.principal-cache.ttl}") Duration cacheTtl,
+            @Value("${app.jwt.principal-cache.max-entries}") long cacheMaxEntries,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.revokedUsers = revokedUsers;
+
+        if (cacheEnabled) {
+            Cache<String, AuthenticatedUser> principals = Caffeine.newBuilder()
+                    .maximumSize(cacheMaxEntries)
+                    .expireAfterWrite(cacheTtl)
+                    .recordStats()
+                    .build();
+            this.cache = CaffeineCacheMetrics.monitor(meterRegistry, principals, "auth.principals");
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * @return Principal; kullanıcı artık yoksa veya silinmesi istendiyse null
+     *         (istek anonim devam eder)
+     */
+    public AuthenticatedUser resolve(Claims claims) {
+        String username = claims.getSubject();
+
+        AuthenticatedUser principal;
+        if (cache != null) {
+            principal = cache.get(username, this::loadFromDatabase);
+        } else {
+            Number userId = claims.get(JwtProvider.CLAIM_USER_ID, Number.class);
+            String role = claims.get(JwtProvider.CLAIM_ROLE, String.class);
+            principal = userId == null || role == null
+                    ? loadFromDatabase(username) // Eski format token — kimlik claim'leri yok
+                    : new AuthenticatedUser(userId.longValue(), username, Role.valueOf(role));
+        }
+        return principal == null || revokedUsers.isRevoked(principal.getId()) ? null : principal;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (cache != null) {
+            cache.invalidate(event.username());
+        }
+    }
+
+    private AuthenticatedUser loadFromDatabase(String username) {
+        return userRepository.findByUsername(username)
+                .filter(user -> !user.isDeleted())
+                .map(user -> new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole()))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,72 @@
+package com.unievent.security;
+
+import com.unievent.event.UserChangedEvent;
+import com.unievent.repository.AccountDeletionJobRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Silinmesi istenen kullanıcılar — token'ları artık kabul edilmez.
+ * <p>
+ * Neden ayrı bir liste?
+ * → Varsayılan modda principal tamamen token claim'lerinden kurulur
+ * (bkz. {@link PrincipalResolver}); hesap silinse bile imzalı token
+ * süresi dolana kadar geçerli kalırdı. Her istekte {@code users} sorgusu
+ * atmak yerine, silinen kullanıcıların id'leri bellekte tutulur.
+ * <p>
+ * Liste küçüktür: bir kullanıcı yalnızca {@code app.jwt.expiration-ms}
+ * boyunca tutulur — o süreden önce üretilmiş tüm token'ların süresi zaten
+ * dolmuştur. Açılışta bu penceredeki silme işleri DB'den yüklenir; diğer
+ * replica'lardaki silmeler {@link UserChangedEvent} ile gelir.
+ */
+@Slf4j
+@Component
+public class RevokedUserRegistry {
+
+    private final AccountDeletionJobRepository jobRepository;
+    private final Duration retention;
+
+    /** userId → silme isteğinin zamanı. */
+    private final Map<Long, LocalDateTime> revoked = new ConcurrentHashMap<>();
+
+    public RevokedUserRegistry(AccountDeletionJobRepository jobRepository,
+            @Value("${app.jwt.expiration-ms}") long tokenLifetimeMs) {
+        this.jobRepository = jobRepository;
+        this.retention = Duration.ofMillis(tokenLifetimeMs);
+    }
+
+    @PostConstruct
+    void load() {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.findUserIdsRequestedSince(now.minus(retention))
+                .forEach(userId -> revoked.put(userId, now));
+        log.info("{} silinmiş kullanıcının token'ları reddedilecek", revoked.size());
+    }
+
+    public boolean isRevoked(Long userId) {
+        return userId != null && revoked.containsKey(userId);
+    }
+
+    /** Commit sonrası — rollback olan bir silme isteği kullanıcıyı kilitlemez. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.deleted()) {
+            revoked.put(event.userId(), LocalDateTime.now());
+        }
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        revoked.values().removeIf(requestedAt -> requestedAt.isBefore(cutoff));
+    }
+}
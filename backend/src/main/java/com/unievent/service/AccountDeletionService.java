@@ -0,0 +1,105 @@
+package com.unievent.service;
+
+import com.unievent.dto.response.AccountDeletionResponse;
+import com.unievent.entity.AccountDeletionJob;
+import com.unievent.entity.User;
+import com.unievent.event.UserChangedEvent;
+import com.unievent.repository.AccountDeletionJobRepository;
+import com.unievent.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hesap silme istekleri.
+ * <p>
+ * Neden senkron silme değil?
+ * → Yıllardır aktif bir kulüp hesabının binlerce gönderisi, on binlerce
+ * beğeni ve yorumu olabilir. Hepsini tek istekte silmek dakikalarca süren,
+ * binlerce satırı kilitleyen tek bir transaction demektir; istek zaman aşımına
+ * uğrar ve iş geri alınır.
+ * <p>
+ * Bunun yerine istek anında sadece iki şey yapılır (tek transaction):
+ * <ol>
+ * <li>{@code users.deleted_at} set edilir → giriş ve token'lar reddedilir</li>
+ * <li>{@link AccountDeletionJob} kaydı oluşturulur</li>
+ * </ol>
+ * Asıl silmeyi {@link AccountDeletionWorker} arka planda, sınırlı parçalar
+ * halinde yapar. İstek idempotent'tir: ikinci çağrı mevcut işi döner.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccountDeletionService {
+
+    /** Admin listesinde dönülecek en fazla iş. */
+    public static final int MAX_ACTIVE_JOBS = 100;
+
+    private final AccountDeletionJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Hesabı silinmiş olarak işaretler ve silme işini kuyruğa alır.
+     *
+     * @throws IllegalArgumentException Kullanıcı yoksa
+     */
+    @Transactional
+    public AccountDeletionResponse requestDeletion(Long userId) {
+        AccountDeletionJob existing = jobRepository.findByUserId(userId).orElse(null);
+        if (existing != null) {
+            return mapToResponse(existing);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Kullanıcı bulunamadı: " + userId));
+        user.setDeletedAt(LocalDateTime.now());
+
+        AccountDeletionJob job = jobRepository.save(AccountDeletionJob.builder()
+                .userId(userId)
+                .username(user.getUsername())
+                .build());
+
+        // Commit sonrası: principal cache'ler düşer, tüm replica'lar token'ları reddeder
+        eventPublisher.publishEvent(new UserChangedEvent(userId, user.getUsername(), true));
+        return mapToResponse(job);
+    }
+
+    /**
+     * @throws IllegalArgumentException İş yoksa
+     */
+    public AccountDeletionResponse getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new IllegalArgumentException("Silme işi bulunamadı: " + jobId));
+    }
+
+    /** Tamamlanmamış işler, en eskiden yeniye. */
+    public List<AccountDeletionResponse> getActiveJobs() {
+        return jobRepository.findActive(PageRequest.of(0, MAX_ACTIVE_JOBS)).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    private AccountDeletionResponse mapToResponse(AccountDeletionJob job) {
+        return new AccountDeletionResponse(
+                job.getId(),
+                job.getUserId(),
+                job.getUsername(),
+                job.getStatus(),
+                job.getPhase(),
+                job.getPostsDeleted(),
+                job.getLikesDeleted(),
+                job.getCommentsDeleted(),
+                job.getAttempts(),
+                job.getLastError(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                job.getCompletedAt());
+    }
+}
@@ -0,0 +1,339 @@
+package com.unievent.service;
+
+import com.unievent.counter.LikesReceivedCounter;
+import com.unievent.entity.AccountDeletionJob;
+import com.unievent.entity.AccountDeletionJob.Phase;
+import com.unievent.entity.AccountDeletionJob.Status;
+import com.unievent.event.PostEngagementEvent;
+import com.unievent.repository.AccountDeletionJobRepository;
+import com.unievent.repository.CommentRepository;
+import com.unievent.repository.CommentRepository.CommentRef;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.LikeRepository;
+import com.unievent.repository.LikeRepository.LikeRef;
+import com.unievent.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Hesap silme işlerini arka planda, sınırlı parçalar halinde yürütür.
+ * <p>
+ * Her tur ({@code poll-interval-ms}) sahiplenilebilir işleri alır ve
+ * {@code max-run-time} dolana kadar parça parça ilerletir. Her parça ayrı
+ * bir kısa transaction'dır:
+ * <ul>
+ * <li>{@code POSTS}: {@code post-chunk-size} gönderi, beğeni ve yorumlarıyla
+ * birlikte ({@link PostPurger})</li>
+ * <li>{@code LIKES}: kullanıcının başka gönderilere attığı
+ * {@code chunk-size} beğeni; etkilenen gönderilerin {@code like_count}'u ve
+ * yazarlarının {@code likes_received}'ı gönderi başına tek delta olarak
+ * düşer</li>
+ * <li>{@code COMMENTS}: aynı şekilde yorumlar ve {@code comment_count}</li>
+ * <li>{@code USER}: silme sırasında araya giren satır kaldıysa (ör. token
+ * iptali yayılmadan atılmış son bir beğeni) başa dönülür; yoksa kullanıcı
+ * satırı silinir</li>
+ * </ul>
+ * Parçanın silmeleri, sayaç düzeltmeleri ve işin faz/sayaç güncellemesi
+ * aynı commit'tedir → pod yeniden başlarsa iş son commit edilen parçadan
+ * devam eder; yarım parça yoktur.
+ * <p>
+ * Neden {@code LikeCounter} değil?
+ * → Birleştirme modunda delta commit sonrası bellekte bekler; pod o arada
+ * ölürse beğeni satırı silinmiş ama sayaç düşmemiş olur ve iş bu parçayı
+ * tekrar görmez. Sayaçlar bu yüzden parçanın transaction'ında doğrudan
+ * yazılır; {@link PostEngagementEvent} de aynı transaction'da yayınlanır →
+ * cache'ler (bu ve diğer replica'larda) commit sonrası düşer.
+ * <p>
+ * Lease: iş sahiplenildiğinde {@code lease} süresi kadar bu pod'a yazılır ve
+ * her parçada yenilenir; tur süresi dolunca bırakılır. Pod ölürse lease
+ * dolar, iş başka bir pod tarafından alınır. Hatalı parça geri alınır, hata
+ * işe yazılır ve iş {@code retry-backoff} sonra tekrar denenir.
+ */
+@Slf4j
+@Component
+public class AccountDeletionWorker {
+
+    private final AccountDeletionJobRepository jobRepository;
+    private final EventPostRepository postRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final PostService postService;
+    private final LikesReceivedCounter likesReceived;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String instanceId;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int postChunkSize;
+    private final Duration lease;
+    private final Duration maxRunTime;
+    private final Duration retryBackoff;
+
+    private final Counter chunksProcessed;
+    private final Counter chunkFailures;
+    private final Counter jobsCompleted;
+
+    public AccountDeletionWorker(AccountDeletionJobRepository jobRepository,
+            EventPostRepository postRepository,
+            LikeRepository likeRepository,
+            CommentRepository commentRepository,
+            UserRepository userRepository,
+            PostService postService,
+            LikesReceivedCounter likesReceived,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.cluster.instance-id}") String instanceId,
+            @Value("${app.account-deletion.enabled}") boolean enabled,
+            @Value("${app.account-deletion.chunk-size}") int chunkSize,
+            @Value("${app.account-deletion.post-chunk-size}") int postChunkSize,
+            @Value("${app.account-deletion.lease}") Duration lease,
+            @Value("${app.account-deletion.max-run-time}") Duration maxRunTime,
+            @Value("${app.account-deletion.retry-backoff}") Duration retryBackoff,
+            MeterRegistry meterRegistry) {
+
+        this.jobRepository = jobRepository;
+        this.postRepository = postRepository;
+        this.likeRepository = likeRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.postService = postService;
+        this.likesReceived = likesReceived;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.instanceId = instanceId;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.postChunkSize = postChunkSize;
+        this.lease = lease;
+        this.maxRunTime = maxRunTime;
+        this.retryBackoff = retryBackoff;
+
+        this.chunksProcessed = Counter.builder("account.deletion.chunks").register(meterRegistry);
+        this.chunkFailures = Counter.builder("account.deletion.chunk.failures").register(meterRegistry);
+        this.jobsCompleted = Counter.builder("account.deletion.jobs.completed").register(meterRegistry);
+    }
+
+    /** {@code enabled: false} → tur çalışmaz; {@link #poll()} elle çağrılabilir. */
+    @Scheduled(fixedDelayString = "${app.account-deletion.poll-interval-ms}")
+    void scheduledPoll() {
+        if (enabled) {
+            poll();
+        }
+    }
+
+    public void poll() {
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+
+        List<Long> candidates = jobRepository.findClaimableIds(LocalDateTime.now(), PageRequest.of(0, 10));
+        for (Long jobId : candidates) {
+            if (System.nanoTime() >= deadline) {
+                return;
+            }
+            if (claim(jobId)) {
+                run(jobId, deadline);
+            }
+        }
+    }
+
+    /**
+     * İşi bu pod'a yazar. Aynı anda sahiplenen başka bir pod varsa
+     * {@code @Version} çakışması ile biri kaybeder.
+     */
+    private boolean claim(Long jobId) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                AccountDeletionJob job = jobRepository.findById(jobId).orElse(null);
+                LocalDateTime now = LocalDateTime.now();
+                if (job == null || !job.isClaimable(now)) {
+                    return false;
+                }
+                job.setStatus(Status.RUNNING);
+                job.setLeaseOwner(instanceId);
+                job.setLeaseUntil(now.plus(lease));
+                return true;
+            }));
+        } catch (OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+    private void run(Long jobId, long deadline) {
+        boolean more = true;
+        while (more) {
+            if (System.nanoTime() >= deadline) {
+                // Tur süresi doldu: lease bırakılır, sonraki turda (herhangi bir pod) kaldığı yerden devam eder
+                releaseLease(jobId, LocalDateTime.now());
+                return;
+            }
+            try {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> step(jobId)));
+                chunksProcessed.increment();
+            } catch (OptimisticLockingFailureException e) {
+                log.info("Hesap silme işi {} başka bir pod'a geçti", jobId);
+                return;
+            } catch (RuntimeException e) {
+                chunkFailures.increment();
+                log.warn("Hesap silme işi {} parçası başarısız, {} sonra tekrar denenecek: {}",
+                        jobId, retryBackoff, e.getMessage());
+                recordFailure(jobId, e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Tek parça. Çağıranın transaction'ında çalışır.
+     *
+     * @return Devam edilecek parça varsa true
+     */
+    private boolean step(Long jobId) {
+        AccountDeletionJob job = jobRepository.findById(jobId).orElseThrow();
+        if (!instanceId.equals(job.getLeaseOwner()) || job.getStatus() == Status.COMPLETED) {
+            return false; // Lease kaybedilmiş
+        }
+        Long userId = job.getUserId();
+
+        switch (job.getPhase()) {
+            case POSTS -> {
+                PostPurger.PurgeResult result = postService.purgePostsOfAuthor(userId, postChunkSize);
+                job.setPostsDeleted(job.getPostsDeleted() + result.posts());
+                if (result.posts() < postChunkSize) {
+                    job.setPhase(Phase.LIKES);
+                }
+            }
+            case LIKES -> {
+                List<LikeRef> likes = likeRepository.findRefsByUserId(userId, chunkSize);
+                if (!likes.isEmpty()) {
+                    likeRepository.deleteByIds(likes.stream().map(LikeRef::getId).toList());
+                    Map<Long, Integer> deltas = negate(countByPost(likes, LikeRef::getPostId));
+                    // Kilit sırası: önce gönderi satırları, sonra yazarlar (bkz. LikeCounter)
+                    deltas.forEach(postRepository::adjustLikeCount);
+                    likesReceived.adjust(deltas);
+                    publishLikes(deltas);
+                }
+                job.setLikesDeleted(job.getLikesDeleted() + likes.size());
+                if (likes.size() < chunkSize) {
+                    job.setPhase(Phase.COMMENTS);
+                }
+            }
+            case COMMENTS -> {
+                List<CommentRef> comments = commentRepository.findRefsByUserId(userId, PageRequest.of(0, chunkSize));
+                if (!comments.isEmpty()) {
+                    commentRepository.deleteByIds(comments.stream().map(CommentRef::getId).toList());
+                    countByPost(comments, CommentRef::getPostId).forEach((postId, n) -> {
+                        postRepository.adjustCommentCount(postId, -n);
+                        eventPublisher.publishEvent(PostEngagementEvent.comment(postId, -n));
+                    });
+                }
+                job.setCommentsDeleted(job.getCommentsDeleted() + comments.size());
+                if (comments.size() < chunkSize) {
+                    job.setPhase(Phase.USER);
+                }
+            }
+            case USER -> {
+                if (postRepository.existsByAuthorId(userId)
+                        || likeRepository.existsByUserId(userId)
+                        || commentRepository.existsByUserId(userId)) {
+                    job.setPhase(Phase.POSTS);
+                } else {
+                    userRepository.deleteUserById(userId);
+                    LocalDateTime now = LocalDateTime.now();
+                    job.setPhase(Phase.DONE);
+                    job.setStatus(Status.COMPLETED);
+                    job.setCompletedAt(now);
+                    job.setLeaseOwner(null);
+                    job.setLeaseUntil(null);
+                    jobsCompleted.increment();
+                    log.info("Hesap silindi: userId={} ({} gönderi, {} beğeni, {} yorum)", userId,
+                            job.getPostsDeleted(), job.getLikesDeleted(), job.getCommentsDeleted());
+                    return false;
+                }
+            }
+            case DONE -> {
+                return false;
+            }
+        }
+
+        job.setLeaseUntil(LocalDateTime.now().plus(lease));
+        return true;
+    }
+
+    /** Hata işe yazılır; lease {@code retry-backoff} sonra dolar, iş tekrar denenir. */
+    private void recordFailure(Long jobId, RuntimeException error) {
+        String message = String.valueOf(error.getMessage());
+        updateOwnedJob(jobId, job -> {
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+            job.setLeaseUntil(LocalDateTime.now().plus(retryBackoff));
+        });
+    }
+
+    private void releaseLease(Long jobId, LocalDateTime until) {
+        updateOwnedJob(jobId, job -> job.setLeaseUntil(until));
+    }
+
+    /**
+     * İş hâlâ bu pod'daysa günceller. Başarısız olursa sorun değil — lease
+     * kendiliğinden dolar.
+     */
+    private void updateOwnedJob(Long jobId, Consumer<AccountDeletionJob> update) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId)
+                    .filter(job -> instanceId.equals(job.getLeaseOwner()) && job.getStatus() != Status.COMPLETED)
+                    .ifPresent(update));
+        } catch (RuntimeException e) {
+            log.warn("Hesap silme işi {} güncellenemedi: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * Gönderi başına silinen satır sayısı, {@code postId} sırasıyla — sayaç
+     * UPDATE'leri sabit kilit sırasıyla gider (bkz. LikeCounter).
+     */
+    private static <T> Map<Long, Integer> countByPost(List<T> rows, Function<T, Long> postId) {
+        Map<Long, Integer> counts = new TreeMap<>();
+        rows.forEach(row -> counts.merge(postId.apply(row), 1, Integer::sum));
+        return counts;
+    }
+
+    private static Map<Long, Integer> negate(Map<Long, Integer> counts) {
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        counts.forEach((postId, n) -> deltas.put(postId, -n));
+        return deltas;
+    }
+
+    /** Delta'lar, {@link PostEngagementEvent#MAX_POSTS}'luk olaylar halinde. */
+    private void publishLikes(Map<Long, Integer> deltas) {
+        Map<Long, Integer> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> delta : deltas.entrySet()) {
+            batch.put(delta.getKey(), delta.getValue());
+            if (batch.size() == PostEngagementEvent.MAX_POSTS) {
+                eventPublisher.publishEvent(PostEngagementEvent.likes(batch));
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            eventPublisher.publishEvent(PostEngagementEvent.likes(batch));
+        }
+    }
+}
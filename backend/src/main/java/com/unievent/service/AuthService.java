@@ -10,10 +10,8 @@ import com.unievent.security.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Kimlik doğrulama servisi — Register ve Login iş mantığı.
@@ -37,10 +35,16 @@ public class AuthService {
 
     /**
      * Yeni kullanıcı kaydı.
+     * <p>
+     * Bilinçli olarak {@code @Transactional} değildir: BCrypt hash'i
+     * (~100 ms) bir transaction içinde hesaplanırsa o süre boyunca havuzdan bir
+     * DB connection'ı boşuna tutulur. {@code save()} kendi transaction'ında
+     * çalışır; eşzamanlı aynı kullanıcı adı yarışını DB'deki unique
+     * constraint yakalar.
      *
      * @throws IllegalArgumentException Kullanıcı adı veya e-posta zaten mevcutsa
+     * @throws com.unievent.exception.ServiceBusyException Hash havuzu doygunsa
      */
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         // Benzersizlik kontrolü
         if (userRepository.existsByUsername(request.username())) {
@@ -63,7 +67,7 @@ public class AuthService {
 
         // Kayıt sonrası direkt token üret → kullanıcı tekrar login yapmak zorunda
         // kalmaz
-        String token = jwtProvider.generateTokenFromUsername(user.getUsername());
+        String token = jwtProvider.generateToken(user);
         return AuthResponse.of(token, user.getUsername(), user.getRole().name());
     }
 
@@ -76,17 +80,17 @@ public class AuthService {
      * 3. Başarısızsa BadCredentialsException fırlatır
      */
     public AuthResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
+        authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.username(),
                         request.password()));
 
-        String token = jwtProvider.generateToken(authentication);
-
-        // Kullanıcının rolünü DB'den çek
+        // Token'a gömülecek id ve rol için kullanıcıyı DB'den çek
         User user = userRepository.findByUsername(request.username())
                 .orElseThrow(); // authenticate başarılıysa bu hiç fırlatılmaz
 
+        String token = jwtProvider.generateToken(user);
+
         return AuthResponse.of(token, user.getUsername(), user.getRole().name());
     }
 }
@@ -0,0 +1,190 @@
+package com.unievent.service;
+
+import com.unievent.dto.request.CreateCommentRequest;
+import com.unievent.dto.response.CommentResponse;
+import com.unievent.entity.Comment;
+import com.unievent.entity.EventPost;
+import com.unievent.entity.User;
+import com.unievent.event.PostEngagementEvent;
+import com.unievent.pagination.CursorPage;
+import com.unievent.pagination.KeysetCursor;
+import com.unievent.repository.CommentRepository;
+import com.unievent.repository.CommentRepository.CommentPreviewRow;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Yorum servisi — ekleme, silme, keyset listeleme ve toplu önizleme.
+ * <p>
+ * {@code EventPost.commentCount} yorum satırıyla aynı transaction'da atomik
+ * {@code comment_count = comment_count ± 1} ile güncellenir — yorum yazıldı
+ * ama sayaç artmadı (veya tersi) durumu oluşmaz. Ekleme sırasında sayaç
+ * güncellemesi önce yapılır: etkilenen satır yoksa gönderi yoktur, ayrıca
+ * gönderi satırı commit'e kadar kilitlenir → eşzamanlı bir gönderi silme
+ * yarım kalmış bir yorumla yarışamaz.
+ * <p>
+ * Sayaç her değiştiğinde {@link PostEngagementEvent} yayınlanır (ör. hot
+ * sıralaması için).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentService {
+
+    /** Tek istekte dönülebilecek en fazla yorum. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** Önizleme isteğinde en fazla gönderi / gönderi başına yorum. */
+    public static final int MAX_PREVIEW_POSTS = 100;
+    public static final int MAX_PREVIEWS_PER_POST = 10;
+
+    private final CommentRepository commentRepository;
+    private final EventPostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Gönderinin yorumları, en yeniden en eskiye (keyset).
+     *
+     * @param cursor Önceki yanıttaki {@code nextCursor}; ilk istek için null
+     * @throws IllegalArgumentException Gönderi yoksa veya imleç bozuksa
+     */
+    public CursorPage<CommentResponse> getComments(Long postId, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        List<Comment> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = commentRepository.findPageFirst(postId, window);
+            if (rows.isEmpty()) {
+                requirePost(postId); // Boş liste mi, olmayan gönderi mi?
+            }
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = commentRepository.findPageAfter(postId, after.createdAt(), after.id(), window);
+        }
+
+        return CursorPage.of(rows, limit, this::mapToResponse,
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()));
+    }
+
+    /**
+     * Yorum ekler.
+     *
+     * @throws IllegalArgumentException Gönderi yoksa
+     */
+    @Transactional
+    public CommentResponse addComment(Long postId, CreateCommentRequest request, Long userId) {
+        if (postRepository.adjustCommentCount(postId, 1) == 0) {
+            throw new IllegalArgumentException("Gönderi bulunamadı: " + postId);
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + userId));
+
+        Comment comment = Comment.builder()
+                .user(user)
+                .post(postRepository.getReferenceById(postId))
+                .content(request.content())
+                .build();
+
+        CommentResponse response = mapToResponse(commentRepository.save(comment));
+        eventPublisher.publishEvent(PostEngagementEvent.comment(postId, 1));
+        return response;
+    }
+
+    /**
+     * Yorum silme — yorumun yazarı veya gönderinin yazarı silebilir.
+     *
+     * @throws IllegalArgumentException Yorum yoksa veya yetki yoksa
+     */
+    @Transactional
+    public void deleteComment(Long commentId, Long userId) {
+        Comment comment = commentRepository.findWithPostById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("Yorum bulunamadı: " + commentId));
+
+        EventPost post = comment.getPost();
+        // getId() proxy'yi başlatmaz → ek sorgu yok
+        boolean commentAuthor = comment.getUser().getId().equals(userId);
+        boolean postAuthor = post.getAuthor().getId().equals(userId);
+        if (!commentAuthor && !postAuthor) {
+            throw new IllegalArgumentException("Bu yorumu silme yetkiniz yok");
+        }
+
+        // Eşzamanlı iki silmede sayaç yalnızca bir kez azalır
+        if (commentRepository.deleteCommentById(commentId) == 1) {
+            postRepository.adjustCommentCount(post.getId(), -1);
+            eventPublisher.publishEvent(PostEngagementEvent.comment(post.getId(), -1));
+        }
+    }
+
+    /**
+     * Gönderiler için ilk {@code perPost} yorum — feed sayfasındaki önizlemeler
+     * için tek sorgu.
+     *
+     * @return postId → yorumlar (en yeniden en eskiye); yorumu olmayan
+     *         gönderiler boş liste ile döner, istek sırası korunur
+     * @throws IllegalArgumentException Çok fazla gönderi istendiyse
+     */
+    public Map<Long, List<CommentResponse>> getPreviews(Collection<Long> requestedIds, int perPost) {
+        Set<Long> postIds = new LinkedHashSet<>(requestedIds);
+        if (postIds.size() > MAX_PREVIEW_POSTS) {
+            throw new IllegalArgumentException(
+                    "Tek istekte en fazla " + MAX_PREVIEW_POSTS + " gönderi için önizleme alınabilir");
+        }
+        int limit = Math.min(Math.max(perPost, 1), MAX_PREVIEWS_PER_POST);
+
+        Map<Long, List<CommentResponse>> previews = new LinkedHashMap<>();
+        postIds.forEach(id -> previews.put(id, new ArrayList<>()));
+        if (postIds.isEmpty()) {
+            return previews;
+        }
+
+        for (CommentPreviewRow row : commentRepository.findPreviews(postIds, limit)) {
+            previews.get(row.getPostId()).add(new CommentResponse(
+                    row.getId(),
+                    row.getPostId(),
+                    row.getContent(),
+                    row.getAuthorId(),
+                    row.getAuthorUsername(),
+                    row.getAuthorDisplayName(),
+                    row.getCreatedAt()));
+        }
+        return previews;
+    }
+
+    private void requirePost(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("Gönderi bulunamadı: " + postId);
+        }
+    }
+
+    /**
+     * Entity → DTO. {@code comment.getUser()} yorum sorgularında entity graph
+     * ile yüklenir; eklemede zaten elimizdedir.
+     */
+    private CommentResponse mapToResponse(Comment comment) {
+        return new CommentResponse(
+                comment.getId(),
+                comment.getPost().getId(),
+                comment.getContent(),
+                comment.getUser().getId(),
+                comment.getUser().getUsername(),
+                comment.getUser().getDisplayName(),
+                comment.getCreatedAt());
+    }
+}
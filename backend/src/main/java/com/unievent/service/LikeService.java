@@ -0,0 +1,96 @@
+package com.unievent.service;
+
+import com.unievent.counter.LikeCounter;
+import com.unievent.dto.response.LikeResponse;
+import com.unievent.entity.Like;
+import com.unievent.event.PostLikedEvent;
+import com.unievent.event.PostUnlikedEvent;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.LikeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Beğeni servisi — like / unlike.
+ * <p>
+ * Her iki işlem de idempotent'tir ve "kontrol et → yaz" yapmaz:
+ * <ul>
+ * <li>Like: {@code INSERT ... ON CONFLICT DO NOTHING} — çift tıklama veya
+ * eşzamanlı iki istek tek satır üretir; etkilenen satır sayısı 1 ise sayaç
+ * artırılır.</li>
+ * <li>Unlike: {@code DELETE} — etkilenen satır sayısı 1 ise sayaç
+ * azaltılır.</li>
+ * </ul>
+ * Böylece sayaç yalnızca gerçekten değişen beğeniler için güncellenir.
+ * Sayaç yazımı {@link LikeCounter} üzerinden atomik (veya birleştirilmiş)
+ * yapılır. Yeni beğeni {@link PostLikedEvent}, geri alma
+ * {@link PostUnlikedEvent} yayınlar → izleyici beğeni filtreleri ve feed
+ * ETag'indeki beğeni sürümü (bkz. {@code ViewerStateResolver}) tüm
+ * replica'larda güncellenir.
+ * <p>
+ * Native INSERT'in id'si {@link Like} entity'sinin generator'ından alınır:
+ * pooled optimizer id'leri bellekteki 50'lik bloktan verir, beğeni başına
+ * sequence çağrısı yapılmaz. Çakışmada (zaten beğenilmiş) alınan id boşa
+ * gider — tek bir id, blok değil.
+ */
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private final LikeRepository likeRepository;
+    private final EventPostRepository postRepository;
+    private final LikeCounter likeCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @throws IllegalArgumentException Gönderi yoksa
+     */
+    @Transactional
+    public LikeResponse like(Long postId, Long userId) {
+        if (likeRepository.insertIfAbsent(nextLikeId(), userId, postId) == 1) {
+            likeCounter.adjust(postId, 1);
+            eventPublisher.publishEvent(new PostLikedEvent(userId, postId));
+        } else {
+            requirePost(postId); // 0 satır: zaten beğenilmiş ya da gönderi yok
+        }
+        return new LikeResponse(postId, true);
+    }
+
+    /**
+     * @throws IllegalArgumentException Gönderi yoksa
+     */
+    @Transactional
+    public LikeResponse unlike(Long postId, Long userId) {
+        if (likeRepository.deleteByUserAndPost(userId, postId) == 1) {
+            likeCounter.adjust(postId, -1);
+            eventPublisher.publishEvent(new PostUnlikedEvent(userId, postId));
+        } else {
+            requirePost(postId);
+        }
+        return new LikeResponse(postId, false);
+    }
+
+    /** {@link Like} entity'si kaydedilseydi alacağı id. */
+    private Long nextLikeId() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Like.class)
+                .getGenerator();
+        return (Long) generator.generate(session, null);
+    }
+
+    private void requirePost(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("Gönderi bulunamadı: " + postId);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.unievent.service;
+
+import com.unievent.repository.CommentRepository;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.AuthorCounters;
+import com.unievent.repository.LikeRepository;
+import com.unievent.repository.PostHashtagRepository;
+import com.unievent.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Gönderileri çocuklarıyla (beğeni, yorum) birlikte set-based siler.
+ * <p>
+ * Neden {@code postRepository.delete(post)} değil?
+ * → {@code cascade = ALL} ile Hibernate önce {@code likes} ve
+ * {@code comments} koleksiyonlarını belleğe yükler, sonra her satır için ayrı
+ * bir DELETE gönderir. 20 bin beğenili bir gönderi 20 bin ifadelik bir
+ * transaction ve binlerce entity demektir.
+ * <p>
+ * Burada tablo başına tek ifade çalışır (FK sırasıyla):
+ *
+ * <pre>
+ * DELETE FROM likes         WHERE post_id IN (...)
+ * DELETE FROM comments      WHERE post_id IN (...)
+ * DELETE FROM post_hashtags WHERE post_id IN (...)
+ * DELETE FROM event_posts   WHERE id      IN (...)
+ * </pre>
+ *
+ * Yazarların profil sayaçları ({@code post_count}, {@code likes_received})
+ * aynı transaction'da düşer. Gönderi satırları önce id sırasıyla kilitlenir
+ * ({@code FOR UPDATE}): okunan {@code like_count} silmeye kadar değişmez ve
+ * kilit sırası beğeni yazımıyla aynıdır (gönderiler → kullanıcılar).
+ * <p>
+ * Hiçbir entity yüklenmez; {@code likes(post_id)} ve
+ * {@code comments(post_id, created_at)} index'leri silinecek satırları
+ * doğrudan bulur. Cache invalidation ve olay yayını çağıranın
+ * sorumluluğundadır.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPurger {
+
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final PostHashtagRepository hashtagRepository;
+    private final EventPostRepository postRepository;
+    private final UserRepository userRepository;
+
+    /** Silinen satır sayıları. */
+    public record PurgeResult(int posts, int likes, int comments) {
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public PurgeResult purge(Long postId) {
+        return purge(List.of(postId));
+    }
+
+    /**
+     * Çağıranın transaction'ında çalışır — gönderi ve çocukları birlikte
+     * silinir ya da hiçbiri silinmez.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public PurgeResult purge(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new PurgeResult(0, 0, 0);
+        }
+        List<AuthorCounters> locked = postRepository.lockAuthorCounters(postIds);
+        int likes = likeRepository.deleteByPostIds(postIds);
+        int comments = commentRepository.deleteByPostIds(postIds);
+        hashtagRepository.deleteByPostIds(postIds);
+        int posts = postRepository.deleteByIds(postIds);
+        subtractFromAuthors(locked);
+        return new PurgeResult(posts, likes, comments);
+    }
+
+    /** Yazar id sırasıyla — eşzamanlı silmeler aynı sırada kilitler. */
+    private void subtractFromAuthors(List<AuthorCounters> deleted) {
+        Map<Long, long[]> byAuthor = new TreeMap<>(); // authorId → [gönderi, beğeni]
+        for (AuthorCounters post : deleted) {
+            long[] totals = byAuthor.computeIfAbsent(post.getAuthorId(), id -> new long[2]);
+            totals[0]++;
+            totals[1] += post.getLikeCount();
+        }
+        byAuthor.forEach((authorId, totals) ->
+                userRepository.subtractPurgedPosts(authorId, (int) totals[0], totals[1]));
+    }
+}
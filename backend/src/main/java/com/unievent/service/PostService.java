@@ -1,18 +1,53 @@
 package com.unievent.service;
 
+import com.unievent.cache.PostCache;
 import com.unievent.dto.request.CreatePostRequest;
+import com.unievent.dto.response.BatchResponse;
+import com.unievent.dto.response.LocationFacetResponse;
 import com.unievent.dto.response.PostResponse;
+import com.unievent.dto.response.TrendingTagResponse;
 import com.unievent.entity.EventPost;
+import com.unievent.entity.PostHashtag;
 import com.unievent.entity.User;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.hashtag.HashtagExtractor;
+import com.unievent.hashtag.TrendingTags;
+import com.unievent.location.LocationFacets;
+import com.unievent.location.LocationNormalizer;
+import com.unievent.pagination.CursorPage;
+import com.unievent.pagination.KeysetCursor;
+import com.unievent.ranking.HotRanking;
 import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.PostHashtagRepository;
+import com.unievent.repository.PostHashtagRepository.TaggedPost;
 import com.unievent.repository.UserRepository;
+import com.unievent.search.InvertedIndex;
+import com.unievent.search.PostSearchIndex;
+import com.unievent.search.TurkishAnalyzer;
+import com.unievent.timeline.TimelineEntry;
+import com.unievent.timeline.UpcomingEventsTimeline;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * Gönderi servisi — CRUD ve Feed iş mantığı.
  * <p>
@@ -22,14 +57,54 @@ import org.springframework.transaction.annotation.Transactional;
  * artırır.
  * Yazma işlemleri olan metotlarda {@code @Transactional} (readOnly = false)
  * kullanılır.
+ * <p>
+ * Cache'lenen okumalar ({@code getFeed}, {@code getFeedSlice},
+ * {@code getPostById}) {@code Propagation.SUPPORTS} ile çalışır: transaction
+ * açmak bağlantı havuzundan connection almak demektir; cache hit'te
+ * veritabanına hiç dokunulmaz. Miss durumunda tek sorgu yeterlidir (yazar
+ * entity graph ile gelir), bu yüzden transaction'a gerek yoktur.
+ * <p>
+ * Yazma işlemleri {@link PostCreatedEvent}/{@link PostDeletedEvent} yayınlar;
+ * {@link PostCache} bu olayları commit sonrasında dinleyerek ilgili kayıtları
+ * geçersiz kılar.
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
 
+    /** Keyset feed'de tek istekte dönülebilecek en fazla gönderi. */
+    public static final int MAX_SLICE_SIZE = 100;
+
+    /** Aramada sayfalanabilecek en fazla sonuç (ilk N). */
+    public static final int MAX_SEARCH_RESULTS = 1000;
+
+    /** Hot feed'de sayfalanabilecek en fazla gönderi (ilk N). */
+    public static final int MAX_HOT_RESULTS = 1000;
+
+    /** Trend etiket sorgusunda dönülebilecek en fazla etiket. */
+    public static final int MAX_TRENDING_TAGS = 50;
+
+    /** Konum facet sorgusunda dönülebilecek en fazla konum. */
+    public static final int MAX_LOCATION_FACETS = 100;
+
+    /** Yaklaşan etkinliklerde {@code to} verilmezse aralık (gün, bugün dahil). */
+    public static final int DEFAULT_UPCOMING_DAYS = 7;
+
+    /** Yaklaşan etkinliklerde tek istekte sorulabilecek en uzun aralık (gün). */
+    public static final int MAX_UPCOMING_DAYS = 366;
+
     private final EventPostRepository postRepository;
+    private final PostHashtagRepository hashtagRepository;
     private final UserRepository userRepository;
+    private final PostCache postCache;
+    private final PostPurger postPurger;
+    private final PostSearchIndex searchIndex;
+    private final UpcomingEventsTimeline timeline;
+    private final HotRanking hotRanking;
+    private final TrendingTags trendingTags;
+    private final LocationFacets locationFacets;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Yeni gönderi oluşturur.
@@ -48,12 +123,20 @@ public class PostService {
                 .content(request.content())
                 .eventTitle(request.eventTitle())
                 .eventLocation(request.eventLocation())
+                .locationKey(LocationNormalizer.storedKey(request.eventLocation()))
                 .eventDate(request.eventDate())
                 .imageUrl(request.imageUrl())
                 .build();
 
         EventPost saved = postRepository.save(post);
-        return mapToResponse(saved);
+        userRepository.adjustPostCount(author.getId(), 1);
+        // Etiketler aynı transaction'da yazılır; trend sayaçları olaydaki içerikten aynı kuralla çıkarır
+        hashtagRepository.saveAll(HashtagExtractor.extract(saved.getContent()).stream()
+                .map(tag -> PostHashtag.builder().post(saved).tag(tag).createdAt(saved.getCreatedAt()).build())
+                .toList());
+        PostResponse response = mapToResponse(saved);
+        eventPublisher.publishEvent(new PostCreatedEvent(response));
+        return response;
     }
 
     /**
@@ -68,10 +151,39 @@ public class PostService {
      * - totalPages: toplam sayfa sayısı
      * - number: mevcut sayfa numarası
      * - hasNext / hasPrevious: sayfalama navigasyonu
+     * <p>
+     * İlk birkaç sayfa {@link PostCache} üzerinden sunulur.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<PostResponse> getFeed(Pageable pageable) {
-        return postRepository.findAllByOrderByCreatedAtDesc(pageable)
-                .map(this::mapToResponse);
+        return postCache.getFeedPage(pageable,
+                () -> postRepository.findAllByOrderByCreatedAtDescIdDesc(pageable)
+                        .map(this::mapToResponse));
+    }
+
+    /**
+     * Keyset (cursor) Feed — sonsuz kaydırma için.
+     * <p>
+     * OFFSET ve COUNT(*) kullanmaz: her dilim {@code size + 1} satır okur;
+     * fazladan okunan satır sadece "devamı var mı?" sorusunu cevaplar.
+     * Böylece 500. sayfa da ilk sayfa ile aynı maliyettedir.
+     *
+     * @param cursor Önceki yanıttaki {@code nextCursor}; ilk istek için null
+     * @param size   Dilim boyutu (1..{@value #MAX_SLICE_SIZE} arasına sıkıştırılır)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<PostResponse> getFeedSlice(String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        if (cursor == null || cursor.isBlank()) {
+            // İmleçsiz ilk dilim en sıcak okuma → cache
+            return postCache.getFeedHead(limit,
+                    () -> toSlice(postRepository.findFeedSliceFirst(window), limit));
+        }
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return toSlice(postRepository.findFeedSliceAfter(after.createdAt(), after.id(), window), limit);
     }
 
     /**
@@ -85,19 +197,238 @@ public class PostService {
     /**
      * Tekil gönderi görüntüleme.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PostResponse getPostById(Long postId) {
-        EventPost post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Gönderi bulunamadı: " + postId));
-        return mapToResponse(post);
+        return postCache.getPost(postId, () -> {
+            EventPost post = postRepository.findWithAuthorById(postId)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Gönderi bulunamadı: " + postId));
+            return mapToResponse(post);
+        });
+    }
+
+    /**
+     * Toplu gönderi getirme — yer imleri, bildirimler gibi id listeleri için.
+     * <p>
+     * Cache'te olanlar {@link PostCache}'ten gelir; kalanlar yazarlarıyla
+     * birlikte tek {@code IN} sorgusuyla yüklenir. Bulunamayanlar (silinmiş
+     * gönderiler) hata değil, {@code missingIds}'tir.
+     *
+     * @throws IllegalArgumentException Id yoksa veya {@link BatchResponse#MAX_IDS}'ten fazlaysa
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BatchResponse<PostResponse> getPostsByIds(Collection<Long> ids) {
+        Set<Long> requested = BatchResponse.distinctIds(ids);
+        return BatchResponse.of(requested, postCache.getPosts(requested, missing -> loadPosts(missing)));
+    }
+
+    /**
+     * Gönderi arama — içerik, başlık ve konumda (Türkçe karakter duyarsız,
+     * önek eşleşmeli). Sıralama {@link PostSearchIndex} skoruna göredir.
+     * <p>
+     * Veritabanına sadece sonuç sayfasının cache'te olmayan gönderileri için
+     * tek sorgu gider; eşleştirme tamamen bellektedir.
+     *
+     * @throws IllegalArgumentException Sorguda aranabilir kelime yoksa veya
+     *                                  sayfa ilk {@value #MAX_SEARCH_RESULTS}
+     *                                  sonucun dışındaysa
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Page<PostResponse> searchPosts(String query, int page, int size) {
+        List<String> terms = TurkishAnalyzer.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Arama için en az " + TurkishAnalyzer.MIN_TERM_LENGTH
+                    + " harfli bir kelime girin");
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        int offset = Math.max(page, 0) * limit;
+        if (offset + limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("En fazla ilk " + MAX_SEARCH_RESULTS + " sonuç görüntülenebilir");
+        }
+
+        InvertedIndex.Result result = searchIndex.search(terms, offset, limit);
+        List<Long> ids = result.hits().stream().map(InvertedIndex.Hit::docId).toList();
+        Map<Long, PostResponse> posts = postCache.getPosts(ids, missing -> loadPosts(missing));
+
+        // Sıra index'ten gelir; index'te olup DB'de artık olmayanlar (yarış) atlanır
+        List<PostResponse> content = ids.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(Math.max(page, 0), limit), result.total());
+    }
+
+    /**
+     * Etiketli gönderiler — en yeniden en eskiye, keyset sayfalı (feed ile
+     * aynı imleç formatı).
+     * <p>
+     * Sıra {@code post_hashtags}'in {@code (tag, created_at, post_id)}
+     * index'inden okunur; gönderiler sonuç sayfası kadar {@link PostCache}
+     * üzerinden doldurulur.
+     *
+     * @param tag {@code #} ile veya onsuz; "#KariyerGünü" = "kariyergunu"
+     * @throws IllegalArgumentException Etiket geçersizse
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<PostResponse> getPostsByTag(String tag, String cursor, int size) {
+        String normalized = HashtagExtractor.normalize(tag);
+        if (normalized == null) {
+            throw new IllegalArgumentException("Geçersiz etiket: " + tag);
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        List<TaggedPost> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = hashtagRepository.findSliceFirst(normalized, window);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = hashtagRepository.findSliceAfter(normalized, after.createdAt(), after.id(), window);
+        }
+        List<Long> ids = rows.stream().limit(limit).map(TaggedPost::getPostId).toList();
+        Map<Long, PostResponse> posts = postCache.getPosts(ids, missing -> loadPosts(missing));
+
+        CursorPage<TaggedPost> slice = CursorPage.of(rows, limit, row -> row,
+                row -> new KeysetCursor(row.getCreatedAt(), row.getPostId()));
+        // Listelenip bu arada silinenler (yarış) atlanır
+        List<PostResponse> content = slice.content().stream()
+                .map(row -> posts.get(row.getPostId()))
+                .filter(Objects::nonNull)
+                .toList();
+        return new CursorPage<>(content, slice.nextCursor(), slice.hasNext(), limit);
+    }
+
+    /**
+     * Trend etiketler — son 24 saatte en çok kullanılanlar. Sayılar
+     * {@link TrendingTags}'ten gelir; veritabanına gidilmez.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TrendingTagResponse> getTrendingTags(int limit) {
+        return trendingTags.top(Math.min(Math.max(limit, 1), MAX_TRENDING_TAGS)).stream()
+                .map(entry -> new TrendingTagResponse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Konum facet'leri — yaklaşan etkinliklerin (şu andan itibaren, tarih
+     * sınırı yok) bina/fakülte başına sayıları, çoktan aza. Sayılar
+     * {@link LocationFacets}'ten gelir; veritabanına gidilmez.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<LocationFacetResponse> getLocationFacets(int limit) {
+        return locationFacets.top(Math.min(Math.max(limit, 1), MAX_LOCATION_FACETS));
+    }
+
+    /**
+     * Hot feed — zaman aşınmalı etkileşime (beğeni, yorum, yenilik) göre
+     * sıralı gönderiler.
+     * <p>
+     * Sıra {@link HotRanking}'den gelir; veritabanına sadece sonuç
+     * sayfasının cache'te olmayan gönderileri için tek sorgu gider.
+     *
+     * @throws IllegalArgumentException Sayfa ilk {@value #MAX_HOT_RESULTS}
+     *                                  gönderinin dışındaysa
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Page<PostResponse> getHotFeed(int page, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        int offset = Math.max(page, 0) * limit;
+        if (offset + limit > MAX_HOT_RESULTS) {
+            throw new IllegalArgumentException("En fazla ilk " + MAX_HOT_RESULTS + " gönderi görüntülenebilir");
+        }
+
+        List<Long> ids = hotRanking.top(offset, limit);
+        Map<Long, PostResponse> posts = postCache.getPosts(ids, missing -> loadPosts(missing));
+
+        // Sıralamada olup DB'de artık olmayanlar (yarış) atlanır
+        List<PostResponse> content = ids.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(Math.max(page, 0), limit),
+                Math.min(hotRanking.size(), MAX_HOT_RESULTS));
+    }
+
+    /**
+     * Yaklaşan etkinlikler — {@code eventDate}'i {@code [from, to]} günlerine
+     * düşen gönderiler, en yakın etkinlikten başlayarak. Geçmiş etkinlikler
+     * (şu andan önce) listelenmez.
+     * <p>
+     * Etkinlik sırası {@link UpcomingEventsTimeline}'dan gelir: pencere
+     * içindeki aralıklar veritabanına dokunmaz; gönderiler sonuç sayfası
+     * kadar {@link PostCache} üzerinden doldurulur. İmleç feed ile aynı
+     * formattadır, {@code (eventDate, id)} taşır.
+     * <p>
+     * Konum filtresi verilirse sıra {@code (location_key, event_date, id)}
+     * index'inden okunur.
+     *
+     * @param from     İlk gün (dahil); null → bugün
+     * @param to       Son gün (dahil); null → {@code from} + {@value #DEFAULT_UPCOMING_DAYS} gün
+     * @param location Konum anahtarı veya serbest metin (bkz. {@link LocationNormalizer}); null → tümü
+     * @param cursor   Önceki yanıttaki {@code nextCursor}; ilk istek için null
+     * @throws IllegalArgumentException Aralık ters veya {@value #MAX_UPCOMING_DAYS}
+     *                                  günden uzunsa, konum anahtar üretmiyorsa
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<PostResponse> getUpcomingEvents(LocalDate from, LocalDate to, String location,
+            String cursor, int size) {
+        LocalDateTime now = timeline.now();
+        LocalDate first = from != null ? from : now.toLocalDate();
+        LocalDate last = to != null ? to : first.plusDays(DEFAULT_UPCOMING_DAYS - 1);
+        if (last.isBefore(first)) {
+            throw new IllegalArgumentException("Bitiş tarihi başlangıç tarihinden önce olamaz");
+        }
+        if (ChronoUnit.DAYS.between(first, last) >= MAX_UPCOMING_DAYS) {
+            throw new IllegalArgumentException("Tarih aralığı en fazla " + MAX_UPCOMING_DAYS + " gün olabilir");
+        }
+        String locationKey = null;
+        if (location != null && !location.isBlank()) {
+            locationKey = LocationNormalizer.key(location);
+            if (locationKey == null) {
+                throw new IllegalArgumentException("Geçersiz konum: " + location);
+            }
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+
+        // Alt sınır en erken "şimdi" — (t, 0) imleci t anındaki etkinlikleri de kapsar
+        TimelineEntry after = new TimelineEntry(first.atStartOfDay().isAfter(now) ? first.atStartOfDay() : now, 0);
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            TimelineEntry fromCursor = new TimelineEntry(position.createdAt(), position.id());
+            if (fromCursor.compareTo(after) > 0) {
+                after = fromCursor;
+            }
+        }
+
+        LocalDateTime before = last.plusDays(1).atStartOfDay();
+        List<TimelineEntry> entries = locationKey == null
+                ? timeline.range(after, before, limit + 1)
+                : postRepository.findUpcomingAtLocationAfter(locationKey, after.eventDate(), after.id(), before,
+                        PageRequest.of(0, limit + 1)).stream()
+                        .map(row -> new TimelineEntry(row.getEventDate(), row.getId()))
+                        .toList();
+        List<Long> ids = entries.stream().limit(limit).map(TimelineEntry::id).toList();
+        Map<Long, PostResponse> posts = postCache.getPosts(ids, missing -> loadPosts(missing));
+
+        CursorPage<TimelineEntry> slice = CursorPage.of(entries, limit, entry -> entry,
+                entry -> new KeysetCursor(entry.eventDate(), entry.id()));
+        // Listelenip bu arada silinenler (yarış) atlanır
+        List<PostResponse> content = slice.content().stream()
+                .map(entry -> posts.get(entry.id()))
+                .filter(Objects::nonNull)
+                .toList();
+        return new CursorPage<>(content, slice.nextCursor(), slice.hasNext(), limit);
     }
 
     /**
      * Gönderi silme — sadece yazar silebilir.
+     * <p>
+     * Beğeni ve yorumlar {@link PostPurger} ile set-based silinir;
+     * koleksiyonlar hiçbir zaman belleğe yüklenmez.
      */
     @Transactional
     public void deletePost(Long postId, String username) {
-        EventPost post = postRepository.findById(postId)
+        EventPost post = postRepository.findWithAuthorById(postId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Gönderi bulunamadı: " + postId));
 
@@ -106,16 +437,53 @@ public class PostService {
                     "Bu gönderiyi silme yetkiniz yok");
         }
 
-        postRepository.delete(post);
+        PostResponse snapshot = mapToResponse(post);
+        postPurger.purge(postId);
+        eventPublisher.publishEvent(new PostDeletedEvent(snapshot));
+    }
+
+    /**
+     * Yazarın gönderilerinden en fazla {@code limit} tanesini beğeni ve
+     * yorumlarıyla birlikte siler (hesap silme işi). Her gönderi için
+     * {@link PostDeletedEvent} yayınlanır → cache'ler commit sonrasında
+     * temizlenir.
+     * <p>
+     * Çağıranın transaction'ında çalışır; iş ilerlemesi aynı commit ile yazılır.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public PostPurger.PurgeResult purgePostsOfAuthor(Long authorId, int limit) {
+        List<EventPost> posts = postRepository.findChunkByAuthorId(authorId, PageRequest.of(0, limit));
+        List<PostResponse> snapshots = posts.stream().map(this::mapToResponse).toList();
+
+        PostPurger.PurgeResult result = postPurger.purge(snapshots.stream().map(PostResponse::id).toList());
+        snapshots.forEach(snapshot -> eventPublisher.publishEvent(new PostDeletedEvent(snapshot)));
+        return result;
     }
 
     // ── Entity → DTO Dönüşümü ──────────────────────────────────
 
+    private Map<Long, PostResponse> loadPosts(Collection<Long> ids) {
+        Map<Long, PostResponse> posts = new HashMap<>();
+        for (EventPost post : postRepository.findWithAuthorByIdIn(ids)) {
+            posts.put(post.getId(), mapToResponse(post));
+        }
+        return posts;
+    }
+
+    private CursorPage<PostResponse> toSlice(List<EventPost> rows, int limit) {
+        return CursorPage.of(rows, limit, this::mapToResponse,
+                post -> new KeysetCursor(post.getCreatedAt(), post.getId()));
+    }
+
     /**
      * Entity'yi Response DTO'ya dönüştürür.
      * Bu dönüşüm sayesinde Entity'nin iç yapısı (lazy collection'lar, passwordHash
      * vb.)
      * asla dışarıya sızmaz.
+     * <p>
+     * {@code post.getAuthor()} erişimi ek sorgu üretmemelidir: bu metoda gelen
+     * entity'ler repository'de {@code @EntityGraph(attributePaths = "author")}
+     * ile yüklenir (bkz. {@code PostServiceQueryCountTest}).
      */
     private PostResponse mapToResponse(EventPost post) {
         return new PostResponse(
@@ -128,6 +496,10 @@ public class PostService {
                 post.getAuthor().getId(),
                 post.getAuthor().getUsername(),
                 post.getAuthor().getDisplayName(),
-                post.getCreatedAt());
+                post.getCreatedAt(),
+                post.getUpdatedAt(),
+                post.getLikeCount(),
+                post.getCommentCount(),
+                null);
     }
 }
@@ -0,0 +1,95 @@
+package com.unievent.service;
+
+import com.unievent.cache.UserCache;
+import com.unievent.dto.response.BatchResponse;
+import com.unievent.dto.response.UserResponse;
+import com.unievent.entity.User;
+import com.unievent.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Kullanıcı profili okuma servisi.
+ * <p>
+ * Dönen {@link UserResponse} herkese açık profildir: e-posta yanıta
+ * konulmaz ({@code NON_NULL} → JSON'da alan yoktur). Hesap silme isteği
+ * verilmiş kullanıcılar bulunamamış sayılır.
+ * <p>
+ * Okumalar {@link UserCache} üzerinden (read-through) ve
+ * {@code Propagation.SUPPORTS} ile çalışır: cache hit'te veritabanına
+ * dokunulmaz. Gönderi ve beğeni sayıları {@code users} satırındaki
+ * denormalize sayaçlardan gelir — profil açılışında {@code COUNT(*)} yoktur.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+
+    /**
+     * @throws UsernameNotFoundException Kullanıcı yoksa veya silinmesi istendiyse (404)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public UserResponse getUser(Long userId) {
+        return userCache.getUser(userId, () -> userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + userId)));
+    }
+
+    /**
+     * @throws UsernameNotFoundException Kullanıcı yoksa veya silinmesi istendiyse (404)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public UserResponse getUserByUsername(String username) {
+        return userCache.getUserByUsername(username, () -> userRepository.findByUsername(username)
+                .filter(user -> user.getDeletedAt() == null)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + username)));
+    }
+
+    /**
+     * Toplu profil getirme — gönderi listelerinde yazar kartları gibi id
+     * listeleri için. Cache'te olmayanlar tek {@code IN} sorgusuyla yüklenir;
+     * bulunamayanlar {@code missingIds}'tir.
+     *
+     * @throws IllegalArgumentException Id yoksa veya {@link BatchResponse#MAX_IDS}'ten fazlaysa
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BatchResponse<UserResponse> getUsersByIds(Collection<Long> ids) {
+        Set<Long> requested = BatchResponse.distinctIds(ids);
+        return BatchResponse.of(requested, userCache.getUsers(requested, this::loadUsers));
+    }
+
+    private Map<Long, UserResponse> loadUsers(Collection<Long> ids) {
+        Map<Long, UserResponse> users = new HashMap<>();
+        for (User user : userRepository.findActiveByIdIn(ids)) {
+            users.put(user.getId(), mapToResponse(user));
+        }
+        return users;
+    }
+
+    private UserResponse mapToResponse(User user) {
+        return new UserResponse(
+                user.getId(),
+                user.getUsername(),
+                null,
+                user.getDisplayName(),
+                user.getBio(),
+                user.getProfileImageUrl(),
+                user.getRole().name(),
+                user.getCreatedAt(),
+                user.getPostCount(),
+                user.getLikesReceived());
+    }
+}
@@ -0,0 +1,129 @@
+package com.unievent.timeline;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Etkinlikler, gün kovalarına (day bucket) bölünmüş halde:
+ * {@code gün → o günün etkinlikleri, (eventDate, id) sırasıyla}.
+ * <p>
+ * Neden tek bir sıralı küme değil de gün kovaları?
+ * → Sorguların neredeyse hepsi gün sınırlıdır ("bugün", "bu hafta sonu",
+ * "önümüzdeki 7 gün"): aralık, kova haritası üzerinde bir {@code subMap}'tir.
+ * Geçmiş etkinlikleri atmak da tek tek silme değil, baştaki eski kovaları
+ * düşürmektir.
+ * <p>
+ * Bir günün etkinlikleri küçük bir sıralı dizidir ve değişiklikte kopyalanır
+ * (copy-on-write): kampüste bir güne düşen etkinlik sayısı onlarla yüzler
+ * arasıdır, yazma seyrektir. Okumalar kilit almaz — her zaman tutarlı bir
+ * dizi görür.
+ */
+final class DayBuckets {
+
+    private final ConcurrentSkipListMap<LocalDate, TimelineEntry[]> days = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /** Etkinliği ekler; zaten varsa bir şey yapmaz (idempotent). */
+    void add(TimelineEntry entry) {
+        LocalDate day = entry.eventDate().toLocalDate();
+        while (true) {
+            TimelineEntry[] entries = days.get(day);
+            if (entries == null) {
+                if (days.putIfAbsent(day, new TimelineEntry[] { entry }) == null) {
+                    size.incrementAndGet();
+                    return;
+                }
+                continue;
+            }
+            int index = Arrays.binarySearch(entries, entry);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            TimelineEntry[] copy = new TimelineEntry[entries.length + 1];
+            System.arraycopy(entries, 0, copy, 0, insertAt);
+            copy[insertAt] = entry;
+            System.arraycopy(entries, insertAt, copy, insertAt + 1, entries.length - insertAt);
+            // Dizi bu arada değiştiyse (eşzamanlı yazma) baştan dene
+            if (days.replace(day, entries, copy)) {
+                size.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    void remove(TimelineEntry entry) {
+        LocalDate day = entry.eventDate().toLocalDate();
+        while (true) {
+            TimelineEntry[] entries = days.get(day);
+            int index = entries == null ? -1 : Arrays.binarySearch(entries, entry);
+            if (index < 0) {
+                return;
+            }
+            boolean removed;
+            if (entries.length == 1) {
+                removed = days.remove(day, entries); // Boş kova haritadan çıkar
+            } else {
+                TimelineEntry[] copy = new TimelineEntry[entries.length - 1];
+                System.arraycopy(entries, 0, copy, 0, index);
+                System.arraycopy(entries, index + 1, copy, index, entries.length - index - 1);
+                removed = days.replace(day, entries, copy);
+            }
+            if (removed) {
+                size.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * {@code after}'dan sonraki (hariç) ve {@code before}'dan önceki ilk
+     * {@code limit} etkinlik, {@code (eventDate, id)} sırasıyla. Sadece
+     * aralığa düşen günlerin kovaları okunur.
+     */
+    List<TimelineEntry> range(TimelineEntry after, LocalDateTime before, int limit) {
+        List<TimelineEntry> result = new ArrayList<>(Math.min(limit, 64));
+        Map<LocalDate, TimelineEntry[]> window = days.subMap(
+                after.eventDate().toLocalDate(), true, before.toLocalDate(), true);
+
+        for (TimelineEntry[] entries : window.values()) {
+            int index = Arrays.binarySearch(entries, after);
+            // Bulunduysa imleç satırının kendisi atlanır; bulunmadıysa ekleme noktası
+            for (int i = index >= 0 ? index + 1 : -index - 1; i < entries.length; i++) {
+                TimelineEntry entry = entries[i];
+                if (!entry.eventDate().isBefore(before)) {
+                    return result;
+                }
+                result.add(entry);
+                if (result.size() == limit) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /** {@code day}'den önceki kovaları düşürür. */
+    void dropBefore(LocalDate day) {
+        Map.Entry<LocalDate, TimelineEntry[]> oldest;
+        while ((oldest = days.firstEntry()) != null && oldest.getKey().isBefore(day)) {
+            if (days.remove(oldest.getKey(), oldest.getValue())) {
+                size.addAndGet(-oldest.getValue().length);
+            }
+        }
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    int dayCount() {
+        return days.size();
+    }
+}
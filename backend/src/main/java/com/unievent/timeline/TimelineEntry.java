@@ -0,0 +1,19 @@
+package com.unievent.timeline;
+
+import java.time.LocalDateTime;
+
+/**
+ * Zaman çizelgesindeki bir etkinlik — sadece sıralama anahtarı. Gönderinin
+ * kendisi {@code PostCache} üzerinden id ile doldurulur.
+ * <p>
+ * Sıra {@code (eventDate, id)}: aynı saatteki etkinlikler id ile kesin
+ * sıralanır, keyset imleci satır atlamaz.
+ */
+public record TimelineEntry(LocalDateTime eventDate, long id) implements Comparable<TimelineEntry> {
+
+    @Override
+    public int compareTo(TimelineEntry other) {
+        int byDate = eventDate.compareTo(other.eventDate);
+        return byDate != 0 ? byDate : Long.compare(id, other.id);
+    }
+}
@@ -0,0 +1,267 @@
+package com.unievent.timeline;
+
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.UpcomingEvent;
+import com.unievent.view.InMemoryView;
+import com.unievent.view.ViewLoadGate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Yaklaşan etkinlikler zaman çizelgesi — {@code eventDate}'e göre
+ * {@link DayBuckets} + yaşam döngüsü.
+ * <p>
+ * Bugünden itibaren {@code horizon-days} günlük pencere bellektedir.
+ * "Bugün", "bu hafta sonu", "önümüzdeki 7 gün" gibi pencere içindeki aralık
+ * sorguları veritabanına gitmez; pencereyi aşan (veya pencere henüz
+ * yüklenmemişken gelen) sorgular {@code idx_event_posts_event_date_id}
+ * üzerinden aynı sırayla DB'den cevaplanır.
+ * <p>
+ * Yaşam döngüsü {@link InMemoryView}'dadır; bu görünüme özel olanlar:
+ * <ul>
+ * <li>Pencere, index sırasıyla {@code load-chunk-size}'lık parçalar halinde
+ * okunur — sadece {@code (id, event_date)}.</li>
+ * <li>Geçmiş etkinlikler kendiliğinden düşer: sorgunun alt sınırı her zaman
+ * "şimdi"dir; gün dönünce önceki günlerin kovaları atılır ve pencerenin sonuna
+ * yeni gün(ler) DB'den eklenir.</li>
+ * </ul>
+ * Gün sınırları {@code app.timeline.zone} saat diliminde hesaplanır —
+ * {@code eventDate} yerel (kampüs) saatidir, pod'un saat dilimi UTC olabilir.
+ * <p>
+ * Metrikler: {@code timeline.events} (bellekteki etkinlik),
+ * {@code timeline.queries} ({@code source=memory|database}).
+ */
+@Slf4j
+@Component
+public class UpcomingEventsTimeline extends InMemoryView {
+
+    /** Hizmet veren kovalar ve kapsadıkları günler: {@code [from, until)}. */
+    private record Window(DayBuckets buckets, LocalDate from, LocalDate until) {
+
+        boolean covers(TimelineEntry after, LocalDateTime before) {
+            return !after.eventDate().toLocalDate().isBefore(from)
+                    && !before.isAfter(until.atStartOfDay());
+        }
+    }
+
+    private final EventPostRepository postRepository;
+    private final ZoneId zone;
+    private final int horizonDays;
+    private final int loadChunkSize;
+
+    private final Counter memoryQueries;
+    private final Counter databaseQueries;
+
+    /** null → pencere henüz yüklenmedi, sorgular DB'ye gider. */
+    private volatile Window window;
+
+    /** Yükleme sırasında canlı olaylar bu kovalara da uygulanır ({@code loadingUntil}'e kadar). */
+    private DayBuckets loading;
+    private LocalDate loadingUntil;
+    /** Yükleme sırasında silinen gönderiler — henüz okunmamış parçada olabilirler. */
+    private final Set<Long> removedDuringLoad = ConcurrentHashMap.newKeySet();
+
+    public UpcomingEventsTimeline(EventPostRepository postRepository,
+            @Value("${app.timeline.zone}") ZoneId zone,
+            @Value("${app.timeline.horizon-days}") int horizonDays,
+            @Value("${app.timeline.load-chunk-size}") int loadChunkSize,
+            MeterRegistry meterRegistry, ViewLoadGate loadGate) {
+        super("timeline", loadGate);
+        this.postRepository = postRepository;
+        this.zone = zone;
+        this.horizonDays = horizonDays;
+        this.loadChunkSize = loadChunkSize;
+
+        this.memoryQueries = Counter.builder("timeline.queries").tag("source", "memory").register(meterRegistry);
+        this.databaseQueries = Counter.builder("timeline.queries").tag("source", "database").register(meterRegistry);
+        Gauge.builder("timeline.events", this, timeline -> {
+            Window current = timeline.window;
+            return current == null ? 0 : current.buckets().size();
+        }).register(meterRegistry);
+    }
+
+    @Override
+    public boolean isReady() {
+        return window != null;
+    }
+
+    /** Kampüs saat dilimindeki şu an — "geçmiş etkinlik" sınırı. */
+    public LocalDateTime now() {
+        return LocalDateTime.now(zone);
+    }
+
+    /**
+     * {@code after}'dan sonraki (hariç) ve {@code before}'dan önceki ilk
+     * {@code limit} etkinlik, {@code (eventDate, id)} sırasıyla. Aralık
+     * bellekteki pencerenin içindeyse DB'ye gidilmez.
+     */
+    public List<TimelineEntry> range(TimelineEntry after, LocalDateTime before, int limit) {
+        Window current = window;
+        if (current != null && current.covers(after, before)) {
+            memoryQueries.increment();
+            return current.buckets().range(after, before, limit);
+        }
+        databaseQueries.increment();
+        return postRepository.findUpcomingAfter(after.eventDate(), after.id(), before, PageRequest.of(0, limit))
+                .stream()
+                .map(row -> new TimelineEntry(row.getEventDate(), row.getId()))
+                .toList();
+    }
+
+    // ── Canlı güncelleme (commit sonrası) ──────────────────────
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        PostResponse post = event.post();
+        if (post.eventDate() != null) {
+            apply(new TimelineEntry(post.eventDate(), post.id()), DayBuckets::add);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        PostResponse post = event.post();
+        if (post.eventDate() != null) {
+            synchronized (this) {
+                apply(new TimelineEntry(post.eventDate(), post.id()), DayBuckets::remove);
+                if (loading != null) {
+                    removedDuringLoad.add(post.id());
+                }
+            }
+        }
+    }
+
+    /**
+     * Değişikliği, etkinliğin günü kapsanıyorsa hizmet veren kovalara ve
+     * (varsa) yüklenmekte olana uygular. İkisi aynı kova olabilir — ekleme
+     * ve silme idempotent'tir.
+     */
+    private synchronized void apply(TimelineEntry entry, BiConsumer<DayBuckets, TimelineEntry> change) {
+        LocalDate day = entry.eventDate().toLocalDate();
+        Window current = window;
+        if (current != null && !day.isBefore(current.from()) && day.isBefore(current.until())) {
+            change.accept(current.buckets(), entry);
+        }
+        if (loading != null && day.isBefore(loadingUntil)) {
+            change.accept(loading, entry);
+        }
+    }
+
+    // ── Yükleme ve yaşlanma ────────────────────────────────────
+
+    /** Gün döndüyse geçmiş kovaları düşürür ve pencereyi ileri kaydırır. */
+    @Override
+    protected void onTick() {
+        Window current = window;
+        if (current != null && current.from().isBefore(now().toLocalDate())) {
+            execute(this::advance);
+        }
+    }
+
+    @Override
+    protected void rebuild() {
+        long started = System.nanoTime();
+        LocalDate today = now().toLocalDate();
+        LocalDate until = today.plusDays(horizonDays);
+        DayBuckets fresh = new DayBuckets();
+        load(fresh, today, until);
+        publish(new Window(fresh, today, until));
+        log.info("Etkinlik zaman çizelgesi yüklendi: {} etkinlik, {} gün, {} ms", fresh.size(),
+                fresh.dayCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Override
+    protected void abortRebuild() {
+        abortLoad();
+    }
+
+    private void advance() {
+        Window current = window;
+        LocalDate today = now().toLocalDate();
+        if (current == null || !current.from().isBefore(today)) {
+            return; // Arada yeniden yüklendi
+        }
+        LocalDate until = today.plusDays(horizonDays);
+        try {
+            synchronized (this) {
+                // Önce pencere daralır: düşürülen günlere canlı olay uygulanmaz
+                window = new Window(current.buckets(), today, current.until());
+            }
+            current.buckets().dropBefore(today);
+            if (until.isAfter(current.until())) {
+                load(current.buckets(), current.until(), until);
+            }
+            publish(new Window(current.buckets(), today, until));
+            log.info("Etkinlik zaman çizelgesi {} tarihine kaydırıldı: {} etkinlik", today,
+                    current.buckets().size());
+        } catch (RuntimeException e) {
+            abortLoad();
+            // Pencere eski sonunda kalır; o günlere düşen sorgular DB'ye gider, sonraki turda tekrar denenir
+            log.warn("Etkinlik zaman çizelgesi kaydırılamadı: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * {@code [from, until)} günlerinin etkinliklerini {@code target}'a okur.
+     * Yükleme boyunca (ardından gelen {@link #publish}'e kadar) canlı olaylar
+     * {@code target}'a da uygulanır; bu sırada silinenler okunan parçada olsa
+     * bile eklenmez.
+     */
+    private void load(DayBuckets target, LocalDate from, LocalDate until) {
+        synchronized (this) {
+            removedDuringLoad.clear();
+            loading = target;
+            loadingUntil = until;
+        }
+        LocalDateTime before = until.atStartOfDay();
+        TimelineEntry after = new TimelineEntry(from.atStartOfDay(), 0);
+        List<UpcomingEvent> chunk;
+        do {
+            chunk = postRepository.findUpcomingAfter(after.eventDate(), after.id(), before,
+                    PageRequest.of(0, loadChunkSize));
+            // Kontrol ve ekleme silme olayıyla aynı kilitte: parça okunduktan
+            // sonra commit edilen silme, etkinliği geri getiremez
+            synchronized (this) {
+                for (UpcomingEvent row : chunk) {
+                    after = new TimelineEntry(row.getEventDate(), row.getId());
+                    if (!removedDuringLoad.contains(after.id())) {
+                        target.add(after);
+                    }
+                }
+            }
+        } while (chunk.size() == loadChunkSize);
+    }
+
+    /**
+     * Yüklenen pencereyi hizmete alır. Yükleme aynı kilit altında biter —
+     * arada gelen bir olay ne eski ne yeni pencerede kaybolmaz.
+     */
+    private synchronized void publish(Window next) {
+        window = next;
+        abortLoad();
+    }
+
+    private synchronized void abortLoad() {
+        loading = null;
+        loadingUntil = null;
+        removedDuringLoad.clear();
+    }
+}
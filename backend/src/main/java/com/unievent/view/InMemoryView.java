@@ -0,0 +1,130 @@
+package com.unievent.view;
+
+import com.unievent.event.ClusterResyncEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Veritabanından kurulup olaylarla güncel tutulan bellek içi görünümlerin
+ * ortak yaşam döngüsü — arama index'i, zaman çizelgesi, hot sıralaması,
+ * trend etiketler, konum facet'leri, feed parmak izi.
+ * <ul>
+ * <li>Açılışta kurulum arka planda, görünümün tek thread'inde başlar;
+ * kurulumlar {@link ViewLoadGate} ile sınırlanır.</li>
+ * <li>Dakikada bir {@link #onTick()} çalışır (pencere kaydırma vb.); görünüm
+ * hâlâ hazır değilse (ör. DB açılışta erişilemezdi) kurulum tekrar denenir.</li>
+ * <li>Küme kanalı koparsa ({@link ClusterResyncEvent}) aradaki olaylar
+ * kaçırılmış olabilir → yeniden kurulur; bu sürede eski kopya hizmet
+ * vermeye devam eder.</li>
+ * <li>Aynı anda tek kurulum çalışır; kurulum sürerken gelen istek yok sayılır.</li>
+ * </ul>
+ * Canlı olaylar ({@code PostCreatedEvent}/{@code PostDeletedEvent}, commit
+ * sonrası) görünüme özeldir: alt sınıf onları hem hizmet veren hem kurulmakta
+ * olan kopyaya uygular ve kurulumu aynı kilit ({@code synchronized (this)})
+ * altında hizmete alır. Diğer replica'lardaki yazmalar aynı olaylarla gelir.
+ */
+@Slf4j
+public abstract class InMemoryView {
+
+    private final String name;
+    private final ViewLoadGate gate;
+    private final ExecutorService loader;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * @param name görünüm adı — thread öneki ve log için
+     */
+    protected InMemoryView(String name, ViewLoadGate gate) {
+        this.name = name;
+        this.gate = gate;
+        this.loader = Executors.newSingleThreadExecutor(new CustomizableThreadFactory(name + "-"));
+    }
+
+    /** Hizmet verecek bir kopya var mı? false → dakikalık turda kurulum tekrar denenir. */
+    public abstract boolean isReady();
+
+    /**
+     * Görünümü baştan kurar ve hizmete alır. Görünümün thread'inde, kapı
+     * ({@link ViewLoadGate}) izni alınmış olarak çalışır.
+     */
+    protected abstract void rebuild();
+
+    /** {@link #rebuild()} hata fırlattı — kurulmakta olan kopyayı bırak. */
+    protected void abortRebuild() {
+    }
+
+    /** Dakikalık bakım (kurulumdan bağımsız); varsayılan boş. */
+    protected void onTick() {
+    }
+
+    /** Açılışta ve zamanlanmış turlarda kurulum yapılır mı ({@code app.views.auto-load})? */
+    protected final boolean isAutoLoad() {
+        return gate.isAutoLoad();
+    }
+
+    /** Kurulumla aynı thread'de çalıştırır — ikisi çakışmaz. */
+    protected final void execute(Runnable task) {
+        loader.execute(task);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (isAutoLoad()) {
+            rebuildAsync();
+        }
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        rebuildAsync();
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    void tick() {
+        if (!isAutoLoad()) {
+            return;
+        }
+        onTick();
+        if (!isReady()) {
+            rebuildAsync();
+        }
+    }
+
+    public void rebuildAsync() {
+        if (rebuilding.compareAndSet(false, true)) {
+            loader.execute(this::runRebuild);
+        }
+    }
+
+    private void runRebuild() {
+        try {
+            gate.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Kapanış
+            rebuilding.set(false);
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            abortRebuild();
+            log.error("Bellek içi görünüm kurulamadı ({}): {}", name, e.getMessage(), e);
+        } finally {
+            gate.release();
+            rebuilding.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+}
@@ -0,0 +1,47 @@
+package com.unievent.view;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bellek içi görünümlerin ({@link InMemoryView}) kurulumlarını sınırlar.
+ * <p>
+ * Neden?
+ * → Her görünüm kendi thread'inde kurulur. Sınır olmasa açılışta altısı
+ * birden tabloları tarar: bağlantı havuzunun yarısı dolar ve eski ile yeni
+ * kopyaların toplamı aynı anda 1 Gi pod'un heap'ine biner. Aynı anda en
+ * fazla {@code max-concurrent-loads} kurulum çalışır; diğerleri sırada
+ * bekler (bu sürede ya eski kopya hizmet verir ya da istek 503 alır).
+ * <p>
+ * {@code auto-load: false} açılıştaki ve zamanlanmış kurulumları kapatır;
+ * kurulum sadece {@link InMemoryView#rebuildAsync()} ile elle başlar. Test
+ * profili bunu kullanır: arka plandaki okumalar, testlerin ölçtüğü global
+ * Hibernate istatistiklerine karışmaz.
+ */
+@Component
+public class ViewLoadGate {
+
+    private final Semaphore permits;
+    private final boolean autoLoad;
+
+    public ViewLoadGate(@Value("${app.views.max-concurrent-loads}") int maxConcurrentLoads,
+            @Value("${app.views.auto-load}") boolean autoLoad) {
+        this.permits = new Semaphore(maxConcurrentLoads, true);
+        this.autoLoad = autoLoad;
+    }
+
+    /** false → açılışta ve zamanlanmış turlarda kurulum yapılmaz. */
+    boolean isAutoLoad() {
+        return autoLoad;
+    }
+
+    void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    void release() {
+        permits.release();
+    }
+}
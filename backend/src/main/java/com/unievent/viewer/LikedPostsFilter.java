@@ -0,0 +1,104 @@
+package com.unievent.viewer;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bir kullanıcının beğendiği gönderi id'leri için Bloom filtresi.
+ * <p>
+ * "Beğenmedi" cevabı kesindir, "belki beğendi" cevabı veritabanında
+ * doğrulanır. Feed'deki gönderilerin çoğu izleyici tarafından beğenilmemiştir
+ * → çoğu sayfa hiç sorgu çalıştırmaz, kalanlar sadece "belki"ler için tek
+ * {@code IN} sorgusu.
+ * <p>
+ * Kurulumda beklenen beğeni sayısının iki katı kapasiteyle ve eleman başına
+ * {@value #BITS_PER_ENTRY} bit ile boyutlanır (~%1 yanlış pozitif). Kapasite
+ * dolunca {@link #add} false döner; filtre atılır ve sonraki okumada yeniden
+ * kurulur. Kaldırma desteklenmez (beğeni geri alma yanlış pozitif bırakır).
+ * <p>
+ * Çok fazla beğenisi olan kullanıcı için {@link #saturated()} kullanılır:
+ * her id "belki"dir, yani davranış filtresiz hale (tek {@code IN} sorgusu) döner.
+ * <p>
+ * Bitler {@link AtomicLongArray}'dedir — eşzamanlı ekleme bit kaybetmez.
+ */
+final class LikedPostsFilter {
+
+    static final int BITS_PER_ENTRY = 10;
+    private static final int HASHES = 7;
+    private static final int MIN_CAPACITY = 64;
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+
+    private static final LikedPostsFilter SATURATED = new LikedPostsFilter(0);
+
+    private LikedPostsFilter(int capacity) {
+        this.capacity = capacity;
+        int wordCount = (int) (((long) capacity * BITS_PER_ENTRY + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = (long) wordCount * 64;
+    }
+
+    static LikedPostsFilter of(Collection<Long> postIds) {
+        LikedPostsFilter filter = new LikedPostsFilter(Math.max(MIN_CAPACITY, postIds.size() * 2));
+        postIds.forEach(filter::add);
+        return filter;
+    }
+
+    /** Her id için "belki" diyen filtre. */
+    static LikedPostsFilter saturated() {
+        return SATURATED;
+    }
+
+    /**
+     * @return false → kapasite doldu, filtre artık güvenilir değil (atılmalı)
+     */
+    boolean add(long postId) {
+        if (this == SATURATED) {
+            return true;
+        }
+        if (size.incrementAndGet() > capacity) {
+            return false;
+        }
+        long hash = mix(postId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            long mask = 1L << bit;
+            words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+        return true;
+    }
+
+    boolean mightContain(long postId) {
+        if (this == SATURATED) {
+            return true;
+        }
+        long hash = mix(postId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Yaklaşık bellek (cache ağırlığı). */
+    int sizeInBytes() {
+        return words.length() * Long.BYTES + 64;
+    }
+
+    /** Ardışık id'leri dağıtan 64 bit karıştırma (SplitMix64 son adımı). */
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
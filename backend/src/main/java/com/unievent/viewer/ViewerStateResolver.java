@@ -0,0 +1,215 @@
+package com.unievent.viewer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unievent.dto.response.BatchResponse;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.ClusterResyncEvent;
+import com.unievent.event.PostLikedEvent;
+import com.unievent.event.PostUnlikedEvent;
+import com.unievent.pagination.CursorPage;
+import com.unievent.repository.LikeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * İzleyiciye özel alanlar ({@code likedByMe}) — feed sayfası başına en fazla
+ * tek sorgu.
+ * <p>
+ * Neden {@link PostResponse} cache'inde değil?
+ * → Feed sayfaları ve tekil gönderiler tüm izleyiciler için ortak cache'lenir
+ * ({@code PostCache}). İzleyici durumu cache'ten sonra, sayfanın tamamı için
+ * tek seferde eklenir; gönderi başına {@code EXISTS} sorgusu (N+1) yoktur.
+ * <p>
+ * Kullanıcı başına bir Bloom filtresi ({@link LikedPostsFilter}) tutulur:
+ * <ul>
+ * <li>Sayfadaki hiçbir gönderi filtrede yoksa → sorgu yok; giriş yapmış
+ * izleyicinin maliyeti anonim izleyiciyle aynıdır (çoğu sayfa).</li>
+ * <li>"Belki" olanlar → sadece onlar için tek {@code IN} sorgusu
+ * ({@code uk_likes_user_post} üzerinden).</li>
+ * <li>Filtre ilk istekte kullanıcının beğenilerinden kurulur;
+ * {@code max-likes-per-user}'dan fazla beğenisi olan kullanıcıda filtre
+ * kurulmaz, her sayfa tek {@code IN} sorgusudur.</li>
+ * <li>Yeni beğeni ({@link PostLikedEvent}) commit sonrasında filtreye eklenir;
+ * diğer replica'lardaki beğeniler aynı olayla gelir. Kapasitesi dolan filtre
+ * atılır ve sonraki istekte yeniden kurulur.</li>
+ * </ul>
+ * Filtreler toplam {@code max-memory} ile sınırlıdır (ağırlık = bit dizisinin
+ * boyutu); {@code expire-after-access} boyunca istek atmayan kullanıcının
+ * filtresi düşer.
+ * <p>
+ * Feed ETag'i ({@code ConditionalRequests}) izleyicinin beğeni sürümünü
+ * ({@link #likeVersion}) içerir — beğeni veya geri almada değişmezse 304,
+ * eski {@code likedByMe} değerlerini geri getirirdi:
+ * <ul>
+ * <li>Sürüm, replica'nın tek bir artan sayacından alınır; kayıt düşse bile
+ * (boyut sınırı, süre, küme yeniden bağlanması) yeniden oluşan kayıt daha önce
+ * verilmemiş bir değer alır → eski ETag hiçbir zaman eşleşmez.</li>
+ * <li>Başına replica açılışında rastgele seçilen bir değer eklenir: başka
+ * pod'un (veya yeniden başlamadan önceki) sayacı aynı sayıya ulaşsa da ETag
+ * eşleşmez. Pod değiştiren istek 200 alır — yanlış 304 değil.</li>
+ * </ul>
+ * <p>
+ * Metrikler: {@code viewer.liked.lookups{result=skipped|queried}} ve
+ * {@code cache=viewer.liked} etiketli Caffeine metrikleri.
+ */
+@Component
+public class ViewerStateResolver {
+
+    private final LikeRepository likeRepository;
+    private final int maxLikesPerUser;
+    private final Cache<Long, LikedPostsFilter> filters;
+    /** userId → son beğeni değişikliğinde {@link #versionSequence}'ten alınan değer. */
+    private final Cache<Long, Long> likeVersions;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final long instanceEpoch = ThreadLocalRandom.current().nextLong();
+    private final Counter skipped;
+    private final Counter queried;
+
+    public ViewerStateResolver(LikeRepository likeRepository,
+            @Value("${app.viewer.liked-filter.max-memory}") DataSize maxMemory,
+            @Value("${app.viewer.liked-filter.expire-after-access}") Duration expireAfterAccess,
+            @Value("${app.viewer.liked-filter.max-likes-per-user}") int maxLikesPerUser,
+            @Value("${app.viewer.like-versions.max-entries}") long maxVersions,
+            MeterRegistry meterRegistry) {
+        this.likeRepository = likeRepository;
+        this.maxLikesPerUser = maxLikesPerUser;
+
+        Cache<Long, LikedPostsFilter> cache = Caffeine.newBuilder()
+                .weigher((Long userId, LikedPostsFilter filter) -> filter.sizeInBytes())
+                .maximumWeight(maxMemory.toBytes())
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        this.filters = CaffeineCacheMetrics.monitor(meterRegistry, cache, "viewer.liked");
+        this.likeVersions = Caffeine.newBuilder()
+                .maximumSize(maxVersions)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.skipped = meterRegistry.counter("viewer.liked.lookups", "result", "skipped");
+        this.queried = meterRegistry.counter("viewer.liked.lookups", "result", "queried");
+    }
+
+    // ── Yanıt süsleme ──────────────────────────────────────────
+
+    /** {@code viewerId} null → anonim istek, sayfa olduğu gibi döner. */
+    public Page<PostResponse> apply(Long viewerId, Page<PostResponse> page) {
+        if (viewerId == null || page.isEmpty()) {
+            return page;
+        }
+        Set<Long> liked = likedPostIds(viewerId, page.getContent());
+        return page.map(post -> post.withLikedByMe(liked.contains(post.id())));
+    }
+
+    public CursorPage<PostResponse> apply(Long viewerId, CursorPage<PostResponse> slice) {
+        if (viewerId == null || slice.content().isEmpty()) {
+            return slice;
+        }
+        Set<Long> liked = likedPostIds(viewerId, slice.content());
+        List<PostResponse> content = slice.content().stream()
+                .map(post -> post.withLikedByMe(liked.contains(post.id())))
+                .toList();
+        return new CursorPage<>(content, slice.nextCursor(), slice.hasNext(), slice.size());
+    }
+
+    public BatchResponse<PostResponse> apply(Long viewerId, BatchResponse<PostResponse> batch) {
+        if (viewerId == null || batch.items().isEmpty()) {
+            return batch;
+        }
+        Set<Long> liked = likedPostIds(viewerId, batch.items());
+        List<PostResponse> items = batch.items().stream()
+                .map(post -> post.withLikedByMe(liked.contains(post.id())))
+                .toList();
+        return new BatchResponse<>(items, batch.missingIds());
+    }
+
+    public PostResponse apply(Long viewerId, PostResponse post) {
+        if (viewerId == null) {
+            return post;
+        }
+        return post.withLikedByMe(!likedPostIds(viewerId, List.of(post)).isEmpty());
+    }
+
+    /**
+     * İzleyicinin beğeni sürümü — beğeni veya geri almadan sonra (commit
+     * sonrası) farklı bir değer döner. Yalnızca bu replica'da anlamlıdır.
+     */
+    public String likeVersion(Long viewerId) {
+        long version = likeVersions.get(viewerId, userId -> versionSequence.incrementAndGet());
+        return Long.toHexString(instanceEpoch) + "." + Long.toHexString(version);
+    }
+
+    /**
+     * İzleyicinin verilen gönderilerden beğendikleri. Filtre hiçbirinde
+     * "belki" demezse veritabanına gidilmez.
+     */
+    Set<Long> likedPostIds(Long viewerId, List<PostResponse> posts) {
+        LikedPostsFilter filter = filters.get(viewerId, this::loadFilter);
+        List<Long> candidates = new ArrayList<>(posts.size());
+        for (PostResponse post : posts) {
+            if (filter.mightContain(post.id())) {
+                candidates.add(post.id());
+            }
+        }
+        if (candidates.isEmpty()) {
+            skipped.increment();
+            return Set.of();
+        }
+        queried.increment();
+        return new HashSet<>(likeRepository.findLikedPostIds(viewerId, candidates));
+    }
+
+    private LikedPostsFilter loadFilter(Long userId) {
+        // Bir fazlası okunur: sınırı aşıp aşmadığını anlamak için
+        List<Long> postIds = likeRepository.findPostIdsByUserId(userId, maxLikesPerUser + 1);
+        return postIds.size() > maxLikesPerUser
+                ? LikedPostsFilter.saturated()
+                : LikedPostsFilter.of(postIds);
+    }
+
+    // ── Güncelleme (commit sonrası) ────────────────────────────
+
+    /**
+     * Filtre yüklü değilse bir şey yapılmaz — sonraki kurulum beğeniyi
+     * veritabanından okur. Kapasitesi dolan filtre düşürülür.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        filters.asMap().computeIfPresent(event.userId(),
+                (userId, filter) -> filter.add(event.postId()) ? filter : null);
+        bumpLikeVersion(event.userId());
+    }
+
+    /** Filtre değişmez (kaldırma yok) — "belki" diyen id veritabanında doğrulanır. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUnliked(PostUnlikedEvent event) {
+        bumpLikeVersion(event.userId());
+    }
+
+    /** Kayıt yoksa bir şey yapılmaz — ilk okuma zaten yeni bir değer alır. */
+    private void bumpLikeVersion(Long userId) {
+        likeVersions.asMap().computeIfPresent(userId, (id, version) -> versionSequence.incrementAndGet());
+    }
+
+    /** Küme kanalı yeniden bağlandı — aradaki beğeniler kaçırılmış olabilir. */
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        filters.invalidateAll();
+        likeVersions.invalidateAll();
+    }
+}
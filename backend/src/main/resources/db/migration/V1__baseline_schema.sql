@@ -0,0 +1,58 @@
+-- ═══════════════════════════════════════════════════════════════
+--  V1 — Başlangıç şeması
+-- ═══════════════════════════════════════════════════════════════
+--  ddl-auto: update döneminde Hibernate'in oluşturduğu şemanın aynısı
+--  (IDENTITY id'ler dahil). Mevcut veritabanlarında bu dosya çalışmaz:
+--  baseline-on-migrate + baseline-version: 1 ile V1 "uygulanmış" sayılır ve
+--  V2'den devam edilir. Boş veritabanında V1 → V2 → ... sırayla uygulanır.
+
+CREATE TABLE users (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username          VARCHAR(30)  NOT NULL,
+    email             VARCHAR(100) NOT NULL,
+    password_hash     VARCHAR(255) NOT NULL,
+    display_name      VARCHAR(50),
+    bio               VARCHAR(160),
+    profile_image_url VARCHAR(500),
+    role              VARCHAR(10)  NOT NULL CHECK (role IN ('STUDENT', 'CLUB', 'ADMIN')),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE event_posts (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    author_id      BIGINT       NOT NULL,
+    content        VARCHAR(280) NOT NULL,
+    event_title    VARCHAR(100),
+    event_location VARCHAR(150),
+    event_date     TIMESTAMP(6),
+    image_url      VARCHAR(500),
+    like_count     INTEGER      NOT NULL,
+    comment_count  INTEGER      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_event_posts_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE likes (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL,
+    post_id    BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_likes_user_post UNIQUE (user_id, post_id),
+    CONSTRAINT fk_likes_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_likes_post FOREIGN KEY (post_id) REFERENCES event_posts (id)
+);
+
+CREATE TABLE comments (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL,
+    post_id    BIGINT       NOT NULL,
+    content    VARCHAR(500) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES event_posts (id)
+);
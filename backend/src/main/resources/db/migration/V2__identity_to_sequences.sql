@@ -0,0 +1,28 @@
+-- ═══════════════════════════════════════════════════════════════
+--  V2 — IDENTITY → SEQUENCE (pooled optimizer, allocationSize 50)
+-- ═══════════════════════════════════════════════════════════════
+--  Flyway tarafından uygulanır. Flyway'den önceki bir sürümde elle
+--  (psql -1 -f) çalıştırılmış olabilir; bu yüzden tekrar çalıştırılabilir
+--  (idempotent) yazıldı.
+--
+--  Neden setval(MAX(id) + 1)?
+--  → Pooled optimizer'da nextval'in döndürdüğü değer ayrılan aralığın ÜST
+--  sınırıdır: v döndüğünde Hibernate (v-49 .. v] aralığını kullanır. Bir sonraki
+--  nextval MAX(id) + 51 olur; aralık MAX(id) + 2'den başlar, mevcut satırlarla
+--  çakışmaz.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq       START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS event_posts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS likes_seq       START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq    START WITH 1 INCREMENT BY 50;
+
+SELECT setval('users_seq',       GREATEST((SELECT COALESCE(MAX(id), 0) + 1 FROM users),       (SELECT last_value FROM users_seq)));
+SELECT setval('event_posts_seq', GREATEST((SELECT COALESCE(MAX(id), 0) + 1 FROM event_posts), (SELECT last_value FROM event_posts_seq)));
+SELECT setval('likes_seq',       GREATEST((SELECT COALESCE(MAX(id), 0) + 1 FROM likes),       (SELECT last_value FROM likes_seq)));
+SELECT setval('comments_seq',    GREATEST((SELECT COALESCE(MAX(id), 0) + 1 FROM comments),    (SELECT last_value FROM comments_seq)));
+
+-- Eski IDENTITY tanımları artık kullanılmıyor; id'yi yalnızca sequence verir.
+ALTER TABLE users       ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE event_posts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE likes       ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE comments    ALTER COLUMN id DROP IDENTITY IF EXISTS;
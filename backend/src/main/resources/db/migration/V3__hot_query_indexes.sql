@@ -0,0 +1,27 @@
+-- ═══════════════════════════════════════════════════════════════
+--  V3 — Sıcak sorguların ihtiyaç duyduğu index'ler
+-- ═══════════════════════════════════════════════════════════════
+--  ddl-auto hiçbir zaman bu index'leri oluşturmadı; feed ve yorum sorguları
+--  tablo taraması + sort yapıyordu. İsimler RequiredIndexesVerifier ve entity
+--  @Index tanımlarıyla aynı olmalıdır.
+--
+--  Tablolar küçük olduğundan CONCURRENTLY kullanılmadı (Flyway migration'ı
+--  transaction içinde çalıştırır). Büyük bir tabloya yeni index eklerken ayrı,
+--  transaction'sız bir migration tercih edin.
+
+-- Feed (OFFSET + keyset): ORDER BY created_at DESC, id DESC → index sırasıyla okunur, sort yok
+CREATE INDEX IF NOT EXISTS idx_event_posts_created_at_id
+    ON event_posts (created_at DESC, id DESC);
+
+-- Kullanıcı profili: WHERE author_id = ? ORDER BY created_at DESC
+CREATE INDEX IF NOT EXISTS idx_event_posts_author_created_at
+    ON event_posts (author_id, created_at DESC);
+
+-- Gönderi yorumları: WHERE post_id = ? ORDER BY created_at DESC
+CREATE INDEX IF NOT EXISTS idx_comments_post_created_at
+    ON comments (post_id, created_at DESC);
+
+-- Beğeni sayımı / gönderi silme: WHERE post_id = ?
+-- (user_id ile başlayan sorgular uk_likes_user_post index'ini kullanır)
+CREATE INDEX IF NOT EXISTS idx_likes_post_id
+    ON likes (post_id);
@@ -0,0 +1,44 @@
+-- ═══════════════════════════════════════════════════════════════
+--  V4 — Asenkron hesap silme
+-- ═══════════════════════════════════════════════════════════════
+--  users.deleted_at: silme isteği anında set edilir; kullanıcı o andan sonra
+--  giriş yapamaz ve token'ları reddedilir. Satırın kendisi, beğeni/yorum/
+--  gönderileri AccountDeletionWorker tarafından parça parça silindikten sonra
+--  silinir.
+--
+--  account_deletion_jobs: işin ilerlemesi (faz + sayaçlar) ve lease'i. Pod
+--  yeniden başlarsa iş kaldığı fazdan devam eder. user_id'de FK yok — iş
+--  kaydı kullanıcı silindikten sonra da rapor için kalır.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+
+CREATE SEQUENCE IF NOT EXISTS account_deletion_jobs_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS account_deletion_jobs (
+    id               BIGINT       PRIMARY KEY,
+    user_id          BIGINT       NOT NULL,
+    username         VARCHAR(30)  NOT NULL,
+    status           VARCHAR(10)  NOT NULL CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED')),
+    phase            VARCHAR(10)  NOT NULL CHECK (phase IN ('POSTS', 'LIKES', 'COMMENTS', 'USER', 'DONE')),
+    posts_deleted    INTEGER      NOT NULL,
+    likes_deleted    INTEGER      NOT NULL,
+    comments_deleted INTEGER      NOT NULL,
+    attempts         INTEGER      NOT NULL,
+    last_error       VARCHAR(500),
+    lease_owner      VARCHAR(100),
+    lease_until      TIMESTAMP(6),
+    version          BIGINT       NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    completed_at     TIMESTAMP(6),
+    CONSTRAINT uk_account_deletion_jobs_user UNIQUE (user_id)
+);
+
+-- Worker'ın yoklaması: WHERE status <> 'COMPLETED'
+CREATE INDEX IF NOT EXISTS idx_account_deletion_jobs_status
+    ON account_deletion_jobs (status);
+
+-- Kullanıcının yorumlarını parça parça silmek: WHERE user_id = ? ORDER BY id
+-- (beğenilerde uk_likes_user_post zaten user_id ile başlar)
+CREATE INDEX IF NOT EXISTS idx_comments_user_id
+    ON comments (user_id);
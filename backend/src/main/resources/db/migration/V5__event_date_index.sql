@@ -0,0 +1,16 @@
+-- ═══════════════════════════════════════════════════════════════
+--  V5 — Yaklaşan etkinlikler: event_date index'i
+-- ═══════════════════════════════════════════════════════════════
+--  GET /api/posts/upcoming ve UpcomingEventsTimeline'ın yüklemesi
+--  WHERE event_date >= ? AND event_date < ? ORDER BY event_date, id
+--  sorgusunu çalıştırır. Index olmadan her çağrı tablo taraması + sort'tur.
+--  (event_date, id) ikilisi keyset sayfalamayı da index sırasıyla karşılar;
+--  sorgu sadece id ve event_date okuduğundan index-only scan olabilir.
+--
+--  event_posts artık büyük olabilir: CONCURRENTLY tabloyu yazmaya kilitlemez.
+--  Flyway bu ifadeyi tanır ve migration'ı transaction dışında çalıştırır —
+--  bu yüzden dosyada başka ifade yoktur. İsim RequiredIndexesVerifier ve
+--  EventPost @Index tanımıyla aynı olmalıdır.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_posts_event_date_id
+    ON event_posts (event_date, id);
@@ -0,0 +1,27 @@
+-- ═══════════════════════════════════════════════════════════════
+--  V6 — Gönderi hashtag'leri
+-- ═══════════════════════════════════════════════════════════════
+--  Gönderi oluşturulurken içerikteki #etiketler normalize edilip (küçük harf,
+--  Türkçe karakterler katlanmış) buraya yazılır. created_at gönderiden
+--  kopyalanır: "X etiketli gönderiler" (tag, created_at, post_id) index'i
+--  üzerinden sort'suz okunur, event_posts'a sadece sonuç sayfası için gidilir.
+--
+--  Yeni ve boş bir tablo olduğundan CONCURRENTLY gerekmez.
+
+CREATE SEQUENCE IF NOT EXISTS post_hashtags_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS post_hashtags (
+    id         BIGINT       PRIMARY KEY,
+    post_id    BIGINT       NOT NULL REFERENCES event_posts (id),
+    tag        VARCHAR(50)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_post_hashtags_post_tag UNIQUE (post_id, tag)
+);
+
+-- Etiketli gönderiler: WHERE tag = ? ORDER BY created_at DESC, post_id DESC
+CREATE INDEX IF NOT EXISTS idx_post_hashtags_tag_created_at
+    ON post_hashtags (tag, created_at DESC, post_id DESC);
+
+-- Trend sayaçlarının kurulumu: WHERE created_at > ? ORDER BY created_at, id
+CREATE INDEX IF NOT EXISTS idx_post_hashtags_created_at_id
+    ON post_hashtags (created_at, id);
@@ -0,0 +1,17 @@
+-- ═══════════════════════════════════════════════════════════════
+--  V7 — Normalize konum anahtarı
+-- ═══════════════════════════════════════════════════════════════
+--  event_location serbest metindir ("Mühendislik Fakültesi B-201");
+--  location_key bina/fakülte seviyesindeki anahtarıdır
+--  ("muhendislik-fakultesi", bkz. LocationNormalizer).
+--
+--  Değerler:
+--    NULL → henüz hesaplanmadı (bu migration'dan önceki gönderiler)
+--    ''   → konum yok veya anahtar üretmiyor
+--  Eski satırlar açılışta LocationFacets tarafından parça parça doldurulur;
+--  normalizasyon Java'da olduğu için SQL ile yapılmaz. Yeni gönderilerde
+--  createPost doldurur.
+--
+--  Varsayılansız nullable sütun eklemek tabloyu yeniden yazmaz (anlık).
+
+ALTER TABLE event_posts ADD COLUMN IF NOT EXISTS location_key VARCHAR(80);
@@ -0,0 +1,15 @@
+-- ═══════════════════════════════════════════════════════════════
+--  V8 — Konuma göre yaklaşan etkinlikler
+-- ═══════════════════════════════════════════════════════════════
+--  GET /api/posts/upcoming?location=... :
+--  WHERE location_key = ? AND (event_date, id) > (?, ?) AND event_date < ?
+--  ORDER BY event_date, id → index sırasıyla okunur, sort yok.
+--  Aynı index, henüz hesaplanmamış anahtarları (location_key IS NULL)
+--  bulan açılış doldurmasına da hizmet eder.
+--
+--  V5 gibi CONCURRENTLY: tablo yazmaya kilitlenmez; Flyway migration'ı
+--  transaction dışında çalıştırır, dosyada başka ifade yoktur. İsim
+--  RequiredIndexesVerifier ve EventPost @Index tanımıyla aynı olmalıdır.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_posts_location_event_date
+    ON event_posts (location_key, event_date, id);
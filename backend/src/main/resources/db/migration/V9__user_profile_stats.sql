@@ -0,0 +1,26 @@
+-- ═══════════════════════════════════════════════════════════════
+--  V9 — Profil istatistikleri (denormalize)
+-- ═══════════════════════════════════════════════════════════════
+--  post_count     → kullanıcının gönderi sayısı
+--  likes_received → gönderilerinin like_count toplamı
+--
+--  Profil sayfası her açılışta COUNT(*) / SUM(like_count) çalıştırmasın diye
+--  sayaçlar yazma yollarında artımlı güncellenir (createPost, PostPurger,
+--  LikeCounter, CounterReconciler). Uygulama bu sütunlara sadece atomik
+--  "= x + delta" UPDATE'leriyle yazar.
+--
+--  Sabit varsayılanlı NOT NULL sütun eklemek PostgreSQL 11+'da tabloyu
+--  yeniden yazmaz. Mevcut değerler tek seferde doldurulur: event_posts bir
+--  kez gruplanır, users satır sayısı kadar güncellenir.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS post_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS likes_received BIGINT NOT NULL DEFAULT 0;
+
+UPDATE users u
+SET post_count = s.posts, likes_received = s.likes
+FROM (
+    SELECT author_id, COUNT(*) AS posts, COALESCE(SUM(like_count), 0) AS likes
+    FROM event_posts
+    GROUP BY author_id
+) s
+WHERE u.id = s.author_id;
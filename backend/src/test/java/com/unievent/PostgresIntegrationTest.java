@@ -0,0 +1,100 @@
+package com.unievent;
+
+import com.unievent.entity.EventPost;
+import com.unievent.entity.Role;
+import com.unievent.entity.User;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Gerçek PostgreSQL'e karşı çalışan testlerin tabanı.
+ * <p>
+ * Neden H2 yetmiyor?
+ * → {@code LISTEN/NOTIFY}, {@code INSERT ... ON CONFLICT}, {@code FOR UPDATE}
+ * ve Flyway migration'ları PostgreSQL'e özgüdür; H2'de ya hiç çalışmazlar ya
+ * da farklı davranırlar.
+ * <p>
+ * Tüm alt sınıflar tek bir container'ı paylaşır (ilk context açılırken
+ * başlatılır, JVM kapanınca Ryuk tarafından durdurulur). Şema Flyway ile
+ * kurulur ({@code application-postgres.yml}). Docker yoksa testler hata
+ * vermek yerine atlanır.
+ * <p>
+ * Context'ler (ve veritabanı) test sınıfları arasında paylaşıldığı için her
+ * test kendi verisini {@link #truncateAll()} ile temizlemelidir.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "postgres"})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected EventPostRepository postRepository;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        PostgreSQLContainer<?> postgres = SharedPostgres.start();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    /** Uygulama tablolarını boşaltır; sequence'lar ve Flyway geçmişi korunur. */
+    protected void truncateAll() {
+        jdbcTemplate.execute("TRUNCATE post_hashtags, comments, likes, event_posts, "
+                + "account_deletion_jobs, users CASCADE");
+    }
+
+    protected User newUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@university.edu.tr")
+                .passwordHash("hash")
+                .displayName(username)
+                .role(Role.STUDENT)
+                .build());
+    }
+
+    protected EventPost newPost(User author, String content) {
+        return postRepository.save(EventPost.builder()
+                .author(author)
+                .content(content)
+                .build());
+    }
+
+    /** Tek bir sayı döndüren sorgu (ör. sayaç sütunu). */
+    protected long queryLong(String sql, Object... args) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Container ilk kullanımda başlar — sınıf yüklenmesi Docker'a dokunmaz,
+     * böylece {@code disabledWithoutDocker} kontrolü önce çalışabilir.
+     */
+    private static final class SharedPostgres {
+
+        private static final PostgreSQLContainer<?> CONTAINER =
+                new PostgreSQLContainer<>("postgres:16-alpine"); // docker-compose ile aynı sürüm
+
+        static PostgreSQLContainer<?> start() {
+            if (!CONTAINER.isRunning()) {
+                CONTAINER.start();
+            }
+            return CONTAINER;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.unievent;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Sadece ölçümü başlatan thread'in hazırladığı SQL ifadelerini sayar.
+ * <p>
+ * Neden Hibernate {@code Statistics} değil?
+ * → İstatistikler SessionFactory geneldir: aynı anda çalışan bir arka plan
+ * işinin (görünüm kurulumu, zamanlanmış tur) sorgusu da sayıya girer ve
+ * "tam olarak 1 sorgu" gibi kesin bir iddia zamanlamaya bağlı hale gelir.
+ * <p>
+ * {@code hibernate.session_factory.statement_inspector} ile kaydedilir
+ * (application-test.yml); Hibernate sınıfı adıyla örneklediği için durum
+ * statiktir. Ölçüm dışındaki thread'lerde hiçbir şey yapmaz.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    /** Bu thread için sayımı sıfırdan başlatır. */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /** {@link #start()}'tan beri bu thread'de hazırlanan ifade sayısı. */
+    public static int count() {
+        int[] count = COUNT.get();
+        if (count == null) {
+            throw new IllegalStateException("StatementCounter.start() çağrılmadı");
+        }
+        return count[0];
+    }
+
+    public static void stop() {
+        COUNT.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,78 @@
+package com.unievent;
+
+import com.unievent.dto.response.PostResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * Testlerde olay ve cache girdisi olarak kullanılan {@link PostResponse}'lar.
+ * <p>
+ * Varsayılanlar: içerik {@code "Gönderi <id>"}, etkinlik alanları boş, yazar
+ * 1 ({@code yazar}), oluşturma ve güncelleme zamanı şimdi, sayaçlar sıfır,
+ * izleyici durumu yok. Testin önemsediği alan {@link #builder(long)} ile
+ * değiştirilir; kalan on küsur argüman her testte tekrar yazılmaz.
+ */
+public final class TestPosts {
+
+    private TestPosts() {
+    }
+
+    /** Varsayılanlarla gönderi. */
+    public static PostResponse post(long id) {
+        return builder(id).build();
+    }
+
+    public static Builder builder(long id) {
+        return new Builder(id);
+    }
+
+    public static final class Builder {
+
+        private final long id;
+        private String content;
+        private String eventTitle;
+        private String eventLocation;
+        private LocalDateTime eventDate;
+        private LocalDateTime createdAt = LocalDateTime.now();
+        private int likeCount;
+        private Boolean likedByMe;
+
+        private Builder(long id) {
+            this.id = id;
+            this.content = "Gönderi " + id;
+        }
+
+        public Builder content(String content) {
+            this.content = content;
+            return this;
+        }
+
+        public Builder event(String title, String location, LocalDateTime date) {
+            this.eventTitle = title;
+            this.eventLocation = location;
+            this.eventDate = date;
+            return this;
+        }
+
+        /** Oluşturma ve güncelleme zamanı. */
+        public Builder createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder likeCount(int likeCount) {
+            this.likeCount = likeCount;
+            return this;
+        }
+
+        public Builder likedByMe(Boolean likedByMe) {
+            this.likedByMe = likedByMe;
+            return this;
+        }
+
+        public PostResponse build() {
+            return new PostResponse(id, content, eventTitle, eventLocation, eventDate, null, 1L, "yazar", "Yazar",
+                    createdAt, createdAt, likeCount, 0, likedByMe);
+        }
+    }
+}
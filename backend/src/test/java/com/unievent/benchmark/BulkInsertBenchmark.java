@@ -0,0 +1,178 @@
+package com.unievent.benchmark;
+
+import com.unievent.UniEventApplication;
+import com.unievent.entity.EventPost;
+import com.unievent.entity.Like;
+import com.unievent.entity.Role;
+import com.unievent.entity.User;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.LikeRepository;
+import com.unievent.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Toplu INSERT verimi — gönderi ve beğeni.
+ * <ul>
+ * <li>{@code ROW_BY_ROW}: her entity için {@code saveAndFlush} — IDENTITY
+ * döneminde Hibernate'in fiilen yaptığı şey (id'yi öğrenmek için her persist
+ * anında ayrı bir INSERT)</li>
+ * <li>{@code BATCHED}: tek transaction'da {@code saveAll} — pooled sequence +
+ * {@code jdbc.batch_size=50} + {@code order_inserts}</li>
+ * </ul>
+ * Ölçülen değer, {@code rows} satırlık bir partinin süresidir (ms/op).
+ * <p>
+ * Varsayılan olarak test profilindeki H2 (bellek içi) kullanılır; ağ gecikmesi
+ * olmadığından fark olduğundan küçük görünür. Gerçekçi sonuç için PostgreSQL'e
+ * karşı çalıştırın:
+ *
+ * <pre>
+ * java ... org.openjdk.jmh.Main BulkInsertBenchmark \
+ *   -jvmArgs "-Dspring.datasource.url=jdbc:postgresql://localhost:5433/unievent_bench?reWriteBatchedInserts=true
+ *             -Dspring.datasource.driver-class-name=org.postgresql.Driver
+ *             -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect
+ *             -Dspring.datasource.username=postgres -Dspring.datasource.password=postgres"
+ * </pre>
+ *
+ * Gerçek "önce" değeri için bu sınıf IDENTITY'li commit'e kopyalanıp aynı
+ * şekilde çalıştırılabilir; orada {@code BATCHED} de satır satır INSERT'e düşer.
+ * <p>
+ * Ölçüm (H2, 1 vCPU Xeon, 5 GB, OpenJDK 17.0.9; {@code -wi 5 -i 10 -r 3},
+ * {@code rows=1000}, SQL logu kapalı):
+ *
+ * <pre>
+ * Benchmark     mode         Score      Error  Units
+ * insertPosts   ROW_BY_ROW  1189 ±  143  ms/op
+ * insertPosts   BATCHED       26 ±   11  ms/op
+ * insertLikes   ROW_BY_ROW   338 ±   59  ms/op
+ * insertLikes   BATCHED       14 ±    7  ms/op
+ * </pre>
+ *
+ * Fark gönderide ~45, beğenide ~24 kattır. {@code ROW_BY_ROW} "önce"yi biraz
+ * abartır: her {@code saveAndFlush}, transaction'daki tüm entity'leri kirli
+ * kontrolünden geçirir. IDENTITY'nin persist anındaki INSERT'i bunu yapmaz.
+ * PostgreSQL ölçümü yapılmadı.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    public enum WriteMode {
+        ROW_BY_ROW, BATCHED
+    }
+
+    @Param({ "1000" })
+    public int rows;
+
+    @Param({ "ROW_BY_ROW", "BATCHED" })
+    public WriteMode mode;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private UserRepository userRepository;
+    private EventPostRepository postRepository;
+    private LikeRepository likeRepository;
+
+    private User author;
+    private User liker;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        // Komut satırı argümanı: application.yml'i ezer (.properties() varsayılandır, ezemez)
+        context = new SpringApplicationBuilder(UniEventApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        userRepository = context.getBean(UserRepository.class);
+        postRepository = context.getBean(EventPostRepository.class);
+        likeRepository = context.getBean(LikeRepository.class);
+
+        author = userRepository.save(user("bench_author"));
+        liker = userRepository.save(user("bench_liker"));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    /** Beğeni benchmark'ı için her çağrıdan önce (ölçüm dışı) yeni gönderiler. */
+    @State(Scope.Thread)
+    public static class FreshPosts {
+
+        List<EventPost> posts;
+
+        @Setup(Level.Invocation)
+        public void create(BulkInsertBenchmark bench) {
+            posts = bench.transactionTemplate.execute(status -> bench.postRepository.saveAll(bench.newPosts()));
+        }
+    }
+
+    @Benchmark
+    public int insertPosts() {
+        return write(newPosts(), postRepository::saveAndFlush, postRepository::saveAll);
+    }
+
+    @Benchmark
+    public int insertLikes(FreshPosts fresh) {
+        List<Like> likes = new ArrayList<>(rows);
+        for (EventPost post : fresh.posts) {
+            likes.add(Like.builder().user(liker).post(post).build());
+        }
+        return write(likes, likeRepository::saveAndFlush, likeRepository::saveAll);
+    }
+
+    private <T> int write(List<T> entities, Consumer<T> single, Consumer<List<T>> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (mode == WriteMode.ROW_BY_ROW) {
+                entities.forEach(single);
+            } else {
+                batch.accept(entities);
+            }
+        });
+        return entities.size();
+    }
+
+    List<EventPost> newPosts() {
+        List<EventPost> posts = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            posts.add(EventPost.builder()
+                    .author(author)
+                    .content("Benchmark gönderisi #" + i)
+                    .eventTitle("Bahar Şenliği")
+                    .eventLocation("Merkez Kampüs")
+                    .build());
+        }
+        return posts;
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@university.edu.tr")
+                .passwordHash("x")
+                .role(Role.STUDENT)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BulkInsertBenchmark.class.getSimpleName() });
+    }
+}
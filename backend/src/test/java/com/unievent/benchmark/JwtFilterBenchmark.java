@@ -0,0 +1,114 @@
+package com.unievent.benchmark;
+
+import com.unievent.entity.Role;
+import com.unievent.entity.User;
+import com.unievent.security.JwtAuthenticationFilter;
+import com.unievent.security.JwtProvider;
+import com.unievent.security.PrincipalResolver;
+import com.unievent.security.RevokedUserRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT doğrulama yolunun maliyeti — eski çift parse vs. tek parse vs. cache.
+ * <ul>
+ * <li>{@code legacyValidateThenParse}: eski {@code validateToken} +
+ * {@code getUsernameFromToken} — her çağrıda yeni parser, iki kez HMAC + JSON</li>
+ * <li>{@code singleVerify}: paylaşılan parser, tek parse (cache kapalı)</li>
+ * <li>{@code cachedVerify}: doğrulanmış claim cache'i sıcak</li>
+ * <li>{@code filterPath}: {@link JwtAuthenticationFilter} uçtan uca
+ * (header → SecurityContext), cache açık</li>
+ * </ul>
+ * Ölçüm (1 vCPU Xeon, 5 GB, OpenJDK 17.0.9; {@code -wi 5 -w 2 -i 10 -r 2}):
+ *
+ * <pre>
+ * Benchmark                 Score      Error  Units
+ * legacyValidateThenParse  32422 ±  5643  ns/op
+ * singleVerify             14164 ±  2268  ns/op
+ * cachedVerify               154 ±    13  ns/op
+ * filterPath                2114 ±   210  ns/op
+ * </pre>
+ *
+ * Tek parse, eski yolun yarısından azdır (iki HMAC + iki JSON yerine bir);
+ * cache isabeti HMAC'i tamamen atlar. {@code filterPath}'in geri kalanı
+ * SecurityContext ve mock request/response maliyetidir.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "UniEventSuperSecretKeyThatIsAtLeast256BitsLongForHS256Algorithm2024";
+    private static final long ONE_HOUR_MS = 3_600_000L;
+
+    private SecretKey key;
+    private String token;
+    private JwtProvider uncachedProvider;
+    private JwtProvider cachedProvider;
+    private JwtAuthenticationFilter filter;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        uncachedProvider = new JwtProvider(SECRET, ONE_HOUR_MS, 0, registry);
+        cachedProvider = new JwtProvider(SECRET, ONE_HOUR_MS, 10_000, registry);
+
+        User user = User.builder()
+                .id(1L)
+                .username("burak_dev")
+                .role(Role.STUDENT)
+                .build();
+        token = cachedProvider.generateToken(user);
+
+        // Stateless mod: principal cache kapalı, repository'ye hiç gidilmez
+        PrincipalResolver resolver = new PrincipalResolver(null, new RevokedUserRegistry(null, 86_400_000L), false, Duration.ofSeconds(30), 0, registry);
+        filter = new JwtAuthenticationFilter(cachedProvider, resolver);
+    }
+
+    @Benchmark
+    public String legacyValidateThenParse() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Claims singleVerify() {
+        return uncachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public Claims cachedVerify() {
+        return cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public Authentication filterPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { JwtFilterBenchmark.class.getSimpleName() });
+    }
+}
@@ -0,0 +1,158 @@
+package com.unievent.benchmark;
+
+import com.unievent.UniEventApplication;
+import com.unievent.entity.Comment;
+import com.unievent.entity.EventPost;
+import com.unievent.entity.Like;
+import com.unievent.entity.Role;
+import com.unievent.entity.User;
+import com.unievent.repository.CommentRepository;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.LikeRepository;
+import com.unievent.repository.UserRepository;
+import com.unievent.service.PostPurger;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Çok beğenili/yorumlu bir gönderiyi silme maliyeti.
+ * <ul>
+ * <li>{@code CASCADE_LOAD}: eski {@code cascade = ALL} davranışının birebir
+ * karşılığı — koleksiyonlar yüklenir, her beğeni/yorum ayrı ayrı silinir</li>
+ * <li>{@code SET_BASED}: {@link PostPurger} — tablo başına tek DELETE</li>
+ * </ul>
+ * Her ölçümden önce (ölçüm dışı) {@code fanIn} beğenili ve
+ * {@code fanIn / 4} yorumlu yeni bir gönderi oluşturulur; tek çağrının süresi
+ * ölçülür (SingleShotTime). PostgreSQL'e karşı çalıştırmak için bkz.
+ * {@link BulkInsertBenchmark}.
+ * <p>
+ * Ölçüm (H2, 1 vCPU Xeon, 5 GB, OpenJDK 17.0.9; {@code -i 10},
+ * {@code fanIn=20000}):
+ *
+ * <pre>
+ * mode           Score      Error  Units
+ * CASCADE_LOAD   810 ± 509  ms/op
+ * SET_BASED      267 ± 110  ms/op
+ * </pre>
+ *
+ * Bellek içi H2'de ifade başına maliyet çok düşük olduğu için fark ~3 kattır;
+ * ağ üzerinden PostgreSQL'de 25 bin satırlık silme (50'lik batch'lerle ~500
+ * gidiş-dönüş) karşısında tablo başına tek ifadenin farkı daha büyük olur
+ * (ölçülmedi).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PostDeletionBenchmark {
+
+    public enum DeleteMode {
+        CASCADE_LOAD, SET_BASED
+    }
+
+    @Param({ "20000" })
+    public int fanIn;
+
+    @Param({ "CASCADE_LOAD", "SET_BASED" })
+    public DeleteMode mode;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EventPostRepository postRepository;
+    private LikeRepository likeRepository;
+    private CommentRepository commentRepository;
+    private PostPurger postPurger;
+    private EntityManager entityManager;
+
+    private List<User> fans;
+    private Long postId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        // Komut satırı argümanı: application.yml'i ezer (.properties() varsayılandır, ezemez)
+        context = new SpringApplicationBuilder(UniEventApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        postRepository = context.getBean(EventPostRepository.class);
+        likeRepository = context.getBean(LikeRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        postPurger = context.getBean(PostPurger.class);
+        entityManager = context.getBean(EntityManager.class);
+
+        List<User> users = new ArrayList<>(fanIn);
+        for (int i = 0; i < fanIn; i++) {
+            users.add(User.builder()
+                    .username("fan_" + i)
+                    .email("fan_" + i + "@university.edu.tr")
+                    .passwordHash("x")
+                    .role(Role.STUDENT)
+                    .build());
+        }
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        fans = transactionTemplate.execute(status -> userRepository.saveAll(users));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    /** Ölçüm dışı: fanIn beğenili, fanIn/4 yorumlu yeni bir gönderi. */
+    @Setup(Level.Invocation)
+    public void createPopularPost() {
+        postId = transactionTemplate.execute(status -> {
+            EventPost post = postRepository.save(EventPost.builder()
+                    .author(fans.get(0))
+                    .content("Viral gönderi")
+                    .build());
+
+            List<Like> likes = new ArrayList<>(fanIn);
+            List<Comment> comments = new ArrayList<>(fanIn / 4);
+            for (int i = 0; i < fanIn; i++) {
+                likes.add(Like.builder().user(fans.get(i)).post(post).build());
+                if (i % 4 == 0) {
+                    comments.add(Comment.builder().user(fans.get(i)).post(post).content("Harika!").build());
+                }
+            }
+            likeRepository.saveAll(likes);
+            commentRepository.saveAll(comments);
+            return post.getId();
+        });
+    }
+
+    @Benchmark
+    public void deletePost() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (mode == DeleteMode.SET_BASED) {
+                postPurger.purge(postId);
+                return;
+            }
+            // cascade = ALL + orphanRemoval'ın yaptığı: koleksiyonları yükle, tek tek sil
+            EventPost post = postRepository.findById(postId).orElseThrow();
+            post.getLikes().forEach(entityManager::remove);
+            post.getComments().forEach(entityManager::remove);
+            entityManager.flush();
+            entityManager.remove(post);
+        });
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { PostDeletionBenchmark.class.getSimpleName() });
+    }
+}
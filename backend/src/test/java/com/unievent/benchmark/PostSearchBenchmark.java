@@ -0,0 +1,115 @@
+package com.unievent.benchmark;
+
+import com.unievent.search.InvertedIndex;
+import com.unievent.search.PostSearchIndex;
+import com.unievent.search.TurkishAnalyzer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arama index'i sorgu süresi — 1M sentetik gönderi.
+ * <p>
+ * Spring/DB yok: index {@link PostSearchIndex#termWeights} ile (gerçek alan
+ * ağırlıkları ve Türkçe katlama) doğrudan doldurulur. Kelime dağılımı
+ * Zipf'e yakındır — az sayıda kelime çok sık, çoğu kelime seyrek:
+ * <ul>
+ * <li>{@code "seminer"}: seyrek başlık kelimesi</li>
+ * <li>{@code "festival"}: en az her 4 gönderiden birinin başlığında</li>
+ * <li>{@code "kon"}: önek → konser, konferans, konuşma, ...</li>
+ * <li>{@code "BAHAR ŞENLİĞİ kampüs"}: çok terimli, büyük harf + Türkçe karakter</li>
+ * </ul>
+ * Ölçülen değer tek sorgunun süresidir (tokenize dahil, ilk sayfa, 20
+ * sonuç). Karşılaştırma için {@code LIKE '%...%'} aynı veride tüm tabloyu
+ * tarar.
+ * <p>
+ * Index kurulumu ~1 GB heap ister:
+ *
+ * <pre>
+ * java ... org.openjdk.jmh.Main PostSearchBenchmark -jvmArgs "-Xmx2g"
+ * </pre>
+ *
+ * Ölçüm (1 vCPU Xeon, 5 GB, OpenJDK 17.0.9; {@code -wi 5 -i 10},
+ * {@code posts=1000000}):
+ *
+ * <pre>
+ * query                      Score      Error  Units
+ * seminer                     577 ±    11  us/op
+ * festival                   7216 ±   190  us/op
+ * kon                       12562 ±   238  us/op
+ * BAHAR ŞENLİĞİ kampüs       4091 ±   128  us/op
+ * </pre>
+ *
+ * Seyrek terim milisaniyenin altındadır; maliyet eşleşen gönderi sayısıyla
+ * büyür: {@code festival} (~%25) ve neredeyse her gönderiye uyan
+ * {@code kon} öneki tüm eşleşmeleri puanlar. {@code LIKE} karşılaştırması
+ * ölçülmedi (önceki sürümde arama yoktu).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PostSearchBenchmark {
+
+    private static final String[] TITLES = {
+            "Bahar Şenliği", "Kariyer Günü", "Yapay Zeka Semineri", "Satranç Turnuvası",
+            "Tiyatro Gösterisi", "Mezuniyet Töreni", "Kulüp Tanıtım Etkinliği", "Hackathon",
+            "Caz Konseri", "Bilim Şenliği", "Fotoğraf Sergisi", "Girişimcilik Konferansı" };
+
+    private static final String[] LOCATIONS = {
+            "Merkez Kampüs", "Mühendislik Fakültesi B-201", "Kütüphane Konferans Salonu",
+            "Spor Salonu", "Kültür Merkezi", "Öğrenci Yaşam Merkezi", "Amfi 3" };
+
+    private static final String[] WORDS = {
+            "öğrenci", "kulüp", "konser", "konferans", "konuşma", "konuk", "katılım", "ücretsiz",
+            "kayıt", "başvuru", "ödül", "müzik", "dans", "yarışma", "atölye", "eğitim",
+            "sunum", "panel", "söyleşi", "proje", "takım", "gönüllü", "çekiliş", "ikram",
+            "sertifika", "mühendislik", "tasarım", "yazılım", "robotik", "girişim", "kariyer",
+            "staj", "mezun", "akademik", "araştırma", "bilim", "sanat", "edebiyat", "sinema",
+            "festival", "gezi", "doğa", "spor", "turnuva", "maç", "satranç", "münazara" };
+
+    @Param({ "1000000" })
+    public int posts;
+
+    @Param({ "seminer", "festival", "kon", "BAHAR ŞENLİĞİ kampüs" })
+    public String query;
+
+    private InvertedIndex index;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        Random random = new Random(42);
+        index = new InvertedIndex();
+        for (long id = 1; id <= posts; id++) {
+            String title = random.nextInt(4) == 0
+                    ? TITLES[zipf(random, TITLES.length)] + " Festivali"
+                    : TITLES[zipf(random, TITLES.length)];
+            String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            StringBuilder content = new StringBuilder();
+            for (int w = 0; w < 15; w++) {
+                content.append(WORDS[zipf(random, WORDS.length)]).append(' ');
+            }
+            // Her gönderiye özgü seyrek terim (kod, isim vb.) — sözlük büyüklüğü gerçekçi olsun
+            content.append('k').append(Long.toString(id % 50_000, 36));
+            index.add(id, PostSearchIndex.termWeights(title, location, content.toString()));
+        }
+        index.trimToSize();
+    }
+
+    @Benchmark
+    public InvertedIndex.Result search() {
+        return index.search(TurkishAnalyzer.tokenize(query), 0, 20);
+    }
+
+    /** Küçük indeksler çok daha olası (yaklaşık 1/k). */
+    private static int zipf(Random random, int n) {
+        return (int) Math.min(n - 1, Math.floor(Math.pow(n + 1, random.nextDouble()) - 1));
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { PostSearchBenchmark.class.getSimpleName() });
+    }
+}
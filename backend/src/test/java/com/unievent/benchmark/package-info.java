@@ -0,0 +1,15 @@
+/**
+ * JMH mikro benchmark'ları.
+ * <p>
+ * Bunlar unit test değildir; Surefire sadece {@code *Test} sınıflarını
+ * çalıştırır. Çalıştırmak için:
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main JwtFilterBenchmark
+ * </pre>
+ *
+ * "Önce/sonra" karşılaştırması için benchmark ilgili değişiklikten önceki ve
+ * sonraki commit'lerde aynı makinede çalıştırılır.
+ */
+package com.unievent.benchmark;
@@ -0,0 +1,227 @@
+package com.unievent.cache;
+
+import com.unievent.entity.EventPost;
+import com.unievent.entity.Role;
+import com.unievent.entity.User;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.UserRepository;
+import com.unievent.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Hazır baytlar, normal yoldan (MVC'nin Jackson dönüştürücüsü) dönecek
+ * gövdeyle bayt bayt aynı olmalı — gzip'li yanıt açıldığında da.
+ * {@code Accept-Encoding} ayrıştırıcısı elle yazıldığı için ayrıca sınanır.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EncodedResponseCacheTest {
+
+    private static final int POSTS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter converter;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private EventPostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long largePostId;
+    private Long smallPostId;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .username("encoded_author")
+                .email("encoded_author@university.edu.tr")
+                .passwordHash("hash")
+                .displayName("Çağla Öztürk")
+                .role(Role.STUDENT)
+                .build());
+        for (int i = 0; i < POSTS; i++) {
+            largePostId = postRepository.save(EventPost.builder()
+                    .author(author)
+                    .content(("Güz şenliği " + i + " — ").repeat(20).substring(0, 280))
+                    .eventTitle("Bahar Şenliği ".repeat(8).substring(0, 100))
+                    .eventLocation("Mühendislik Fakültesi, Büyük Amfi ".repeat(5).substring(0, 150))
+                    .eventDate(LocalDateTime.of(2026, 5, 20, 18, 30))
+                    .imageUrl("https://cdn.uni.edu.tr/" + "a".repeat(470))
+                    .build()).getId();
+        }
+        smallPostId = postRepository.save(EventPost.builder()
+                .author(author)
+                .content("Kısa duyuru")
+                .build()).getId();
+
+        postCache.invalidateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    // ── Gövde ──────────────────────────────────────────────────
+
+    @Test
+    void feedPageBytesMatchTheMvcBody() throws Exception {
+        for (int request = 0; request < 2; request++) { // Üretim, sonra hazır baytlardan
+            byte[] plain = serve("/api/posts", null);
+            byte[] gzipped = serve("/api/posts", "gzip, deflate, br");
+
+            byte[] expected = mvcBody(postService.getFeed(
+                    PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt", "id"))));
+            assertThat(plain).isEqualTo(expected);
+            assertThat(gunzip(gzipped)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void feedHeadBytesMatchTheMvcBody() throws Exception {
+        byte[] plain = serve("/api/posts/feed", null);
+        byte[] gzipped = serve("/api/posts/feed", "gzip");
+
+        byte[] expected = mvcBody(postService.getFeedSlice(null, 20));
+        assertThat(plain).isEqualTo(expected);
+        assertThat(gunzip(gzipped)).isEqualTo(expected);
+    }
+
+    @Test
+    void singlePostBytesMatchTheMvcBody() throws Exception {
+        byte[] plain = serve("/api/posts/" + largePostId, null);
+        byte[] gzipped = serve("/api/posts/" + largePostId, "gzip");
+
+        byte[] expected = mvcBody(postService.getPostById(largePostId));
+        assertThat(expected.length).isGreaterThan(1024); // gzip-min-bytes
+        assertThat(plain).isEqualTo(expected);
+        assertThat(gunzip(gzipped)).isEqualTo(expected);
+    }
+
+    @Test
+    void smallBodyIsNotCompressed() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/posts/" + smallPostId)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")).andReturn().getResponse();
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentAsByteArray()).isEqualTo(mvcBody(postService.getPostById(smallPostId)));
+    }
+
+    // ── Accept-Encoding ────────────────────────────────────────
+
+    @Test
+    void missingOrEmptyHeaderIsIdentity() {
+        assertThat(EncodedResponseCache.acceptsGzip(null)).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip(" ")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("deflate, br")).isFalse();
+    }
+
+    @Test
+    void gzipIsMatchedCaseInsensitivelyAndOnlyAsAWholeName() {
+        assertThat(EncodedResponseCache.acceptsGzip("gzip")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip("GZIP")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip("  GZip  ")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip("x-gzip")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("gzipx")).isFalse();
+    }
+
+    @Test
+    void zeroQualityRejects() {
+        assertThat(EncodedResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("gzip;q=0.0")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("gzip;Q=0")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("gzip;level=1;q=0")).isFalse();
+    }
+
+    @Test
+    void anyPositiveQualityAccepts() {
+        assertThat(EncodedResponseCache.acceptsGzip("gzip;q=1")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip("gzip;q=0.001")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip("identity, gzip;q=0.5")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip("gzip;xq=0")).isTrue(); // q değil, başka parametre
+    }
+
+    @Test
+    void wildcardAppliesOnlyWhenGzipIsNotListed() {
+        assertThat(EncodedResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip("identity, *;q=0.1")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip("*;q=0")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("*, gzip;q=0")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip("*;q=0, gzip")).isTrue();
+    }
+
+    @Test
+    void emptyElementsAreSkipped() {
+        assertThat(EncodedResponseCache.acceptsGzip(",")).isFalse();
+        assertThat(EncodedResponseCache.acceptsGzip(", ,gzip")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip("deflate,,gzip,")).isTrue();
+        assertThat(EncodedResponseCache.acceptsGzip(";q=1, deflate")).isFalse();
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    private byte[] serve(String path, String acceptEncoding) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(acceptEncoding == null
+                ? get(path)
+                : get(path).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)).andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING))
+                .isEqualTo(acceptEncoding == null ? null : "gzip");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        return response.getContentAsByteArray();
+    }
+
+    /** {@code ResponseEntity.ok(body)} dönüldüğünde MVC'nin yazacağı gövde. */
+    private byte[] mvcBody(Object body) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(body, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+}
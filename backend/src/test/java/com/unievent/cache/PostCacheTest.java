@@ -0,0 +1,148 @@
+package com.unievent.cache;
+
+import com.unievent.TestPosts;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.PostDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Feed sayfası cache'inin hangi sayfaları tuttuğu ve hangilerini düşürdüğü.
+ * <p>
+ * Feed 3'lük sayfalarda 10 gönderidir (id 9 → 0, en yeniden en eskiye); ilk
+ * üç sayfa cache'lenir. Sayfa sınırlarında aynı {@code createdAt}'li
+ * gönderiler vardır — sıra orada id ile belirlenir.
+ */
+class PostCacheTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final Sort FEED_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 14, 12, 0);
+
+    private final PostCache cache = new PostCache(3, 64, Duration.ofMinutes(1), 100, Duration.ofMinutes(1),
+            new SimpleMeterRegistry());
+
+    /** Veritabanındaki feed, sırasıyla. */
+    private final List<PostResponse> feed = new ArrayList<>();
+    private final AtomicInteger[] pageLoads = { new AtomicInteger(), new AtomicInteger(), new AtomicInteger() };
+
+    @Test
+    void deletingAPostOnTheFirstPageDropsEveryCachedPage() {
+        cacheFirstThreePages();
+
+        delete(8); // Sayfa 0
+
+        assertThat(reloadedPages()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void deletingAPostOnTheThirdPageKeepsTheNewerPages() {
+        cacheFirstThreePages();
+
+        delete(2); // Sayfa 2
+
+        assertThat(reloadedPages()).containsExactly(2);
+    }
+
+    @Test
+    void deletingAPostOlderThanEveryCachedPageKeepsThemAll() {
+        cacheFirstThreePages();
+
+        delete(0); // Dördüncü sayfada — cache'lenmemiş
+
+        assertThat(reloadedPages()).isEmpty();
+    }
+
+    @Test
+    void equalTimestampsAreOrderedById() {
+        cacheFirstThreePages();
+
+        // 6 ve 7 aynı anda oluşturuldu; 7 sayfa 0'ın sonu, 6 sayfa 1'in başı
+        delete(6);
+
+        assertThat(reloadedPages()).containsExactly(1, 2);
+    }
+
+    @Test
+    void pagesLargerThanTheDefaultSizeAreNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        load(PageRequest.of(0, 2000), loads);
+        load(PageRequest.of(0, 2000), loads);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.isHotFeedPage(PageRequest.of(0, PostCache.MAX_CACHED_PAGE_SIZE + 1))).isFalse();
+
+        load(PageRequest.of(0, PostCache.MAX_CACHED_PAGE_SIZE), loads);
+        load(PageRequest.of(0, PostCache.MAX_CACHED_PAGE_SIZE), loads);
+        assertThat(loads).hasValue(3);
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    /** Gönderi 0..9; sayfa sınırındaki çiftler (7, 6) ve (4, 3) aynı anda oluşturuldu. */
+    private void cacheFirstThreePages() {
+        long[] minutes = { 0, 1, 2, 3, 3, 5, 6, 6, 8, 9 };
+        for (int id = 9; id >= 0; id--) {
+            feed.add(TestPosts.builder(id).createdAt(T0.plusMinutes(minutes[id])).build());
+        }
+        for (int page = 0; page < pageLoads.length; page++) {
+            loadPage(page);
+        }
+        for (AtomicInteger loads : pageLoads) {
+            loads.set(0);
+        }
+    }
+
+    private void delete(long id) {
+        PostResponse deleted = feed.stream().filter(post -> post.id() == id).findFirst().orElseThrow();
+        feed.remove(deleted);
+        cache.onPostDeleted(new PostDeletedEvent(deleted));
+    }
+
+    /** Her cache'lenmiş sayfayı tekrar okur; loader'a giden sayfalar. */
+    private List<Integer> reloadedPages() {
+        List<Integer> reloaded = new ArrayList<>();
+        for (int page = 0; page < pageLoads.length; page++) {
+            Page<PostResponse> result = loadPage(page);
+            if (pageLoads[page].get() > 0) {
+                reloaded.add(page);
+            }
+            // Cache'te kalan sayfa da güncel feed'le aynı olmalı
+            assertThat(result.getContent()).isEqualTo(slice(page));
+        }
+        return reloaded;
+    }
+
+    private Page<PostResponse> loadPage(int page) {
+        PageRequest pageable = PageRequest.of(page, PAGE_SIZE, FEED_SORT);
+        return cache.getFeedPage(pageable, () -> {
+            pageLoads[page].incrementAndGet();
+            return new PageImpl<>(slice(page), pageable, feed.size());
+        });
+    }
+
+    private List<PostResponse> slice(int page) {
+        int from = Math.min(page * PAGE_SIZE, feed.size());
+        return List.copyOf(feed.subList(from, Math.min(from + PAGE_SIZE, feed.size())));
+    }
+
+    private Page<PostResponse> load(Pageable pageable, AtomicInteger loads) {
+        return cache.getFeedPage(pageable, () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(), pageable, 0);
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.unievent.cluster;
+
+import com.unievent.PostgresIntegrationTest;
+import com.unievent.UniEventApplication;
+import com.unievent.cache.PostCache;
+import com.unievent.dto.request.CreatePostRequest;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.service.PostService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * İki replica, tek veritabanı: A'da yapılan yazma B'nin cache'inden düşmeli.
+ * <p>
+ * A bu test sınıfının context'idir; B aynı veritabanına bağlı ikinci bir
+ * uygulama context'i olarak (farklı {@code instance-id} ile) başlatılır. Feed
+ * TTL'i (30 sn) bekleme süresinden (10 sn) uzun olduğu için B'de görülen
+ * değişiklik ancak NOTIFY ile gelmiş olabilir.
+ */
+@TestPropertySource(properties = {
+        "app.cluster.bus.enabled=true",
+        "app.cluster.instance-id=replica-a",
+        "app.cluster.bus.poll-timeout-ms=100"
+})
+class PostgresEventBusTest extends PostgresIntegrationTest {
+
+    private static final long AWAIT_MS = 10_000;
+
+    private static ConfigurableApplicationContext replicaB;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private Environment environment;
+
+    private PostService postServiceB;
+    private PostCache postCacheB;
+
+    @BeforeEach
+    void setUp() {
+        if (replicaB == null) {
+            replicaB = new SpringApplicationBuilder(UniEventApplication.class)
+                    .profiles("test", "postgres")
+                    .run("--spring.datasource.url=" + environment.getProperty("spring.datasource.url"),
+                            "--spring.datasource.username=" + environment.getProperty("spring.datasource.username"),
+                            "--spring.datasource.password=" + environment.getProperty("spring.datasource.password"),
+                            "--app.cluster.bus.enabled=true",
+                            "--app.cluster.instance-id=replica-b",
+                            "--app.cluster.bus.poll-timeout-ms=100",
+                            "--server.port=0");
+        }
+        postServiceB = replicaB.getBean(PostService.class);
+        postCacheB = replicaB.getBean(PostCache.class);
+
+        truncateAll();
+        postCache.invalidateAll();
+        postCacheB.invalidateAll();
+        newUser("bus_author");
+
+        // İki replica da LISTEN yapıyor olmalı — yoksa ilk NOTIFY kaçabilir
+        await(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_stat_activity WHERE query LIKE 'LISTEN unievent_events%'",
+                Integer.class) >= 2);
+    }
+
+    @AfterAll
+    static void stopReplicaB() {
+        if (replicaB != null) {
+            replicaB.close();
+            replicaB = null;
+        }
+    }
+
+    @Test
+    void deleteOnOneReplicaEvictsThePostOnTheOther() {
+        PostResponse post = postService.createPost(request("Silinecek gönderi"), "bus_author");
+        assertThat(postServiceB.getPostById(post.id()).content()).isEqualTo("Silinecek gönderi");
+
+        postService.deletePost(post.id(), "bus_author");
+
+        // Loader null dönerse hiçbir şey cache'lenmez → null, kaydın düştüğünü gösterir
+        await(() -> postCacheB.getPost(post.id(), () -> null) == null);
+    }
+
+    @Test
+    void createOnOneReplicaEvictsFeedPagesOnTheOther() {
+        PostResponse first = postService.createPost(request("İlk gönderi"), "bus_author");
+        PageRequest firstPage = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        assertThat(postServiceB.getFeed(firstPage).getContent())
+                .extracting(PostResponse::id)
+                .contains(first.id());
+
+        PostResponse second = postService.createPost(request("İkinci gönderi"), "bus_author");
+
+        await(() -> postServiceB.getFeed(firstPage).getContent().stream()
+                .anyMatch(post -> post.id().equals(second.id())));
+    }
+
+    private static CreatePostRequest request(String content) {
+        return new CreatePostRequest(content, null, null, null, null);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + AWAIT_MS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis())
+                    .as("koşul %d ms içinde sağlanmadı", AWAIT_MS)
+                    .isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
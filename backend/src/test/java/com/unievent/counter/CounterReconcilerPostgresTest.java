@@ -0,0 +1,112 @@
+package com.unievent.counter;
+
+import com.unievent.PostgresIntegrationTest;
+import com.unievent.dto.response.CounterReconciliationResponse;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.dto.response.UserResponse;
+import com.unievent.entity.EventPost;
+import com.unievent.entity.User;
+import com.unievent.service.LikeService;
+import com.unievent.service.PostService;
+import com.unievent.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mutabakat, sayaç farkını düzeltmeli ve düzeltmeyi cache'lere duyurmalı.
+ * <p>
+ * Fark, sayaç sütunlarına doğrudan yazılarak kurulur; ardından gönderi ve
+ * profil eski (yanlış) değerleriyle cache'e alınır. Düzeltme olay
+ * yayınlamasaydı cache'ler TTL dolana kadar yanlış değeri sunardı.
+ */
+@TestPropertySource(properties = {
+        "app.counters.reconciliation.pause=0ms",
+        "app.counters.reconciliation.settle=50ms"
+})
+class CounterReconcilerPostgresTest extends PostgresIntegrationTest {
+
+    private static final long AWAIT_MS = 10_000;
+
+    @Autowired
+    private CounterReconciler reconciler;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserService userService;
+
+    private User author;
+    private EventPost post;
+
+    @BeforeEach
+    void setUp() {
+        truncateAll();
+        author = newUser("reconcile_author");
+        post = newPost(author, "Sayacı kaymış gönderi");
+        likeService.like(post.getId(), newUser("reconcile_liker_1").getId());
+        likeService.like(post.getId(), newUser("reconcile_liker_2").getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        truncateAll();
+    }
+
+    @Test
+    void repairFixesDriftAndInvalidatesCachedPostAndProfile() throws InterruptedException {
+        jdbcTemplate.update("UPDATE event_posts SET like_count = 5, comment_count = 4 WHERE id = ?", post.getId());
+        jdbcTemplate.update("UPDATE users SET likes_received = 5 WHERE id = ?", author.getId());
+        PostResponse stalePost = postService.getPostById(post.getId());
+        UserResponse staleProfile = userService.getUser(author.getId());
+        assertThat(stalePost.likeCount()).isEqualTo(5);
+        assertThat(stalePost.commentCount()).isEqualTo(4);
+        assertThat(staleProfile.likesReceived()).isEqualTo(5);
+
+        CounterReconciliationResponse result = runToCompletion();
+
+        assertThat(result.likeDrift()).isEqualTo(1);
+        assertThat(result.commentDrift()).isEqualTo(1);
+        assertThat(result.repaired()).isEqualTo(1);
+        assertThat(queryLong("SELECT like_count FROM event_posts WHERE id = ?", post.getId())).isEqualTo(2);
+        assertThat(queryLong("SELECT comment_count FROM event_posts WHERE id = ?", post.getId())).isZero();
+        assertThat(queryLong("SELECT likes_received FROM users WHERE id = ?", author.getId())).isEqualTo(2);
+
+        PostResponse cachedPost = postService.getPostById(post.getId());
+        assertThat(cachedPost.likeCount()).isEqualTo(2);
+        assertThat(cachedPost.commentCount()).isZero();
+        assertThat(userService.getUser(author.getId()).likesReceived()).isEqualTo(2);
+    }
+
+    @Test
+    void consistentCountersAreLeftAlone() throws InterruptedException {
+        CounterReconciliationResponse result = runToCompletion();
+
+        assertThat(result.postsScanned()).isEqualTo(1);
+        assertThat(result.likeDrift()).isZero();
+        assertThat(result.repaired()).isZero();
+        assertThat(queryLong("SELECT like_count FROM event_posts WHERE id = ?", post.getId())).isEqualTo(2);
+    }
+
+    private CounterReconciliationResponse runToCompletion() throws InterruptedException {
+        reconciler.start();
+        long deadline = System.currentTimeMillis() + AWAIT_MS;
+        CounterReconciliationResponse status = reconciler.status();
+        while (status.running() || status.finishedAt() == null) {
+            assertThat(System.currentTimeMillis())
+                    .as("mutabakat %d ms içinde bitmedi", AWAIT_MS)
+                    .isLessThan(deadline);
+            Thread.sleep(20);
+            status = reconciler.status();
+        }
+        return status;
+    }
+}
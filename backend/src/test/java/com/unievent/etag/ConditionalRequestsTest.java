@@ -0,0 +1,212 @@
+package com.unievent.etag;
+
+import com.unievent.TestPosts;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.ClusterResyncEvent;
+import com.unievent.event.PostLikedEvent;
+import com.unievent.event.PostUnlikedEvent;
+import com.unievent.repository.LikeRepository;
+import com.unievent.viewer.ViewerStateResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 304/200 yolları. Feed cache TTL'i bir saattir — test süresince TTL dilimi
+ * değişmez (sınırda çalışan test için {@link #feedTtlSliceRolls} hariç).
+ */
+class ConditionalRequestsTest {
+
+    private static final long VIEWER = 7L;
+
+    private final FeedFingerprint fingerprint = mock(FeedFingerprint.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ViewerStateResolver viewerState = viewerState();
+    private final ConditionalRequests conditional = new ConditionalRequests(fingerprint, viewerState,
+            Duration.ofHours(1), registry);
+
+    @Test
+    void matchingFeedEtagReturns304() {
+        when(fingerprint.current()).thenReturn(0x1234L);
+
+        Exchange first = feed(null, null);
+        Exchange second = feed(null, first.etag());
+
+        assertThat(first.notModified()).isFalse();
+        assertThat(first.etag()).startsWith("W/\"f1234-");
+        assertThat(second.notModified()).isTrue();
+        assertThat(second.response().getStatus()).isEqualTo(304);
+        assertThat(results("not_modified")).isEqualTo(1);
+        assertThat(results("unconditional")).isEqualTo(1);
+    }
+
+    @Test
+    void newOrDeletedPostReturns200() {
+        when(fingerprint.current()).thenReturn(0x1234L);
+        String etag = feed(null, null).etag();
+
+        when(fingerprint.current()).thenReturn(0x5678L);
+        Exchange changed = feed(null, etag);
+
+        assertThat(changed.notModified()).isFalse();
+        assertThat(changed.etag()).isNotEqualTo(etag);
+        assertThat(results("modified")).isEqualTo(1);
+    }
+
+    @Test
+    void viewerLikeAndUnlikeInvalidateTheirFeedEtag() {
+        when(fingerprint.current()).thenReturn(0x1234L);
+        String initial = feed(VIEWER, null).etag();
+        assertThat(feed(VIEWER, initial).notModified()).isTrue();
+
+        viewerState.onPostLiked(new PostLikedEvent(VIEWER, 42L));
+        Exchange afterLike = feed(VIEWER, initial);
+        viewerState.onPostUnliked(new PostUnlikedEvent(VIEWER, 42L));
+        Exchange afterUnlike = feed(VIEWER, afterLike.etag());
+
+        assertThat(afterLike.notModified()).isFalse();
+        assertThat(afterUnlike.notModified()).isFalse();
+        // Beğeni öncesiyle aynı durum, ama sürüm geri dönmez
+        assertThat(afterUnlike.etag()).isNotEqualTo(initial);
+        assertThat(feed(VIEWER, initial).notModified()).isFalse();
+    }
+
+    @Test
+    void otherViewersLikesDoNotInvalidateTheEtag() {
+        when(fingerprint.current()).thenReturn(0x1234L);
+        String etag = feed(VIEWER, null).etag();
+
+        viewerState.onPostLiked(new PostLikedEvent(VIEWER + 1, 42L));
+
+        assertThat(feed(VIEWER, etag).notModified()).isTrue();
+        assertThat(feed(VIEWER + 1, etag).notModified()).isFalse();
+        assertThat(feed(null, etag).notModified()).isFalse();
+    }
+
+    @Test
+    void viewerEtagIsNotValidOnAnotherReplicaOrAfterResync() {
+        when(fingerprint.current()).thenReturn(0x1234L);
+        String etag = feed(VIEWER, null).etag();
+        ConditionalRequests otherPod = new ConditionalRequests(fingerprint, viewerState(), Duration.ofHours(1),
+                registry);
+
+        assertThat(otherPod.feedEtag(VIEWER)).isNotEqualTo(etag);
+
+        viewerState.onClusterResync(new ClusterResyncEvent());
+        assertThat(feed(VIEWER, etag).notModified()).isFalse();
+    }
+
+    @Test
+    void anonymousFeedEtagIsSharedAcrossReplicas() {
+        when(fingerprint.current()).thenReturn(0x1234L);
+        ConditionalRequests otherPod = new ConditionalRequests(fingerprint, viewerState(), Duration.ofHours(1),
+                registry);
+
+        assertThat(otherPod.feedEtag(null)).isEqualTo(conditional.feedEtag(null));
+    }
+
+    @Test
+    void noEtagUntilTheFingerprintIsBuilt() {
+        when(fingerprint.current()).thenReturn(null);
+
+        Exchange exchange = feed(VIEWER, "W/\"f1234-1\"");
+
+        assertThat(exchange.notModified()).isFalse();
+        assertThat(exchange.etag()).isNull();
+        assertThat(exchange.response().getStatus()).isEqualTo(200);
+        assertThat(results("unconditional")).isEqualTo(1);
+    }
+
+    @Test
+    void everyResponseVariesByAuthorization() {
+        when(fingerprint.current()).thenReturn(null);
+
+        assertThat(feed(null, null).response().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.AUTHORIZATION);
+    }
+
+    @Test
+    void feedTtlSliceRolls() {
+        when(fingerprint.current()).thenReturn(0x1234L);
+        ConditionalRequests shortTtl = new ConditionalRequests(fingerprint, viewerState, Duration.ofMillis(1),
+                registry);
+        String etag = shortTtl.feedEtag(null);
+
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (shortTtl.feedEtag(null).equals(etag)) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+        }
+    }
+
+    @Test
+    void postEtagFollowsCountersAndLikedByMe() {
+        PostResponse post = post(5, 2, null);
+        String anonymous = ConditionalRequests.postEtag(post);
+
+        assertThat(ConditionalRequests.postEtag(post(5, 2, null))).isEqualTo(anonymous);
+        assertThat(ConditionalRequests.postEtag(post(5, 3, null))).isNotEqualTo(anonymous);
+        assertThat(ConditionalRequests.postEtag(post.withLikedByMe(true)))
+                .isNotEqualTo(anonymous)
+                .isNotEqualTo(ConditionalRequests.postEtag(post.withLikedByMe(false)));
+    }
+
+    @Test
+    void matchingPostEtagReturns304() {
+        String etag = ConditionalRequests.postEtag(post(5, 2, true));
+        ServletWebRequest request = request(etag);
+
+        assertThat(conditional.notModified(request, "post", etag)).isTrue();
+        assertThat(conditional.notModified(request(etag), "post", ConditionalRequests.postEtag(post(5, 2, false))))
+                .isFalse();
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    private record Exchange(boolean notModified, MockHttpServletResponse response) {
+        String etag() {
+            return response.getHeader(HttpHeaders.ETAG);
+        }
+    }
+
+    private Exchange feed(Long viewerId, String ifNoneMatch) {
+        ServletWebRequest request = request(ifNoneMatch);
+        boolean notModified = conditional.notModified(request, "feed", conditional.feedEtag(viewerId));
+        return new Exchange(notModified, (MockHttpServletResponse) request.getResponse());
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private double results(String result) {
+        return registry.get("http.conditional").tag("endpoint", "feed").tag("result", result).counter().count();
+    }
+
+    private static ViewerStateResolver viewerState() {
+        return new ViewerStateResolver(mock(LikeRepository.class), DataSize.ofMegabytes(1), Duration.ofMinutes(30),
+                100, 1_000, new SimpleMeterRegistry());
+    }
+
+    private static PostResponse post(long id, int likeCount, Boolean likedByMe) {
+        return TestPosts.builder(id)
+                .content("Gönderi")
+                .createdAt(LocalDateTime.of(2026, 3, 14, 12, 0))
+                .likeCount(likeCount)
+                .likedByMe(likedByMe)
+                .build();
+    }
+}
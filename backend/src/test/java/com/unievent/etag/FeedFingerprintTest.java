@@ -0,0 +1,233 @@
+package com.unievent.etag;
+
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.view.ViewLoadGate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.unievent.TestPosts.post;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Parmak izi, olayların sırası ve tekrarı ne olursa olsun, veritabanındaki
+ * son gönderi kümesinden sıfırdan kurulan değerle aynı olmalı.
+ * <p>
+ * Repository, olaylarla birlikte değişen sahte bir tablodur; olaylar
+ * deterministik olarak parça okumasının çevresinde gelir.
+ */
+class FeedFingerprintTest {
+
+    private static final int CHUNK = 3;
+
+    private final EventPostRepository repository = mock(EventPostRepository.class);
+    private final FeedFingerprint fingerprint = new FeedFingerprint(repository, CHUNK, new ViewLoadGate(1, false));
+    private final List<FeedFingerprint> references = new ArrayList<>();
+
+    private final ConcurrentSkipListSet<Long> table = new ConcurrentSkipListSet<>();
+
+    @AfterEach
+    void tearDown() {
+        fingerprint.shutdown();
+        references.forEach(FeedFingerprint::shutdown);
+    }
+
+    @Test
+    void currentIsNullUntilTheFirstBuildCompletes() {
+        assertThat(fingerprint.current()).isNull();
+    }
+
+    @Test
+    void sameSetGivesTheSameValueWhateverTheHistory() throws InterruptedException {
+        for (long id = 1; id <= 5; id++) {
+            table.add(id);
+        }
+        serveTable(afterId -> { }, afterId -> { });
+        build(fingerprint);
+
+        create(9L);
+        create(6L);
+        delete(2L);
+
+        assertThat(fingerprint.current()).isEqualTo(rebuiltFromTable());
+        assertThat(fingerprint.current()).isNotEqualTo(fingerprintOf(List.of(1L, 2L, 3L, 4L, 5L)));
+    }
+
+    @Test
+    void creationReadByTheBuildAndDeliveredLaterIsCountedOnce() throws InterruptedException {
+        for (long id = 1; id <= 5; id++) {
+            table.add(id);
+        }
+        // 2 ilk parçadan önce commit edildi (okunur); olayı parça eklendikten sonra geldi
+        serveTable(afterId -> {
+            if (afterId == 3) {
+                fingerprint.onPostCreated(new PostCreatedEvent(post(2L)));
+            }
+        }, afterId -> { });
+
+        build(fingerprint);
+
+        assertThat(fingerprint.current()).isEqualTo(rebuiltFromTable());
+    }
+
+    @Test
+    void creationWithALowerIdThanTheCursorIsCounted() throws InterruptedException {
+        // Başka replica'nın id bloğu: okunmuş aralığın içine düşer
+        for (long id = 10; id <= 15; id++) {
+            if (id != 11) {
+                table.add(id);
+            }
+        }
+        serveTable(afterId -> { }, afterId -> {
+            if (afterId == 0) {
+                create(11L);
+            }
+        });
+
+        build(fingerprint);
+
+        assertThat(fingerprint.current()).isEqualTo(rebuiltFromTable());
+    }
+
+    @Test
+    void postDeletedAfterItsChunkWasReadIsNotResurrected() throws InterruptedException {
+        for (long id = 1; id <= 5; id++) {
+            table.add(id);
+        }
+        serveTable(afterId -> { }, afterId -> {
+            if (afterId == 0) {
+                delete(2L);
+            }
+        });
+
+        build(fingerprint);
+
+        assertThat(fingerprint.current()).isEqualTo(rebuiltFromTable());
+    }
+
+    @Test
+    void postDeletedBeforeAStaleReadOfItsChunkIsSkipped() throws InterruptedException {
+        for (long id = 1; id <= 5; id++) {
+            table.add(id);
+        }
+        // İkinci parça silmeden önceki bir anın okumasıdır ve 5'i hâlâ içerir
+        NavigableSet<Long> stale = new TreeSet<>(table);
+        serveTable(afterId -> { }, afterId -> {
+            if (afterId == 0) {
+                delete(5L);
+            }
+        }, afterId -> afterId == 0 ? table : stale);
+
+        build(fingerprint);
+
+        assertThat(fingerprint.current()).isEqualTo(rebuiltFromTable());
+    }
+
+    @Test
+    void postCreatedAndDeletedDuringBuildIsNotCounted() throws InterruptedException {
+        for (long id = 1; id <= 3; id++) {
+            table.add(id);
+        }
+        serveTable(afterId -> { }, afterId -> {
+            if (afterId == 0) {
+                create(4L);
+                delete(4L);
+            }
+        });
+
+        build(fingerprint);
+
+        assertThat(fingerprint.current()).isEqualTo(rebuiltFromTable());
+    }
+
+    @Test
+    void repeatedEventsAreIdempotent() throws InterruptedException {
+        for (long id = 1; id <= 4; id++) {
+            table.add(id);
+        }
+        serveTable(afterId -> { }, afterId -> { });
+        build(fingerprint);
+        Long before = fingerprint.current();
+
+        create(7L);
+        fingerprint.onPostCreated(new PostCreatedEvent(post(7L)));
+        Long afterCreate = fingerprint.current();
+        delete(7L);
+        fingerprint.onPostDeleted(new PostDeletedEvent(post(7L)));
+        fingerprint.onPostDeleted(new PostDeletedEvent(post(99L))); // Hiç görülmemiş
+
+        assertThat(afterCreate).isNotEqualTo(before).isEqualTo(fingerprintOf(List.of(1L, 2L, 3L, 4L, 7L)));
+        assertThat(fingerprint.current()).isEqualTo(before);
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    private void serveTable(Consumer<Long> beforeRead, Consumer<Long> afterRead) {
+        serveTable(beforeRead, afterRead, afterId -> table);
+    }
+
+    /**
+     * @param beforeRead parça tablodan okunmadan önce çalışır
+     * @param afterRead  parça okunduktan sonra (döndürülmeden önce) çalışır
+     * @param snapshot   {@code afterId} için okunacak tablo hâli
+     */
+    private void serveTable(Consumer<Long> beforeRead, Consumer<Long> afterRead,
+            Function<Long, NavigableSet<Long>> snapshot) {
+        when(repository.findIdsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            beforeRead.accept(afterId);
+            List<Long> chunk = snapshot.apply(afterId).tailSet(afterId, false).stream().limit(CHUNK).toList();
+            afterRead.accept(afterId);
+            return chunk;
+        });
+    }
+
+    /** Tablonun son hâlinden, olaysız kurulan parmak izi. */
+    private Long rebuiltFromTable() throws InterruptedException {
+        return fingerprintOf(List.copyOf(table));
+    }
+
+    private Long fingerprintOf(List<Long> ids) throws InterruptedException {
+        EventPostRepository snapshot = mock(EventPostRepository.class);
+        when(snapshot.findIdsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            return ids.stream().filter(id -> id > afterId).sorted().limit(CHUNK).toList();
+        });
+        FeedFingerprint reference = new FeedFingerprint(snapshot, CHUNK, new ViewLoadGate(1, false));
+        references.add(reference);
+        build(reference);
+        return reference.current();
+    }
+
+    private static void build(FeedFingerprint target) throws InterruptedException {
+        target.rebuildAsync();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (target.current() == null) {
+            assertThat(System.currentTimeMillis()).as("parmak izi 5 sn içinde kurulmadı").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private void create(long id) {
+        table.add(id);
+        fingerprint.onPostCreated(new PostCreatedEvent(post(id)));
+    }
+
+    private void delete(long id) {
+        table.remove(id);
+        fingerprint.onPostDeleted(new PostDeletedEvent(post(id)));
+    }
+}
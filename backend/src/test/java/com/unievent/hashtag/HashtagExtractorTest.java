@@ -0,0 +1,77 @@
+package com.unievent.hashtag;
+
+import com.unievent.entity.PostHashtag;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashtagExtractorTest {
+
+    @Test
+    void turkishLettersAreFoldedLikeSearch() {
+        assertThat(HashtagExtractor.extract("#KariyerGünü #İSTANBUL #ışıkŞenliği #ÇÖĞÜŞ"))
+                .containsExactly("kariyergunu", "istanbul", "isiksenligi", "cogus");
+    }
+
+    @Test
+    void spellingsOfTheSameTagCollapseToOne() {
+        assertThat(HashtagExtractor.extract("#KariyerGünü #kariyergunu #KARİYERGÜNÜ #KARIYERGUNU"))
+                .containsExactly("kariyergunu");
+    }
+
+    @Test
+    void combiningDotAboveIsPartOfTheTagAndDropped() {
+        // Ayrıştırılmış "İ": I + U+0307; "İ".toLowerCase(Locale.ROOT) de i + U+0307 verir
+        assertThat(HashtagExtractor.extract("#I\u0307stanbul ve #i\u0307zmir"))
+                .containsExactly("istanbul", "izmir");
+    }
+
+    @Test
+    void tagEndsAtPunctuationAndWhitespace() {
+        assertThat(HashtagExtractor.extract("Bu hafta: #bahar, #şenlik! (#müzik) #kampüs.#gece"))
+                .containsExactly("bahar", "senlik", "muzik", "kampus", "gece");
+    }
+
+    @Test
+    void hashInsideAWordIsNotATag() {
+        assertThat(HashtagExtractor.extract("C# dersi, sayfa#bolum ve ##çift")).containsExactly("cift");
+    }
+
+    @Test
+    void tagsWithoutLettersOrOfInvalidLengthAreSkipped() {
+        String longest = "a".repeat(PostHashtag.MAX_TAG_LENGTH);
+
+        assertThat(HashtagExtractor.extract("#1 #2026 #__ #a # #" + longest + " #" + longest + "b #sınav_2026"))
+                .containsExactly(longest, "sinav_2026");
+    }
+
+    @Test
+    void atMostTenDistinctTagsInFirstSeenOrder() {
+        String text = IntStream.rangeClosed(1, 15)
+                .mapToObj(i -> "#etiket" + i + " #etiket1")
+                .collect(Collectors.joining(" "));
+
+        assertThat(HashtagExtractor.extract(text))
+                .hasSize(HashtagExtractor.MAX_TAGS_PER_POST)
+                .startsWith("etiket1", "etiket2")
+                .endsWith("etiket10");
+    }
+
+    @Test
+    void nullOrTaglessTextGivesNoTags() {
+        assertThat(HashtagExtractor.extract(null)).isEmpty();
+        assertThat(HashtagExtractor.extract("etiketsiz bir gönderi #")).isEmpty();
+    }
+
+    @Test
+    void normalizeAcceptsTagsWithOrWithoutHash() {
+        assertThat(HashtagExtractor.normalize("  #Şenlik ")).isEqualTo("senlik");
+        assertThat(HashtagExtractor.normalize("KariyerGünü")).isEqualTo("kariyergunu");
+        assertThat(HashtagExtractor.normalize("şen lik")).isNull();
+        assertThat(HashtagExtractor.normalize("#2026")).isNull();
+        assertThat(HashtagExtractor.normalize(null)).isNull();
+    }
+}
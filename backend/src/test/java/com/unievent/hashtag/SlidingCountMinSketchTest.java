@@ -0,0 +1,93 @@
+package com.unievent.hashtag;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlidingCountMinSketchTest {
+
+    private final SlidingCountMinSketch sketch = new SlidingCountMinSketch(4, 4, 1024);
+
+    @Test
+    void countsEveryBucketInsideTheWindow() {
+        for (long bucket = 0; bucket < 4; bucket++) {
+            sketch.add("bahar", bucket, (int) bucket + 1);
+        }
+
+        assertThat(sketch.estimate("bahar", 3)).isEqualTo(1 + 2 + 3 + 4);
+        // Geleceğin kovaları sayılmaz
+        assertThat(sketch.estimate("bahar", 1)).isEqualTo(1 + 2);
+    }
+
+    @Test
+    void bucketsExpireAsTheWindowSlides() {
+        for (long bucket = 0; bucket < 4; bucket++) {
+            sketch.add("bahar", bucket, 1);
+        }
+
+        assertThat(sketch.estimate("bahar", 4)).isEqualTo(3);
+        assertThat(sketch.estimate("bahar", 6)).isEqualTo(1);
+        assertThat(sketch.estimate("bahar", 7)).isZero();
+    }
+
+    @Test
+    void reusedSlotStartsFromZero() {
+        sketch.add("bahar", 1, 5);
+
+        sketch.add("bahar", 5, 2); // 1 ile aynı halka yeri
+
+        assertThat(sketch.estimate("bahar", 5)).isEqualTo(2);
+    }
+
+    @Test
+    void lateUseOfAnExpiredBucketIsIgnored() {
+        sketch.add("bahar", 5, 2);
+
+        sketch.add("bahar", 1, 7); // Yeri 5'e devredilmiş
+
+        assertThat(sketch.estimate("bahar", 5)).isEqualTo(2);
+    }
+
+    @Test
+    void removalsNeverGoBelowZero() {
+        sketch.add("bahar", 0, 1);
+
+        sketch.add("bahar", 0, -1);
+        sketch.add("bahar", 0, -1);
+        sketch.add("bahar", 0, 1);
+
+        assertThat(sketch.estimate("bahar", 0)).isEqualTo(1);
+    }
+
+    @Test
+    void estimateIsNeverBelowTheTrueCountAndErrorIsBounded() {
+        // Dar sketch, çok etiket: çakışmalar kaçınılmaz
+        SlidingCountMinSketch narrow = new SlidingCountMinSketch(4, 4, 256);
+        Map<String, Long> truth = new HashMap<>();
+        Random random = new Random(42);
+        int total = 20_000;
+        for (int i = 0; i < total; i++) {
+            String tag = "etiket" + random.nextInt(3_000);
+            long bucket = random.nextInt(4);
+            narrow.add(tag, bucket, 1);
+            truth.merge(tag, 1L, Long::sum);
+        }
+
+        long bound = (long) Math.ceil(Math.E * total / 256);
+        truth.forEach((tag, count) -> assertThat(narrow.estimate(tag, 3))
+                .as(tag)
+                .isGreaterThanOrEqualTo(count)
+                .isLessThanOrEqualTo(count + bound));
+    }
+
+    @Test
+    void widthMustBeAPowerOfTwo() {
+        assertThatThrownBy(() -> new SlidingCountMinSketch(4, 4, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
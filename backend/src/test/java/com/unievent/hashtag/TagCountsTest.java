@@ -0,0 +1,134 @@
+package com.unievent.hashtag;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagCountsTest {
+
+    private static final int BUCKETS = 24;
+
+    @Test
+    void topKOfASkewedStreamMatchesTheExactCounts() {
+        // Zipf dağılımı (s = 1): birkaç etiket çok, binlercesi bir iki kez
+        TagCounts counts = new TagCounts(new SlidingCountMinSketch(BUCKETS, 4, 4096), 100, 0);
+        Map<String, Long> truth = new HashMap<>();
+        int tags = 5_000;
+        double[] cumulative = zipf(tags);
+        Random random = new Random(7);
+        int total = 100_000;
+        for (int i = 0; i < total; i++) {
+            String tag = "etiket" + sample(cumulative, random.nextDouble());
+            counts.add(tag, random.nextInt(BUCKETS), 1);
+            truth.merge(tag, 1L, Long::sum);
+        }
+        counts.advance(BUCKETS - 1);
+
+        List<String> expected = truth.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+        List<Map.Entry<String, Long>> top = counts.top(10);
+
+        assertThat(top).extracting(Map.Entry::getKey).containsExactlyElementsOf(expected);
+        long bound = (long) Math.ceil(Math.E * total / 4096);
+        top.forEach(entry -> assertThat(entry.getValue())
+                .as(entry.getKey())
+                .isBetween(truth.get(entry.getKey()), truth.get(entry.getKey()) + bound));
+        assertThat(counts.candidateCount()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void usesLeaveTheRankingWhenTheirBucketExpires() {
+        TagCounts counts = new TagCounts(new SlidingCountMinSketch(BUCKETS, 4, 1024), 10, 0);
+        counts.add("eski", 0, 5);
+        counts.add("yeni", 10, 2);
+
+        assertThat(counts.top(10)).containsExactly(Map.entry("eski", 5L), Map.entry("yeni", 2L));
+
+        counts.advance(BUCKETS); // 0. kova düştü
+
+        assertThat(counts.top(10)).containsExactly(Map.entry("yeni", 2L));
+        assertThat(counts.candidateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void useInANewBucketSlidesTheWindow() {
+        TagCounts counts = new TagCounts(new SlidingCountMinSketch(BUCKETS, 4, 1024), 10, 0);
+        counts.add("eski", 0, 3);
+
+        counts.add("yeni", BUCKETS + 1, 1); // Zamanlanmış kaydırmadan önce gelen kullanım
+
+        assertThat(counts.top(10)).containsExactly(Map.entry("yeni", 1L));
+    }
+
+    @Test
+    void useOfAnExpiredBucketIsIgnored() {
+        TagCounts counts = new TagCounts(new SlidingCountMinSketch(BUCKETS, 4, 1024), 10, BUCKETS);
+
+        counts.add("gecikmis", 0, 4);
+
+        assertThat(counts.top(10)).isEmpty();
+    }
+
+    @Test
+    void removalsLowerAndDropCandidates() {
+        TagCounts counts = new TagCounts(new SlidingCountMinSketch(BUCKETS, 4, 1024), 10, 0);
+        counts.add("konser", 0, 3);
+        counts.add("tiyatro", 0, 2);
+
+        counts.add("konser", 0, -2);
+        counts.add("tiyatro", 0, -2);
+
+        assertThat(counts.top(10)).containsExactly(Map.entry("konser", 1L));
+    }
+
+    @Test
+    void fullCandidateListKeepsTheMostUsed() {
+        TagCounts counts = new TagCounts(new SlidingCountMinSketch(BUCKETS, 4, 1024), 2, 0);
+        counts.add("a1", 0, 3);
+        counts.add("b2", 0, 2);
+
+        counts.add("c3", 0, 1); // Listeye giremez
+        counts.add("d4", 0, 5); // En zayıfı (b2) çıkarır
+
+        assertThat(counts.top(10)).containsExactly(Map.entry("d4", 5L), Map.entry("a1", 3L));
+    }
+
+    @Test
+    void tiesAreOrderedAlphabetically() {
+        TagCounts counts = new TagCounts(new SlidingCountMinSketch(BUCKETS, 4, 1024), 10, 0);
+        counts.add("seminer", 0, 2);
+        counts.add("atolye", 1, 2);
+        counts.add("konser", 2, 2);
+
+        assertThat(counts.top(2)).extracting(Map.Entry::getKey).containsExactly("atolye", "konser");
+    }
+
+    /** Zipf(s = 1) birikimli olasılıkları — {@code i}. sıradaki etiketin ağırlığı {@code 1/(i+1)}. */
+    private static double[] zipf(int n) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int sample(double[] cumulative, double u) {
+        int index = Arrays.binarySearch(cumulative, u);
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,329 @@
+package com.unievent.ranking;
+
+import com.unievent.TestPosts;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.event.PostEngagementEvent;
+import com.unievent.exception.ServiceBusyException;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.EngagementSnapshot;
+import com.unievent.repository.EventPostRepository.StoredCounters;
+import com.unievent.view.ViewLoadGate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Yeniden kurulum sırasında gelen olaylar: kurulum bittiğinde sıralama,
+ * veritabanının son hâlinden kurulmuş sıralamayla aynı olmalı.
+ * <p>
+ * Repository, olaylarla birlikte değişen sahte bir tablodur; tüm gönderiler
+ * aynı anda oluşturulur, yani sıra yalnızca etkileşime (eşitlikte id'ye)
+ * bağlıdır. Olaylar deterministik olarak parça okumasının çevresinde gelir.
+ */
+class HotRankingTest {
+
+    private static final int CHUNK = 3;
+    private static final LocalDateTime CREATED = LocalDateTime.now().minusHours(1).withNano(0);
+
+    /** Tablodaki sayaçlar. */
+    private record Row(int likes, int comments) {
+    }
+
+    private final EventPostRepository repository = mock(EventPostRepository.class);
+    private final HotRanking ranking = new HotRanking(repository, Duration.ofHours(12), 2, Duration.ofDays(7),
+            100, CHUNK, new SimpleMeterRegistry(), new ViewLoadGate(1, false));
+
+    /** id → sayaçlar; olaylarla birlikte değişir. */
+    private final ConcurrentSkipListMap<Long, Row> table = new ConcurrentSkipListMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findCounters(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> {
+                        Row row = table.get(id);
+                        return row == null ? null : counters(id, row);
+                    })
+                    .filter(Objects::nonNull)
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ranking.shutdown();
+    }
+
+    @Test
+    void topIsRejectedUntilTheFirstBuildCompletes() {
+        assertThatThrownBy(() -> ranking.top(0, 10)).isInstanceOf(ServiceBusyException.class);
+    }
+
+    @Test
+    void likeCommittedBeforeTheChunkReadIsNotCountedTwice() throws InterruptedException {
+        table.put(1L, new Row(5, 0));
+        table.put(2L, new Row(6, 0));
+        table.put(3L, new Row(0, 0));
+        table.put(4L, new Row(0, 0));
+        // Beğeni ilk parçadan önce commit edildi; olayı ise parça eklendikten sonra geldi
+        serveTable(afterId -> {
+            if (afterId == 0) {
+                table.compute(1L, (id, row) -> new Row(row.likes() + 1, row.comments()));
+            } else {
+                ranking.onEngagement(PostEngagementEvent.likes(Map.of(1L, 1)));
+            }
+        }, afterId -> { });
+
+        build();
+
+        // 6 = 6 → eşitlikte büyük id önce; delta iki kez sayılsaydı 1 öne geçerdi
+        assertThat(ranking.top(0, 10)).containsExactly(2L, 1L, 4L, 3L);
+    }
+
+    @Test
+    void likeCommittedAfterTheChunkReadIsNotLost() throws InterruptedException {
+        table.put(1L, new Row(5, 0));
+        table.put(2L, new Row(5, 0));
+        table.put(3L, new Row(0, 0));
+        table.put(4L, new Row(0, 0));
+        serveTable(afterId -> { }, afterId -> {
+            if (afterId == 0) {
+                like(1L, 1);
+            }
+        });
+
+        build();
+
+        assertThat(ranking.top(0, 10)).containsExactly(1L, 2L, 4L, 3L);
+    }
+
+    @Test
+    void commentsOnPostsInLaterChunksAreCountedOnce() throws InterruptedException {
+        for (long id = 1; id <= 3; id++) {
+            table.put(id, new Row(0, 0));
+        }
+        table.put(4L, new Row(3, 0));
+        table.put(5L, new Row(0, 0));
+        // 5 henüz okunmadı: yorum tablodadır, sonraki parça onu zaten okur
+        serveTable(afterId -> { }, afterId -> {
+            if (afterId == 0) {
+                comment(5L, 1);
+            }
+        });
+
+        build();
+
+        // 5: 2·1 = 2 < 4: 3; yorum iki kez sayılsaydı 2·2 = 4 > 3
+        assertThat(ranking.top(0, 10)).containsExactly(4L, 5L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void postDeletedAfterItsChunkWasReadIsNotResurrected() throws InterruptedException {
+        for (long id = 1; id <= 4; id++) {
+            table.put(id, new Row((int) id, 0));
+        }
+        serveTable(afterId -> { }, afterId -> {
+            if (afterId == 0) {
+                delete(2L);
+            }
+        });
+
+        build();
+
+        assertThat(ranking.top(0, 10)).containsExactly(4L, 3L, 1L);
+    }
+
+    @Test
+    void postCreatedDuringBuildIsRankedOnce() throws InterruptedException {
+        for (long id = 1; id <= 3; id++) {
+            table.put(id, new Row(1, 0));
+        }
+        // Hem canlı olayla gelir hem de sonraki parçada okunur
+        serveTable(afterId -> { }, afterId -> {
+            if (afterId == 0) {
+                create(4L);
+                like(4L, 3);
+            }
+        });
+
+        build();
+
+        assertThat(ranking.top(0, 10)).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(ranking.size()).isEqualTo(4);
+    }
+
+    @Test
+    void servedRankingKeepsFollowingEngagementDuringARebuild() throws InterruptedException {
+        table.put(1L, new Row(3, 0));
+        table.put(2L, new Row(2, 0));
+        table.put(3L, new Row(1, 0));
+        table.put(4L, new Row(0, 0));
+        serveTable(afterId -> { }, afterId -> { });
+        build();
+
+        List<List<Long>> servedDuringRebuild = new ArrayList<>();
+        AtomicBoolean fired = new AtomicBoolean();
+        serveTable(afterId -> { }, afterId -> {
+            if (afterId == 0 && fired.compareAndSet(false, true)) {
+                like(3L, 5);
+                servedDuringRebuild.add(ranking.top(0, 10));
+            }
+        });
+        // Olayı kaçırılmış bir silme: kurulumun bittiği buradan anlaşılır
+        table.remove(4L);
+        rebuildUntilSize(3);
+
+        assertThat(servedDuringRebuild).containsExactly(List.of(3L, 1L, 2L, 4L));
+        assertThat(ranking.top(0, 10)).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void liveEventsAfterTheBuildUpdateTheServedRanking() throws InterruptedException {
+        table.put(1L, new Row(2, 0));
+        table.put(2L, new Row(1, 0));
+        serveTable(afterId -> { }, afterId -> { });
+        build();
+
+        create(3L);
+        comment(3L, 1);
+        like(2L, 1);
+        delete(1L);
+
+        // 3: 2·1 = 2 = 2: 1 + 1 → eşitlikte büyük id önce
+        assertThat(ranking.top(0, 10)).containsExactly(3L, 2L);
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    /**
+     * @param beforeRead parça tablodan okunmadan önce çalışır
+     * @param afterRead  parça okunduktan sonra (döndürülmeden önce) çalışır
+     */
+    private void serveTable(Consumer<Long> beforeRead, Consumer<Long> afterRead) {
+        // doAnswer: yeniden stub'lamak önceki cevabı (ve olaylarını) çalıştırmaz
+        doAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            beforeRead.accept(afterId);
+            List<EngagementSnapshot> chunk = table.tailMap(afterId, false).entrySet().stream()
+                    .limit(CHUNK)
+                    .map(entry -> snapshot(entry.getKey(), entry.getValue()))
+                    .toList();
+            afterRead.accept(afterId);
+            return chunk;
+        }).when(repository).findEngagementAfter(any(), anyLong(), any());
+    }
+
+    private void build() throws InterruptedException {
+        ranking.rebuildAsync();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            try {
+                ranking.top(0, 1);
+                return;
+            } catch (ServiceBusyException e) {
+                assertThat(System.currentTimeMillis()).as("sıralama 5 sn içinde kurulmadı").isLessThan(deadline);
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    /** İlk kurulumun bayrağı henüz inmemiş olabilir — istek, kabul edilene kadar tekrarlanır. */
+    private void rebuildUntilSize(int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (ranking.size() != size) {
+            ranking.rebuildAsync();
+            assertThat(System.currentTimeMillis()).as("sıralama 5 sn içinde yenilenmedi").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private void like(long id, int delta) {
+        table.compute(id, (key, row) -> new Row(row.likes() + delta, row.comments()));
+        ranking.onEngagement(PostEngagementEvent.likes(Map.of(id, delta)));
+    }
+
+    private void comment(long id, int delta) {
+        table.compute(id, (key, row) -> new Row(row.likes(), row.comments() + delta));
+        ranking.onEngagement(PostEngagementEvent.comment(id, delta));
+    }
+
+    private void create(long id) {
+        table.put(id, new Row(0, 0));
+        ranking.onPostCreated(new PostCreatedEvent(post(id)));
+    }
+
+    private void delete(long id) {
+        table.remove(id);
+        ranking.onPostDeleted(new PostDeletedEvent(post(id)));
+    }
+
+    private static PostResponse post(long id) {
+        return TestPosts.builder(id).createdAt(CREATED).build();
+    }
+
+    private static EngagementSnapshot snapshot(long id, Row row) {
+        return new EngagementSnapshot() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return CREATED;
+            }
+
+            @Override
+            public int getLikeCount() {
+                return row.likes();
+            }
+
+            @Override
+            public int getCommentCount() {
+                return row.comments();
+            }
+        };
+    }
+
+    private static StoredCounters counters(long id, Row row) {
+        return new StoredCounters() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public int getLikeCount() {
+                return row.likes();
+            }
+
+            @Override
+            public int getCommentCount() {
+                return row.comments();
+            }
+        };
+    }
+}
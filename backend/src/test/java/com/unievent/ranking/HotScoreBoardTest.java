@@ -0,0 +1,147 @@
+package com.unievent.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotScoreBoardTest {
+
+    private static final long HOUR = 3600;
+    private static final long HALF_LIFE = 12 * HOUR;
+    private static final long T0 = 1_800_000_000L;
+
+    private final HotScoreBoard board = new HotScoreBoard(HALF_LIFE, 2, 100);
+
+    @Test
+    void moreEngagementRanksHigherAtTheSameAge() {
+        board.put(1, T0, 3, 0);
+        board.put(2, T0, 10, 0);
+        board.put(3, T0, 0, 0);
+
+        assertThat(board.top(0, 10)).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void commentsCountWithTheirWeight() {
+        board.put(1, T0, 5, 0); // 1 + 5 = 6
+        board.put(2, T0, 0, 3); // 1 + 2·3 = 7
+
+        assertThat(board.top(0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void engagementHalvesInWeightEveryHalfLife() {
+        // Aynı andaki karşılığı: etkileşim · 2^(yarı ömür farkı)
+        board.put(1, T0, 9, 0); // 10
+        board.put(2, T0 + HALF_LIFE, 3, 0); // 4·2 = 8
+        board.put(3, T0 + HALF_LIFE, 5, 0); // 6·2 = 12
+        board.put(4, T0 + 2 * HALF_LIFE, 3, 0); // 4·4 = 16
+
+        assertThat(board.top(0, 10)).containsExactly(4L, 3L, 1L, 2L);
+    }
+
+    @Test
+    void equalScoresPreferTheNewerPost() {
+        board.put(7, T0, 2, 1);
+        board.put(3, T0, 2, 1);
+        board.put(5, T0, 2, 1);
+
+        assertThat(board.top(0, 10)).containsExactly(7L, 5L, 3L);
+    }
+
+    @Test
+    void aNewPostWithoutEngagementOvertakesAnOldPopularOne() {
+        board.put(1, T0, 1000, 0);
+        // ~10 yarı ömür sonra: 1·2^10 = 1024 > 1001
+        board.put(2, T0 + 10 * HALF_LIFE, 0, 0);
+
+        assertThat(board.top(0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void adjustReordersAndIgnoresUntrackedPosts() {
+        board.put(1, T0, 5, 0);
+        board.put(2, T0, 4, 0);
+
+        board.adjust(2, 2, 0);
+        board.adjust(99, 100, 100);
+
+        assertThat(board.top(0, 10)).containsExactly(2L, 1L);
+        assertThat(board.size()).isEqualTo(2);
+
+        board.adjust(2, -2, 0);
+        assertThat(board.top(0, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void negativeCountersDoNotBreakOrdering() {
+        board.put(1, T0, 0, 0);
+        board.put(2, T0, 1, 0);
+
+        board.adjust(1, -3, -1); // Olay sırası: silme önce gelmiş olabilir
+
+        assertThat(board.top(0, 10)).containsExactly(2L, 1L);
+        board.adjust(1, 5, 1); // -3 + 5 = 2 beğeni, 0 yorum
+        assertThat(board.top(0, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void setCountersReplacesInsteadOfAdding() {
+        board.put(1, T0, 5, 0);
+        board.put(2, T0, 3, 0);
+
+        board.setCounters(1, 2, 0);
+        board.setCounters(2, 3, 0);
+        board.setCounters(99, 50, 0);
+
+        assertThat(board.top(0, 10)).containsExactly(2L, 1L);
+        assertThat(board.size()).isEqualTo(2);
+    }
+
+    @Test
+    void putReplacesExistingCounters() {
+        board.put(1, T0, 10, 0);
+        board.put(2, T0, 5, 0);
+
+        board.put(1, T0, 1, 0);
+
+        assertThat(board.top(0, 10)).containsExactly(2L, 1L);
+        assertThat(board.size()).isEqualTo(2);
+    }
+
+    @Test
+    void removeDropsThePost() {
+        board.put(1, T0, 1, 0);
+        board.put(2, T0, 2, 0);
+
+        board.remove(2);
+        board.remove(99);
+
+        assertThat(board.top(0, 10)).containsExactly(1L);
+        assertThat(board.size()).isEqualTo(1);
+    }
+
+    @Test
+    void topPagesThroughTheRanking() {
+        for (long id = 1; id <= 5; id++) {
+            board.put(id, T0, (int) id, 0);
+        }
+
+        assertThat(board.top(0, 2)).containsExactly(5L, 4L);
+        assertThat(board.top(2, 2)).containsExactly(3L, 2L);
+        assertThat(board.top(4, 2)).containsExactly(1L);
+        assertThat(board.top(6, 2)).isEmpty();
+    }
+
+    @Test
+    void overCapacityTheColdestPostsAreEvicted() {
+        HotScoreBoard small = new HotScoreBoard(HALF_LIFE, 2, 3);
+        small.put(1, T0, 0, 0);
+        small.put(2, T0 + HOUR, 0, 0);
+        small.put(3, T0, 50, 0);
+        small.put(4, T0 + 2 * HOUR, 0, 0);
+
+        assertThat(small.size()).isEqualTo(3);
+        assertThat(small.top(0, 10)).containsExactly(3L, 4L, 2L);
+    }
+}
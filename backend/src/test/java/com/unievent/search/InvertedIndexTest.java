@@ -0,0 +1,177 @@
+package com.unievent.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link InvertedIndex} sorguları — {@link PostSearchIndex#termWeights} ve
+ * {@link TurkishAnalyzer} ile, uygulamadaki gibi.
+ */
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void allQueryTermsMustMatch() {
+        add(1, "Bahar konseri", "Kampüs", "");
+        add(2, "Bahar şenliği", "Kampüs", "");
+        add(3, "Jazz konseri", "Kültür merkezi", "");
+
+        assertThat(ids("bahar konseri")).containsExactly(1L);
+        assertThat(ids("kampus")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(search("bahar tiyatro")).satisfies(result -> {
+            assertThat(result.hits()).isEmpty();
+            assertThat(result.total()).isZero();
+        });
+    }
+
+    @Test
+    void prefixMatchesButRanksBelowExactTerm() {
+        add(1, "", "", "konferans salonu");
+        add(2, "", "", "konf");
+        add(3, "", "", "yapay zeka konferansı");
+
+        assertThat(ids("konf")).containsExactly(2L, 3L, 1L);
+        assertThat(ids("konferans")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids("konferansi")).containsExactly(3L);
+    }
+
+    @Test
+    void prefixExpansionIsCappedToTheMostCommonTerms() {
+        long id = 1;
+        // Her biri tek gönderide geçen çok sayıda "etk..." terimi; "etkinlik" hepsinde
+        for (int i = 0; i < InvertedIndex.MAX_PREFIX_EXPANSIONS + 10; i++) {
+            add(id++, "", "", "etkinlik etkx" + toLetters(i));
+        }
+
+        InvertedIndex.Result result = search("etk");
+
+        // "etkinlik" en yaygın genişleme — her gönderiyi tek başına bulur
+        assertThat(result.total()).isEqualTo(InvertedIndex.MAX_PREFIX_EXPANSIONS + 10);
+    }
+
+    @Test
+    void turkishLettersFoldInBothDirections() {
+        add(1, "İSTANBUL ÇIKARMASI", "", "");
+        add(2, "", "Işık Üniversitesi", "");
+        add(3, "", "", "ılık bir gün, kulüp toplantısı");
+
+        assertThat(ids("istanbul")).containsExactly(1L);
+        assertThat(ids("İstanbul çıkarması")).containsExactly(1L);
+        assertThat(ids("ISIK universitesi")).containsExactly(2L);
+        assertThat(ids("ilik")).containsExactly(3L);
+        assertThat(ids("KULUP")).containsExactly(3L);
+        assertThat(ids("Kulüp toplantisi")).containsExactly(3L);
+    }
+
+    @Test
+    void removedDocumentsAreNotFound() {
+        Map<String, Float> first = add(1, "Satranç turnuvası", "", "");
+        add(2, "Satranç kulübü", "", "");
+
+        index.remove(1, first.keySet());
+
+        assertThat(ids("satranc")).containsExactly(2L);
+        assertThat(ids("turnuvasi")).isEmpty();
+        assertThat(index.documentCount()).isEqualTo(1);
+        // Son dokümanı giden terim sözlükten de düşer
+        assertThat(index.termCount()).isEqualTo(2);
+    }
+
+    @Test
+    void removingAnUnknownDocumentChangesNothing() {
+        add(1, "Satranç turnuvası", "", "");
+
+        index.remove(99, List.of("satranc", "turnuvasi"));
+        index.remove(1, List.of("olmayan"));
+
+        assertThat(index.documentCount()).isEqualTo(1);
+        assertThat(ids("satranc")).containsExactly(1L);
+    }
+
+    @Test
+    void addingTheSameDocumentTwiceIsIdempotent() {
+        add(1, "Film gecesi", "", "");
+        add(1, "Film gecesi", "", "");
+
+        assertThat(index.documentCount()).isEqualTo(1);
+        assertThat(search("film").total()).isEqualTo(1);
+    }
+
+    @Test
+    void titleOutranksContentAndTiesPreferNewerPosts() {
+        add(1, "", "", "konser");
+        add(2, "Konser", "", "");
+        add(3, "", "", "konser");
+
+        assertThat(ids("konser")).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void pagesThroughResultsWithStableTotal() {
+        for (long id = 1; id <= 25; id++) {
+            add(id, "", "", "seminer");
+        }
+
+        InvertedIndex.Result second = index.search(TurkishAnalyzer.tokenize("seminer"), 10, 10);
+        InvertedIndex.Result last = index.search(TurkishAnalyzer.tokenize("seminer"), 20, 10);
+        InvertedIndex.Result beyond = index.search(TurkishAnalyzer.tokenize("seminer"), 30, 10);
+
+        assertThat(second.hits()).extracting(InvertedIndex.Hit::docId).containsExactly(15L, 14L, 13L, 12L, 11L,
+                10L, 9L, 8L, 7L, 6L);
+        assertThat(last.hits()).extracting(InvertedIndex.Hit::docId).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(beyond.hits()).isEmpty();
+        assertThat(second.total()).isEqualTo(25);
+        assertThat(beyond.total()).isEqualTo(25);
+    }
+
+    @Test
+    void prefixUnionOverSparseIdsMatchesDenseResult() {
+        // id aralığı doküman sayısının çok üstünde → yoğun dizi yerine k-yollu birleştirme
+        add(1, "", "", "konferans salonu");
+        add(50_000, "", "", "konf");
+        add(1_000_000, "", "", "yapay zeka konferansı");
+        add(2_000_000, "", "", "konferans ve konferansı");
+
+        assertThat(ids("konf")).containsExactly(50_000L, 2_000_000L, 1_000_000L, 1L);
+        assertThat(ids("konf salonu")).containsExactly(1L);
+    }
+
+    @Test
+    void outOfOrderInsertsKeepPostingsSorted() {
+        add(5, "", "", "gezi");
+        add(2, "", "", "gezi");
+        add(9, "", "", "gezi");
+        add(7, "", "", "gezi");
+
+        assertThat(ids("gezi")).containsExactly(9L, 7L, 5L, 2L);
+    }
+
+    private Map<String, Float> add(long id, String title, String location, String content) {
+        Map<String, Float> weights = PostSearchIndex.termWeights(title, location, content);
+        index.add(id, weights);
+        return weights;
+    }
+
+    private InvertedIndex.Result search(String query) {
+        return index.search(TurkishAnalyzer.tokenize(query), 0, 100);
+    }
+
+    private List<Long> ids(String query) {
+        return search(query).hits().stream().map(InvertedIndex.Hit::docId).toList();
+    }
+
+    /** 0 → "a", 25 → "z", 26 → "ba" ... — rakamsız, benzersiz terim sonekleri. */
+    private static String toLetters(int n) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.insert(0, (char) ('a' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        return letters.toString();
+    }
+}
@@ -0,0 +1,227 @@
+package com.unievent.search;
+
+import com.unievent.TestPosts;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.exception.ServiceBusyException;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.SearchDocument;
+import com.unievent.view.ViewLoadGate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Yeniden kurulum sırasında gelen olaylar: kurulum bittiğinde index,
+ * veritabanının son hâliyle aynı olmalı.
+ * <p>
+ * Repository, parçalar arasında "commit edilen" olayları tetikleyen bir
+ * sahte tablodur — olaylar deterministik olarak parça okumasından hemen
+ * sonra (parça eklenmeden önce) gelir.
+ */
+class PostSearchIndexTest {
+
+    private static final int CHUNK = 3;
+
+    private final EventPostRepository repository = mock(EventPostRepository.class);
+    private final PostSearchIndex search = new PostSearchIndex(repository, CHUNK, new SimpleMeterRegistry(),
+            new ViewLoadGate(1, false));
+
+    /** id → içerik; olaylarla birlikte değişir. */
+    private final TreeMap<Long, String> table = new TreeMap<>();
+
+    @AfterEach
+    void tearDown() {
+        search.shutdown();
+    }
+
+    @Test
+    void searchIsRejectedUntilTheFirstBuildCompletes() {
+        assertThatThrownBy(() -> search.search(List.of("konser"), 0, 10))
+                .isInstanceOf(ServiceBusyException.class);
+    }
+
+    @Test
+    void buildIndexesEveryChunk() throws InterruptedException {
+        for (long id = 1; id <= 7; id++) {
+            table.put(id, "konser " + id);
+        }
+        serveTable(afterId -> { });
+
+        build();
+
+        assertThat(ids("konser")).hasSize(7);
+        assertThat(search.search(List.of("konser"), 0, 10).total()).isEqualTo(7);
+    }
+
+    @Test
+    void postDeletedAfterItsChunkWasReadIsNotResurrected() throws InterruptedException {
+        table.put(1L, "bahar konseri");
+        table.put(2L, "bahar şenliği");
+        table.put(3L, "bahar pikniği");
+        // Parça okundu (2 içinde), sonra 2'nin silinmesi commit edildi
+        serveTable(afterId -> {
+            if (afterId == 0) {
+                delete(2L);
+            }
+        });
+
+        build();
+
+        assertThat(ids("bahar")).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void postDeletedBeforeItsChunkIsReadIsSkipped() throws InterruptedException {
+        for (long id = 1; id <= 5; id++) {
+            table.put(id, "seminer " + id);
+        }
+        // Silme ilk parçada gelir; ikinci parça (4, 5) eski bir okumadır ve 5'i hâlâ içerir
+        TreeMap<Long, String> stale = new TreeMap<>(table);
+        serveTable(afterId -> {
+            if (afterId == 0) {
+                delete(5L);
+            }
+        }, afterId -> afterId == 0 ? table : stale);
+
+        build();
+
+        assertThat(ids("seminer")).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void postCreatedDuringBuildIsIndexedOnce() throws InterruptedException {
+        table.put(1L, "tiyatro 1");
+        table.put(2L, "tiyatro 2");
+        table.put(3L, "tiyatro 3");
+        // Yeni gönderi hem canlı olayla gelir hem de sonraki parçada okunur
+        serveTable(afterId -> {
+            if (afterId == 0) {
+                create(4L, "tiyatro 4");
+            }
+        });
+
+        build();
+
+        assertThat(ids("tiyatro")).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(search.search(List.of("tiyatro"), 0, 10).total()).isEqualTo(4);
+    }
+
+    @Test
+    void postCreatedAndDeletedDuringBuildIsNotIndexed() throws InterruptedException {
+        table.put(1L, "sergi 1");
+        table.put(2L, "sergi 2");
+        table.put(3L, "sergi 3");
+        serveTable(afterId -> {
+            if (afterId == 0) {
+                create(4L, "sergi 4");
+                delete(4L);
+            }
+        });
+
+        build();
+
+        assertThat(ids("sergi")).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void liveEventsAfterTheBuildUpdateTheServedIndex() throws InterruptedException {
+        table.put(1L, "atölye 1");
+        serveTable(afterId -> { });
+        build();
+
+        create(2L, "atölye 2");
+        delete(1L);
+
+        assertThat(ids("atolye")).containsExactly(2L);
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    private void serveTable(Consumer<Long> afterRead) {
+        serveTable(afterRead, afterId -> table);
+    }
+
+    /**
+     * @param afterRead parça okunduktan sonra (döndürülmeden önce) çalışır
+     * @param snapshot  {@code afterId} için okunacak tablo hâli
+     */
+    private void serveTable(Consumer<Long> afterRead,
+            Function<Long, TreeMap<Long, String>> snapshot) {
+        when(repository.findSearchDocumentsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            List<SearchDocument> chunk = snapshot.apply(afterId).tailMap(afterId, false).entrySet().stream()
+                    .limit(CHUNK)
+                    .map(entry -> document(entry.getKey(), entry.getValue()))
+                    .toList();
+            afterRead.accept(afterId);
+            return chunk;
+        });
+    }
+
+    private void build() throws InterruptedException {
+        search.rebuildAsync();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!search.isReady()) {
+            assertThat(System.currentTimeMillis()).as("index 5 sn içinde kurulmadı").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private void create(long id, String content) {
+        table.put(id, content);
+        search.onPostCreated(new PostCreatedEvent(post(id, content)));
+    }
+
+    private void delete(long id) {
+        String content = table.remove(id);
+        search.onPostDeleted(new PostDeletedEvent(post(id, content)));
+    }
+
+    private List<Long> ids(String query) {
+        return search.search(TurkishAnalyzer.tokenize(query), 0, 100).hits().stream()
+                .map(InvertedIndex.Hit::docId)
+                .toList();
+    }
+
+    private static PostResponse post(long id, String content) {
+        return TestPosts.builder(id).content(content).build();
+    }
+
+    private static SearchDocument document(long id, String content) {
+        return new SearchDocument() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getContent() {
+                return content;
+            }
+
+            @Override
+            public String getEventTitle() {
+                return null;
+            }
+
+            @Override
+            public String getEventLocation() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.unievent.security;
+
+import com.unievent.exception.GlobalExceptionHandler;
+import com.unievent.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Hash havuzu doyduğunda istek beklemez: {@link ServiceBusyException} →
+ * 503 + {@code Retry-After}.
+ * <p>
+ * Havuz 1 thread + 1 kuyruk yeridir; asıl encoder test bırakana kadar
+ * bloklar. Biri hesaplarken biri kuyrukta bekler → üçüncü istek reddedilir.
+ */
+class BoundedPasswordEncoderTest {
+
+    private static final long RETRY_AFTER_SECONDS = 7;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BlockingEncoder(release),
+            1, 1, Duration.ofSeconds(5), RETRY_AFTER_SECONDS, registry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void saturatedPoolIsRejectedWith503AndRetryAfter() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("birinci"));
+        awaitGauge("auth.password.active", 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("ikinci", "x"));
+        awaitGauge("auth.password.queue.depth", 1);
+
+        long start = System.nanoTime();
+        ServiceBusyException busy = catchThrowableOfType(() -> encoder.encode("üçüncü"),
+                ServiceBusyException.class);
+
+        assertThat(busy).isNotNull();
+        // Kuyrukta timeout'u (5 sn) beklemeden hemen reddedilir
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(busy.getRetryAfterSeconds()).isEqualTo(RETRY_AFTER_SECONDS);
+        assertThat(registry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+
+        ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler().handleServiceBusy(busy);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+        assertThat(response.getBody()).containsEntry("status", 503);
+
+        // Reddedilen istek havuzdakileri etkilemez
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("{hash}birinci");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    void hashThatExceedsTheTimeoutIsRejected() {
+        BoundedPasswordEncoder impatient = new BoundedPasswordEncoder(new BlockingEncoder(release),
+                1, 1, Duration.ofMillis(50), RETRY_AFTER_SECONDS, new SimpleMeterRegistry());
+        try {
+            ServiceBusyException busy = catchThrowableOfType(() -> impatient.encode("yavaş"),
+                    ServiceBusyException.class);
+
+            assertThat(busy).isNotNull();
+            assertThat(busy.getRetryAfterSeconds()).isEqualTo(RETRY_AFTER_SECONDS);
+        } finally {
+            impatient.shutdown();
+        }
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (registry.get(name).gauge().value() < expected) {
+            assertThat(System.currentTimeMillis()).as("%s 5 sn içinde %s olmadı", name, expected)
+                    .isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /** {@code release} açılana kadar bloklayan encoder. */
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            awaitRelease();
+            return "{hash}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            awaitRelease();
+            return encodedPassword.equals("{hash}" + rawPassword);
+        }
+
+        private void awaitRelease() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
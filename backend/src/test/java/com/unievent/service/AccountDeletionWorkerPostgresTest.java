@@ -0,0 +1,142 @@
+package com.unievent.service;
+
+import com.unievent.PostgresIntegrationTest;
+import com.unievent.counter.LikesReceivedCounter;
+import com.unievent.dto.request.CreateCommentRequest;
+import com.unievent.entity.EventPost;
+import com.unievent.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doCallRealMethod;
+
+/**
+ * Hesap silme işi yarıda kesilip kaldığı yerden devam ettiğinde sayaçlar
+ * ve cache'ler tutarlı kalmalı.
+ * <p>
+ * "Pod yeniden başladı" durumu, LIKES fazının ikinci parçasında
+ * {@link LikesReceivedCounter}'ın hata fırlatmasıyla kurulur: o parça bütünüyle
+ * geri alınır, önceki parçalar commit edilmiş kalır. Zamanlanmış tur test
+ * profilinde kapalıdır; turlar elle çağrılır.
+ */
+@TestPropertySource(properties = {
+        "app.account-deletion.chunk-size=2",
+        "app.account-deletion.post-chunk-size=2",
+        "app.account-deletion.retry-backoff=0s",
+        "app.account-deletion.max-run-time=1m"
+})
+class AccountDeletionWorkerPostgresTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AccountDeletionWorker worker;
+
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostService postService;
+
+    @SpyBean
+    private LikesReceivedCounter likesReceived;
+
+    private User author;
+    private User leaving;
+    private List<EventPost> likedPosts;
+    private EventPost commentedPost;
+
+    @BeforeEach
+    void setUp() {
+        truncateAll();
+        author = newUser("deletion_author");
+        leaving = newUser("deletion_leaving");
+
+        for (int i = 0; i < 3; i++) {
+            newPost(leaving, "Silinecek gönderi " + i);
+        }
+        likedPosts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            EventPost post = newPost(author, "Beğenilen gönderi " + i);
+            likeService.like(post.getId(), leaving.getId());
+            likedPosts.add(post);
+        }
+        commentedPost = likedPosts.get(0);
+        for (int i = 0; i < 3; i++) {
+            commentService.addComment(commentedPost.getId(), new CreateCommentRequest("Yorum " + i), leaving.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        truncateAll();
+    }
+
+    @Test
+    void interruptedJobResumesWithoutLosingCounterDecrements() throws InterruptedException {
+        // Cache'te eski sayaçlarla duran gönderi — olaylar düşürmezse 10 dk böyle kalır
+        assertThat(postService.getPostById(commentedPost.getId()).commentCount()).isEqualTo(3);
+        assertThat(postService.getPostById(commentedPost.getId()).likeCount()).isEqualTo(1);
+
+        Long jobId = accountDeletionService.requestDeletion(leaving.getId()).jobId();
+        doCallRealMethod()
+                .doThrow(new IllegalStateException("pod yeniden başladı"))
+                .doCallRealMethod()
+                // Spy, @Transactional proxy'nin arkasındaki nesnedir
+                .when(AopTestUtils.<LikesReceivedCounter>getTargetObject(likesReceived)).adjust(anyMap());
+
+        worker.poll();
+
+        // POSTS bitti, LIKES'ın ilk parçası commit edildi, ikincisi bütünüyle geri alındı
+        assertThat(queryString("SELECT phase FROM account_deletion_jobs WHERE id = ?", jobId)).isEqualTo("LIKES");
+        assertThat(queryLong("SELECT attempts FROM account_deletion_jobs WHERE id = ?", jobId)).isEqualTo(1);
+        assertThat(queryLong("SELECT COUNT(*) FROM event_posts WHERE author_id = ?", leaving.getId())).isZero();
+        assertThat(queryLong("SELECT COUNT(*) FROM likes WHERE user_id = ?", leaving.getId())).isEqualTo(3);
+        assertThat(queryLong("SELECT SUM(like_count) FROM event_posts WHERE author_id = ?", author.getId()))
+                .isEqualTo(3);
+        assertThat(likesReceived(author)).isEqualTo(3);
+        assertThat(postService.getPostById(commentedPost.getId()).likeCount())
+                .isEqualTo(queryLong("SELECT like_count FROM event_posts WHERE id = ?", commentedPost.getId()));
+
+        Thread.sleep(10); // retry-backoff 0 → lease şimdi doluyor
+        worker.poll();
+
+        assertThat(queryString("SELECT status FROM account_deletion_jobs WHERE id = ?", jobId))
+                .isEqualTo("COMPLETED");
+        assertThat(queryLong("SELECT likes_deleted FROM account_deletion_jobs WHERE id = ?", jobId)).isEqualTo(5);
+        assertThat(queryLong("SELECT comments_deleted FROM account_deletion_jobs WHERE id = ?", jobId)).isEqualTo(3);
+        assertThat(userRepository.existsById(leaving.getId())).isFalse();
+        assertThat(queryLong("SELECT COUNT(*) FROM likes")).isZero();
+        assertThat(queryLong("SELECT COUNT(*) FROM comments")).isZero();
+        for (EventPost post : likedPosts) {
+            assertThat(queryLong("SELECT like_count FROM event_posts WHERE id = ?", post.getId())).isZero();
+            assertThat(queryLong("SELECT comment_count FROM event_posts WHERE id = ?", post.getId())).isZero();
+        }
+        assertThat(likesReceived(author)).isZero();
+
+        // PostEngagementEvent commit sonrası cache'teki gönderiyi düşürdü
+        assertThat(postService.getPostById(commentedPost.getId()).commentCount()).isZero();
+    }
+
+    private long likesReceived(User user) {
+        return queryLong("SELECT likes_received FROM users WHERE id = ?", user.getId());
+    }
+
+    private String queryString(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, String.class, args);
+    }
+}
@@ -0,0 +1,172 @@
+package com.unievent.service;
+
+import com.unievent.dto.request.CreateCommentRequest;
+import com.unievent.dto.response.CommentResponse;
+import com.unievent.entity.Comment;
+import com.unievent.entity.EventPost;
+import com.unievent.entity.Role;
+import com.unievent.entity.User;
+import com.unievent.repository.CommentRepository;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Yorum ekleme/silme ile {@code EventPost.commentCount} birlikte değişir.
+ * <p>
+ * Sayaç gerçek veritabanından okunur: artış yorumdan önce atomik
+ * {@code UPDATE} ile yapılır, azalış yalnızca {@code deleteCommentById} bir
+ * satır sildiyse. Eşzamanlı iki silmeden ikinciyi taklit etmek için
+ * {@link CommentRepository} spy'dır — yorum başka bir istekçe silinmişken
+ * yetki kontrolü hâlâ eski satırı görür.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @SpyBean
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EventPostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User postAuthor;
+    private User commenter;
+    private User stranger;
+    private EventPost post;
+
+    @BeforeEach
+    void setUp() {
+        postAuthor = user("gonderi_sahibi");
+        commenter = user("yorumcu");
+        stranger = user("yabanci");
+        post = postRepository.save(EventPost.builder()
+                .author(postAuthor)
+                .content("Bahar şenliği")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void addingACommentIncrementsTheCount() {
+        CommentResponse first = comment(commenter);
+        comment(postAuthor);
+
+        assertThat(first.postId()).isEqualTo(post.getId());
+        assertThat(first.authorUsername()).isEqualTo("yorumcu");
+        assertThat(commentCount()).isEqualTo(2);
+        assertThat(commentRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void commentOnAMissingPostIsRejectedWithoutWriting() {
+        assertThatThrownBy(() -> commentService.addComment(-1L, new CreateCommentRequest("Merhaba"),
+                commenter.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(commentRepository.count()).isZero();
+        assertThat(commentCount()).isZero();
+    }
+
+    @Test
+    void commentAuthorCanDelete() {
+        CommentResponse comment = comment(commenter);
+
+        commentService.deleteComment(comment.id(), commenter.getId());
+
+        assertThat(commentRepository.existsById(comment.id())).isFalse();
+        assertThat(commentCount()).isZero();
+    }
+
+    @Test
+    void postAuthorCanDelete() {
+        CommentResponse comment = comment(commenter);
+
+        commentService.deleteComment(comment.id(), postAuthor.getId());
+
+        assertThat(commentRepository.existsById(comment.id())).isFalse();
+        assertThat(commentCount()).isZero();
+    }
+
+    @Test
+    void strangerCannotDelete() {
+        CommentResponse comment = comment(commenter);
+
+        assertThatThrownBy(() -> commentService.deleteComment(comment.id(), stranger.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(commentRepository.existsById(comment.id())).isTrue();
+        assertThat(commentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deletingTwiceDecrementsOnce() {
+        CommentResponse comment = comment(commenter);
+        comment(postAuthor);
+
+        commentService.deleteComment(comment.id(), commenter.getId());
+        assertThatThrownBy(() -> commentService.deleteComment(comment.id(), commenter.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(commentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentDeleteThatLosesTheRaceDoesNotDecrement() {
+        CommentResponse comment = comment(commenter);
+        comment(postAuthor);
+        // İkinci istek yetki kontrolünü geçti; bu arada ilki satırı sildi
+        Comment stale = commentRepository.findWithPostById(comment.id()).orElseThrow();
+        commentService.deleteComment(comment.id(), commenter.getId());
+        doReturn(Optional.of(stale)).when(commentRepository).findWithPostById(comment.id());
+
+        commentService.deleteComment(comment.id(), postAuthor.getId());
+
+        assertThat(commentCount()).isEqualTo(1);
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    private CommentResponse comment(User author) {
+        return commentService.addComment(post.getId(), new CreateCommentRequest("Ben de geliyorum!"),
+                author.getId());
+    }
+
+    private int commentCount() {
+        return postRepository.findById(post.getId()).orElseThrow().getCommentCount();
+    }
+
+    private User user(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@university.edu.tr")
+                .passwordHash("hash")
+                .displayName(username)
+                .role(Role.STUDENT)
+                .build());
+    }
+}
@@ -0,0 +1,128 @@
+package com.unievent.service;
+
+import com.unievent.PostgresIntegrationTest;
+import com.unievent.entity.EventPost;
+import com.unievent.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Like/unlike'ın PostgreSQL'e özgü yolu: {@code INSERT ... ON CONFLICT DO NOTHING}
+ * ve entity generator'ından alınan id.
+ * <p>
+ * Sayaçlar varsayılan (doğrudan) modda beğeniyle aynı commit'te yazılır; bu
+ * yüzden her çağrıdan hemen sonra veritabanından okunabilir.
+ */
+class LikeServicePostgresTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    private User author;
+    private User liker;
+    private EventPost post;
+
+    @BeforeEach
+    void setUp() {
+        truncateAll();
+        author = newUser("like_author");
+        liker = newUser("like_liker");
+        post = newPost(author, "Beğenilecek gönderi");
+    }
+
+    @AfterEach
+    void tearDown() {
+        truncateAll();
+    }
+
+    @Test
+    void doubleLikeInsertsOneRowAndMovesCountersOnce() {
+        likeService.like(post.getId(), liker.getId());
+        likeService.like(post.getId(), liker.getId());
+
+        assertThat(queryLong("SELECT COUNT(*) FROM likes WHERE post_id = ?", post.getId())).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1);
+        assertThat(likesReceived()).isEqualTo(1);
+    }
+
+    @Test
+    void doubleUnlikeMovesCountersOnce() {
+        likeService.like(post.getId(), liker.getId());
+
+        likeService.unlike(post.getId(), liker.getId());
+        likeService.unlike(post.getId(), liker.getId());
+
+        assertThat(queryLong("SELECT COUNT(*) FROM likes WHERE post_id = ?", post.getId())).isZero();
+        assertThat(likeCount()).isZero();
+        assertThat(likesReceived()).isZero();
+    }
+
+    @Test
+    void concurrentLikesOfTheSameUserCountOnce() throws Exception {
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return likeService.like(post.getId(), liker.getId());
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(); // Çakışan INSERT hata fırlatmamalı
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(queryLong("SELECT COUNT(*) FROM likes WHERE post_id = ?", post.getId())).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void likeIdsComeFromThePooledBlockNotOneSequenceCallEach() {
+        long before = queryLong("SELECT last_value FROM likes_seq");
+        List<User> likers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            likers.add(newUser("pool_liker_" + i));
+        }
+
+        likers.forEach(user -> likeService.like(post.getId(), user.getId()));
+
+        // 10 beğeni en fazla bir yeni blok (allocationSize 50) açar; nextval olsaydı 10 blok
+        assertThat(queryLong("SELECT last_value FROM likes_seq") - before).isLessThanOrEqualTo(50);
+        assertThat(queryLong("SELECT COUNT(DISTINCT id) FROM likes WHERE post_id = ?", post.getId()))
+                .isEqualTo(10);
+    }
+
+    @Test
+    void likingAMissingPostIsRejected() {
+        long missing = post.getId() + 1_000_000;
+
+        assertThatThrownBy(() -> likeService.like(missing, liker.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long likeCount() {
+        return queryLong("SELECT like_count FROM event_posts WHERE id = ?", post.getId());
+    }
+
+    private long likesReceived() {
+        return queryLong("SELECT likes_received FROM users WHERE id = ?", author.getId());
+    }
+}
@@ -0,0 +1,150 @@
+package com.unievent.service;
+
+import com.unievent.StatementCounter;
+import com.unievent.cache.PostCache;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.entity.EventPost;
+import com.unievent.entity.Role;
+import com.unievent.entity.User;
+import com.unievent.pagination.CursorPage;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Feed okuma yollarının sorgu sayısını sabitler — N+1 regresyon testi.
+ * <p>
+ * Her gönderinin yazarı farklı olacak şekilde veri hazırlanır; yazar LAZY
+ * yüklenseydi sayfa başına yazar sayısı kadar ek {@code SELECT} görülürdü.
+ * Sorgular {@link StatementCounter} ile sadece test thread'inde sayılır —
+ * arka planda çalışan bir işin sorgusu sayıya girmez. Yazarın ayrı yüklenip
+ * yüklenmediği Hibernate {@link Statistics} ile de kontrol edilir
+ * ({@code hibernate.generate_statistics: true}, application-test.yml).
+ * <p>
+ * Test bilinçli olarak {@code @Transactional} değildir: aynı persistence
+ * context içinde yazarlar zaten yüklü olacağından N+1 gizlenirdi. Aynı sebeple
+ * {@link PostCache} her testten önce boşaltılır.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PostServiceQueryCountTest {
+
+    private static final int AUTHORS = 4;
+    private static final int POSTS_PER_AUTHOR = 3;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EventPostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long firstAuthorId;
+    private Long anyPostId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int a = 0; a < AUTHORS; a++) {
+            User author = userRepository.save(User.builder()
+                    .username("author_" + a)
+                    .email("author_" + a + "@university.edu.tr")
+                    .passwordHash("hash")
+                    .displayName("Yazar " + a)
+                    .role(Role.STUDENT)
+                    .build());
+            if (firstAuthorId == null) {
+                firstAuthorId = author.getId();
+            }
+            for (int i = 0; i < POSTS_PER_AUTHOR; i++) {
+                EventPost post = postRepository.save(EventPost.builder()
+                        .author(author)
+                        .content("Gönderi " + a + "-" + i)
+                        .build());
+                anyPostId = post.getId();
+            }
+        }
+
+        // Ölçülen her okuma gerçekten veritabanına gitsin
+        postCache.invalidateAll();
+        statistics.clear();
+        StatementCounter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatementCounter.stop();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void pagedFeedLoadsAuthorsInTheSameQuery() {
+        Page<PostResponse> page = postService.getFeed(
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+
+        assertThat(page.getContent()).hasSize(AUTHORS * POSTS_PER_AUTHOR);
+        assertThat(page.getContent()).allSatisfy(post -> assertThat(post.authorUsername()).isNotNull());
+        // Sayfa sorgusu + (gerekirse) COUNT — yazar başına ek sorgu yok
+        assertThat(StatementCounter.count()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void cursorFeedIsSingleRoundTrip() {
+        CursorPage<PostResponse> slice = postService.getFeedSlice(null, 5);
+
+        assertThat(slice.content()).hasSize(5);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(StatementCounter.count()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+
+        StatementCounter.start();
+        CursorPage<PostResponse> next = postService.getFeedSlice(slice.nextCursor(), 5);
+
+        assertThat(next.content()).hasSize(5);
+        assertThat(next.content()).doesNotContainAnyElementsOf(slice.content());
+        assertThat(StatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void postsByUserLoadAuthorInTheSameQuery() {
+        Page<PostResponse> page = postService.getPostsByUser(firstAuthorId, PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).hasSize(POSTS_PER_AUTHOR);
+        assertThat(StatementCounter.count()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void singlePostIsSingleRoundTrip() {
+        PostResponse post = postService.getPostById(anyPostId);
+
+        assertThat(post.authorDisplayName()).startsWith("Yazar");
+        assertThat(StatementCounter.count()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+}
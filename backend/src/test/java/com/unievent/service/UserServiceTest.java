@@ -0,0 +1,72 @@
+package com.unievent.service;
+
+import com.unievent.cache.UserCache;
+import com.unievent.entity.Role;
+import com.unievent.entity.User;
+import com.unievent.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Profil okuma: bulunamayan ve silinmesi istenen kullanıcılar 404'e
+ * ({@link UsernameNotFoundException}) eşlenir, 400'e değil.
+ */
+class UserServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserService userService = new UserService(userRepository,
+            new UserCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry()));
+
+    @Test
+    void missingUserIsNotFound() {
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+        when(userRepository.findByUsername("yok")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.getUser(99L)).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userService.getUserByUsername("yok")).isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    void userPendingDeletionIsNotFound() {
+        User deleted = user(5L, "silinen");
+        deleted.setDeletedAt(LocalDateTime.now());
+        when(userRepository.findById(5L)).thenReturn(Optional.of(deleted));
+        when(userRepository.findByUsername("silinen")).thenReturn(Optional.of(deleted));
+
+        assertThatThrownBy(() -> userService.getUser(5L)).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userService.getUserByUsername("silinen"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    void activeUserIsFoundByIdAndUsername() {
+        User active = user(6L, "burak_dev");
+        when(userRepository.findById(6L)).thenReturn(Optional.of(active));
+        when(userRepository.findByUsername("burak_dev")).thenReturn(Optional.of(active));
+
+        assertThat(userService.getUser(6L).username()).isEqualTo("burak_dev");
+        assertThat(userService.getUserByUsername("burak_dev").id()).isEqualTo(6L);
+    }
+
+    private static User user(Long id, String username) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .displayName(username)
+                .email(username + "@uni.edu.tr")
+                .passwordHash("x")
+                .role(Role.STUDENT)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
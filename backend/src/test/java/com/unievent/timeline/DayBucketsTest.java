@@ -0,0 +1,135 @@
+package com.unievent.timeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayBucketsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    private final DayBuckets buckets = new DayBuckets();
+
+    @Test
+    void lastAndFirstInstantOfADayGoToDifferentBuckets() {
+        TimelineEntry lastMoment = entry(DAY.atTime(LocalTime.MAX), 1);
+        TimelineEntry midnight = entry(DAY.plusDays(1).atStartOfDay(), 2);
+        buckets.add(lastMoment);
+        buckets.add(midnight);
+
+        assertThat(buckets.dayCount()).isEqualTo(2);
+        // before hariçtir: ertesi günün gece yarısı "bu gün" aralığına girmez
+        assertThat(buckets.range(start(DAY), DAY.plusDays(1).atStartOfDay(), 10)).containsExactly(lastMoment);
+        assertThat(buckets.range(start(DAY.plusDays(1)), DAY.plusDays(2).atStartOfDay(), 10))
+                .containsExactly(midnight);
+    }
+
+    @Test
+    void rangeStartingAtMidnightIncludesEventsAtMidnight() {
+        TimelineEntry midnight = entry(DAY.atStartOfDay(), 5);
+        buckets.add(midnight);
+
+        // İlk sayfa imleci (from, 0): from anındaki etkinlikler dahil
+        assertThat(buckets.range(start(DAY), DAY.plusDays(1).atStartOfDay(), 10)).containsExactly(midnight);
+    }
+
+    @Test
+    void rangeSpansDaysInEventOrderAndSkipsEmptyDays() {
+        TimelineEntry first = entry(DAY.atTime(9, 0), 30);
+        TimelineEntry sameTimeLowerId = entry(DAY.atTime(18, 0), 10);
+        TimelineEntry sameTimeHigherId = entry(DAY.atTime(18, 0), 20);
+        TimelineEntry afterGap = entry(DAY.plusDays(5).atTime(12, 0), 1);
+        TimelineEntry outside = entry(DAY.plusDays(7).atTime(12, 0), 2);
+        List.of(afterGap, sameTimeHigherId, outside, first, sameTimeLowerId).forEach(buckets::add);
+
+        List<TimelineEntry> week = buckets.range(start(DAY), DAY.plusDays(7).atStartOfDay(), 10);
+
+        assertThat(week).containsExactly(first, sameTimeLowerId, sameTimeHigherId, afterGap);
+    }
+
+    @Test
+    void keysetCursorResumesAfterTheLastEntryWithoutSkippingTies() {
+        TimelineEntry a = entry(DAY.atTime(18, 0), 10);
+        TimelineEntry b = entry(DAY.atTime(18, 0), 20);
+        TimelineEntry c = entry(DAY.atTime(18, 0), 30);
+        TimelineEntry d = entry(DAY.plusDays(1).atTime(9, 0), 5);
+        List.of(a, b, c, d).forEach(buckets::add);
+        LocalDateTime before = DAY.plusDays(3).atStartOfDay();
+
+        List<TimelineEntry> firstPage = buckets.range(start(DAY), before, 2);
+        List<TimelineEntry> secondPage = buckets.range(firstPage.get(1), before, 2);
+
+        assertThat(firstPage).containsExactly(a, b);
+        assertThat(secondPage).containsExactly(c, d);
+    }
+
+    @Test
+    void cursorOfADeletedEntryStillResumesAtTheRightPlace() {
+        TimelineEntry a = entry(DAY.atTime(10, 0), 1);
+        TimelineEntry b = entry(DAY.atTime(11, 0), 2);
+        TimelineEntry c = entry(DAY.atTime(12, 0), 3);
+        List.of(a, b, c).forEach(buckets::add);
+
+        buckets.remove(b); // İstemcinin imleci hâlâ b
+
+        assertThat(buckets.range(b, DAY.plusDays(1).atStartOfDay(), 10)).containsExactly(c);
+    }
+
+    @Test
+    void rangeStopsAtBeforeInsideADay() {
+        TimelineEntry morning = entry(DAY.atTime(9, 0), 1);
+        TimelineEntry evening = entry(DAY.atTime(20, 0), 2);
+        buckets.add(morning);
+        buckets.add(evening);
+
+        assertThat(buckets.range(start(DAY), DAY.atTime(20, 0), 10)).containsExactly(morning);
+    }
+
+    @Test
+    void addIsIdempotentAndRemoveDropsEmptyDays() {
+        TimelineEntry only = entry(DAY.atTime(14, 0), 1);
+        TimelineEntry other = entry(DAY.plusDays(1).atTime(14, 0), 2);
+        buckets.add(only);
+        buckets.add(only);
+        buckets.add(other);
+        assertThat(buckets.size()).isEqualTo(2);
+
+        buckets.remove(only);
+        buckets.remove(only);
+        buckets.remove(entry(DAY.plusDays(9).atTime(14, 0), 99));
+
+        assertThat(buckets.size()).isEqualTo(1);
+        assertThat(buckets.dayCount()).isEqualTo(1);
+        assertThat(buckets.range(start(DAY), DAY.plusDays(2).atStartOfDay(), 10)).containsExactly(other);
+    }
+
+    @Test
+    void dropBeforeDiscardsPastDaysOnly() {
+        buckets.add(entry(DAY.minusDays(2).atTime(10, 0), 1));
+        buckets.add(entry(DAY.minusDays(1).atTime(23, 59), 2));
+        buckets.add(entry(DAY.minusDays(1).atTime(8, 0), 3));
+        TimelineEntry today = entry(DAY.atStartOfDay(), 4);
+        buckets.add(today);
+
+        buckets.dropBefore(DAY);
+
+        assertThat(buckets.size()).isEqualTo(1);
+        assertThat(buckets.dayCount()).isEqualTo(1);
+        assertThat(buckets.range(start(DAY.minusDays(3)), DAY.plusDays(1).atStartOfDay(), 10))
+                .containsExactly(today);
+    }
+
+    private static TimelineEntry entry(LocalDateTime eventDate, long id) {
+        return new TimelineEntry(eventDate, id);
+    }
+
+    /** İlk sayfa imleci: gün başı, id 0. */
+    private static TimelineEntry start(LocalDate day) {
+        return new TimelineEntry(day.atStartOfDay(), 0);
+    }
+}
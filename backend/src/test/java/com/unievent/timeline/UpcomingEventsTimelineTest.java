@@ -0,0 +1,252 @@
+package com.unievent.timeline;
+
+import com.unievent.TestPosts;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.PostCreatedEvent;
+import com.unievent.event.PostDeletedEvent;
+import com.unievent.repository.EventPostRepository;
+import com.unievent.repository.EventPostRepository.UpcomingEvent;
+import com.unievent.view.ViewLoadGate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pencere yükleme ve saat dilimi. Repository, {@code (eventDate, id)}
+ * sırasıyla okunan sahte bir tablodur; yükleme sırasında gelen olaylar
+ * deterministik olarak ilk parça okunduktan hemen sonra tetiklenir.
+ */
+class UpcomingEventsTimelineTest {
+
+    private static final int CHUNK = 3;
+    private static final int HORIZON_DAYS = 30;
+    private static final ZoneId CAMPUS = ZoneId.of("Europe/Istanbul");
+
+    private final EventPostRepository repository = mock(EventPostRepository.class);
+    private final ConcurrentSkipListSet<TimelineEntry> table = new ConcurrentSkipListSet<>();
+    private final List<UpcomingEventsTimeline> timelines = new ArrayList<>();
+
+    /** Yükleme parçası okunduktan sonra bir kez çalışır. */
+    private Runnable duringLoad = () -> { };
+
+    @AfterEach
+    void tearDown() {
+        timelines.forEach(UpcomingEventsTimeline::shutdown);
+    }
+
+    @Test
+    void rangesInsideTheWindowAreServedFromMemory() throws InterruptedException {
+        LocalDate day = LocalDate.now(CAMPUS).plusDays(1);
+        for (long id = 1; id <= 7; id++) {
+            table.add(new TimelineEntry(day.atTime(8 + (int) id, 0), id));
+        }
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UpcomingEventsTimeline timeline = loaded(CAMPUS, registry);
+        double databaseBefore = databaseQueries(registry);
+
+        List<TimelineEntry> result = timeline.range(start(day), day.plusDays(1).atStartOfDay(), 10);
+
+        assertThat(result).extracting(TimelineEntry::id).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(databaseQueries(registry)).isEqualTo(databaseBefore);
+    }
+
+    @Test
+    void rangesPastTheHorizonGoToTheDatabase() throws InterruptedException {
+        LocalDate today = LocalDate.now(CAMPUS);
+        TimelineEntry late = new TimelineEntry(today.plusDays(HORIZON_DAYS + 5).atTime(12, 0), 1);
+        table.add(late);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UpcomingEventsTimeline timeline = loaded(CAMPUS, registry);
+        double databaseBefore = databaseQueries(registry);
+
+        List<TimelineEntry> result = timeline.range(start(today), today.plusDays(HORIZON_DAYS + 10).atStartOfDay(), 10);
+
+        assertThat(result).containsExactly(late);
+        assertThat(databaseQueries(registry)).isEqualTo(databaseBefore + 1);
+    }
+
+    @Test
+    void dayBoundaryFollowsTheConfiguredZoneNotThePodClock() throws InterruptedException {
+        // UTC+14 ile UTC-11 arasında 25 saat var: iki dilimin "bugün"ü her an farklıdır
+        ZoneId ahead = ZoneId.of("Pacific/Kiritimati");
+        ZoneId behind = ZoneId.of("Pacific/Pago_Pago");
+        LocalDate aheadToday = LocalDate.now(ahead);
+        LocalDate behindToday = LocalDate.now(behind);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UpcomingEventsTimeline timeline = loaded(ahead, registry);
+
+        assertThat(timeline.now().toLocalDate()).isEqualTo(aheadToday);
+        double databaseBefore = databaseQueries(registry);
+        timeline.range(start(aheadToday), aheadToday.plusDays(1).atStartOfDay(), 10);
+        assertThat(databaseQueries(registry)).isEqualTo(databaseBefore);
+
+        // Diğer dilimin "bugün"ü bu kampüs için geçmiştir — pencerede değil
+        timeline.range(start(behindToday), aheadToday.plusDays(1).atStartOfDay(), 10);
+        assertThat(databaseQueries(registry)).isEqualTo(databaseBefore + 1);
+    }
+
+    @Test
+    void eventDeletedAfterItsChunkWasReadIsNotResurrected() throws InterruptedException {
+        LocalDate day = LocalDate.now(CAMPUS).plusDays(2);
+        PostResponse doomed = post(2, day.atTime(11, 0));
+        table.add(new TimelineEntry(day.atTime(10, 0), 1));
+        table.add(new TimelineEntry(day.atTime(11, 0), 2));
+        table.add(new TimelineEntry(day.atTime(12, 0), 3));
+        UpcomingEventsTimeline[] holder = new UpcomingEventsTimeline[1];
+        duringLoad = () -> delete(holder[0], doomed);
+
+        holder[0] = loaded(CAMPUS, new SimpleMeterRegistry(), holder);
+
+        assertThat(ids(holder[0], day)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void eventCreatedDuringLoadIsAddedOnce() throws InterruptedException {
+        LocalDate day = LocalDate.now(CAMPUS).plusDays(2);
+        for (long id = 1; id <= 3; id++) {
+            table.add(new TimelineEntry(day.atTime(9 + (int) id, 0), id));
+        }
+        UpcomingEventsTimeline[] holder = new UpcomingEventsTimeline[1];
+        // Hem canlı olayla gelir hem de sonraki parçada okunur
+        duringLoad = () -> create(holder[0], post(4, day.atTime(20, 0)));
+
+        holder[0] = loaded(CAMPUS, new SimpleMeterRegistry(), holder);
+
+        assertThat(ids(holder[0], day)).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void eventCreatedAndDeletedDuringLoadIsNotAdded() throws InterruptedException {
+        LocalDate day = LocalDate.now(CAMPUS).plusDays(2);
+        for (long id = 1; id <= 3; id++) {
+            table.add(new TimelineEntry(day.atTime(9 + (int) id, 0), id));
+        }
+        PostResponse shortLived = post(4, day.atTime(20, 0));
+        UpcomingEventsTimeline[] holder = new UpcomingEventsTimeline[1];
+        duringLoad = () -> {
+            create(holder[0], shortLived);
+            delete(holder[0], shortLived);
+        };
+
+        holder[0] = loaded(CAMPUS, new SimpleMeterRegistry(), holder);
+
+        assertThat(ids(holder[0], day)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void liveEventsUpdateTheLoadedWindow() throws InterruptedException {
+        LocalDate day = LocalDate.now(CAMPUS).plusDays(3);
+        table.add(new TimelineEntry(day.atTime(10, 0), 1));
+        UpcomingEventsTimeline timeline = loaded(CAMPUS, new SimpleMeterRegistry());
+
+        create(timeline, post(2, day.atTime(9, 0)));
+        delete(timeline, post(1, day.atTime(10, 0)));
+        timeline.onPostCreated(new PostCreatedEvent(post(3, null))); // Etkinlik tarihi yok
+
+        assertThat(ids(timeline, day)).containsExactly(2L);
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    private UpcomingEventsTimeline loaded(ZoneId zone, SimpleMeterRegistry registry) throws InterruptedException {
+        return loaded(zone, registry, new UpcomingEventsTimeline[1]);
+    }
+
+    /**
+     * Zaman çizelgesini kurar, yükler ve pencere hizmete girene kadar bekler.
+     * {@code holder[0]}, yükleme başlamadan önce doldurulur — olaylar ona gider.
+     */
+    private UpcomingEventsTimeline loaded(ZoneId zone, SimpleMeterRegistry registry,
+            UpcomingEventsTimeline[] holder) throws InterruptedException {
+        AtomicBoolean fired = new AtomicBoolean();
+        when(repository.findUpcomingAfter(any(), anyLong(), any(), any())).thenAnswer(invocation -> {
+            LocalDateTime afterDate = invocation.getArgument(0);
+            long afterId = invocation.getArgument(1);
+            LocalDateTime before = invocation.getArgument(2);
+            Pageable page = invocation.getArgument(3);
+            List<UpcomingEvent> rows = table.tailSet(new TimelineEntry(afterDate, afterId), false).stream()
+                    .filter(entry -> entry.eventDate().isBefore(before))
+                    .limit(page.getPageSize())
+                    .map(UpcomingEventsTimelineTest::row)
+                    .toList();
+            if (page.getPageSize() == CHUNK && fired.compareAndSet(false, true)) {
+                duringLoad.run();
+            }
+            return rows;
+        });
+
+        UpcomingEventsTimeline timeline = new UpcomingEventsTimeline(repository, zone, HORIZON_DAYS, CHUNK, registry,
+                new ViewLoadGate(1, false));
+        timelines.add(timeline);
+        holder[0] = timeline;
+        timeline.rebuildAsync();
+
+        LocalDate today = LocalDate.now(zone);
+        long deadline = System.currentTimeMillis() + 5_000;
+        double database;
+        do {
+            assertThat(System.currentTimeMillis()).as("pencere 5 sn içinde yüklenmedi").isLessThan(deadline);
+            Thread.sleep(5);
+            database = databaseQueries(registry);
+            timeline.range(start(today), today.plusDays(1).atStartOfDay(), 100);
+        } while (databaseQueries(registry) > database);
+        return timeline;
+    }
+
+    private void create(UpcomingEventsTimeline timeline, PostResponse post) {
+        table.add(new TimelineEntry(post.eventDate(), post.id()));
+        timeline.onPostCreated(new PostCreatedEvent(post));
+    }
+
+    private void delete(UpcomingEventsTimeline timeline, PostResponse post) {
+        table.remove(new TimelineEntry(post.eventDate(), post.id()));
+        timeline.onPostDeleted(new PostDeletedEvent(post));
+    }
+
+    private static List<Long> ids(UpcomingEventsTimeline timeline, LocalDate day) {
+        return timeline.range(start(day), day.plusDays(1).atStartOfDay(), 100).stream()
+                .map(TimelineEntry::id)
+                .toList();
+    }
+
+    private static double databaseQueries(SimpleMeterRegistry registry) {
+        return registry.get("timeline.queries").tag("source", "database").counter().count();
+    }
+
+    private static TimelineEntry start(LocalDate day) {
+        return new TimelineEntry(day.atStartOfDay(), 0);
+    }
+
+    private static PostResponse post(long id, LocalDateTime eventDate) {
+        return TestPosts.builder(id).content("Etkinlik " + id).event("Başlık", "Kampüs", eventDate).build();
+    }
+
+    private static UpcomingEvent row(TimelineEntry entry) {
+        return new UpcomingEvent() {
+            @Override
+            public Long getId() {
+                return entry.id();
+            }
+
+            @Override
+            public LocalDateTime getEventDate() {
+                return entry.eventDate();
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.unievent.viewer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikedPostsFilterTest {
+
+    @Test
+    void addedIdsAreAlwaysMaybe() {
+        Random random = new Random(11);
+        Set<Long> liked = new HashSet<>();
+        while (liked.size() < 5_000) {
+            liked.add(random.nextLong(1, 10_000_000));
+        }
+        LikedPostsFilter filter = LikedPostsFilter.of(liked);
+
+        assertThat(liked).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearOnePercent() {
+        // Ardışık id'ler: gerçek tabloda olduğu gibi — karıştırma bunları dağıtmalı
+        List<Long> liked = LongStream.rangeClosed(1, 10_000).boxed().toList();
+        LikedPostsFilter filter = LikedPostsFilter.of(liked);
+
+        long falsePositives = LongStream.rangeClosed(10_001, 110_000).filter(filter::mightContain).count();
+
+        // Kapasite beklenenin iki katı → doluluk yarıda, oran %1'in altında
+        assertThat(falsePositives).isLessThan(1_000);
+    }
+
+    @Test
+    void liveAddsUpToCapacityThenReportFull() {
+        LikedPostsFilter filter = LikedPostsFilter.of(List.of(1L, 2L, 3L));
+        int capacity = 64; // MIN_CAPACITY: 2·3 < 64
+        for (long id = 4; id <= capacity; id++) {
+            assertThat(filter.add(id)).isTrue();
+        }
+
+        assertThat(filter.add(capacity + 1)).isFalse();
+    }
+
+    @Test
+    void saturatedFilterSaysMaybeForEverything() {
+        LikedPostsFilter saturated = LikedPostsFilter.saturated();
+
+        assertThat(LongStream.rangeClosed(1, 1_000)).allMatch(saturated::mightContain);
+        assertThat(saturated.add(42)).isTrue();
+    }
+
+    @Test
+    void emptyFilterSaysNoForEverything() {
+        LikedPostsFilter empty = LikedPostsFilter.of(List.of());
+
+        assertThat(LongStream.rangeClosed(1, 1_000)).noneMatch(empty::mightContain);
+    }
+}
@@ -0,0 +1,217 @@
+package com.unievent.viewer;
+
+import com.unievent.TestPosts;
+import com.unievent.dto.response.BatchResponse;
+import com.unievent.dto.response.PostResponse;
+import com.unievent.event.ClusterResyncEvent;
+import com.unievent.event.PostLikedEvent;
+import com.unievent.event.PostUnlikedEvent;
+import com.unievent.repository.LikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@code likedByMe} hiçbir zaman yanlış olmamalı: Bloom filtresi sadece
+ * sorguyu atlamak içindir, cevabı veritabanı verir.
+ * <p>
+ * Repository, {@code likes} tablosunu taklit eden bir kümedir. Beğeni ve geri
+ * alma, uygulamadaki gibi tabloya yazılıp {@link PostLikedEvent} /
+ * {@link PostUnlikedEvent} yayınlar; filtre geri almada değişmez.
+ */
+class ViewerStateResolverTest {
+
+    private static final long VIEWER = 7L;
+    private static final int MAX_LIKES = 100;
+
+    private final LikeRepository repository = mock(LikeRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ViewerStateResolver resolver = new ViewerStateResolver(repository, DataSize.ofMegabytes(1),
+            Duration.ofMinutes(30), MAX_LIKES, 1_000, registry);
+
+    /** userId → beğendiği gönderiler. */
+    private final Map<Long, Set<Long>> likes = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findPostIdsByUserId(anyLong(), anyInt())).thenAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return liked(userId).stream().limit(limit).toList();
+        });
+        when(repository.findLikedPostIds(anyLong(), any())).thenAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            Collection<Long> postIds = invocation.getArgument(1);
+            return postIds.stream().filter(liked(userId)::contains).toList();
+        });
+    }
+
+    @Test
+    void pageWithoutLikedPostsRunsNoQuery() {
+        like(1L);
+        like(2L);
+
+        assertThat(likedByMe(LongStream.rangeClosed(1_000, 1_019).boxed().toList()))
+                .hasSize(20)
+                .doesNotContainValue(true);
+        assertThat(lookups("skipped")).isEqualTo(1);
+        assertThat(lookups("queried")).isZero();
+    }
+
+    @Test
+    void likedPostsOnThePageAreConfirmed() {
+        like(3L);
+        like(5L);
+
+        assertThat(likedByMe(List.of(1L, 2L, 3L, 4L, 5L)))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(1L, false, 2L, false, 3L, true, 4L, false, 5L, true));
+        assertThat(lookups("queried")).isEqualTo(1);
+    }
+
+    @Test
+    void falsePositiveIsCorrectedByTheDatabase() {
+        List<Long> liked = LongStream.rangeClosed(1, 50).boxed().toList();
+        liked.forEach(this::like);
+        // Aynı beğenilerden kurulan filtre aynı bitleri verir → "belki" diyen ama beğenilmemiş bir id
+        LikedPostsFilter twin = LikedPostsFilter.of(liked);
+        long falsePositive = LongStream.iterate(1_000, id -> id + 1)
+                .filter(twin::mightContain)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(likedByMe(List.of(falsePositive))).containsEntry(falsePositive, false);
+        assertThat(lookups("queried")).isEqualTo(1);
+    }
+
+    @Test
+    void likeAfterTheFilterWasBuiltIsSeen() {
+        assertThat(likedByMe(List.of(10L))).containsEntry(10L, false);
+
+        like(10L);
+
+        assertThat(likedByMe(List.of(10L))).containsEntry(10L, true);
+    }
+
+    @Test
+    void unlikeIsSeenAlthoughTheFilterKeepsTheId() {
+        like(10L);
+        assertThat(likedByMe(List.of(10L))).containsEntry(10L, true);
+
+        unlike(10L);
+        assertThat(likedByMe(List.of(10L))).containsEntry(10L, false);
+
+        like(10L);
+        assertThat(likedByMe(List.of(10L))).containsEntry(10L, true);
+    }
+
+    @Test
+    void usersOverTheLimitAlwaysQuery() {
+        LongStream.rangeClosed(1, MAX_LIKES + 1).forEach(this::like);
+
+        Map<Long, Boolean> page = likedByMe(List.of(1L, MAX_LIKES + 1L, 5_000L));
+
+        assertThat(page).containsExactlyInAnyOrderEntriesOf(Map.of(1L, true, MAX_LIKES + 1L, true, 5_000L, false));
+        // Doymuş filtre her id'ye "belki" der: beğenisiz sayfa bile sorgulanır
+        likedByMe(List.of(5_001L, 5_002L));
+        assertThat(lookups("queried")).isEqualTo(2);
+        assertThat(lookups("skipped")).isZero();
+    }
+
+    @Test
+    void usersAtTheLimitStillGetAFilter() {
+        LongStream.rangeClosed(1, MAX_LIKES).forEach(this::like);
+
+        assertThat(likedByMe(List.of(1L, (long) MAX_LIKES))).doesNotContainValue(false);
+        likedByMe(LongStream.rangeClosed(10_000, 10_019).boxed().toList());
+
+        assertThat(lookups("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void filterThatOutgrowsItsCapacityIsRebuilt() {
+        assertThat(likedByMe(List.of(1L))).containsEntry(1L, false); // Kapasite: en az 64
+        List<Long> liked = LongStream.rangeClosed(1, 80).boxed().toList();
+        liked.forEach(this::like);
+
+        assertThat(likedByMe(liked)).doesNotContainValue(false);
+    }
+
+    @Test
+    void likeMissedWhileTheClusterChannelWasDownIsSeenAfterResync() {
+        assertThat(likedByMe(List.of(10L))).containsEntry(10L, false);
+        liked(VIEWER).add(10L); // Olayı kaçırıldı
+
+        resolver.onClusterResync(new ClusterResyncEvent());
+
+        assertThat(likedByMe(List.of(10L))).containsEntry(10L, true);
+    }
+
+    @Test
+    void randomLikesAndUnlikesNeverProduceAWrongAnswer() {
+        Random random = new Random(3);
+        for (int step = 0; step < 2_000; step++) {
+            long postId = random.nextLong(1, 300);
+            if (random.nextInt(3) == 0) {
+                unlike(postId);
+            } else {
+                like(postId);
+            }
+            if (step % 10 == 0) {
+                List<Long> page = LongStream.generate(() -> random.nextLong(1, 300)).limit(20).distinct()
+                        .boxed().toList();
+                Set<Long> truth = liked(VIEWER);
+                for (Map.Entry<Long, Boolean> entry : likedByMe(page).entrySet()) {
+                    assertThat(entry.getValue())
+                            .as("adım %d, gönderi %d", step, entry.getKey())
+                            .isEqualTo(truth.contains(entry.getKey()));
+                }
+            }
+        }
+    }
+
+    // ── Yardımcılar ────────────────────────────────────────────
+
+    private void like(long postId) {
+        if (liked(VIEWER).add(postId)) {
+            resolver.onPostLiked(new PostLikedEvent(VIEWER, postId));
+        }
+    }
+
+    private void unlike(long postId) {
+        if (liked(VIEWER).remove(postId)) {
+            resolver.onPostUnliked(new PostUnlikedEvent(VIEWER, postId));
+        }
+    }
+
+    private Set<Long> liked(Long userId) {
+        return likes.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet());
+    }
+
+    private Map<Long, Boolean> likedByMe(List<Long> postIds) {
+        List<PostResponse> posts = postIds.stream().map(TestPosts::post).toList();
+        return resolver.apply(VIEWER, new BatchResponse<>(posts, List.of())).items().stream()
+                .collect(Collectors.toMap(PostResponse::id, PostResponse::likedByMe));
+    }
+
+    private double lookups(String result) {
+        return registry.get("viewer.liked.lookups").tag("result", result).counter().count();
+    }
+}